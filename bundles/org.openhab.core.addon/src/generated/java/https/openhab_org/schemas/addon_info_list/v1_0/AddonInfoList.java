@@ -0,0 +1,62 @@
+
+package https.openhab_org.schemas.addon_info_list.v1_0;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.openhab.core.addon.internal.dto.XmlAddonInfo;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="addons" type="{https://openhab.org/schemas/addon-info-list/v1.0.0}addons"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "addons"
+})
+@XmlRootElement(name = "addon-info-list")
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+public class AddonInfoList implements Serializable
+{
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    private final static long serialVersionUID = 1L;
+    @XmlElementWrapper(required = true)
+    @XmlElement(name = "addon")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected List<XmlAddonInfo> addons = new ArrayList<XmlAddonInfo>();
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public List<XmlAddonInfo> getAddons() {
+        return addons;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setAddons(List<XmlAddonInfo> addons) {
+        this.addons = addons;
+    }
+
+}
@@ -0,0 +1,42 @@
+
+package https.openhab_org.schemas.addon_info_list.v1_0;
+
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlRegistry;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the https.openhab_org.schemas.addon_info_list.v1_0 package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+public class ObjectFactory {
+
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: https.openhab_org.schemas.addon_info_list.v1_0
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link AddonInfoList }
+     * 
+     */
+    public AddonInfoList createAddonInfoList() {
+        return new AddonInfoList();
+    }
+
+}
@@ -0,0 +1,2 @@
+@javax.xml.bind.annotation.XmlSchema(namespace = "https://openhab.org/schemas/addon-info-list/v1.0.0")
+package https.openhab_org.schemas.addon_info_list.v1_0;
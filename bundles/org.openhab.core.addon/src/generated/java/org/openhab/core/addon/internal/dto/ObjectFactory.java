@@ -0,0 +1,80 @@
+
+package org.openhab.core.addon.internal.dto;
+
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the org.openhab.core.addon.internal.dto package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+public class ObjectFactory {
+
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: org.openhab.core.addon.internal.dto
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link XmlAddonInfo }
+     * 
+     */
+    public XmlAddonInfo createXmlAddonInfo() {
+        return new XmlAddonInfo();
+    }
+
+    /**
+     * Create an instance of {@link XmlDiscoveryMethodType }
+     * 
+     */
+    public XmlDiscoveryMethodType createXmlDiscoveryMethodType() {
+        return new XmlDiscoveryMethodType();
+    }
+
+    /**
+     * Create an instance of {@link XmlParameterType }
+     * 
+     */
+    public XmlParameterType createXmlParameterType() {
+        return new XmlParameterType();
+    }
+
+    /**
+     * Create an instance of {@link XmlMatchPropertyType }
+     * 
+     */
+    public XmlMatchPropertyType createXmlMatchPropertyType() {
+        return new XmlMatchPropertyType();
+    }
+
+    /**
+     * Create an instance of {@link XmlAddon }
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link XmlAddon }
+     */
+    @XmlElementDecl(namespace = "https://openhab.org/schemas/addon/v1.0.0", name = "addon")
+    public XmlAddon createXmlAddon(XmlAddonInfo value) {
+        return new XmlAddon(value);
+    }
+
+}
@@ -0,0 +1,21 @@
+
+package org.openhab.core.addon.internal.dto;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+
+public class XmlAddon
+    extends JAXBElement<XmlAddonInfo>
+{
+
+    protected final static QName NAME = new QName("https://openhab.org/schemas/addon/v1.0.0", "addon");
+
+    public XmlAddon(XmlAddonInfo value) {
+        super(NAME, ((Class) XmlAddonInfo.class), null, value);
+    }
+
+    public XmlAddon() {
+        super(NAME, ((Class) XmlAddonInfo.class), null, null);
+    }
+
+}
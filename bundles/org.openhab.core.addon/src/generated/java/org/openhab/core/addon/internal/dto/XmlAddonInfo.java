@@ -0,0 +1,373 @@
+
+package org.openhab.core.addon.internal.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import org.openhab.core.config.core.dto.XmlConfigDescription;
+import org.openhab.core.config.core.dto.XmlConfigDescriptionRef;
+
+
+/**
+ * <p>Java class for addonInfo complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="addonInfo"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="type" type="{https://openhab.org/schemas/addon/v1.0.0}addonType"/&gt;
+ *         &lt;element name="name" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="description" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="keywords" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/&gt;
+ *         &lt;element name="connection" type="{https://openhab.org/schemas/addon/v1.0.0}connectionType" minOccurs="0"/&gt;
+ *         &lt;element name="countries" type="{https://openhab.org/schemas/addon/v1.0.0}countryType" minOccurs="0"/&gt;
+ *         &lt;element name="service-id" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/&gt;
+ *         &lt;choice minOccurs="0"&gt;
+ *           &lt;element name="config-description" type="{https://openhab.org/schemas/config-description/v1.0.0}configDescription"/&gt;
+ *           &lt;element name="config-description-ref" type="{https://openhab.org/schemas/config-description/v1.0.0}configDescriptionRef"/&gt;
+ *         &lt;/choice&gt;
+ *         &lt;element name="discovery-methods" type="{https://openhab.org/schemas/addon/v1.0.0}discoveryMethodsType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{https://openhab.org/schemas/config-description/v1.0.0}idRestrictionPattern" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "addonInfo", propOrder = {
+    "type",
+    "name",
+    "description",
+    "keywords",
+    "connection",
+    "countries",
+    "serviceId",
+    "configDescription",
+    "configDescriptionRef",
+    "discoveryMethods"
+})
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+public class XmlAddonInfo implements Serializable
+{
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    private final static long serialVersionUID = 1L;
+    @XmlElement(required = true)
+    @XmlSchemaType(name = "string")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected XmlAddonType type;
+    @XmlElement(required = true)
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected String name;
+    @XmlElement(required = true)
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected String description;
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected String keywords;
+    @XmlSchemaType(name = "string")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected XmlConnectionType connection;
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected String countries;
+    @XmlElement(name = "service-id")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected String serviceId;
+    @XmlElement(name = "config-description")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected XmlConfigDescription configDescription;
+    @XmlElement(name = "config-description-ref")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected XmlConfigDescriptionRef configDescriptionRef;
+    @XmlElementWrapper(name = "discovery-methods")
+    @XmlElement(name = "discovery-method")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected List<XmlDiscoveryMethodType> discoveryMethods = new ArrayList<XmlDiscoveryMethodType>();
+    @XmlAttribute(name = "id", required = true)
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected String id;
+
+    /**
+     * Gets the value of the type property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlAddonType }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public XmlAddonType getType() {
+        return type;
+    }
+
+    /**
+     * Sets the value of the type property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlAddonType }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setType(XmlAddonType value) {
+        this.type = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the description property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets the value of the description property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setDescription(String value) {
+        this.description = value;
+    }
+
+    /**
+     * Gets the value of the keywords property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public String getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Sets the value of the keywords property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setKeywords(String value) {
+        this.keywords = value;
+    }
+
+    /**
+     * Gets the value of the connection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlConnectionType }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public XmlConnectionType getConnection() {
+        return connection;
+    }
+
+    /**
+     * Sets the value of the connection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlConnectionType }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setConnection(XmlConnectionType value) {
+        this.connection = value;
+    }
+
+    /**
+     * Gets the value of the countries property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public String getCountries() {
+        return countries;
+    }
+
+    /**
+     * Sets the value of the countries property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setCountries(String value) {
+        this.countries = value;
+    }
+
+    /**
+     * Gets the value of the serviceId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    /**
+     * Sets the value of the serviceId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setServiceId(String value) {
+        this.serviceId = value;
+    }
+
+    /**
+     * Gets the value of the configDescription property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlConfigDescription }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public XmlConfigDescription getConfigDescription() {
+        return configDescription;
+    }
+
+    /**
+     * Sets the value of the configDescription property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlConfigDescription }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setConfigDescription(XmlConfigDescription value) {
+        this.configDescription = value;
+    }
+
+    /**
+     * Gets the value of the configDescriptionRef property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlConfigDescriptionRef }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public XmlConfigDescriptionRef getConfigDescriptionRef() {
+        return configDescriptionRef;
+    }
+
+    /**
+     * Sets the value of the configDescriptionRef property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlConfigDescriptionRef }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setConfigDescriptionRef(XmlConfigDescriptionRef value) {
+        this.configDescriptionRef = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setId(String value) {
+        this.id = value;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public List<XmlDiscoveryMethodType> getDiscoveryMethods() {
+        return discoveryMethods;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setDiscoveryMethods(List<XmlDiscoveryMethodType> discoveryMethods) {
+        this.discoveryMethods = discoveryMethods;
+    }
+
+}
@@ -0,0 +1,67 @@
+
+package org.openhab.core.addon.internal.dto;
+
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for addonType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <pre>
+ * &lt;simpleType name="addonType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="automation"/&gt;
+ *     &lt;enumeration value="binding"/&gt;
+ *     &lt;enumeration value="misc"/&gt;
+ *     &lt;enumeration value="persistence"/&gt;
+ *     &lt;enumeration value="transformation"/&gt;
+ *     &lt;enumeration value="ui"/&gt;
+ *     &lt;enumeration value="voice"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "addonType")
+@XmlEnum
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+public enum XmlAddonType {
+
+    @XmlEnumValue("automation")
+    AUTOMATION("automation"),
+    @XmlEnumValue("binding")
+    BINDING("binding"),
+    @XmlEnumValue("misc")
+    MISC("misc"),
+    @XmlEnumValue("persistence")
+    PERSISTENCE("persistence"),
+    @XmlEnumValue("transformation")
+    TRANSFORMATION("transformation"),
+    @XmlEnumValue("ui")
+    UI("ui"),
+    @XmlEnumValue("voice")
+    VOICE("voice");
+    private final String value;
+
+    XmlAddonType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static XmlAddonType fromValue(String v) {
+        for (XmlAddonType c: XmlAddonType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,79 @@
+
+package org.openhab.core.addon.internal.dto;
+
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for connectionType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <pre>
+ * &lt;simpleType name="connectionType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="none"/&gt;
+ *     &lt;enumeration value="local"/&gt;
+ *     &lt;enumeration value="hybrid"/&gt;
+ *     &lt;enumeration value="cloud"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "connectionType")
+@XmlEnum
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+public enum XmlConnectionType {
+
+
+    /**
+     * No interaction with external systems at all
+     * 
+     */
+    @XmlEnumValue("none")
+    NONE("none"),
+
+    /**
+     * Interaction with external systems, without internet access
+     * 
+     */
+    @XmlEnumValue("local")
+    LOCAL("local"),
+
+    /**
+     * Interaction with external systems, internet access required only for extended functionality (such
+     * 						as discovery)
+     * 
+     */
+    @XmlEnumValue("hybrid")
+    HYBRID("hybrid"),
+
+    /**
+     * Interaction with external systems, internet access required for normal operation
+     * 
+     */
+    @XmlEnumValue("cloud")
+    CLOUD("cloud");
+    private final String value;
+
+    XmlConnectionType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static XmlConnectionType fromValue(String v) {
+        for (XmlConnectionType c: XmlConnectionType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,106 @@
+
+package org.openhab.core.addon.internal.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for discoveryMethodType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="discoveryMethodType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="service-type" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="discovery-parameters" type="{https://openhab.org/schemas/addon/v1.0.0}ParametersType" minOccurs="0"/&gt;
+ *         &lt;element name="match-properties" type="{https://openhab.org/schemas/addon/v1.0.0}matchPropertiesType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "discoveryMethodType", propOrder = {
+    "serviceType",
+    "discoveryParameters",
+    "matchProperties"
+})
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+public class XmlDiscoveryMethodType implements Serializable
+{
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    private final static long serialVersionUID = 1L;
+    @XmlElement(name = "service-type", required = true)
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected String serviceType;
+    @XmlElementWrapper(name = "discovery-parameters")
+    @XmlElement(name = "discovery-parameter")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected List<XmlParameterType> discoveryParameters = new ArrayList<XmlParameterType>();
+    @XmlElementWrapper(name = "match-properties")
+    @XmlElement(name = "match-property")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    protected List<XmlMatchPropertyType> matchProperties = new ArrayList<XmlMatchPropertyType>();
+
+    /**
+     * Gets the value of the serviceType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public String getServiceType() {
+        return serviceType;
+    }
+
+    /**
+     * Sets the value of the serviceType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setServiceType(String value) {
+        this.serviceType = value;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public List<XmlParameterType> getDiscoveryParameters() {
+        return discoveryParameters;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setDiscoveryParameters(List<XmlParameterType> discoveryParameters) {
+        this.discoveryParameters = discoveryParameters;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public List<XmlMatchPropertyType> getMatchProperties() {
+        return matchProperties;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:22:54Z")
+    public void setMatchProperties(List<XmlMatchPropertyType> matchProperties) {
+        this.matchProperties = matchProperties;
+    }
+
+}
@@ -0,0 +1,2 @@
+@javax.xml.bind.annotation.XmlSchema(namespace = "https://openhab.org/schemas/addon/v1.0.0")
+package org.openhab.core.addon.internal.dto;
@@ -31,6 +31,7 @@ import org.openhab.core.common.Disposable;
  * @author Karel Goderis - Initial contribution
  * @author Kai Kreuzer - Refactored to take a file as input
  * @author Christoph Weitkamp - Refactored use of filename extension
+ * @author Andrew Fiddian-Green - Expose the file to serve it directly
  */
 @NonNullByDefault
 public class FileAudioStream extends FixedLengthAudioStream implements Disposable {
@@ -97,6 +98,15 @@ public class FileAudioStream extends FixedLengthAudioStream implements Disposabl
         }
     }
 
+    /**
+     * Gets the file of this stream, e.g. to serve it directly from the file system.
+     *
+     * @return the audio file
+     */
+    public File getFile() {
+        return file;
+    }
+
     @Override
     public AudioFormat getFormat() {
         return audioFormat;
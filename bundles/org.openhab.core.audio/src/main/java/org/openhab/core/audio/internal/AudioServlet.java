@@ -18,7 +18,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +72,7 @@ import org.slf4j.LoggerFactory;
  * A servlet that serves audio streams via HTTP.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Andrew Fiddian-Green - Range requests and serving files through a file channel
  */
 @Component(service = { AudioHTTPServer.class, Servlet.class })
 @HttpWhiteboardServletName(AudioServlet.SERVLET_PATH)
@@ -82,6 +89,8 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
     private static final int ONETIME_STREAM_BUFFER_MAX_SIZE = 1048576;
     // 5MB max for a file buffer
     private static final int ONETIME_STREAM_FILE_MAX_SIZE = 5242880;
+    // the beginning of a file, which is read to analyze the duration of the sound
+    private static final int ANALYZED_HEAD_SIZE = 8192;
 
     static final String SERVLET_PATH = "/audio";
 
@@ -116,17 +125,15 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
         }
     }
 
-    private InputStream prepareInputStream(final StreamServed streamServed, final HttpServletResponse resp,
-            List<String> acceptedMimeTypes) throws AudioException {
-        logger.debug("Stream to serve is {}", streamServed.url());
-
+    private void setContentType(final AudioStream audioStream, final HttpServletResponse resp,
+            List<String> acceptedMimeTypes) {
         // try to set the content-type, if possible
         final String mimeType;
-        if (AudioFormat.CODEC_MP3.equals(streamServed.audioStream().getFormat().getCodec())) {
+        if (AudioFormat.CODEC_MP3.equals(audioStream.getFormat().getCodec())) {
             mimeType = "audio/mpeg";
-        } else if (AudioFormat.CONTAINER_WAVE.equals(streamServed.audioStream().getFormat().getContainer())) {
+        } else if (AudioFormat.CONTAINER_WAVE.equals(audioStream.getFormat().getContainer())) {
             mimeType = WAV_MIME_TYPES.stream().filter(acceptedMimeTypes::contains).findFirst().orElse("audio/wav");
-        } else if (AudioFormat.CONTAINER_OGG.equals(streamServed.audioStream().getFormat().getContainer())) {
+        } else if (AudioFormat.CONTAINER_OGG.equals(audioStream.getFormat().getContainer())) {
             mimeType = "audio/ogg";
         } else {
             mimeType = null;
@@ -134,13 +141,9 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
         if (mimeType != null) {
             resp.setContentType(mimeType);
         }
+    }
 
-        // try to set the content-length, if possible
-        if (streamServed.audioStream() instanceof SizeableAudioStream sizeableServedStream) {
-            final long size = sizeableServedStream.length();
-            resp.setContentLength((int) size);
-        }
-
+    private InputStream prepareInputStream(final StreamServed streamServed) throws AudioException {
         if (streamServed.multiTimeStream()
                 && streamServed.audioStream() instanceof ClonableAudioStream clonableAudioStream) {
             // we need to care about concurrent access and have a separate stream for each thread
@@ -150,6 +153,131 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
         }
     }
 
+    /**
+     * Sends the served stream, or the requested range of it.
+     *
+     * @return the timestamp (from System.nanoTime) when the sound should be fully played, or null if unknown
+     */
+    private @Nullable Long transfer(final StreamServed streamServed, final HttpServletRequest req,
+            final HttpServletResponse resp, List<String> acceptedMimeTypes) throws AudioException, IOException {
+        logger.debug("Stream to serve is {}", streamServed.url());
+        AudioStream audioStream = streamServed.audioStream();
+        setContentType(audioStream, resp, acceptedMimeTypes);
+
+        long length = audioStream instanceof SizeableAudioStream sizeableServedStream ? sizeableServedStream.length()
+                : -1;
+        if (!streamServed.multiTimeStream() || length <= 0) {
+            // a one time stream can only be read once, so it is always sent completely
+            if (length >= 0) {
+                resp.setContentLengthLong(length);
+            }
+            try (final InputStream stream = prepareInputStream(streamServed)) {
+                return audioSinkUtils.transferAndAnalyzeLength(stream, resp.getOutputStream(), audioStream.getFormat());
+            }
+        }
+
+        resp.setHeader("Accept-Ranges", "bytes");
+        ByteRange range = parseRange(req.getHeader("Range"), length);
+        if (range == ByteRange.UNSATISFIABLE) {
+            resp.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            resp.setHeader("Content-Range", "bytes */" + length);
+            resp.setContentLength(0);
+            return null;
+        } else if (range != null) {
+            resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            resp.setHeader("Content-Range", "bytes " + range.start() + "-" + range.end() + "/" + length);
+        } else {
+            range = new ByteRange(0, length - 1);
+        }
+        resp.setContentLengthLong(range.length());
+
+        if (audioStream instanceof FileAudioStream fileAudioStream) {
+            // all clients of the stream read the same file, without copying it through the heap
+            return transferFile(fileAudioStream, range, resp.getOutputStream());
+        }
+        try (final InputStream stream = prepareInputStream(streamServed)) {
+            stream.skipNBytes(range.start());
+            if (range.end() == length - 1) {
+                return audioSinkUtils.transferAndAnalyzeLength(stream, resp.getOutputStream(),
+                        audioStream.getFormat());
+            }
+            // a range in the middle of the stream is most likely a seek, its duration is not analyzed
+            OutputStream out = resp.getOutputStream();
+            byte[] buf = new byte[8192];
+            long remaining = range.length();
+            int read;
+            while (remaining > 0 && (read = stream.read(buf, 0, (int) Math.min(buf.length, remaining))) != -1) {
+                out.write(buf, 0, read);
+                remaining -= read;
+            }
+            return null;
+        }
+    }
+
+    private @Nullable Long transferFile(FileAudioStream fileAudioStream, ByteRange range, OutputStream out)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(fileAudioStream.getFile().toPath(), StandardOpenOption.READ)) {
+            // the beginning of the file is needed to analyze the duration of the sound
+            ByteBuffer head = ByteBuffer.allocate((int) Math.min(ANALYZED_HEAD_SIZE, channel.size()));
+            while (head.hasRemaining() && channel.read(head, head.position()) > 0) {
+                // read until the buffer is full
+            }
+
+            long startTime = System.nanoTime();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    // the file is shorter than expected
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            return audioSinkUtils.computeEndOfPlay(Arrays.copyOf(head.array(), head.position()),
+                    range.length() - remaining, fileAudioStream.getFormat(), startTime);
+        }
+    }
+
+    /**
+     * Parses the header of a range request, only a single range is supported.
+     *
+     * @param header the value of the Range header
+     * @param length the length of the stream
+     * @return the requested range, {@link ByteRange#UNSATISFIABLE} if it is outside the stream, or null if the header
+     *         is missing, invalid or not supported and the complete stream is to be sent
+     */
+    static @Nullable ByteRange parseRange(@Nullable String header, long length) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String rangeSpec = header.substring("bytes=".length()).trim();
+        int dash = rangeSpec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        String first = rangeSpec.substring(0, dash).trim();
+        String last = rangeSpec.substring(dash + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                // the last bytes of the stream
+                long suffixLength = Long.parseLong(last);
+                return suffixLength <= 0 ? ByteRange.UNSATISFIABLE
+                        : new ByteRange(Math.max(0, length - suffixLength), length - 1);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length) {
+                return ByteRange.UNSATISFIABLE;
+            }
+            return start < 0 || start > end ? null : new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private String substringAfterLast(String str, String separator) {
         int index = str.lastIndexOf(separator);
         return index == -1 || index == str.length() - separator.length() ? ""
@@ -184,9 +312,8 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
         // we count the number of active process using the input stream
         AtomicInteger currentlyServedStream = servedStream.currentlyServedStream();
         if (currentlyServedStream.incrementAndGet() == 1 || servedStream.multiTimeStream()) {
-            try (final InputStream stream = prepareInputStream(servedStream, resp, acceptedMimeTypes)) {
-                Long endOfPlayTimestamp = audioSinkUtils.transferAndAnalyzeLength(stream, resp.getOutputStream(),
-                        servedStream.audioStream().getFormat());
+            try {
+                Long endOfPlayTimestamp = transfer(servedStream, req, resp, acceptedMimeTypes);
                 // update timeout with the sound duration :
                 if (endOfPlayTimestamp != null) {
                     servedStream.timeout().set(Math.max(servedStream.timeout().get(), endOfPlayTimestamp));
@@ -324,6 +451,17 @@ public class AudioServlet extends HttpServlet implements AudioHTTPServer {
         return clonableAudioStreamResult;
     }
 
+    /**
+     * An inclusive range of bytes of a stream.
+     */
+    record ByteRange(long start, long end) {
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        long length() {
+            return end - start + 1;
+        }
+    }
+
     Map<String, StreamServed> getServedStreams() {
         return Collections.unmodifiableMap(servedStreams);
     }
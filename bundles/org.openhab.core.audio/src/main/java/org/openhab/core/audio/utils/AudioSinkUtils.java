@@ -24,6 +24,7 @@ import org.openhab.core.audio.AudioFormat;
  * Some utility methods for sink
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Compute the duration of audio data transferred by other means
  *
  */
 @NonNullByDefault
@@ -40,4 +41,21 @@ public interface AudioSinkUtils {
      */
     @Nullable
     Long transferAndAnalyzeLength(InputStream in, OutputStream out, AudioFormat audioFormat) throws IOException;
+
+    /**
+     * Computes the duration of audio data, which has been transferred by other means, e.g. directly from a file.
+     * <p>
+     * The default implementation does not analyze the data and returns null.
+     *
+     * @param dataBytes the beginning of the audio data, used to analyze the stream
+     * @param dataTransferedLength the total length of the transferred audio data
+     * @param audioFormat the format of the audio data
+     * @param startTime the timestamp (from System.nanoTime) when the transfer started
+     * @return the timestamp (from System.nanoTime) when the sound should be fully played. Returns null if computing
+     *         time fails.
+     */
+    default @Nullable Long computeEndOfPlay(byte[] dataBytes, long dataTransferedLength, AudioFormat audioFormat,
+            long startTime) {
+        return null;
+    }
 }
@@ -35,7 +35,7 @@ import org.slf4j.LoggerFactory;
  * Some utility methods for sink
  *
  * @author Gwendal Roulleau - Initial contribution
- *
+ * @author Andrew Fiddian-Green - Compute the duration of audio data transferred by other means
  */
 @NonNullByDefault
 @Component
@@ -56,6 +56,12 @@ public class AudioSinkUtilsImpl implements AudioSinkUtils {
         // transfer everything else
         Long dataTransferedLength = dataBytes.length + in.transferTo(out);
 
+        return computeEndOfPlay(dataBytes, dataTransferedLength, audioFormat, startTime);
+    }
+
+    @Override
+    public @Nullable Long computeEndOfPlay(byte[] dataBytes, long dataTransferedLength, AudioFormat audioFormat,
+            long startTime) {
         if (dataTransferedLength > 0) {
             if (AudioFormat.CODEC_PCM_SIGNED.equals(audioFormat.getCodec())) {
                 try (AudioInputStream audioInputStream = AudioSystem
@@ -84,7 +90,7 @@ public class AudioSinkUtilsImpl implements AudioSinkUtils {
                 try {
                     Header h = bitstream.readFrame();
                     if (h != null) {
-                        long computedDuration = Float.valueOf(h.total_ms(dataTransferedLength.intValue()) * 1000000)
+                        long computedDuration = Float.valueOf(h.total_ms((int) dataTransferedLength) * 1000000)
                                 .longValue();
                         return startTime + computedDuration;
                     }
@@ -18,6 +18,10 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -25,6 +29,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.http.HttpStatus;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
 import org.openhab.core.audio.ByteArrayAudioStream;
@@ -37,6 +42,7 @@ import org.openhab.core.audio.internal.utils.BundledSoundFileHandler;
  *
  * @author Petar Valchev - Initial contribution
  * @author Wouter Born - Migrate tests from Groovy to Java
+ * @author Andrew Fiddian-Green - Range requests
  */
 @NonNullByDefault
 public class AudioServletTest extends AbstractAudioServletTest {
@@ -168,6 +174,80 @@ public class AudioServletTest extends AbstractAudioServletTest {
         assertThat("The response status was not as expected", response.getStatus(), is(HttpStatus.NOT_FOUND_404));
     }
 
+    @Test
+    public void multiTimeStreamServesRangeRequests() throws Exception {
+        byte[] content = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        AudioStream audioStream = getByteArrayAudioStream(content, AudioFormat.CONTAINER_NONE, AudioFormat.CODEC_MP3);
+        String url = serveStream(audioStream, 10);
+
+        ContentResponse response = getHttpRequest(url).send();
+        assertThat(response.getStatus(), is(HttpStatus.OK_200));
+        assertThat(response.getHeaders().get("Accept-Ranges"), is("bytes"));
+        assertThat(response.getContent(), is(content));
+
+        response = getHttpRequest(url).header("Range", "bytes=2-4").send();
+        assertThat(response.getStatus(), is(HttpStatus.PARTIAL_CONTENT_206));
+        assertThat(response.getHeaders().get("Content-Range"), is("bytes 2-4/10"));
+        assertThat(response.getContent(), is(new byte[] { 2, 3, 4 }));
+
+        response = getHttpRequest(url).header("Range", "bytes=-3").send();
+        assertThat(response.getStatus(), is(HttpStatus.PARTIAL_CONTENT_206));
+        assertThat(response.getContent(), is(new byte[] { 7, 8, 9 }));
+
+        response = getHttpRequest(url).header("Range", "bytes=10-").send();
+        assertThat(response.getStatus(), is(HttpStatus.RANGE_NOT_SATISFIABLE_416));
+        assertThat(response.getHeaders().get("Content-Range"), is("bytes */10"));
+    }
+
+    @Test
+    public void multiTimeFileStreamServesRangeRequests(@TempDir Path tempDir) throws Exception {
+        byte[] content = new byte[1000];
+        new Random(42).nextBytes(content);
+        Path file = tempDir.resolve("audio.mp3");
+        Files.write(file, content);
+        String url = serveStream(new FileAudioStream(file.toFile(), AudioFormat.MP3), 10);
+
+        ContentResponse response = getHttpRequest(url).send();
+        assertThat(response.getStatus(), is(HttpStatus.OK_200));
+        assertThat(response.getContent(), is(content));
+
+        response = getHttpRequest(url).header("Range", "bytes=100-").send();
+        assertThat(response.getStatus(), is(HttpStatus.PARTIAL_CONTENT_206));
+        assertThat(response.getHeaders().get("Content-Range"), is("bytes 100-999/1000"));
+        assertThat(response.getContent(), is(Arrays.copyOfRange(content, 100, 1000)));
+
+        response = getHttpRequest(url).header("Range", "bytes=10-19").send();
+        assertThat(response.getStatus(), is(HttpStatus.PARTIAL_CONTENT_206));
+        assertThat(response.getContent(), is(Arrays.copyOfRange(content, 10, 20)));
+    }
+
+    @Test
+    public void oneTimeStreamIgnoresRangeRequests() throws Exception {
+        AudioStream audioStream = getByteArrayAudioStream(testByteArray, AudioFormat.CONTAINER_NONE,
+                AudioFormat.CODEC_MP3);
+        String url = serveStream(audioStream);
+
+        ContentResponse response = getHttpRequest(url).header("Range", "bytes=1-").send();
+
+        assertThat(response.getStatus(), is(HttpStatus.OK_200));
+        assertThat(response.getContent(), is(testByteArray));
+    }
+
+    @Test
+    public void parseRange() {
+        assertThat(AudioServlet.parseRange(null, 10), is(nullValue()));
+        assertThat(AudioServlet.parseRange("bytes=0-", 10), is(new AudioServlet.ByteRange(0, 9)));
+        assertThat(AudioServlet.parseRange("bytes=5-100", 10), is(new AudioServlet.ByteRange(5, 9)));
+        assertThat(AudioServlet.parseRange("bytes=-20", 10), is(new AudioServlet.ByteRange(0, 9)));
+        assertThat(AudioServlet.parseRange("bytes=-0", 10), is(AudioServlet.ByteRange.UNSATISFIABLE));
+        assertThat(AudioServlet.parseRange("bytes=10-12", 10), is(AudioServlet.ByteRange.UNSATISFIABLE));
+        // invalid or unsupported ranges are ignored
+        assertThat(AudioServlet.parseRange("bytes=5-2", 10), is(nullValue()));
+        assertThat(AudioServlet.parseRange("bytes=0-1,4-5", 10), is(nullValue()));
+        assertThat(AudioServlet.parseRange("items=0-1", 10), is(nullValue()));
+        assertThat(AudioServlet.parseRange("bytes=a-", 10), is(nullValue()));
+    }
+
     @Test
     public void oneTimeStreamIsRecreatedAsAClonable() throws Exception {
         AudioStream audioStream = mock(AudioStream.class);
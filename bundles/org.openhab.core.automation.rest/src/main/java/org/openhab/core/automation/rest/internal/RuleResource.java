@@ -17,15 +17,15 @@ import static org.openhab.core.automation.RulePredicates.*;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
-import java.util.Date;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 
 import javax.annotation.security.RolesAllowed;
@@ -57,6 +57,7 @@ import org.openhab.core.automation.Module;
 import org.openhab.core.automation.Rule;
 import org.openhab.core.automation.RuleExecution;
 import org.openhab.core.automation.RuleManager;
+import org.openhab.core.automation.RuleProfile;
 import org.openhab.core.automation.RuleRegistry;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.dto.ActionDTO;
@@ -71,6 +72,9 @@ import org.openhab.core.automation.dto.TriggerDTOMapper;
 import org.openhab.core.automation.events.AutomationEventFactory;
 import org.openhab.core.automation.rest.internal.dto.EnrichedRuleDTO;
 import org.openhab.core.automation.rest.internal.dto.EnrichedRuleDTOMapper;
+import org.openhab.core.automation.rest.internal.dto.ModuleTypeProfileDTO;
+import org.openhab.core.automation.rest.internal.dto.RuleProfileDTO;
+import org.openhab.core.automation.rest.internal.dto.RuleProfileDTOMapper;
 import org.openhab.core.automation.util.ModuleBuilder;
 import org.openhab.core.automation.util.RuleBuilder;
 import org.openhab.core.common.registry.RegistryChangedRunnableListener;
@@ -82,6 +86,7 @@ import org.openhab.core.io.rest.DTOMapper;
 import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
+import org.openhab.core.io.rest.SerializedResponseCache;
 import org.openhab.core.io.rest.Stream2JSONInputStream;
 import org.openhab.core.library.types.DateTimeType;
 import org.osgi.service.component.annotations.Activate;
@@ -113,6 +118,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * @author Markus Rathgeb - Use DTOs
  * @author Markus Rathgeb - Migrated to JAX-RS Whiteboard Specification
  * @author Wouter Born - Migrated to OpenAPI annotations
+ * @author Andrew Fiddian-Green - Add the rule profiles
  */
 @Component
 @JaxrsResource
@@ -129,6 +135,12 @@ public class RuleResource implements RESTResource {
     /** The URI path to this resource */
     public static final String PATH_RULES = "rules";
 
+    private static final Map<String, ToDoubleFunction<RuleProfile>> PROFILE_SORT_KEYS = Map.of( //
+            "total", profile -> profile.getExecution().getTotalMillis(), //
+            "average", profile -> profile.getExecution().getAverageMillis(), //
+            "max", profile -> profile.getExecution().getMaxMillis(), //
+            "queueWait", profile -> profile.getQueueWait().getMaxMillis());
+
     private final Logger logger = LoggerFactory.getLogger(RuleResource.class);
 
     private final DTOMapper dtoMapper;
@@ -136,11 +148,11 @@ public class RuleResource implements RESTResource {
     private final RuleRegistry ruleRegistry;
     private final ManagedRuleProvider managedRuleProvider;
     private final TimeZoneProvider timeZoneProvider;
-    private final RegistryChangedRunnableListener<Rule> resetLastModifiedChangeListener = new RegistryChangedRunnableListener<>(
-            () -> lastModified = null);
+    private final SerializedResponseCache staticDataCache = new SerializedResponseCache();
+    private final RegistryChangedRunnableListener<Rule> invalidateCacheChangeListener = new RegistryChangedRunnableListener<>(
+            staticDataCache::invalidate);
 
     private @Context @NonNullByDefault({}) UriInfo uriInfo;
-    private @Nullable Date lastModified = null;
 
     @Activate
     public RuleResource( //
@@ -155,12 +167,12 @@ public class RuleResource implements RESTResource {
         this.managedRuleProvider = managedRuleProvider;
         this.timeZoneProvider = timeZoneProvider;
 
-        this.ruleRegistry.addRegistryChangeListener(resetLastModifiedChangeListener);
+        this.ruleRegistry.addRegistryChangeListener(invalidateCacheChangeListener);
     }
 
     @Deactivate
     void deactivate() {
-        this.ruleRegistry.removeRegistryChangeListener(resetLastModifiedChangeListener);
+        this.ruleRegistry.removeRegistryChangeListener(invalidateCacheChangeListener);
     }
 
     @GET
@@ -178,22 +190,11 @@ public class RuleResource implements RESTResource {
         }
 
         if (staticDataOnly) {
-            if (lastModified != null) {
-                Response.ResponseBuilder responseBuilder = request.evaluatePreconditions(lastModified);
-                if (responseBuilder != null) {
-                    // send 304 Not Modified
-                    return responseBuilder.build();
-                }
-            } else {
-                lastModified = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
-            }
-
-            Stream<EnrichedRuleDTO> rules = ruleRegistry.stream()
-                    .map(rule -> EnrichedRuleDTOMapper.map(rule, ruleManager, managedRuleProvider));
-
-            rules = dtoMapper.limitToFields(rules, "uid,templateUID,name,visibility,description,tags,editable");
-            return Response.ok(new Stream2JSONInputStream(rules)).lastModified(lastModified)
-                    .cacheControl(RESTConstants.CACHE_CONTROL).build();
+            return staticDataCache.getResponse(request, "", () -> {
+                Stream<EnrichedRuleDTO> rules = ruleRegistry.stream()
+                        .map(rule -> EnrichedRuleDTOMapper.map(rule, ruleManager, managedRuleProvider));
+                return dtoMapper.limitToFields(rules, "uid,templateUID,name,visibility,description,tags,editable");
+            });
         }
 
         // match all
@@ -464,6 +465,52 @@ public class RuleResource implements RESTResource {
         return dateTime.getZonedDateTime(timeZoneProvider.getTimeZone());
     }
 
+    @GET
+    @Path("/profiler/rules")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getRuleProfiles", summary = "Gets the profiles of the slowest rules.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = RuleProfileDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "The sort order is unknown.") })
+    public Response getRuleProfiles(
+            @DefaultValue("10") @QueryParam("limit") @Parameter(description = "maximum number of rules, 0 for all rules") int limit,
+            @DefaultValue("total") @QueryParam("sortBy") @Parameter(description = "sort order of the rules, slowest first: total (time), average (time), max (time) or queueWait (max. time waiting for the rule thread)") String sortBy) {
+        ToDoubleFunction<RuleProfile> sortKey = PROFILE_SORT_KEYS.get(sortBy);
+        if (sortKey == null) {
+            return JSONResponse.createErrorResponse(Status.BAD_REQUEST, "Unknown sort order '" + sortBy + "'.");
+        }
+        Stream<RuleProfile> profiles = ruleManager.getRuleProfiles().stream()
+                .sorted(Comparator.comparingDouble(sortKey).reversed());
+        if (limit > 0) {
+            profiles = profiles.limit(limit);
+        }
+        return Response.ok(profiles.map(RuleProfileDTOMapper::map).toList()).build();
+    }
+
+    @GET
+    @Path("/profiler/moduletypes")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getModuleTypeProfiles", summary = "Gets the profiles of the module types of conditions and actions.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ModuleTypeProfileDTO.class)))) })
+    public Response getModuleTypeProfiles() {
+        return Response.ok(ruleManager.getModuleTypeProfiles().stream().map(RuleProfileDTOMapper::map).toList())
+                .build();
+    }
+
+    @GET
+    @Path("/{ruleUID}/profile")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getRuleProfile", summary = "Gets the profile of the rule.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = RuleProfileDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Rule corresponding to the given UID does not found or has not run yet.") })
+    public Response getProfile(@PathParam("ruleUID") @Parameter(description = "ruleUID") String ruleUID) {
+        RuleProfile profile = ruleManager.getRuleProfile(ruleUID);
+        if (profile != null) {
+            return Response.ok(RuleProfileDTOMapper.map(profile)).build();
+        } else {
+            return Response.status(Status.NOT_FOUND).build();
+        }
+    }
+
     @GET
     @Path("/{ruleUID}/conditions")
     @Produces(MediaType.APPLICATION_JSON)
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.rest.internal.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * This is a data transfer object that is used to serialize the profile of a rule.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@Schema(name = "RuleProfile")
+public class RuleProfileDTO {
+
+    public String ruleUID;
+    public long failures;
+    public TimingDTO execution;
+    public TimingDTO queueWait;
+    public TimingDTO conditions;
+    public TimingDTO actions;
+    public int queueDepth;
+    public long coalescedTriggers;
+}
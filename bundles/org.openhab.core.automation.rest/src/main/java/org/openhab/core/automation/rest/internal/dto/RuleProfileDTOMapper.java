@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.rest.internal.dto;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.automation.ModuleTypeProfile;
+import org.openhab.core.automation.RuleProfile;
+import org.openhab.core.automation.RuleProfile.Timing;
+
+/**
+ * This is a utility class to convert the profiles of rules and module types into their DTOs.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class RuleProfileDTOMapper {
+
+    public static RuleProfileDTO map(final RuleProfile profile) {
+        final RuleProfileDTO profileDto = new RuleProfileDTO();
+        profileDto.ruleUID = profile.getRuleUID();
+        profileDto.failures = profile.getFailures();
+        profileDto.execution = map(profile.getExecution());
+        profileDto.queueWait = map(profile.getQueueWait());
+        profileDto.conditions = map(profile.getConditions());
+        profileDto.actions = map(profile.getActions());
+        profileDto.queueDepth = profile.getQueueDepth();
+        profileDto.coalescedTriggers = profile.getCoalescedTriggers();
+        return profileDto;
+    }
+
+    public static ModuleTypeProfileDTO map(final ModuleTypeProfile profile) {
+        final ModuleTypeProfileDTO profileDto = new ModuleTypeProfileDTO();
+        profileDto.moduleTypeUID = profile.getModuleTypeUID();
+        profileDto.failures = profile.getFailures();
+        profileDto.execution = map(profile.getExecution());
+        return profileDto;
+    }
+
+    private static TimingDTO map(final Timing timing) {
+        final TimingDTO timingDto = new TimingDTO();
+        timingDto.count = timing.getCount();
+        timingDto.totalMillis = timing.getTotalMillis();
+        timingDto.maxMillis = timing.getMaxMillis();
+        timingDto.averageMillis = timing.getAverageMillis();
+        return timingDto;
+    }
+}
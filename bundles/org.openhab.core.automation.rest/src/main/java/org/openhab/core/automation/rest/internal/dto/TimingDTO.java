@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.rest.internal.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * This is a data transfer object that is used to serialize the number and the duration of the measured runs of a rule
+ * or a module type.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@Schema(name = "ProfileTiming")
+public class TimingDTO {
+
+    public long count;
+    public double totalMillis;
+    public double maxMillis;
+    public double averageMillis;
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.automation.RuleProfile.Timing;
+import org.openhab.core.automation.type.ModuleType;
+
+/**
+ * A snapshot of the time spent in the {@link Condition}s and {@link Action}s of a {@link ModuleType}, summed up over
+ * all rules.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public final class ModuleTypeProfile {
+
+    private final String moduleTypeUID;
+    private final long failures;
+    private final Timing execution;
+
+    /**
+     * Creates a new {@link ModuleTypeProfile}.
+     *
+     * @param moduleTypeUID the UID of the module type
+     * @param failures the number of evaluations or executions which failed with an exception
+     * @param execution the time spent evaluating the conditions or executing the actions of the module type
+     */
+    public ModuleTypeProfile(String moduleTypeUID, long failures, Timing execution) {
+        this.moduleTypeUID = moduleTypeUID;
+        this.failures = failures;
+        this.execution = execution;
+    }
+
+    public String getModuleTypeUID() {
+        return moduleTypeUID;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public Timing getExecution() {
+        return execution;
+    }
+}
@@ -13,6 +13,7 @@
 package org.openhab.core.automation;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.stream.Stream;
@@ -28,6 +29,7 @@ import org.openhab.core.common.registry.RegistryChangeListener;
  * for a single {@link Rule} to the Rule Engine.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Andrew Fiddian-Green - Add rule profiles
  */
 @NonNullByDefault
 public interface RuleManager {
@@ -151,4 +153,57 @@ public interface RuleManager {
      * @return A {@link Stream} with all expected {@link RuleExecution}.
      */
     Stream<RuleExecution> simulateRuleExecutions(ZonedDateTime from, ZonedDateTime until);
+
+    /**
+     * Gets the profiles of the rules which have run since they have been added to the {@link RuleManager}. The
+     * profiles are sorted by the total time spent running the rules, the rule which has taken the most time first.
+     *
+     * @return the profiles of the rules
+     * @throws UnsupportedOperationException If profiling isn't supported by the {@link RuleManager} implementation.
+     *
+     * @implNote The default implementation throws an {@link UnsupportedOperationException}.
+     */
+    default List<RuleProfile> getRuleProfiles() {
+        throw new UnsupportedOperationException("getRuleProfiles() isn't implemented by " + getClass().getName());
+    }
+
+    /**
+     * Gets the profile of a rule.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the profile of the rule or {@code null} when the rule has not run since it has been added
+     * @throws UnsupportedOperationException If profiling isn't supported by the {@link RuleManager} implementation.
+     *
+     * @implNote The default implementation throws an {@link UnsupportedOperationException}.
+     */
+    default @Nullable RuleProfile getRuleProfile(String ruleUID) {
+        throw new UnsupportedOperationException("getRuleProfile() isn't implemented by " + getClass().getName());
+    }
+
+    /**
+     * Gets the profiles of the module types of all conditions and actions which have been run. The profiles are
+     * sorted by the total time spent in the modules, the module type which has taken the most time first.
+     *
+     * @return the profiles of the module types
+     * @throws UnsupportedOperationException If profiling isn't supported by the {@link RuleManager} implementation.
+     *
+     * @implNote The default implementation throws an {@link UnsupportedOperationException}.
+     */
+    default List<ModuleTypeProfile> getModuleTypeProfiles() {
+        throw new UnsupportedOperationException("getModuleTypeProfiles() isn't implemented by " + getClass().getName());
+    }
+
+    /**
+     * Gets the profile of a module type.
+     *
+     * @param moduleTypeUID the UID of the module type
+     * @return the profile of the module type or {@code null} when no condition or action of this type has been run
+     * @throws UnsupportedOperationException If profiling isn't supported by the {@link RuleManager} implementation.
+     *
+     * @implNote The default implementation searches the profiles returned by {@link #getModuleTypeProfiles()}.
+     */
+    default @Nullable ModuleTypeProfile getModuleTypeProfile(String moduleTypeUID) {
+        return getModuleTypeProfiles().stream().filter(profile -> profile.getModuleTypeUID().equals(moduleTypeUID))
+                .findFirst().orElse(null);
+    }
 }
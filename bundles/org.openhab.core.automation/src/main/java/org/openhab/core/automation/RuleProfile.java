@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A snapshot of the time spent running a {@link Rule} since it has been added to the {@link RuleManager}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public final class RuleProfile {
+
+    private final String ruleUID;
+    private final long failures;
+    private final Timing execution;
+    private final Timing queueWait;
+    private final Timing conditions;
+    private final Timing actions;
+    private final int queueDepth;
+    private final long coalescedTriggers;
+
+    /**
+     * Creates a new {@link RuleProfile}.
+     *
+     * @param ruleUID the UID of the rule
+     * @param failures the number of runs which failed with an exception
+     * @param execution the time spent running the rule, from evaluating the conditions to executing the actions
+     * @param queueWait the time the rule has waited for its thread after it has been triggered
+     * @param conditions the time spent evaluating the conditions
+     * @param actions the time spent executing the actions
+     * @param queueDepth the number of runs currently waiting for the thread of the rule
+     * @param coalescedTriggers the number of triggers which have been collapsed into a waiting run
+     */
+    public RuleProfile(String ruleUID, long failures, Timing execution, Timing queueWait, Timing conditions,
+            Timing actions, int queueDepth, long coalescedTriggers) {
+        this.ruleUID = ruleUID;
+        this.failures = failures;
+        this.execution = execution;
+        this.queueWait = queueWait;
+        this.conditions = conditions;
+        this.actions = actions;
+        this.queueDepth = queueDepth;
+        this.coalescedTriggers = coalescedTriggers;
+    }
+
+    public String getRuleUID() {
+        return ruleUID;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public Timing getExecution() {
+        return execution;
+    }
+
+    public Timing getQueueWait() {
+        return queueWait;
+    }
+
+    public Timing getConditions() {
+        return conditions;
+    }
+
+    public Timing getActions() {
+        return actions;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getCoalescedTriggers() {
+        return coalescedTriggers;
+    }
+
+    /**
+     * The number and the duration of the measured runs.
+     */
+    public static final class Timing {
+
+        private final long count;
+        private final double totalMillis;
+        private final double maxMillis;
+        private final double averageMillis;
+
+        /**
+         * Creates a new {@link Timing}.
+         *
+         * @param count the number of measured runs
+         * @param totalNanos the total duration of the runs in nanoseconds
+         * @param maxNanos the duration of the longest run in nanoseconds
+         */
+        public Timing(long count, long totalNanos, long maxNanos) {
+            this.count = count;
+            this.totalMillis = totalNanos / 1e6;
+            this.maxMillis = maxNanos / 1e6;
+            this.averageMillis = count == 0 ? 0 : totalMillis / count;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getTotalMillis() {
+            return totalMillis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        public double getAverageMillis() {
+            return averageMillis;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.type.Input;
+import org.openhab.core.automation.util.ReferenceResolver;
+
+/**
+ * A {@link Connection} prepared for resolving the value of its {@link Input} from the context of a rule.
+ * <p>
+ * The key of the output or configuration entry in the context and the tokens of the reference path are parsed once,
+ * when the rule is initialized. Resolving the value when the rule is run then only looks up the context and walks the
+ * tokens, the fields of beans in the path are cached by their class.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public final class CompiledConnection {
+
+    private final Connection connection;
+    private final String inputName;
+    private final @Nullable String contextKey;
+    private final @Nullable Object constant;
+    private final boolean hasPath;
+    private final Token @Nullable [] tokens;
+
+    public CompiledConnection(Connection connection) {
+        this.connection = connection;
+        this.inputName = connection.getInputName();
+        String outputModuleId = connection.getOutputModuleId();
+        String reference = connection.getReference();
+        Token[] tokens = null;
+        hasPath = outputModuleId != null && reference != null;
+        if (outputModuleId != null) {
+            contextKey = outputModuleId + RuleEngineImpl.OUTPUT_SEPARATOR + connection.getOutputName();
+            constant = null;
+            if (reference != null) {
+                try {
+                    String[] names = ReferenceResolver.splitReferenceToTokens(reference);
+                    tokens = new Token[names.length];
+                    for (int i = 0; i < names.length; i++) {
+                        tokens[i] = new Token(names[i]);
+                    }
+                } catch (IllegalArgumentException e) {
+                    // the reference is parsed again and reported when the rule is run
+                    tokens = null;
+                }
+            }
+        } else {
+            contextKey = reference == null ? null : ReferenceResolver.getReferenceKey(reference);
+            // a reference which is not a single reference is passed as it is
+            constant = contextKey == null ? reference : null;
+        }
+        this.tokens = tokens;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Puts the value of the connected output or configuration reference from the context as value of the input into
+     * the context. The context is not changed, if there is no value.
+     *
+     * @param context the context of the rule
+     */
+    public void resolve(Map<String, @Nullable Object> context) {
+        String contextKey = this.contextKey;
+        Object value = contextKey == null ? constant : context.get(contextKey);
+        if (value == null) {
+            return;
+        }
+        if (hasPath) {
+            Token[] tokens = this.tokens;
+            value = tokens == null
+                    ? ReferenceResolver.resolveComplexDataReference(value,
+                            ReferenceResolver.splitReferenceToTokens(connection.getReference()))
+                    : resolvePath(value, tokens);
+        }
+        context.put(inputName, value);
+    }
+
+    /**
+     * Walks the path of tokens like {@link ReferenceResolver#resolveComplexDataReference(Object, String...)}.
+     */
+    private static @Nullable Object resolvePath(Object object, Token[] tokens) {
+        Object obj = object;
+        for (Token token : tokens) {
+            if (obj instanceof Map<?, ?> map) {
+                obj = map.get(token.name);
+            } else if (obj instanceof List<?> list) {
+                obj = list.get(token.getIndex());
+            } else {
+                // a missing value in the path fails like when the path is resolved without compiling it
+                obj = token.getFieldValue(Objects.requireNonNull(obj));
+            }
+        }
+        return obj;
+    }
+
+    @Override
+    public String toString() {
+        return connection.toString();
+    }
+
+    /**
+     * A token of the reference path.
+     */
+    private static class Token {
+        private final String name;
+        private final @Nullable Integer index;
+        private volatile @Nullable BeanField beanField;
+
+        private Token(String name) {
+            this.name = name;
+            Integer index;
+            try {
+                index = Integer.valueOf(name);
+            } catch (NumberFormatException e) {
+                index = null;
+            }
+            this.index = index;
+        }
+
+        private int getIndex() {
+            Integer index = this.index;
+            // throws the same exception as when the path is resolved without compiling it
+            return index == null ? Integer.parseInt(name) : index;
+        }
+
+        private @Nullable Object getFieldValue(Object bean) {
+            Class<?> beanClass = bean.getClass();
+            BeanField beanField = this.beanField;
+            if (beanField == null || beanField.beanClass() != beanClass) {
+                try {
+                    beanField = new BeanField(beanClass, beanClass.getDeclaredField(name));
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalArgumentException(
+                            "Invalid reference path. A field from the reference path doesn't exist", e);
+                }
+                this.beanField = beanField;
+            }
+            Field field = beanField.field();
+            try {
+                if (!field.canAccess(bean)) {
+                    field.setAccessible(true);
+                }
+                return field.get(bean);
+            } catch (IllegalAccessException e) {
+                // Should never happen because we set the field to accessible.
+                return null;
+            }
+        }
+    }
+
+    private record BeanField(Class<?> beanClass, Field field) {
+    }
+}
@@ -43,10 +43,12 @@ import org.openhab.core.automation.Action;
 import org.openhab.core.automation.Condition;
 import org.openhab.core.automation.Module;
 import org.openhab.core.automation.ModuleHandlerCallback;
+import org.openhab.core.automation.ModuleTypeProfile;
 import org.openhab.core.automation.Rule;
 import org.openhab.core.automation.Rule.TemplateState;
 import org.openhab.core.automation.RuleExecution;
 import org.openhab.core.automation.RuleManager;
+import org.openhab.core.automation.RuleProfile;
 import org.openhab.core.automation.RuleRegistry;
 import org.openhab.core.automation.RuleStatus;
 import org.openhab.core.automation.RuleStatusDetail;
@@ -77,7 +79,6 @@ import org.openhab.core.automation.type.ModuleType;
 import org.openhab.core.automation.type.ModuleTypeRegistry;
 import org.openhab.core.automation.type.Output;
 import org.openhab.core.automation.type.TriggerType;
-import org.openhab.core.automation.util.ReferenceResolver;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.Event;
@@ -118,6 +119,8 @@ import org.slf4j.LoggerFactory;
  * @author Markus Rathgeb - use a managed rule
  * @author Ana Dimova - new reference syntax: list[index], map["key"], bean.field
  * @author Florian Hotze - add support for script condition/action compilation
+ * @author Andrew Fiddian-Green - Resolve inputs by compiled connections
+ * @author Andrew Fiddian-Green - Profile the rule executions
  */
 @Component(immediate = true, service = { RuleManager.class }, configurationPid = RuleEngineImpl.SERVICE_PID)
 @NonNullByDefault
@@ -197,6 +200,11 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      */
     private final Map<String, Map<String, @Nullable Object>> contextMap = new ConcurrentHashMap<>();
 
+    /**
+     * Collects the time spent running the rules and their modules.
+     */
+    private final RuleProfiler profiler = new RuleProfiler();
+
     /**
      * This field holds reference to {@link ModuleTypeRegistry}. The {@link RuleEngineImpl} needs it to auto-map
      * connection between rule's modules and to determine module handlers.
@@ -809,6 +817,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         final WrappedRule r = managedRules.remove(rUID);
         if (r != null) {
             unregister(r);
+            profiler.remove(rUID);
             synchronized (this) {
                 for (Iterator<Map.Entry<String, Set<String>>> it = mapModuleTypeToRules.entrySet().iterator(); it
                         .hasNext();) {
@@ -1126,6 +1135,12 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             // change state to RUNNING
             setStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
         }
+        final RuleProfiler.RuleStatistics statistics = profiler.findRuleStatistics(ruleUID);
+        final long start = System.nanoTime();
+        if (statistics != null) {
+            statistics.queueWait.record(start - td.getTriggeredNanos(), false);
+        }
+        boolean failed = false;
         try {
             clearContext(ruleUID);
 
@@ -1141,9 +1156,13 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
                 }
             }
         } catch (Throwable t) {
+            failed = true;
             logger.error("Failed to execute rule '{}': {}", ruleUID, t.getMessage());
             logger.debug("", t);
         }
+        if (statistics != null) {
+            statistics.execution.record(System.nanoTime() - start, failed);
+        }
         // change state to IDLE only if the rule has not been DISABLED.
         synchronized (this) {
             if (getRuleStatus(ruleUID) == RuleStatus.RUNNING) {
@@ -1282,36 +1301,15 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
     /**
      * @return copy of current context in rule engine
      */
-    private Map<String, @Nullable Object> getContext(String ruleUID, @Nullable Set<Connection> connections) {
+    private Map<String, @Nullable Object> getContext(String ruleUID,
+            @Nullable List<CompiledConnection> connections) {
         Map<String, @Nullable Object> context = contextMap.computeIfAbsent(ruleUID, k -> new HashMap<>());
         if (context == null) {
             throw new IllegalStateException("context cannot be null at that point - please report a bug.");
         }
         if (connections != null) {
-            StringBuilder sb = new StringBuilder();
-            for (Connection c : connections) {
-                String outputModuleId = c.getOutputModuleId();
-                if (outputModuleId != null) {
-                    sb.append(outputModuleId).append(OUTPUT_SEPARATOR).append(c.getOutputName());
-                    Object outputValue = context.get(sb.toString());
-                    sb.setLength(0);
-                    if (outputValue != null) {
-                        if (c.getReference() == null) {
-                            context.put(c.getInputName(), outputValue);
-                        } else {
-                            context.put(c.getInputName(), ReferenceResolver.resolveComplexDataReference(outputValue,
-                                    ReferenceResolver.splitReferenceToTokens(c.getReference())));
-                        }
-                    }
-                } else {
-                    // get reference from context
-                    String ref = c.getReference();
-                    final Object value = ReferenceResolver.resolveReference(ref, context);
-
-                    if (value != null) {
-                        context.put(c.getInputName(), value);
-                    }
-                }
+            for (CompiledConnection c : connections) {
+                c.resolve(context);
             }
         }
         return context;
@@ -1356,21 +1354,41 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             return true;
         }
         final String ruleUID = rule.getUID();
-        RuleStatus ruleStatus;
-        for (WrappedCondition wrappedCondition : conditions) {
-            ruleStatus = getRuleStatus(ruleUID);
-            if (ruleStatus != RuleStatus.RUNNING) {
-                return false;
+        final long start = System.nanoTime();
+        try {
+            RuleStatus ruleStatus;
+            for (WrappedCondition wrappedCondition : conditions) {
+                ruleStatus = getRuleStatus(ruleUID);
+                if (ruleStatus != RuleStatus.RUNNING) {
+                    return false;
+                }
+                final Condition condition = wrappedCondition.unwrap();
+                ConditionHandler tHandler = wrappedCondition.getModuleHandler();
+                Map<String, @Nullable Object> context = getContext(ruleUID, wrappedCondition.getCompiledConnections());
+                if (tHandler != null && !isSatisfied(tHandler, condition, Collections.unmodifiableMap(context))) {
+                    logger.debug("The condition '{}' of rule '{}' is unsatisfied.", condition.getId(), ruleUID);
+                    return false;
+                }
             }
-            final Condition condition = wrappedCondition.unwrap();
-            ConditionHandler tHandler = wrappedCondition.getModuleHandler();
-            Map<String, @Nullable Object> context = getContext(ruleUID, wrappedCondition.getConnections());
-            if (tHandler != null && !tHandler.isSatisfied(Collections.unmodifiableMap(context))) {
-                logger.debug("The condition '{}' of rule '{}' is unsatisfied.", condition.getId(), ruleUID);
-                return false;
+            return true;
+        } finally {
+            RuleProfiler.RuleStatistics statistics = profiler.findRuleStatistics(ruleUID);
+            if (statistics != null) {
+                statistics.conditions.record(System.nanoTime() - start, false);
             }
         }
-        return true;
+    }
+
+    private boolean isSatisfied(ConditionHandler handler, Condition condition, Map<String, Object> context) {
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            boolean satisfied = handler.isSatisfied(context);
+            failed = false;
+            return satisfied;
+        } finally {
+            profiler.getModuleTypeStatistics(condition.getTypeUID()).record(System.nanoTime() - start, failed);
+        }
     }
 
     /**
@@ -1410,33 +1428,46 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         if (actions.isEmpty()) {
             return;
         }
-        RuleStatus ruleStatus;
-        for (WrappedAction wrappedAction : actions) {
-            ruleStatus = getRuleStatus(ruleUID);
-            if (ruleStatus != RuleStatus.RUNNING) {
-                return;
-            }
-            final Action action = wrappedAction.unwrap();
-            ActionHandler aHandler = wrappedAction.getModuleHandler();
-            if (aHandler != null) {
-                Map<String, @Nullable Object> context = getContext(ruleUID, wrappedAction.getConnections());
-                try {
-                    Map<String, @Nullable ?> outputs = aHandler.execute(Collections.unmodifiableMap(context));
-                    if (outputs != null) {
-                        context = getContext(ruleUID, null);
-                        updateContext(ruleUID, action.getId(), outputs);
-                    }
-                } catch (Throwable t) {
-                    String errMessage = "Failed to execute action '" + action.getId() + "' of rule '" + ruleUID + "': "
-                            + t.getMessage();
-                    if (stopOnFirstFail) {
-                        logger.debug("Action {}-{} threw an exception: ", ruleUID, action.getId(), t);
-                        throw new RuntimeException(errMessage, t);
-                    } else {
-                        logger.warn(errMessage, t);
+        final long start = System.nanoTime();
+        try {
+            RuleStatus ruleStatus;
+            for (WrappedAction wrappedAction : actions) {
+                ruleStatus = getRuleStatus(ruleUID);
+                if (ruleStatus != RuleStatus.RUNNING) {
+                    return;
+                }
+                final Action action = wrappedAction.unwrap();
+                ActionHandler aHandler = wrappedAction.getModuleHandler();
+                if (aHandler != null) {
+                    Map<String, @Nullable Object> context = getContext(ruleUID, wrappedAction.getCompiledConnections());
+                    final RuleProfiler.Statistics moduleTypeStatistics = profiler
+                            .getModuleTypeStatistics(action.getTypeUID());
+                    final long actionStart = System.nanoTime();
+                    try {
+                        Map<String, @Nullable ?> outputs = aHandler.execute(Collections.unmodifiableMap(context));
+                        moduleTypeStatistics.record(System.nanoTime() - actionStart, false);
+                        if (outputs != null) {
+                            context = getContext(ruleUID, null);
+                            updateContext(ruleUID, action.getId(), outputs);
+                        }
+                    } catch (Throwable t) {
+                        moduleTypeStatistics.record(System.nanoTime() - actionStart, true);
+                        String errMessage = "Failed to execute action '" + action.getId() + "' of rule '" + ruleUID
+                                + "': " + t.getMessage();
+                        if (stopOnFirstFail) {
+                            logger.debug("Action {}-{} threw an exception: ", ruleUID, action.getId(), t);
+                            throw new RuntimeException(errMessage, t);
+                        } else {
+                            logger.warn(errMessage, t);
+                        }
                     }
                 }
             }
+        } finally {
+            RuleProfiler.RuleStatistics statistics = profiler.findRuleStatistics(ruleUID);
+            if (statistics != null) {
+                statistics.actions.record(System.nanoTime() - start, false);
+            }
         }
     }
 
@@ -1792,11 +1823,40 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         return new RuleExecutionSimulator(this.ruleRegistry, this).simulateRuleExecutions(from, until);
     }
 
+    /**
+     * @param ruleUID the UID of the rule
+     * @return the measurements of the rule, which are created if the rule has not been measured yet
+     */
+    RuleProfiler.RuleStatistics getRuleStatistics(String ruleUID) {
+        return profiler.getRuleStatistics(ruleUID);
+    }
+
+    @Override
+    public List<RuleProfile> getRuleProfiles() {
+        return profiler.getRuleProfiles();
+    }
+
+    @Override
+    public @Nullable RuleProfile getRuleProfile(String ruleUID) {
+        return profiler.getRuleProfile(ruleUID);
+    }
+
+    @Override
+    public List<ModuleTypeProfile> getModuleTypeProfiles() {
+        return profiler.getModuleTypeProfiles();
+    }
+
+    @Override
+    public @Nullable ModuleTypeProfile getModuleTypeProfile(String moduleTypeUID) {
+        return profiler.getModuleTypeProfile(moduleTypeUID);
+    }
+
     private class RunRuleCallable implements Callable<Map<String, @Nullable Object>> {
 
         private final WrappedRule rule;
         private final boolean considerConditions;
         private final @Nullable Map<String, @Nullable Object> context;
+        private final long submittedNanos = System.nanoTime();
 
         public RunRuleCallable(WrappedRule rule, boolean considerConditions,
                 @Nullable Map<String, @Nullable Object> context) {
@@ -1818,6 +1878,12 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
                 // change state to RUNNING
                 setStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
             }
+            final RuleProfiler.RuleStatistics statistics = profiler.findRuleStatistics(ruleUID);
+            final long start = System.nanoTime();
+            if (statistics != null) {
+                statistics.queueWait.record(start - submittedNanos, false);
+            }
+            boolean failed = false;
             try {
                 clearContext(ruleUID);
                 Map<String, @Nullable Object> context = this.context;
@@ -1830,8 +1896,12 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
                 logger.debug("The rule '{}' was executed.", ruleUID);
                 returnContext.putAll(getContext(ruleUID, null));
             } catch (Throwable t) {
+                failed = true;
                 logger.error("Failed to execute rule '{}': ", ruleUID, t);
             } finally {
+                if (statistics != null) {
+                    statistics.execution.record(System.nanoTime() - start, failed);
+                }
                 // change state to IDLE only if the rule has not been DISABLED.
                 synchronized (RuleEngineImpl.this) {
                     if (getRuleStatus(ruleUID) == RuleStatus.RUNNING) {
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.ModuleTypeProfile;
+import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleProfile;
+import org.openhab.core.automation.RuleProfile.Timing;
+
+/**
+ * The {@link RuleProfiler} collects the time spent running the {@link Rule}s and their modules.
+ * <p>
+ * Recording a measurement only adds to counters, which are summed up when a profile is requested, so the profiler
+ * can always be enabled.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+class RuleProfiler {
+
+    private final Map<String, RuleStatistics> rules = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> moduleTypes = new ConcurrentHashMap<>();
+
+    RuleStatistics getRuleStatistics(String ruleUID) {
+        return Objects.requireNonNull(rules.computeIfAbsent(ruleUID, uid -> new RuleStatistics()));
+    }
+
+    /**
+     * Looks up the measurements of a rule without creating them, so that a run which is still in flight when the rule
+     * is removed does not bring them back.
+     *
+     * @param ruleUID the UID of the rule
+     * @return the measurements of the rule, or <code>null</code> if the rule is not measured (anymore)
+     */
+    @Nullable
+    RuleStatistics findRuleStatistics(String ruleUID) {
+        return rules.get(ruleUID);
+    }
+
+    Statistics getModuleTypeStatistics(String moduleTypeUID) {
+        return Objects.requireNonNull(moduleTypes.computeIfAbsent(moduleTypeUID, uid -> new Statistics()));
+    }
+
+    void remove(String ruleUID) {
+        rules.remove(ruleUID);
+    }
+
+    @Nullable
+    RuleProfile getRuleProfile(String ruleUID) {
+        RuleStatistics statistics = rules.get(ruleUID);
+        return statistics == null ? null : statistics.toProfile(ruleUID);
+    }
+
+    List<RuleProfile> getRuleProfiles() {
+        return rules.entrySet().stream().map(entry -> entry.getValue().toProfile(entry.getKey()))
+                .sorted(Comparator.comparingDouble((RuleProfile profile) -> profile.getExecution().getTotalMillis())
+                        .reversed())
+                .toList();
+    }
+
+    @Nullable
+    ModuleTypeProfile getModuleTypeProfile(String moduleTypeUID) {
+        Statistics statistics = moduleTypes.get(moduleTypeUID);
+        return statistics == null ? null : statistics.toModuleTypeProfile(moduleTypeUID);
+    }
+
+    List<ModuleTypeProfile> getModuleTypeProfiles() {
+        return moduleTypes.entrySet().stream().map(entry -> entry.getValue().toModuleTypeProfile(entry.getKey()))
+                .sorted(Comparator
+                        .comparingDouble((ModuleTypeProfile profile) -> profile.getExecution().getTotalMillis())
+                        .reversed())
+                .toList();
+    }
+
+    /**
+     * The measurements of a rule.
+     */
+    static class RuleStatistics {
+        final Statistics execution = new Statistics();
+        final Statistics queueWait = new Statistics();
+        final Statistics conditions = new Statistics();
+        final Statistics actions = new Statistics();
+        // the number of runs waiting for the thread of the rule
+        final AtomicInteger queueDepth = new AtomicInteger();
+        // the number of triggers which have been collapsed into a waiting run
+        final LongAdder coalesced = new LongAdder();
+
+        private RuleProfile toProfile(String ruleUID) {
+            return new RuleProfile(ruleUID, execution.failures.sum(), execution.toTiming(), queueWait.toTiming(),
+                    conditions.toTiming(), actions.toTiming(), Math.max(0, queueDepth.get()), coalesced.sum());
+        }
+    }
+
+    /**
+     * The number, the total and the maximum duration of measured runs.
+     */
+    static class Statistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        /**
+         * @param nanos the duration of the run in nanoseconds
+         * @param failed true if the run failed with an exception
+         */
+        void record(long nanos, boolean failed) {
+            count.increment();
+            totalNanos.add(nanos);
+            if (failed) {
+                failures.increment();
+            }
+            if (nanos > maxNanos.get()) {
+                maxNanos.accumulateAndGet(nanos, Math::max);
+            }
+        }
+
+        private Timing toTiming() {
+            return new Timing(count.sum(), totalNanos.sum(), maxNanos.get());
+        }
+
+        private ModuleTypeProfile toModuleTypeProfile(String moduleTypeUID) {
+            return new ModuleTypeProfile(moduleTypeUID, failures.sum(), toTiming());
+        }
+    }
+}
@@ -12,8 +12,11 @@
  */
 package org.openhab.core.automation.internal;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -28,10 +31,14 @@ import org.openhab.core.common.ThreadPoolManager;
  * This class is implementation of {@link TriggerHandlerCallback} used by the {@link Trigger}s to notify rule engine
  * about appearing of new triggered data. There is one and only one {@link TriggerHandlerCallback} per Rule and
  * it is used by all rule's {@link Trigger}s.
+ * <p>
+ * Triggers can be configured to debounce, throttle or coalesce the runs of the rule, see {@link TriggerLimiter}.
  *
  * @author Yordan Mihaylov - Initial contribution
  * @author Kai Kreuzer - improved stability
  * @author Fabian Wolter - Change executor to ScheduledExecutorService and expose it
+ * @author Andrew Fiddian-Green - Keep the time when the rule has been triggered
+ * @author Andrew Fiddian-Green - Limit the runs of the rule by the trigger configuration
  */
 @NonNullByDefault
 public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
@@ -44,20 +51,52 @@ public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
 
     private @Nullable Future<?> future;
 
+    private final RuleProfiler.RuleStatistics statistics;
+
+    // the limiters of the triggers by their id, empty if a trigger does not limit the runs
+    private final Map<String, Optional<TriggerLimiter>> limiters = new HashMap<>();
+
     protected TriggerHandlerCallbackImpl(RuleEngineImpl re, String ruleUID) {
         this.re = re;
         this.ruleUID = ruleUID;
         this.executor = ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("rules", "rule-" + ruleUID);
+        this.statistics = re.getRuleStatistics(ruleUID);
     }
 
     @Override
     public void triggered(Trigger trigger, Map<String, ?> context) {
         synchronized (this) {
-            future = executor.submit(new TriggerData(trigger, context));
+            TriggerData triggerData = new TriggerData(trigger, context);
+            TriggerLimiter limiter = getLimiter(trigger);
+            if (limiter == null) {
+                statistics.queueDepth.incrementAndGet();
+                future = executor.submit(triggerData);
+            } else {
+                // the limiter runs the task later on the executor, so that isRunning() follows the latest run
+                FutureTask<@Nullable Void> task = new FutureTask<>(triggerData, null);
+                future = task;
+                if (limiter.offer(task)) {
+                    statistics.queueDepth.incrementAndGet();
+                } else {
+                    statistics.coalesced.increment();
+                    re.logger.debug("The trigger '{}' of rule '{}' is coalesced with a waiting run.", trigger.getId(),
+                            ruleUID);
+                    return;
+                }
+            }
         }
         re.logger.debug("The trigger '{}' of rule '{}' is triggered.", trigger.getId(), ruleUID);
     }
 
+    private @Nullable TriggerLimiter getLimiter(Trigger trigger) {
+        Optional<TriggerLimiter> limiter = limiters.get(trigger.getId());
+        if (limiter == null) {
+            limiter = Optional.ofNullable(TriggerLimiter.create(trigger, executor));
+            limiters.put(trigger.getId(), limiter);
+        }
+        return limiter.isPresent() ? limiter.get() : null;
+    }
+
     public boolean isRunning() {
         Future<?> future = this.future;
         return future == null || !future.isDone();
@@ -67,6 +106,7 @@ public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
 
         private final Trigger trigger;
         private @Nullable final Map<String, ?> outputs;
+        private final long triggeredNanos = System.nanoTime();
 
         public Trigger getTrigger() {
             return trigger;
@@ -76,6 +116,13 @@ public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
             return outputs;
         }
 
+        /**
+         * @return the value of {@link System#nanoTime()} when the rule has been triggered
+         */
+        public long getTriggeredNanos() {
+            return triggeredNanos;
+        }
+
         public TriggerData(Trigger t, @Nullable Map<String, ?> outputs) {
             this.trigger = t;
             this.outputs = outputs;
@@ -83,13 +130,18 @@ public class TriggerHandlerCallbackImpl implements TriggerHandlerCallback {
 
         @Override
         public void run() {
+            statistics.queueDepth.decrementAndGet();
             re.runRule(ruleUID, this);
         }
     }
 
     public void dispose() {
         synchronized (this) {
+            limiters.values().forEach(limiter -> limiter.ifPresent(TriggerLimiter::cancel));
+            limiters.clear();
             executor.shutdownNow();
+            // the runs waiting in the executor are dropped
+            statistics.queueDepth.set(0);
         }
     }
 
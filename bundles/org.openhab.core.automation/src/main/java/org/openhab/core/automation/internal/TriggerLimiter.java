@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.Trigger;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.Configuration;
+
+/**
+ * The {@link TriggerLimiter} collapses bursts of a {@link Trigger} into a single run of the rule, which carries the
+ * data of the latest time the trigger fired. It is configured by the optional configuration parameters of the trigger:
+ * <ul>
+ * <li>{@value #CONFIG_DEBOUNCE}: the rule runs when the trigger has not fired again for the given milliseconds</li>
+ * <li>{@value #CONFIG_THROTTLE}: the rule runs at most once within the given milliseconds</li>
+ * <li>{@value #CONFIG_COALESCE}: the trigger does not queue another run while a run is already waiting</li>
+ * </ul>
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+class TriggerLimiter {
+
+    static final String CONFIG_DEBOUNCE = "debounce";
+    static final String CONFIG_THROTTLE = "throttle";
+    static final String CONFIG_COALESCE = "coalesce";
+
+    private final ScheduledExecutorService executor;
+    private final LongSupplier clock;
+    private final long debounceMillis;
+    private final long throttleMillis;
+
+    private @Nullable Runnable pending;
+    private @Nullable Future<?> future;
+    private long generation;
+    private long nextRunMillis;
+
+    /**
+     * @param executor the executor of the rule
+     * @param clock the current time in milliseconds, must not decrease and must not be negative
+     * @param debounceMillis the quiet period after the last trigger before the rule runs, 0 to not debounce
+     * @param throttleMillis the minimum period between the starts of two runs, 0 to not throttle
+     */
+    TriggerLimiter(ScheduledExecutorService executor, LongSupplier clock, long debounceMillis, long throttleMillis) {
+        this.executor = executor;
+        this.clock = clock;
+        this.debounceMillis = debounceMillis;
+        this.throttleMillis = throttleMillis;
+    }
+
+    /**
+     * Creates the limiter of a trigger.
+     *
+     * @param trigger the trigger
+     * @param executor the executor of the rule
+     * @return the limiter or null if the trigger does not limit the runs of its rule
+     */
+    static @Nullable TriggerLimiter create(Trigger trigger, ScheduledExecutorService executor) {
+        Configuration configuration = trigger.getConfiguration();
+        long debounce = Math.max(0, ConfigParser.valueAsOrElse(configuration.get(CONFIG_DEBOUNCE), Long.class, 0L));
+        long throttle = Math.max(0, ConfigParser.valueAsOrElse(configuration.get(CONFIG_THROTTLE), Long.class, 0L));
+        boolean coalesce = ConfigParser.valueAsOrElse(configuration.get(CONFIG_COALESCE), Boolean.class, false);
+        if (debounce == 0 && throttle == 0 && !coalesce) {
+            return null;
+        }
+        return new TriggerLimiter(executor, monotonicClock(), debounce, throttle);
+    }
+
+    /**
+     * Offers a run of the rule. If a run is already waiting, it is replaced by the new run.
+     *
+     * @param run the run of the rule for the latest data of the trigger
+     * @return true if a new run has been queued, false if the run replaced a waiting run
+     */
+    synchronized boolean offer(Runnable run) {
+        boolean queued = pending == null;
+        pending = run;
+        long delay = Math.max(0, nextRunMillis - clock.getAsLong());
+        if (debounceMillis > 0) {
+            cancelFuture();
+            schedule(Math.max(debounceMillis, delay));
+        } else if (queued) {
+            schedule(delay);
+        }
+        return queued;
+    }
+
+    /**
+     * Cancels the waiting run.
+     *
+     * @return true if a waiting run has been cancelled
+     */
+    synchronized boolean cancel() {
+        cancelFuture();
+        boolean cancelled = pending != null;
+        pending = null;
+        return cancelled;
+    }
+
+    private void schedule(long delayMillis) {
+        long generation = ++this.generation;
+        future = executor.schedule(() -> runPending(generation), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelFuture() {
+        Future<?> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+            this.future = null;
+        }
+        // a wake-up which is already running when it is cancelled must not take the run
+        generation++;
+    }
+
+    private void runPending(long generation) {
+        Runnable run;
+        synchronized (this) {
+            run = pending;
+            if (run == null || generation != this.generation) {
+                return;
+            }
+            pending = null;
+            future = null;
+            nextRunMillis = clock.getAsLong() + throttleMillis;
+        }
+        run.run();
+    }
+
+    private static LongSupplier monotonicClock() {
+        long start = System.nanoTime();
+        return () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -35,6 +35,7 @@ import org.openhab.core.automation.internal.module.handler.ItemCommandTriggerHan
 import org.openhab.core.automation.internal.module.handler.ItemStateConditionHandler;
 import org.openhab.core.automation.internal.module.handler.ItemStateTriggerHandler;
 import org.openhab.core.automation.internal.module.handler.ItemStateUpdateActionHandler;
+import org.openhab.core.automation.internal.module.handler.ItemTriggerDispatcher;
 import org.openhab.core.automation.internal.module.handler.RuleEnablementActionHandler;
 import org.openhab.core.automation.internal.module.handler.RunRuleActionHandler;
 import org.openhab.core.automation.internal.module.handler.SystemTriggerHandler;
@@ -59,6 +60,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Benedikt Niehues - Initial contribution
  * @author Kai Kreuzer - refactored and simplified customized module handling
+ * @author Andrew Fiddian-Green - Pass the item trigger dispatcher to the item and group triggers
  */
 @Component
 @NonNullByDefault
@@ -83,17 +85,20 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory implement
     private final EventPublisher eventPublisher;
     private final BundleContext bundleContext;
     private final StartLevelService startLevelService;
+    private final ItemTriggerDispatcher itemTriggerDispatcher;
 
     @Activate
     public CoreModuleHandlerFactory(BundleContext bundleContext, final @Reference EventPublisher eventPublisher,
             final @Reference ThingRegistry thingRegistry, final @Reference ItemRegistry itemRegistry,
-            final @Reference TimeZoneProvider timeZoneProvider, final @Reference StartLevelService startLevelService) {
+            final @Reference TimeZoneProvider timeZoneProvider, final @Reference StartLevelService startLevelService,
+            final @Reference ItemTriggerDispatcher itemTriggerDispatcher) {
         this.bundleContext = bundleContext;
         this.eventPublisher = eventPublisher;
         this.thingRegistry = thingRegistry;
         this.itemRegistry = itemRegistry;
         this.timeZoneProvider = timeZoneProvider;
         this.startLevelService = startLevelService;
+        this.itemTriggerDispatcher = itemTriggerDispatcher;
     }
 
     @Override
@@ -118,7 +123,7 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory implement
             } else if (ChannelEventTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
                 return new ChannelEventTriggerHandler(trigger, bundleContext);
             } else if (ItemCommandTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ItemCommandTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new ItemCommandTriggerHandler(trigger, ruleUID, itemTriggerDispatcher, itemRegistry);
             } else if (SystemTriggerHandler.STARTLEVEL_MODULE_TYPE_ID.equals(moduleTypeUID)) {
                 return new SystemTriggerHandler(trigger, bundleContext);
             } else if (ThingStatusTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
@@ -126,12 +131,12 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory implement
                 return new ThingStatusTriggerHandler(trigger, bundleContext);
             } else if (ItemStateTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || ItemStateTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ItemStateTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new ItemStateTriggerHandler(trigger, ruleUID, itemTriggerDispatcher, itemRegistry);
             } else if (GroupCommandTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new GroupCommandTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new GroupCommandTriggerHandler(trigger, ruleUID, itemTriggerDispatcher, itemRegistry);
             } else if (GroupStateTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || GroupStateTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new GroupStateTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new GroupStateTriggerHandler(trigger, ruleUID, itemTriggerDispatcher, itemRegistry);
             }
         } else if (module instanceof Condition condition) {
             // Handle conditions
@@ -32,8 +32,6 @@ import org.openhab.core.items.events.ItemRemovedEvent;
 import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
 import org.openhab.core.types.State;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +41,7 @@ import org.slf4j.LoggerFactory;
  * The group name and state value can be set with the configuration.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Andrew Fiddian-Green - Receive the events from the item trigger dispatcher
  */
 @NonNullByDefault
 public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
@@ -62,10 +61,9 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
     private final String ruleUID;
     private final Set<String> types;
     private final ItemRegistry itemRegistry;
+    private final ItemTriggerDispatcher dispatcher;
 
-    private final ServiceRegistration<?> eventSubscriberRegistration;
-
-    public GroupStateTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public GroupStateTriggerHandler(Trigger module, String ruleUID, ItemTriggerDispatcher dispatcher,
             ItemRegistry itemRegistry) {
         super(module);
         this.groupName = ConfigParser.valueAsOrElse(module.getConfiguration().get(CFG_GROUPNAME), String.class, "");
@@ -83,7 +81,8 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
         }
         this.ruleUID = ruleUID;
         this.itemRegistry = itemRegistry;
-        eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.dispatcher = dispatcher;
+        dispatcher.addGroupSubscriber(groupName, this);
 
         if (itemRegistry.get(groupName) == null) {
             logger.warn("Group '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", groupName, ruleUID,
@@ -170,11 +169,11 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher...
      */
     @Override
     public void dispose() {
         super.dispose();
-        eventSubscriberRegistration.unregister();
+        dispatcher.removeGroupSubscriber(groupName, this);
     }
 }
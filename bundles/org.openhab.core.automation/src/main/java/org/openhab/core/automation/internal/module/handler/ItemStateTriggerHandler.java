@@ -35,8 +35,6 @@ import org.openhab.core.items.events.ItemRemovedEvent;
 import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
 import org.openhab.core.types.State;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +45,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Simon Merschjohann - Initial contribution
+ * @author Andrew Fiddian-Green - Receive the events from the item trigger dispatcher
  */
 @NonNullByDefault
 public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
@@ -65,12 +64,10 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
     private final String previousState;
     private final String ruleUID;
     private Set<String> types;
-    private final BundleContext bundleContext;
+    private final ItemTriggerDispatcher dispatcher;
     private final EventFilter eventFilter;
 
-    private @Nullable ServiceRegistration<?> eventSubscriberRegistration;
-
-    public ItemStateTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public ItemStateTriggerHandler(Trigger module, String ruleUID, ItemTriggerDispatcher dispatcher,
             ItemRegistry itemRegistry) {
         super(module);
         this.itemName = (String) module.getConfiguration().get(CFG_ITEMNAME);
@@ -93,8 +90,8 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
                     : Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE, ItemAddedEvent.TYPE,
                             ItemRemovedEvent.TYPE);
         }
-        this.bundleContext = bundleContext;
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.dispatcher = dispatcher;
+        dispatcher.addItemSubscriber(itemName, this);
 
         if (!isWildcard && itemRegistry.get(itemName) == null) {
             logger.warn("Item '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", itemName, ruleUID,
@@ -170,14 +167,11 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher...
      */
     @Override
     public void dispose() {
         super.dispose();
-        if (eventSubscriberRegistration != null) {
-            eventSubscriberRegistration.unregister();
-            eventSubscriberRegistration = null;
-        }
+        dispatcher.removeItemSubscriber(itemName, this);
     }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.module.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.TopicPrefixEventFilter;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.GroupItemStateChangedEvent;
+import org.openhab.core.items.events.GroupStateUpdatedEvent;
+import org.openhab.core.items.events.ItemAddedEvent;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemRemovedEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateUpdatedEvent;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ItemTriggerDispatcher} is the single {@link EventSubscriber} for the item and group triggers of all
+ * rules. The triggers are indexed by the name of their item or group, so an item event is only passed to the triggers
+ * of the item and of the groups the item is a member of. Triggers with wildcards in their item name are checked with
+ * their event filter.
+ * <p>
+ * Adding and removing a trigger only changes the index, which avoids registering an OSGi service per trigger.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@Component(service = { ItemTriggerDispatcher.class, EventSubscriber.class })
+@NonNullByDefault
+public class ItemTriggerDispatcher implements EventSubscriber {
+
+    private static final String ITEMS_TOPIC_PREFIX = "openhab/items/";
+
+    private static final Set<String> TYPES = Set.of(ItemStateUpdatedEvent.TYPE, GroupStateUpdatedEvent.TYPE,
+            ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE, ItemCommandEvent.TYPE, ItemAddedEvent.TYPE,
+            ItemRemovedEvent.TYPE);
+
+    private final Logger logger = LoggerFactory.getLogger(ItemTriggerDispatcher.class);
+
+    private final ItemRegistry itemRegistry;
+    private final EventFilter eventFilter = new TopicPrefixEventFilter(ITEMS_TOPIC_PREFIX);
+
+    private final Map<String, List<EventSubscriber>> itemSubscribers = new ConcurrentHashMap<>();
+    private final Map<String, List<EventSubscriber>> groupSubscribers = new ConcurrentHashMap<>();
+    private final List<EventSubscriber> wildcardSubscribers = new CopyOnWriteArrayList<>();
+
+    @Activate
+    public ItemTriggerDispatcher(final @Reference ItemRegistry itemRegistry) {
+        this.itemRegistry = itemRegistry;
+    }
+
+    /**
+     * Adds a trigger for the events of an item.
+     *
+     * @param itemName the name of the item, which may contain the wildcards '?' and '*'
+     * @param subscriber the trigger, its event filter is applied to the events if the item name contains wildcards
+     */
+    public void addItemSubscriber(String itemName, EventSubscriber subscriber) {
+        if (isWildcard(itemName)) {
+            wildcardSubscribers.add(subscriber);
+        } else {
+            add(itemSubscribers, itemName, subscriber);
+        }
+    }
+
+    public void removeItemSubscriber(String itemName, EventSubscriber subscriber) {
+        if (isWildcard(itemName)) {
+            wildcardSubscribers.remove(subscriber);
+        } else {
+            remove(itemSubscribers, itemName, subscriber);
+        }
+    }
+
+    /**
+     * Adds a trigger for the events of the members of a group and for the events adding or removing the group.
+     *
+     * @param groupName the name of the group
+     * @param subscriber the trigger
+     */
+    public void addGroupSubscriber(String groupName, EventSubscriber subscriber) {
+        add(groupSubscribers, groupName, subscriber);
+    }
+
+    public void removeGroupSubscriber(String groupName, EventSubscriber subscriber) {
+        remove(groupSubscribers, groupName, subscriber);
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return TYPES;
+    }
+
+    @Override
+    public @Nullable EventFilter getEventFilter() {
+        return eventFilter;
+    }
+
+    @Override
+    public void receive(Event event) {
+        String topic = event.getTopic();
+        int end = topic.indexOf('/', ITEMS_TOPIC_PREFIX.length());
+        if (!topic.startsWith(ITEMS_TOPIC_PREFIX) || end < 0) {
+            return;
+        }
+        String type = event.getType();
+        String itemName = topic.substring(ITEMS_TOPIC_PREFIX.length(), end);
+
+        dispatch(itemSubscribers.get(itemName), event, type);
+        for (EventSubscriber subscriber : wildcardSubscribers) {
+            EventFilter filter = subscriber.getEventFilter();
+            if (filter == null || filter.apply(event)) {
+                dispatch(subscriber, event, type);
+            }
+        }
+
+        if (groupSubscribers.isEmpty()) {
+            return;
+        }
+        if (event instanceof ItemAddedEvent || event instanceof ItemRemovedEvent) {
+            dispatch(groupSubscribers.get(itemName), event, type);
+        } else {
+            // the events of a group about its members are passed to the groups the group itself is a member of
+            Item item = itemRegistry.get(itemName);
+            if (item != null) {
+                for (String groupName : item.getGroupNames()) {
+                    dispatch(groupSubscribers.get(groupName), event, type);
+                }
+            }
+        }
+    }
+
+    private void dispatch(@Nullable List<EventSubscriber> subscribers, Event event, String type) {
+        if (subscribers != null) {
+            for (EventSubscriber subscriber : subscribers) {
+                dispatch(subscriber, event, type);
+            }
+        }
+    }
+
+    private void dispatch(EventSubscriber subscriber, Event event, String type) {
+        if (!subscriber.getSubscribedEventTypes().contains(type)) {
+            return;
+        }
+        try {
+            subscriber.receive(event);
+        } catch (RuntimeException e) {
+            logger.error("An error occurred while passing event {} to trigger {}: {}", event, subscriber,
+                    e.getMessage(), e);
+        }
+    }
+
+    private static boolean isWildcard(String itemName) {
+        return itemName.contains("?") || itemName.contains("*");
+    }
+
+    private static void add(Map<String, List<EventSubscriber>> subscribers, String name, EventSubscriber subscriber) {
+        subscribers.compute(name, (key, list) -> {
+            List<EventSubscriber> newList = list == null ? new ArrayList<>() : new ArrayList<>(list);
+            newList.add(subscriber);
+            return List.copyOf(newList);
+        });
+    }
+
+    private static void remove(Map<String, List<EventSubscriber>> subscribers, String name,
+            EventSubscriber subscriber) {
+        subscribers.computeIfPresent(name, (key, list) -> {
+            List<EventSubscriber> newList = new ArrayList<>(list);
+            newList.remove(subscriber);
+            return newList.isEmpty() ? null : List.copyOf(newList);
+        });
+    }
+}
@@ -13,6 +13,7 @@
 package org.openhab.core.automation.internal.ruleengine;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -21,6 +22,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Action;
 import org.openhab.core.automation.Module;
 import org.openhab.core.automation.handler.ActionHandler;
+import org.openhab.core.automation.internal.CompiledConnection;
 import org.openhab.core.automation.internal.Connection;
 import org.openhab.core.automation.type.Input;
 import org.openhab.core.automation.type.Output;
@@ -29,11 +31,13 @@ import org.openhab.core.automation.type.Output;
  * This class holds the information that is necessary for the rule engine.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author Andrew Fiddian-Green - Compile the connections
  */
 @NonNullByDefault
 public class WrappedAction extends WrappedModule<Action, ActionHandler> {
 
     private Set<Connection> connections = Set.of();
+    private List<CompiledConnection> compiledConnections = List.of();
     private Map<String, String> inputs = Map.of();
 
     public WrappedAction(final Action action) {
@@ -48,12 +52,22 @@ public class WrappedAction extends WrappedModule<Action, ActionHandler> {
      */
     public void setConnections(@Nullable Set<Connection> connections) {
         this.connections = connections == null ? Set.of() : connections;
+        this.compiledConnections = this.connections.stream().map(CompiledConnection::new).toList();
     }
 
     public Set<Connection> getConnections() {
         return connections;
     }
 
+    /**
+     * Gets the connections of this action prepared for resolving the values of its inputs.
+     *
+     * @return the compiled connections
+     */
+    public List<CompiledConnection> getCompiledConnections() {
+        return compiledConnections;
+    }
+
     /**
      * This method is used to get input connections of the Action. The connections
      * are links between {@link Input}s of the this {@link Module} and {@link Output}s
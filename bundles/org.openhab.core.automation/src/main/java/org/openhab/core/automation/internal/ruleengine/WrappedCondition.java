@@ -13,6 +13,7 @@
 package org.openhab.core.automation.internal.ruleengine;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -21,6 +22,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Condition;
 import org.openhab.core.automation.Module;
 import org.openhab.core.automation.handler.ConditionHandler;
+import org.openhab.core.automation.internal.CompiledConnection;
 import org.openhab.core.automation.internal.Connection;
 import org.openhab.core.automation.type.Input;
 import org.openhab.core.automation.type.Output;
@@ -29,12 +31,14 @@ import org.openhab.core.automation.type.Output;
  * This class holds the information that is necessary for the rule engine.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author Andrew Fiddian-Green - Compile the connections
  */
 @NonNullByDefault
 public class WrappedCondition extends WrappedModule<Condition, ConditionHandler> {
 
     private Map<String, String> inputs = Map.of();
     private Set<Connection> connections = Set.of();
+    private List<CompiledConnection> compiledConnections = List.of();
 
     public WrappedCondition(final Condition condition) {
         super(condition);
@@ -48,12 +52,22 @@ public class WrappedCondition extends WrappedModule<Condition, ConditionHandler>
      */
     public void setConnections(@Nullable Set<Connection> connections) {
         this.connections = connections == null ? Set.of() : connections;
+        this.compiledConnections = this.connections.stream().map(CompiledConnection::new).toList();
     }
 
     public Set<Connection> getConnections() {
         return connections;
     }
 
+    /**
+     * Gets the connections of this condition prepared for resolving the values of its inputs.
+     *
+     * @return the compiled connections
+     */
+    public List<CompiledConnection> getCompiledConnections() {
+        return compiledConnections;
+    }
+
     /**
      * This method is used to get input connections of the Condition. The connections
      * are links between {@link Input}s of the current {@link Module} and {@link Output}s of other
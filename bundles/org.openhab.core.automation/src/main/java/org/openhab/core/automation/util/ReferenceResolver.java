@@ -60,6 +60,7 @@ import org.slf4j.Logger;
  *
  * @author Vasil Ilchev - Initial contribution
  * @author Ana Dimova - new reference syntax: list[index], map["key"], bean.field
+ * @author Andrew Fiddian-Green - Expose the key of a single reference
  */
 public class ReferenceResolver {
 
@@ -150,14 +151,27 @@ public class ReferenceResolver {
      */
     public static Object resolveReference(String reference, Map<String, ?> context) {
         Object result = reference;
-        if (isReference(reference)) {
-            final String trimmedVal = reference.trim();
-            String key = trimmedVal.substring(2, trimmedVal.length() - 2);
+        String key = getReferenceKey(reference);
+        if (key != null) {
             result = context.get(key);// {{substring}}
         }
         return result;
     }
 
+    /**
+     * Gets the key of a single reference '{{singleReference}}', i.e. the key of the referenced value in a context.
+     *
+     * @param reference single reference expression
+     * @return the key of the reference, or null if the expression is not a single reference.
+     */
+    public static String getReferenceKey(String reference) {
+        if (isReference(reference)) {
+            final String trimmedVal = reference.trim();
+            return trimmedVal.substring(2, trimmedVal.length() - 2);
+        }
+        return null;
+    }
+
     /**
      * Tries to resolve complex references e.g. 'Hello {{firstName}} {{lastName}}'..'{key1: {{reference1}}, key2:
      * {{reference2}}}'..etc.
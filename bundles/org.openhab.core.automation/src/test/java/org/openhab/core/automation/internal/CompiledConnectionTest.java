@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.automation.util.ReferenceResolver;
+
+/**
+ * Tests {@link CompiledConnection}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class CompiledConnectionTest {
+
+    @SuppressWarnings("unused")
+    private static class Bean {
+        private final String name;
+        private final List<Object> values;
+
+        private Bean(String name, List<Object> values) {
+            this.name = name;
+            this.values = values;
+        }
+    }
+
+    private static class OtherBean {
+        @SuppressWarnings("unused")
+        private final String name = "other";
+    }
+
+    private final Map<String, @Nullable Object> context = new HashMap<>();
+
+    @Test
+    public void testOutputWithoutReference() {
+        context.put("trigger.event", "value");
+
+        new CompiledConnection(new Connection("input", "trigger", "event", null)).resolve(context);
+
+        assertEquals("value", context.get("input"));
+    }
+
+    @Test
+    public void testOutputWithReferencePath() {
+        Bean bean = new Bean("bean", List.of(Map.of("key", "first"), new Bean("nested", List.of())));
+        context.put("trigger.event", Map.of("list", List.of(bean)));
+
+        String reference = "list[0].values[1].name";
+        new CompiledConnection(new Connection("input1", "trigger", "event", "[\"list\"][0].values[0].key"))
+                .resolve(context);
+        CompiledConnection connection = new CompiledConnection(new Connection("input2", "trigger", "event", reference));
+        connection.resolve(context);
+
+        assertEquals("first", context.get("input1"));
+        assertEquals("nested", context.get("input2"));
+        assertEquals(ReferenceResolver.resolveComplexDataReference(context.get("trigger.event"),
+                ReferenceResolver.splitReferenceToTokens(reference)), context.get("input2"));
+
+        // the cached field of a token is not used for a bean of another class
+        context.put("trigger.event", Map.of("list", List.of(Map.of("values", List.of(0, new OtherBean())))));
+        connection.resolve(context);
+        assertEquals("other", context.get("input2"));
+    }
+
+    @Test
+    public void testInvalidReferencePath() {
+        context.put("trigger.event", List.of("value"));
+
+        CompiledConnection invalidIndex = new CompiledConnection(new Connection("input", "trigger", "event", "name"));
+        assertThrows(NumberFormatException.class, () -> invalidIndex.resolve(context));
+
+        context.put("trigger.event", new Bean("bean", List.of()));
+        CompiledConnection missingField = new CompiledConnection(
+                new Connection("input", "trigger", "event", "missing"));
+        assertThrows(IllegalArgumentException.class, () -> missingField.resolve(context));
+    }
+
+    @Test
+    public void testMissingOutput() {
+        context.put("input", "previous");
+
+        new CompiledConnection(new Connection("input", "trigger", "event", "name")).resolve(context);
+
+        assertEquals("previous", context.get("input"));
+    }
+
+    @Test
+    public void testConfigurationReference() {
+        context.put("configKey", "configValue");
+
+        new CompiledConnection(new Connection("input1", "{{configKey}}")).resolve(context);
+        new CompiledConnection(new Connection("input2", "{{unknown}}")).resolve(context);
+        new CompiledConnection(new Connection("input3", "constant")).resolve(context);
+
+        assertEquals("configValue", context.get("input1"));
+        assertFalse(context.containsKey("input2"));
+        assertEquals("constant", context.get("input3"));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.automation.ModuleTypeProfile;
+import org.openhab.core.automation.RuleProfile;
+import org.openhab.core.automation.internal.RuleProfiler.RuleStatistics;
+
+/**
+ * Tests {@link RuleProfiler}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class RuleProfilerTest {
+
+    private final RuleProfiler profiler = new RuleProfiler();
+
+    @Test
+    public void testRuleProfile() {
+        assertNull(profiler.getRuleProfile("rule"));
+
+        RuleStatistics statistics = profiler.getRuleStatistics("rule");
+        assertSame(statistics, profiler.getRuleStatistics("rule"));
+        statistics.queueWait.record(1_000_000, false);
+        statistics.queueWait.record(3_000_000, false);
+        statistics.conditions.record(500_000, false);
+        statistics.execution.record(2_000_000, false);
+        statistics.execution.record(6_000_000, true);
+
+        RuleProfile profile = Objects.requireNonNull(profiler.getRuleProfile("rule"));
+        assertEquals("rule", profile.getRuleUID());
+        assertEquals(1, profile.getFailures());
+        assertEquals(2, profile.getExecution().getCount());
+        assertEquals(8.0, profile.getExecution().getTotalMillis());
+        assertEquals(6.0, profile.getExecution().getMaxMillis());
+        assertEquals(4.0, profile.getExecution().getAverageMillis());
+        assertEquals(2.0, profile.getQueueWait().getAverageMillis());
+        assertEquals(3.0, profile.getQueueWait().getMaxMillis());
+        assertEquals(1, profile.getConditions().getCount());
+        assertEquals(0, profile.getActions().getCount());
+        assertEquals(0.0, profile.getActions().getAverageMillis());
+
+        profiler.remove("rule");
+        assertNull(profiler.getRuleProfile("rule"));
+        assertNull(profiler.findRuleStatistics("rule"));
+        assertNull(profiler.getRuleProfile("rule"));
+    }
+
+    @Test
+    public void testRuleProfilesAreSortedByTotalTime() {
+        profiler.getRuleStatistics("fast").execution.record(1_000, false);
+        profiler.getRuleStatistics("slow").execution.record(1_000_000, false);
+        profiler.getRuleStatistics("frequent").execution.record(600_000, false);
+        profiler.getRuleStatistics("frequent").execution.record(600_000, false);
+
+        assertEquals(List.of("frequent", "slow", "fast"),
+                profiler.getRuleProfiles().stream().map(RuleProfile::getRuleUID).toList());
+    }
+
+    @Test
+    public void testModuleTypeProfiles() {
+        profiler.getModuleTypeStatistics("core.ItemCommandAction").record(1_000_000, false);
+        profiler.getModuleTypeStatistics("script.ScriptAction").record(5_000_000, true);
+        profiler.getModuleTypeStatistics("script.ScriptAction").record(1_000_000, false);
+
+        List<ModuleTypeProfile> profiles = profiler.getModuleTypeProfiles();
+        assertEquals(List.of("script.ScriptAction", "core.ItemCommandAction"),
+                profiles.stream().map(ModuleTypeProfile::getModuleTypeUID).toList());
+        assertEquals(1, profiles.getFirst().getFailures());
+        assertEquals(2, profiles.getFirst().getExecution().getCount());
+        assertEquals(5.0, profiles.getFirst().getExecution().getMaxMillis());
+    }
+}
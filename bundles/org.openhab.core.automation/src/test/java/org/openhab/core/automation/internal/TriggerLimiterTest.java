@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.automation.Trigger;
+import org.openhab.core.automation.util.ModuleBuilder;
+import org.openhab.core.config.core.Configuration;
+
+/**
+ * Tests {@link TriggerLimiter}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TriggerLimiterTest {
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService executorMock;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<Long> delays = new ArrayList<>();
+    private final List<ScheduledFuture<?>> futures = new ArrayList<>();
+    private final List<String> runs = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        when(executorMock.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenAnswer(invocation -> {
+                    scheduled.add(invocation.getArgument(0));
+                    delays.add(invocation.getArgument(1));
+                    ScheduledFuture<?> future = mock(ScheduledFuture.class);
+                    futures.add(future);
+                    return future;
+                });
+    }
+
+    @Test
+    public void testDebounceRunsTheLatestTriggerAfterTheQuietPeriod() {
+        TriggerLimiter limiter = new TriggerLimiter(executorMock, clock::get, 100, 0);
+
+        assertTrue(limiter.offer(() -> runs.add("a")));
+        assertFalse(limiter.offer(() -> runs.add("b")));
+        assertFalse(limiter.offer(() -> runs.add("c")));
+
+        assertEquals(List.of(100L, 100L, 100L), delays);
+        verify(futures.get(0)).cancel(false);
+        verify(futures.get(1)).cancel(false);
+
+        // wake-ups which are cancelled too late do not run the rule
+        scheduled.forEach(Runnable::run);
+        assertEquals(List.of("c"), runs);
+    }
+
+    @Test
+    public void testThrottleRunsAtMostOncePerPeriod() {
+        TriggerLimiter limiter = new TriggerLimiter(executorMock, clock::get, 0, 100);
+
+        assertTrue(limiter.offer(() -> runs.add("a")));
+        scheduled.get(0).run();
+        assertEquals(List.of("a"), runs);
+
+        clock.set(10);
+        assertTrue(limiter.offer(() -> runs.add("b")));
+        assertFalse(limiter.offer(() -> runs.add("c")));
+        assertEquals(List.of(0L, 90L), delays);
+
+        clock.set(100);
+        scheduled.get(1).run();
+        assertEquals(List.of("a", "c"), runs);
+
+        // the next run is delayed by the period after the start of the previous run
+        clock.set(250);
+        assertTrue(limiter.offer(() -> runs.add("d")));
+        assertEquals(List.of(0L, 90L, 0L), delays);
+    }
+
+    @Test
+    public void testCoalesceReplacesTheWaitingRun() {
+        TriggerLimiter limiter = new TriggerLimiter(executorMock, clock::get, 0, 0);
+
+        assertTrue(limiter.offer(() -> runs.add("a")));
+        assertFalse(limiter.offer(() -> runs.add("b")));
+        assertEquals(1, scheduled.size());
+
+        scheduled.get(0).run();
+        assertEquals(List.of("b"), runs);
+
+        assertTrue(limiter.offer(() -> runs.add("c")));
+        assertEquals(2, scheduled.size());
+    }
+
+    @Test
+    public void testCancelDropsTheWaitingRun() {
+        TriggerLimiter limiter = new TriggerLimiter(executorMock, clock::get, 0, 0);
+
+        assertFalse(limiter.cancel());
+        limiter.offer(() -> runs.add("a"));
+        assertTrue(limiter.cancel());
+        verify(futures.get(0)).cancel(false);
+
+        scheduled.get(0).run();
+        assertTrue(runs.isEmpty());
+    }
+
+    @Test
+    public void testCreateFromTheTriggerConfiguration() {
+        assertNull(TriggerLimiter.create(createTrigger(Map.of()), executorMock));
+        assertNull(TriggerLimiter.create(createTrigger(Map.of(TriggerLimiter.CONFIG_DEBOUNCE, BigDecimal.ZERO,
+                TriggerLimiter.CONFIG_COALESCE, false)), executorMock));
+
+        assertNotNull(TriggerLimiter
+                .create(createTrigger(Map.of(TriggerLimiter.CONFIG_DEBOUNCE, new BigDecimal(500))), executorMock));
+        assertNotNull(TriggerLimiter.create(createTrigger(Map.of(TriggerLimiter.CONFIG_THROTTLE, "1000")),
+                executorMock));
+        assertNotNull(TriggerLimiter.create(createTrigger(Map.of(TriggerLimiter.CONFIG_COALESCE, true)),
+                executorMock));
+    }
+
+    private Trigger createTrigger(Map<String, Object> configuration) {
+        return ModuleBuilder.createTrigger().withId("trigger").withTypeUID("core.ItemStateUpdateTrigger")
+                .withConfiguration(new Configuration(configuration)).build();
+    }
+}
@@ -25,7 +25,6 @@ import org.openhab.core.automation.Trigger;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.test.java.JavaTest;
-import org.osgi.framework.BundleContext;
 
 /**
  * Test cases for {@link GroupStateTriggerHandler}
@@ -36,7 +35,7 @@ import org.osgi.framework.BundleContext;
 @ExtendWith(MockitoExtension.class)
 class GroupStateTriggerHandlerTest extends JavaTest {
     private @Mock @NonNullByDefault({}) Trigger moduleMock;
-    private @Mock @NonNullByDefault({}) BundleContext contextMock;
+    private @Mock @NonNullByDefault({}) ItemTriggerDispatcher dispatcherMock;
     private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
 
     @Test
@@ -45,7 +44,7 @@ class GroupStateTriggerHandlerTest extends JavaTest {
         when(moduleMock.getId()).thenReturn("triggerId");
         setupInterceptedLogger(GroupStateTriggerHandler.class, LogLevel.WARN);
 
-        GroupStateTriggerHandler unused = new GroupStateTriggerHandler(moduleMock, "ruleId", contextMock,
+        GroupStateTriggerHandler unused = new GroupStateTriggerHandler(moduleMock, "ruleId", dispatcherMock,
                 itemRegistryMock);
 
         stopInterceptedLogger(GroupStateTriggerHandler.class);
@@ -61,7 +60,7 @@ class GroupStateTriggerHandlerTest extends JavaTest {
         when(moduleMock.getId()).thenReturn("triggerId");
         setupInterceptedLogger(GroupStateTriggerHandler.class, LogLevel.WARN);
 
-        GroupStateTriggerHandler unused = new GroupStateTriggerHandler(moduleMock, "ruleId", contextMock,
+        GroupStateTriggerHandler unused = new GroupStateTriggerHandler(moduleMock, "ruleId", dispatcherMock,
                 itemRegistryMock);
 
         stopInterceptedLogger(GroupStateTriggerHandler.class);
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.module.handler;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.automation.Trigger;
+import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
+import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.util.ModuleBuilder;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.OnOffType;
+
+/**
+ * Tests {@link ItemTriggerDispatcher}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ItemTriggerDispatcherTest {
+
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
+    private @Mock @NonNullByDefault({}) TriggerHandlerCallback callbackMock;
+
+    private @NonNullByDefault({}) ItemTriggerDispatcher dispatcher;
+    private final SwitchItem switchItem = new SwitchItem("Switch1");
+    private final SwitchItem otherItem = new SwitchItem("Other");
+    private final GroupItem groupItem = new GroupItem("Group1");
+
+    @BeforeEach
+    public void setUp() {
+        switchItem.addGroupName(groupItem.getName());
+        when(itemRegistryMock.get(switchItem.getName())).thenReturn(switchItem);
+        when(itemRegistryMock.get(otherItem.getName())).thenReturn(otherItem);
+        when(itemRegistryMock.get(groupItem.getName())).thenReturn(groupItem);
+        dispatcher = new ItemTriggerDispatcher(itemRegistryMock);
+    }
+
+    @Test
+    public void testItemTriggersReceiveTheEventsOfTheirItem() {
+        Trigger changeTrigger = createTrigger(ItemStateTriggerHandler.CHANGE_MODULE_TYPE_ID,
+                ItemStateTriggerHandler.CFG_ITEMNAME, switchItem.getName());
+        Trigger updateTrigger = createTrigger(ItemStateTriggerHandler.UPDATE_MODULE_TYPE_ID,
+                ItemStateTriggerHandler.CFG_ITEMNAME, otherItem.getName());
+        Trigger commandTrigger = createTrigger(ItemCommandTriggerHandler.MODULE_TYPE_ID,
+                ItemCommandTriggerHandler.CFG_ITEMNAME, switchItem.getName());
+        setCallbacks(new ItemStateTriggerHandler(changeTrigger, "rule", dispatcher, itemRegistryMock),
+                new ItemStateTriggerHandler(updateTrigger, "rule", dispatcher, itemRegistryMock),
+                new ItemCommandTriggerHandler(commandTrigger, "rule", dispatcher, itemRegistryMock));
+
+        dispatcher.receive(ItemEventFactory.createStateChangedEvent(switchItem.getName(), OnOffType.ON,
+                OnOffType.OFF, null, null));
+        verify(callbackMock).triggered(eq(changeTrigger), anyMap());
+
+        dispatcher.receive(ItemEventFactory.createCommandEvent(switchItem.getName(), OnOffType.ON));
+        verify(callbackMock).triggered(eq(commandTrigger), anyMap());
+
+        // the update trigger is for another item and the change trigger is not subscribed to updates
+        dispatcher.receive(ItemEventFactory.createStateUpdatedEvent(switchItem.getName(), OnOffType.ON, null));
+        verify(callbackMock, never()).triggered(eq(updateTrigger), anyMap());
+        verify(callbackMock, times(1)).triggered(eq(changeTrigger), anyMap());
+    }
+
+    @Test
+    public void testWildcardTriggersReceiveTheEventsOfMatchingItems() {
+        Trigger trigger = createTrigger(ItemStateTriggerHandler.UPDATE_MODULE_TYPE_ID,
+                ItemStateTriggerHandler.CFG_ITEMNAME, "Switch*");
+        setCallbacks(new ItemStateTriggerHandler(trigger, "rule", dispatcher, itemRegistryMock));
+
+        dispatcher.receive(ItemEventFactory.createStateUpdatedEvent(otherItem.getName(), OnOffType.ON, null));
+        verify(callbackMock, never()).triggered(eq(trigger), anyMap());
+
+        dispatcher.receive(ItemEventFactory.createStateUpdatedEvent(switchItem.getName(), OnOffType.ON, null));
+        verify(callbackMock).triggered(eq(trigger), anyMap());
+    }
+
+    @Test
+    public void testGroupTriggersReceiveTheEventsOfTheirMembers() {
+        Trigger stateTrigger = createTrigger(GroupStateTriggerHandler.CHANGE_MODULE_TYPE_ID,
+                GroupStateTriggerHandler.CFG_GROUPNAME, groupItem.getName());
+        Trigger commandTrigger = createTrigger(GroupCommandTriggerHandler.MODULE_TYPE_ID,
+                GroupCommandTriggerHandler.CFG_GROUPNAME, groupItem.getName());
+        setCallbacks(new GroupStateTriggerHandler(stateTrigger, "rule", dispatcher, itemRegistryMock),
+                new GroupCommandTriggerHandler(commandTrigger, "rule", dispatcher, itemRegistryMock));
+
+        dispatcher.receive(ItemEventFactory.createCommandEvent(otherItem.getName(), OnOffType.ON));
+        dispatcher.receive(ItemEventFactory.createStateChangedEvent(otherItem.getName(), OnOffType.ON,
+                OnOffType.OFF, null, null));
+        verify(callbackMock, never()).triggered(any(), anyMap());
+
+        dispatcher.receive(ItemEventFactory.createCommandEvent(switchItem.getName(), OnOffType.ON));
+        verify(callbackMock).triggered(eq(commandTrigger), anyMap());
+        dispatcher.receive(ItemEventFactory.createStateChangedEvent(switchItem.getName(), OnOffType.ON,
+                OnOffType.OFF, null, null));
+        verify(callbackMock).triggered(eq(stateTrigger), anyMap());
+    }
+
+    @Test
+    public void testDisposedTriggersAreRemoved() {
+        Trigger itemTrigger = createTrigger(ItemCommandTriggerHandler.MODULE_TYPE_ID,
+                ItemCommandTriggerHandler.CFG_ITEMNAME, switchItem.getName());
+        Trigger groupTrigger = createTrigger(GroupCommandTriggerHandler.MODULE_TYPE_ID,
+                GroupCommandTriggerHandler.CFG_GROUPNAME, groupItem.getName());
+        ItemCommandTriggerHandler itemHandler = new ItemCommandTriggerHandler(itemTrigger, "rule", dispatcher,
+                itemRegistryMock);
+        GroupCommandTriggerHandler groupHandler = new GroupCommandTriggerHandler(groupTrigger, "rule", dispatcher,
+                itemRegistryMock);
+        setCallbacks(itemHandler, groupHandler);
+
+        itemHandler.dispose();
+        groupHandler.dispose();
+        dispatcher.receive(ItemEventFactory.createCommandEvent(switchItem.getName(), OnOffType.ON));
+
+        verify(callbackMock, never()).triggered(any(), anyMap());
+    }
+
+    private Trigger createTrigger(String typeUID, String parameter, String name) {
+        return ModuleBuilder.createTrigger().withId("trigger-" + typeUID).withTypeUID(typeUID)
+                .withConfiguration(new Configuration(Map.of(parameter, name))).build();
+    }
+
+    private void setCallbacks(BaseTriggerModuleHandler... handlers) {
+        List.of(handlers).forEach(handler -> handler.setCallback(callbackMock));
+    }
+}
@@ -0,0 +1,107 @@
+
+package org.openhab.core.config.core.dto;
+
+import javax.annotation.Generated;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.xml.namespace.QName;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the org.openhab.core.config.core.dto package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:24:50Z")
+public class ObjectFactory {
+
+    private final static QName _ConfigDescription_QNAME = new QName("https://openhab.org/schemas/config-description/v1.0.0", "config-description");
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: org.openhab.core.config.core.dto
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link XmlConfigDescriptions }
+     * 
+     */
+    public XmlConfigDescriptions createXmlConfigDescriptions() {
+        return new XmlConfigDescriptions();
+    }
+
+    /**
+     * Create an instance of {@link XmlConfigDescription }
+     * 
+     */
+    public XmlConfigDescription createXmlConfigDescription() {
+        return new XmlConfigDescription();
+    }
+
+    /**
+     * Create an instance of {@link XmlParameter }
+     * 
+     */
+    public XmlParameter createXmlParameter() {
+        return new XmlParameter();
+    }
+
+    /**
+     * Create an instance of {@link XmlParameterGroup }
+     * 
+     */
+    public XmlParameterGroup createXmlParameterGroup() {
+        return new XmlParameterGroup();
+    }
+
+    /**
+     * Create an instance of {@link XmlConfigDescriptionRef }
+     * 
+     */
+    public XmlConfigDescriptionRef createXmlConfigDescriptionRef() {
+        return new XmlConfigDescriptionRef();
+    }
+
+    /**
+     * Create an instance of {@link XmlCriteria }
+     * 
+     */
+    public XmlCriteria createXmlCriteria() {
+        return new XmlCriteria();
+    }
+
+    /**
+     * Create an instance of {@link XmlOption }
+     * 
+     */
+    public XmlOption createXmlOption() {
+        return new XmlOption();
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link XmlConfigDescription }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link XmlConfigDescription }{@code >}
+     */
+    @XmlElementDecl(namespace = "https://openhab.org/schemas/config-description/v1.0.0", name = "config-description")
+    public JAXBElement<XmlConfigDescription> createConfigDescription(XmlConfigDescription value) {
+        return new JAXBElement<XmlConfigDescription>(_ConfigDescription_QNAME, XmlConfigDescription.class, null, value);
+    }
+
+}
@@ -0,0 +1,58 @@
+
+package org.openhab.core.config.core.dto;
+
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for parameterType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <pre>
+ * &lt;simpleType name="parameterType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="text"/&gt;
+ *     &lt;enumeration value="integer"/&gt;
+ *     &lt;enumeration value="decimal"/&gt;
+ *     &lt;enumeration value="boolean"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "parameterType")
+@XmlEnum
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:24:50Z")
+public enum XmlParameterType {
+
+    @XmlEnumValue("text")
+    TEXT("text"),
+    @XmlEnumValue("integer")
+    INTEGER("integer"),
+    @XmlEnumValue("decimal")
+    DECIMAL("decimal"),
+    @XmlEnumValue("boolean")
+    BOOLEAN("boolean");
+    private final String value;
+
+    XmlParameterType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static XmlParameterType fromValue(String v) {
+        for (XmlParameterType c: XmlParameterType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,2 @@
+@javax.xml.bind.annotation.XmlSchema(namespace = "https://openhab.org/schemas/config-description/v1.0.0")
+package org.openhab.core.config.core.dto;
@@ -21,6 +21,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultFlag;
 import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 
 /**
@@ -36,6 +37,7 @@ import org.openhab.core.thing.ThingUID;
  *
  * @author Michael Grammling - Initial contribution
  * @author Laurent Garnier - Added parameter newThingId to method approve
+ * @author Andrew Fiddian-Green - Added indexed lookups
  *
  * @see InboxListener
  */
@@ -86,6 +88,52 @@ public interface Inbox {
      */
     Stream<DiscoveryResult> stream();
 
+    /**
+     * Returns the {@link DiscoveryResult} in this {@link Inbox} associated with the specified {@code Thing} ID.
+     *
+     * @param thingUID the Thing UID of the discovery result
+     * @return the discovery result or {@code null}, if no discovery result exists for the Thing UID
+     */
+    default @Nullable DiscoveryResult get(ThingUID thingUID) {
+        return stream().filter(InboxPredicates.forThingUID(thingUID)).findFirst().orElse(null);
+    }
+
+    /**
+     * Returns a stream of the {@link DiscoveryResult}s of the specified binding.
+     * <p>
+     * Implementations should prefer an index over filtering {@link #stream()}.
+     *
+     * @param bindingId the ID of the binding
+     * @return stream of the discovery results of the binding
+     */
+    default Stream<DiscoveryResult> streamForBinding(String bindingId) {
+        return stream().filter(InboxPredicates.forBinding(bindingId));
+    }
+
+    /**
+     * Returns a stream of the {@link DiscoveryResult}s of the specified thing type.
+     * <p>
+     * Implementations should prefer an index over filtering {@link #stream()}.
+     *
+     * @param thingTypeUID the UID of the thing type
+     * @return stream of the discovery results of the thing type
+     */
+    default Stream<DiscoveryResult> streamForThingType(ThingTypeUID thingTypeUID) {
+        return stream().filter(InboxPredicates.forThingTypeUID(thingTypeUID));
+    }
+
+    /**
+     * Returns a stream of the {@link DiscoveryResult}s whose representation property has the specified value.
+     * <p>
+     * Implementations should prefer an index over filtering {@link #stream()}.
+     *
+     * @param value the value of the representation property
+     * @return stream of the discovery results with the representation property value
+     */
+    default Stream<DiscoveryResult> streamForRepresentationPropertyValue(String value) {
+        return stream().filter(InboxPredicates.withRepresentationPropertyValue(value));
+    }
+
     /**
      * Sets the flag for a given thingUID result.<br>
      * The flag signals e.g. if the result is {@link DiscoveryResultFlag#NEW} or has been marked as
@@ -84,6 +84,7 @@ import org.slf4j.LoggerFactory;
  * @author Andre Fuechsel - Initial contribution
  * @author Kai Kreuzer - added auto-approve functionality
  * @author Henning Sudbrock - added hook for selectively auto-approving inbox entries
+ * @author Andrew Fiddian-Green - Use indexed inbox lookups
  */
 @Component(immediate = true, configurationPid = "org.openhab.inbox", service = EventSubscriber.class, //
         property = Constants.SERVICE_PID + "=org.openhab.inbox")
@@ -212,7 +213,7 @@ public class AutomaticInboxProcessor extends AbstractTypedEventSubscriber<ThingS
     }
 
     private void ignoreInInbox(ThingTypeUID thingtypeUID, String representationValue) {
-        List<DiscoveryResult> results = inbox.stream().filter(withRepresentationPropertyValue(representationValue))
+        List<DiscoveryResult> results = inbox.streamForRepresentationPropertyValue(representationValue)
                 .filter(forThingTypeUID(thingtypeUID)).toList();
         if (results.size() == 1) {
             logger.debug("Auto-ignoring the inbox entry for the representation value '{}'.", representationValue);
@@ -250,7 +251,7 @@ public class AutomaticInboxProcessor extends AbstractTypedEventSubscriber<ThingS
     }
 
     private void removeFromInbox(ThingTypeUID thingtypeUID, String representationValue) {
-        List<DiscoveryResult> results = inbox.stream().filter(withRepresentationPropertyValue(representationValue))
+        List<DiscoveryResult> results = inbox.streamForRepresentationPropertyValue(representationValue)
                 .filter(forThingTypeUID(thingtypeUID)).filter(withFlag(DiscoveryResultFlag.IGNORED)).toList();
         if (results.size() == 1) {
             logger.debug("Removing the ignored result from the inbox for the representation value '{}'.",
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.discovery.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.discovery.DiscoveryResult;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * The {@link InboxIndex} is the in-memory view of the discovery results stored by the {@link PersistentInbox}.
+ * <p>
+ * The results are indexed by {@link ThingUID}, binding, {@link ThingTypeUID}, bridge and representation property
+ * value, so that lookups do not need to read (and deserialize) all entries of the storage. The index has to be kept in
+ * sync with every write to the storage.
+ * <p>
+ * The keys a result was indexed with are remembered, so that a result can be re-indexed or removed correctly even if
+ * the instance was modified in the meantime. Results with a limited time to live are additionally kept in a queue
+ * ordered by their expiry, so that expired results can be found without checking all results. Queue entries of
+ * replaced or removed results are not removed right away, but skipped when polled.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+class InboxIndex {
+
+    private final Map<ThingUID, IndexEntry> entries = new LinkedHashMap<>();
+    private final Map<String, Set<ThingUID>> byBinding = new HashMap<>();
+    private final Map<ThingTypeUID, Set<ThingUID>> byThingType = new HashMap<>();
+    private final Map<ThingUID, Set<ThingUID>> byBridge = new HashMap<>();
+    private final Map<Object, Set<ThingUID>> byRepresentationPropertyValue = new HashMap<>();
+    private final Queue<IndexEntry> expiryQueue = new PriorityQueue<>(
+            Comparator.comparing(entry -> Objects.requireNonNull(entry.expiry)));
+
+    // rebuilt on the first read after a change
+    private volatile @Nullable List<DiscoveryResult> snapshot = List.of();
+
+    /**
+     * Replaces the content of the index.
+     *
+     * @param results the results of the storage
+     */
+    public synchronized void load(Collection<? extends @Nullable DiscoveryResult> results) {
+        entries.clear();
+        byBinding.clear();
+        byThingType.clear();
+        byBridge.clear();
+        byRepresentationPropertyValue.clear();
+        expiryQueue.clear();
+        for (DiscoveryResult result : results) {
+            if (result != null) {
+                internalPut(result);
+            }
+        }
+        invalidateSnapshot();
+    }
+
+    /**
+     * Adds a result to the index or replaces the result with the same {@link ThingUID}.
+     *
+     * @param result the result as it has been stored
+     */
+    public synchronized void put(DiscoveryResult result) {
+        internalPut(result);
+        invalidateSnapshot();
+    }
+
+    /**
+     * Removes the result with the given {@link ThingUID} from the index.
+     *
+     * @param thingUID the UID of the result
+     */
+    public synchronized void remove(ThingUID thingUID) {
+        if (internalRemove(thingUID)) {
+            invalidateSnapshot();
+        }
+    }
+
+    public synchronized @Nullable DiscoveryResult get(ThingUID thingUID) {
+        IndexEntry entry = entries.get(thingUID);
+        return entry == null ? null : entry.result;
+    }
+
+    /**
+     * Returns all results, the returned list is immutable and not affected by later changes of the index.
+     *
+     * @return all results
+     */
+    public List<DiscoveryResult> getAll() {
+        List<DiscoveryResult> snapshot = this.snapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = this.snapshot;
+                if (snapshot == null) {
+                    snapshot = entries.values().stream().map(entry -> entry.result).toList();
+                    this.snapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    public synchronized List<DiscoveryResult> getForBinding(String bindingId) {
+        return resolve(byBinding.get(bindingId));
+    }
+
+    public synchronized List<DiscoveryResult> getForThingType(ThingTypeUID thingTypeUID) {
+        return resolve(byThingType.get(thingTypeUID));
+    }
+
+    public synchronized List<DiscoveryResult> getForBridge(ThingUID bridgeUID) {
+        return resolve(byBridge.get(bridgeUID));
+    }
+
+    public synchronized List<DiscoveryResult> getForRepresentationPropertyValue(String value) {
+        return resolve(byRepresentationPropertyValue.get(value));
+    }
+
+    /**
+     * Removes the results which expired before the given time from the expiry queue.
+     * <p>
+     * The results themselves remain in the index, they are expected to be removed by the caller.
+     *
+     * @param now the current time
+     * @return the UIDs of the expired results
+     */
+    public synchronized List<ThingUID> pollExpired(Instant now) {
+        List<ThingUID> expired = new ArrayList<>();
+        IndexEntry head;
+        while ((head = expiryQueue.peek()) != null && Objects.requireNonNull(head.expiry).isBefore(now)) {
+            expiryQueue.poll();
+            // entries of replaced or removed results are skipped
+            if (entries.get(head.result.getThingUID()) == head) {
+                expired.add(head.result.getThingUID());
+            }
+        }
+        return expired;
+    }
+
+    private void internalPut(DiscoveryResult result) {
+        ThingUID thingUID = result.getThingUID();
+        internalRemove(thingUID);
+
+        IndexEntry entry = new IndexEntry(result);
+        entries.put(thingUID, entry);
+        addKey(byBinding, entry.bindingId, thingUID);
+        addKey(byThingType, entry.thingTypeUID, thingUID);
+        addKey(byBridge, entry.bridgeUID, thingUID);
+        addKey(byRepresentationPropertyValue, entry.representationPropertyValue, thingUID);
+        if (entry.expiry != null) {
+            expiryQueue.add(entry);
+            if (expiryQueue.size() > 2 * entries.size() + 16) {
+                // drop the entries of replaced or removed results, which are otherwise only skipped when expired
+                expiryQueue.removeIf(queued -> entries.get(queued.result.getThingUID()) != queued);
+            }
+        }
+    }
+
+    private boolean internalRemove(ThingUID thingUID) {
+        IndexEntry entry = entries.remove(thingUID);
+        if (entry == null) {
+            return false;
+        }
+        removeKey(byBinding, entry.bindingId, thingUID);
+        removeKey(byThingType, entry.thingTypeUID, thingUID);
+        removeKey(byBridge, entry.bridgeUID, thingUID);
+        removeKey(byRepresentationPropertyValue, entry.representationPropertyValue, thingUID);
+        return true;
+    }
+
+    private List<DiscoveryResult> resolve(@Nullable Set<ThingUID> thingUIDs) {
+        if (thingUIDs == null) {
+            return List.of();
+        }
+        List<DiscoveryResult> results = new ArrayList<>(thingUIDs.size());
+        for (ThingUID thingUID : thingUIDs) {
+            IndexEntry entry = entries.get(thingUID);
+            if (entry != null) {
+                results.add(entry.result);
+            }
+        }
+        return results;
+    }
+
+    private void invalidateSnapshot() {
+        snapshot = null;
+    }
+
+    private static <K> void addKey(Map<K, Set<ThingUID>> index, @Nullable K key, ThingUID thingUID) {
+        if (key != null) {
+            Objects.requireNonNull(index.computeIfAbsent(key, k -> new LinkedHashSet<>())).add(thingUID);
+        }
+    }
+
+    private static <K> void removeKey(Map<K, Set<ThingUID>> index, @Nullable K key, ThingUID thingUID) {
+        if (key != null) {
+            Set<ThingUID> thingUIDs = index.get(key);
+            if (thingUIDs != null && thingUIDs.remove(thingUID) && thingUIDs.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * A result with the keys it has been indexed with.
+     */
+    private static class IndexEntry {
+        private final DiscoveryResult result;
+        private final String bindingId;
+        private final ThingTypeUID thingTypeUID;
+        private final @Nullable ThingUID bridgeUID;
+        private final @Nullable Object representationPropertyValue;
+        private final @Nullable Instant expiry;
+
+        private IndexEntry(DiscoveryResult result) {
+            this.result = result;
+            this.bindingId = result.getBindingId();
+            this.thingTypeUID = result.getThingTypeUID();
+            this.bridgeUID = result.getBridgeUID();
+            String representationProperty = result.getRepresentationProperty();
+            this.representationPropertyValue = representationProperty == null ? null
+                    : result.getProperties().get(representationProperty);
+            long ttl = result.getTimeToLive();
+            this.expiry = ttl == DiscoveryResult.TTL_UNLIMITED ? null : result.getCreationTime().plusSeconds(ttl);
+        }
+    }
+}
@@ -12,11 +12,8 @@
  */
 package org.openhab.core.config.discovery.internal;
 
-import static org.openhab.core.config.discovery.inbox.InboxPredicates.forThingUID;
-
 import java.net.URI;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -80,8 +77,10 @@ import org.slf4j.LoggerFactory;
  * This implementation uses the {@link DiscoveryServiceRegistry} to register itself as {@link DiscoveryListener} to
  * receive {@link DiscoveryResult} objects automatically from {@link DiscoveryService}s.
  * <p>
- * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners. No
- * performance optimizations have been done (synchronization).
+ * The results of the storage are kept in an {@link InboxIndex}, so that reading the inbox does not need to read all
+ * entries of the storage. Every write to the storage updates the index.
+ * <p>
+ * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners.
  *
  * @author Michael Grammling - Initial contribution
  * @author Dennis Nobel - Added automated removing of entries
@@ -90,6 +89,7 @@ import org.slf4j.LoggerFactory;
  * @author Andre Fuechsel - Added removeOlderResults
  * @author Christoph Knauf - Added removeThingsForBridge and getPropsAndConfigParams
  * @author Laurent Garnier - Added parameter newThingId to method approve
+ * @author Andrew Fiddian-Green - Indexed in-memory view and TTL queue
  */
 @Component(immediate = true, service = Inbox.class)
 @NonNullByDefault
@@ -112,22 +112,11 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
         @Override
         public void run() {
-            Instant now = Instant.now();
-            for (DiscoveryResult result : inbox.getAll()) {
-                if (isResultExpired(result, now)) {
-                    logger.debug("Inbox entry for thing '{}' is expired and will be removed.", result.getThingUID());
-                    remove(result.getThingUID());
-                }
+            for (ThingUID thingUID : inbox.index.pollExpired(Instant.now())) {
+                logger.debug("Inbox entry for thing '{}' is expired and will be removed.", thingUID);
+                remove(thingUID);
             }
         }
-
-        private boolean isResultExpired(DiscoveryResult result, Instant now) {
-            long ttl = result.getTimeToLive();
-            if (ttl == DiscoveryResult.TTL_UNLIMITED) {
-                return false;
-            }
-            return result.getCreationTime().plusSeconds(ttl).isBefore(now);
-        }
     }
 
     private final Logger logger = LoggerFactory.getLogger(PersistentInbox.class);
@@ -139,6 +128,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     private final ThingTypeRegistry thingTypeRegistry;
     private final ConfigDescriptionRegistry configDescRegistry;
     private final Storage<DiscoveryResult> discoveryResultStorage;
+    private final InboxIndex index = new InboxIndex();
     private final Map<DiscoveryResult, Class<?>> resultDiscovererMap = new ConcurrentHashMap<>();
     private @NonNullByDefault({}) ScheduledFuture<?> timeToLiveChecker;
     private @NonNullByDefault({}) ScheduledFuture<?> delayedDiscoveryResultProcessor;
@@ -164,6 +154,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Activate
     protected void activate() {
+        index.load(discoveryResultStorage.getValues());
         discoveryServiceRegistry.addDiscoveryListener(this);
         thingRegistry.addRegistryChangeListener(this);
         ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("discovery");
@@ -185,14 +176,13 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Override
     public @Nullable Thing approve(ThingUID thingUID, @Nullable String label, @Nullable String newThingId) {
-        List<DiscoveryResult> results = stream().filter(forThingUID(thingUID)).toList();
-        if (results.isEmpty()) {
+        DiscoveryResult result = index.get(thingUID);
+        if (result == null) {
             throw new IllegalArgumentException("No Thing with UID " + thingUID.getAsString() + " in inbox");
         }
         if (newThingId != null && newThingId.contains(AbstractUID.SEPARATOR)) {
             throw new IllegalArgumentException("New Thing ID " + newThingId + " must not contain multiple segments");
         }
-        DiscoveryResult result = results.getFirst();
         final Map<String, String> properties = new HashMap<>();
         final Map<String, @Nullable Object> configParams = new HashMap<>();
         getPropsAndConfigParams(result, properties, configParams);
@@ -272,17 +262,17 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         Thing thing = thingRegistry.get(thingUID);
 
         if (thing == null) {
-            DiscoveryResult inboxResult = get(thingUID);
+            DiscoveryResult inboxResult = getStored(thingUID);
 
             if (inboxResult == null) {
-                discoveryResultStorage.put(discoveryResult.getThingUID().toString(), discoveryResult);
+                store(discoveryResult);
                 notifyListeners(discoveryResult, EventType.ADDED);
                 logger.info("Added new thing '{}' to inbox.", thingUID);
                 discoveryResultWrapper.future.complete(true);
             } else {
                 if (inboxResult instanceof DiscoveryResultImpl resultImpl) {
                     resultImpl.synchronize(discoveryResult);
-                    discoveryResultStorage.put(discoveryResult.getThingUID().toString(), resultImpl);
+                    store(resultImpl);
                     notifyListeners(resultImpl, EventType.UPDATED);
                     logger.debug("Updated discovery result for '{}'.", thingUID);
                     discoveryResultWrapper.future.complete(true);
@@ -365,24 +355,44 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Override
     public List<DiscoveryResult> getAll() {
-        return stream().toList();
+        return index.getAll();
     }
 
     @Override
     public Stream<DiscoveryResult> stream() {
-        return (Stream<DiscoveryResult>) discoveryResultStorage.getValues().stream().filter(Objects::nonNull);
+        return index.getAll().stream();
+    }
+
+    @Override
+    public @Nullable DiscoveryResult get(ThingUID thingUID) {
+        return index.get(thingUID);
+    }
+
+    @Override
+    public Stream<DiscoveryResult> streamForBinding(String bindingId) {
+        return index.getForBinding(bindingId).stream();
+    }
+
+    @Override
+    public Stream<DiscoveryResult> streamForThingType(ThingTypeUID thingTypeUID) {
+        return index.getForThingType(thingTypeUID).stream();
+    }
+
+    @Override
+    public Stream<DiscoveryResult> streamForRepresentationPropertyValue(String value) {
+        return index.getForRepresentationPropertyValue(value).stream();
     }
 
     @Override
     public synchronized boolean remove(@Nullable ThingUID thingUID) throws IllegalStateException {
         if (thingUID != null) {
-            DiscoveryResult discoveryResult = get(thingUID);
+            DiscoveryResult discoveryResult = getStored(thingUID);
             if (discoveryResult != null) {
                 if (!isInRegistry(thingUID)) {
                     removeResultsForBridge(thingUID);
                 }
                 resultDiscovererMap.remove(discoveryResult);
-                discoveryResultStorage.remove(thingUID.toString());
+                removeStored(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
                 return true;
             }
@@ -415,16 +425,21 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     public @Nullable Collection<ThingUID> removeOlderResults(DiscoveryService source, Instant timestamp,
             @Nullable Collection<ThingTypeUID> thingTypeUIDs, @Nullable ThingUID bridgeUID) {
         Set<ThingUID> removedThings = new HashSet<>();
-        for (DiscoveryResult discoveryResult : getAll()) {
-            Class<?> discoverer = resultDiscovererMap.get(discoveryResult);
-            if (thingTypeUIDs != null && thingTypeUIDs.contains(discoveryResult.getThingTypeUID())
-                    && discoveryResult.getCreationTime().isBefore(timestamp)
-                    && (discoverer == null || source.getClass() == discoverer)) {
-                ThingUID thingUID = discoveryResult.getThingUID();
-                if (bridgeUID == null || bridgeUID.equals(discoveryResult.getBridgeUID())) {
-                    removedThings.add(thingUID);
-                    remove(thingUID);
-                    logger.debug("Removed thing '{}' from inbox because it was older than {}.", thingUID, timestamp);
+        if (thingTypeUIDs == null) {
+            return removedThings;
+        }
+        for (ThingTypeUID thingTypeUID : Set.copyOf(thingTypeUIDs)) {
+            for (DiscoveryResult discoveryResult : index.getForThingType(thingTypeUID)) {
+                Class<?> discoverer = resultDiscovererMap.get(discoveryResult);
+                if (discoveryResult.getCreationTime().isBefore(timestamp)
+                        && (discoverer == null || source.getClass() == discoverer)) {
+                    ThingUID thingUID = discoveryResult.getThingUID();
+                    if (bridgeUID == null || bridgeUID.equals(discoveryResult.getBridgeUID())) {
+                        removedThings.add(thingUID);
+                        remove(thingUID);
+                        logger.debug("Removed thing '{}' from inbox because it was older than {}.", thingUID,
+                                timestamp);
+                    }
                 }
             }
         }
@@ -456,10 +471,10 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Override
     public void setFlag(ThingUID thingUID, @Nullable DiscoveryResultFlag flag) {
-        DiscoveryResult result = get(thingUID);
+        DiscoveryResult result = getStored(thingUID);
         if (result instanceof DiscoveryResultImpl resultImpl) {
             resultImpl.setFlag((flag == null) ? DiscoveryResultFlag.NEW : flag);
-            discoveryResultStorage.put(resultImpl.getThingUID().toString(), resultImpl);
+            store(resultImpl);
             notifyListeners(resultImpl, EventType.UPDATED);
         } else if (result == null) {
             logger.warn("Cannot set flag for result '{}' because it can't be found in storage", thingUID);
@@ -469,18 +484,31 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     }
 
     /**
-     * Returns the {@link DiscoveryResult} in this {@link Inbox} associated with
+     * Returns the {@link DiscoveryResult} in the storage associated with
      * the specified {@code Thing} ID, or {@code null}, if no {@link DiscoveryResult} could be found.
+     * <p>
+     * Used before modifying a result, so that the modification is based on the stored state. Read-only access should
+     * use the {@link InboxIndex}.
      *
      * @param thingUID the Thing UID to which the discovery result should be returned
      *
      * @return the discovery result associated with the specified Thing ID, or
      *         null, if no discovery result could be found
      */
-    private @Nullable DiscoveryResult get(ThingUID thingUID) {
+    private @Nullable DiscoveryResult getStored(ThingUID thingUID) {
         return discoveryResultStorage.get(thingUID.toString());
     }
 
+    private void store(DiscoveryResult result) {
+        discoveryResultStorage.put(result.getThingUID().toString(), result);
+        index.put(result);
+    }
+
+    private void removeStored(ThingUID thingUID) {
+        discoveryResultStorage.remove(thingUID.toString());
+        index.remove(thingUID);
+    }
+
     private void notifyListeners(DiscoveryResult result, EventType type) {
         for (InboxListener listener : listeners) {
             try {
@@ -506,10 +534,12 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         if (type == EventType.REMOVED) {
             resultForEvent = result;
         } else {
-            resultForEvent = get(result.getThingUID());
+            resultForEvent = getStored(result.getThingUID());
             if (resultForEvent == null) {
                 return;
             }
+            // keep the index in sync with the stored instance, e.g. with the types of the deserialized properties
+            index.put(resultForEvent);
         }
         postEvent(resultForEvent, type);
     }
@@ -543,22 +573,16 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     private void removeResultsForBridge(ThingUID bridgeUID) {
         for (ThingUID thingUID : getResultsForBridge(bridgeUID)) {
-            DiscoveryResult discoveryResult = get(thingUID);
+            DiscoveryResult discoveryResult = getStored(thingUID);
             if (discoveryResult != null) {
-                discoveryResultStorage.remove(thingUID.toString());
+                removeStored(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
             }
         }
     }
 
     private List<ThingUID> getResultsForBridge(ThingUID bridgeUID) {
-        List<ThingUID> thingsForBridge = new ArrayList<>();
-        for (DiscoveryResult result : discoveryResultStorage.getValues()) {
-            if (result != null && bridgeUID.equals(result.getBridgeUID())) {
-                thingsForBridge.add(result.getThingUID());
-            }
-        }
-        return thingsForBridge;
+        return index.getForBridge(bridgeUID).stream().map(DiscoveryResult::getThingUID).toList();
     }
 
     /**
@@ -42,6 +42,7 @@ import org.osgi.service.component.annotations.Reference;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Laurent Garnier - New optional parameter for command approve
+ * @author Andrew Fiddian-Green - Use indexed inbox lookups
  */
 @Component(immediate = true, service = ConsoleCommandExtension.class)
 @NonNullByDefault
@@ -107,8 +108,7 @@ public class InboxConsoleCommandExtension extends AbstractConsoleCommandExtensio
                         }
                         try {
                             ThingUID thingUID = new ThingUID(args[1]);
-                            List<DiscoveryResult> results = inbox.stream().filter(forThingUID(thingUID)).toList();
-                            if (results.isEmpty()) {
+                            if (inbox.get(thingUID) == null) {
                                 console.println("No matching inbox entry could be found.");
                                 return;
                             }
@@ -148,11 +148,11 @@ public class InboxConsoleCommandExtension extends AbstractConsoleCommandExtensio
                         boolean validParam = true;
                         try {
                             ThingUID thingUID = new ThingUID(args[1]);
-                            List<DiscoveryResult> results = inbox.stream().filter(forThingUID(thingUID)).toList();
-                            if (results.isEmpty()) {
+                            DiscoveryResult result = inbox.get(thingUID);
+                            if (result == null) {
                                 console.println("No matching inbox entry could be found.");
                             } else {
-                                clearInboxEntries(console, results);
+                                clearInboxEntries(console, List.of(result));
                             }
                         } catch (IllegalArgumentException e) {
                             validParam = false;
@@ -160,8 +160,7 @@ public class InboxConsoleCommandExtension extends AbstractConsoleCommandExtensio
                         if (!validParam) {
                             try {
                                 ThingTypeUID thingTypeUID = new ThingTypeUID(args[1]);
-                                List<DiscoveryResult> results = inbox.stream().filter(forThingTypeUID(thingTypeUID))
-                                        .toList();
+                                List<DiscoveryResult> results = inbox.streamForThingType(thingTypeUID).toList();
                                 if (results.isEmpty()) {
                                     console.println("No matching inbox entry could be found.");
                                 } else {
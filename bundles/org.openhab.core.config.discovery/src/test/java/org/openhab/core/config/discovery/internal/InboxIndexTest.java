@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.discovery.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.config.discovery.DiscoveryResult;
+import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * Tests {@link InboxIndex}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class InboxIndexTest {
+
+    private static final ThingTypeUID THING_TYPE_UID = new ThingTypeUID("test", "type");
+    private static final ThingTypeUID OTHER_THING_TYPE_UID = new ThingTypeUID("other", "type");
+    private static final ThingUID BRIDGE_UID = new ThingUID(THING_TYPE_UID, "bridge");
+    private static final ThingUID THING_UID1 = new ThingUID(THING_TYPE_UID, BRIDGE_UID, "thing1");
+    private static final ThingUID THING_UID2 = new ThingUID(THING_TYPE_UID, "thing2");
+    private static final ThingUID THING_UID3 = new ThingUID(OTHER_THING_TYPE_UID, "thing3");
+
+    private final InboxIndex index = new InboxIndex();
+
+    private static DiscoveryResult result(ThingUID thingUID, String serial) {
+        return DiscoveryResultBuilder.create(thingUID).withBridge(THING_UID1.equals(thingUID) ? BRIDGE_UID : null)
+                .withProperties(Map.of("serial", serial)).withRepresentationProperty("serial").build();
+    }
+
+    @Test
+    public void testLookups() {
+        index.load(List.of(result(THING_UID1, "1"), result(THING_UID2, "2"), result(THING_UID3, "3")));
+
+        assertThat(index.getAll().size(), is(3));
+        DiscoveryResult result = index.get(THING_UID2);
+        assertNotNull(result);
+        assertThat(result.getThingUID(), is(THING_UID2));
+        assertNull(index.get(new ThingUID(THING_TYPE_UID, "unknown")));
+
+        assertThat(thingUIDs(index.getForBinding("test")), containsInAnyOrder(THING_UID1, THING_UID2));
+        assertThat(thingUIDs(index.getForThingType(OTHER_THING_TYPE_UID)), contains(THING_UID3));
+        assertThat(thingUIDs(index.getForBridge(BRIDGE_UID)), contains(THING_UID1));
+        assertThat(thingUIDs(index.getForRepresentationPropertyValue("2")), contains(THING_UID2));
+        assertThat(index.getForRepresentationPropertyValue("4"), is(empty()));
+    }
+
+    @Test
+    public void testReplaceAndRemove() {
+        index.put(result(THING_UID1, "1"));
+        List<DiscoveryResult> snapshot = index.getAll();
+
+        index.put(result(THING_UID1, "new"));
+        assertThat(index.getForRepresentationPropertyValue("1"), is(empty()));
+        assertThat(thingUIDs(index.getForRepresentationPropertyValue("new")), contains(THING_UID1));
+        assertThat(index.getAll().size(), is(1));
+        // earlier snapshots are not affected by changes
+        assertThat(snapshot.getFirst().getProperties().get("serial"), is("1"));
+
+        index.remove(THING_UID1);
+        assertThat(index.getAll(), is(empty()));
+        assertThat(index.getForBinding("test"), is(empty()));
+        assertThat(index.getForBridge(BRIDGE_UID), is(empty()));
+        assertThat(index.getForRepresentationPropertyValue("new"), is(empty()));
+    }
+
+    @Test
+    public void testKeysAreRememberedWhenInstanceIsModified() {
+        DiscoveryResultImpl result = (DiscoveryResultImpl) result(THING_UID2, "old");
+        index.put(result);
+
+        result.synchronize(result(THING_UID2, "modified"));
+        index.put(result);
+
+        assertThat(index.getForRepresentationPropertyValue("old"), is(empty()));
+        assertThat(thingUIDs(index.getForRepresentationPropertyValue("modified")), contains(THING_UID2));
+    }
+
+    @Test
+    public void testPollExpired() {
+        DiscoveryResult unlimited = result(THING_UID1, "1");
+        DiscoveryResult expiring = DiscoveryResultBuilder.create(THING_UID2).withTTL(60).build();
+        DiscoveryResult expiringLater = DiscoveryResultBuilder.create(THING_UID3).withTTL(120).build();
+        index.load(List.of(expiringLater, unlimited, expiring));
+
+        Instant creationTime = expiring.getCreationTime();
+        assertThat(index.pollExpired(creationTime.plusSeconds(30)), is(empty()));
+        assertThat(index.pollExpired(creationTime.plusSeconds(90)), contains(THING_UID2));
+        // polled results are not returned again
+        assertThat(index.pollExpired(creationTime.plusSeconds(90)), is(empty()));
+
+        // replaced results do not expire with their old time to live
+        index.put(DiscoveryResultBuilder.create(THING_UID3).withTTL(DiscoveryResult.TTL_UNLIMITED).build());
+        assertThat(index.pollExpired(creationTime.plusSeconds(150)), is(empty()));
+
+        DiscoveryResult refreshed = DiscoveryResultBuilder.create(THING_UID1).withTTL(60).build();
+        index.put(refreshed);
+        assertThat(index.pollExpired(refreshed.getCreationTime().plusSeconds(61)), contains(THING_UID1));
+    }
+
+    private static List<ThingUID> thingUIDs(List<DiscoveryResult> results) {
+        return results.stream().map(DiscoveryResult::getThingUID).toList();
+    }
+}
@@ -16,6 +16,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.automation.RuleManager;
 import org.openhab.core.automation.RuleRegistry;
 import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.monitor.internal.metrics.BundleStateMetric;
@@ -46,6 +47,7 @@ import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
  * The {@link DefaultMetricsRegistration} class registers all openHAB internal metrics with the global MeterRegistry.
  *
  * @author Robert Bach - Initial contribution
+ * @author Andrew Fiddian-Green - Pass the rule manager to the rule metric
  */
 @Component(immediate = true, service = MeterRegistryProvider.class)
 @NonNullByDefault
@@ -59,14 +61,17 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
     private final ReadyService readyService;
     private final ThingRegistry thingRegistry;
     private final RuleRegistry ruleRegistry;
+    private final RuleManager ruleManager;
 
     @Activate
     public DefaultMetricsRegistration(BundleContext bundleContext, final @Reference ReadyService readyService,
-            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry) {
+            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry,
+            final @Reference RuleManager ruleManager) {
         this.bundleContext = bundleContext;
         this.readyService = readyService;
         this.thingRegistry = thingRegistry;
         this.ruleRegistry = ruleRegistry;
+        this.ruleManager = ruleManager;
     }
 
     @Activate
@@ -90,7 +95,7 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
         meters.add(new BundleStateMetric(bundleContext, tags));
         meters.add(new ThingStateMetric(bundleContext, thingRegistry, tags));
         meters.add(new EventCountMetric(bundleContext, tags));
-        meters.add(new RuleMetric(bundleContext, tags, ruleRegistry));
+        meters.add(new RuleMetric(bundleContext, tags, ruleRegistry, ruleManager));
 
         meters.forEach(m -> m.bindTo(registry));
     }
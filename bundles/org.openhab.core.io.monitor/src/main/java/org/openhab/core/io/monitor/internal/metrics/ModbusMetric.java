@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.io.monitor.internal.DefaultMetricsRegistration;
+import org.openhab.core.io.transport.modbus.ModbusEndpointStatistics;
+import org.openhab.core.io.transport.modbus.ModbusManager;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSerialSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpointVisitor;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusUDPSlaveEndpoint;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link ModbusMetric} class implements metrics for the {@link ModbusEndpointStatistics} of all Modbus endpoints
+ * (per endpoint). Unlike the other metrics it is a component of its own, the Modbus transport is optional and the
+ * component is only activated if it is installed.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@Component(immediate = true)
+@NonNullByDefault
+public class ModbusMetric implements OpenhabCoreMeterBinder {
+
+    public static final String METRIC_PREFIX = "openhab.modbus.endpoint";
+    private static final Tag CORE_MODBUS_METRIC_TAG = Tag.of("metric", "openhab.core.metric.modbus");
+    private static final String ENDPOINT_TAG_NAME = "endpoint";
+    private static final long UPDATE_INTERVAL_SECONDS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusMetric.class);
+    private final ModbusManager modbusManager;
+    private final Tags tags = Tags.of(DefaultMetricsRegistration.OH_CORE_METRIC_TAG, CORE_MODBUS_METRIC_TAG);
+    private final Map<ModbusEndpointStatistics, List<Meter>> meters = new HashMap<>();
+    private @Nullable MeterRegistry meterRegistry;
+    private @Nullable ScheduledFuture<?> updateJob;
+
+    @Activate
+    public ModbusMetric(final @Reference ModbusManager modbusManager,
+            final @Reference MeterRegistryProvider meterRegistryProvider) {
+        this.modbusManager = modbusManager;
+        bindTo(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        unbind();
+    }
+
+    @Override
+    public synchronized void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("ModbusMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        // endpoints come and go with the things using them, so the meters are updated regularly
+        updateJob = ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON)
+                .scheduleWithFixedDelay(this::updateMeters, 0, UPDATE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized void unbind() {
+        ScheduledFuture<?> updateJob = this.updateJob;
+        if (updateJob != null) {
+            updateJob.cancel(false);
+            this.updateJob = null;
+        }
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        meters.values().forEach(endpointMeters -> endpointMeters.forEach(meterRegistry::remove));
+        meters.clear();
+        this.meterRegistry = null;
+    }
+
+    private synchronized void updateMeters() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Map<ModbusSlaveEndpoint, ModbusEndpointStatistics> statistics = modbusManager.getEndpointStatistics();
+        meters.entrySet().removeIf(entry -> {
+            if (statistics.containsValue(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().forEach(meterRegistry::remove);
+            return true;
+        });
+        statistics.forEach((endpoint, endpointStatistics) -> meters.computeIfAbsent(endpointStatistics,
+                s -> registerMeters(meterRegistry, endpoint, endpointStatistics)));
+    }
+
+    private List<Meter> registerMeters(MeterRegistry meterRegistry, ModbusSlaveEndpoint endpoint,
+            ModbusEndpointStatistics statistics) {
+        Tags tags = this.tags.and(Tag.of(ENDPOINT_TAG_NAME, endpoint.accept(new EndpointTagVisitor())));
+        return List.of(
+                Gauge.builder(METRIC_PREFIX + ".queue", statistics, ModbusEndpointStatistics::getQueueSize)
+                        .description("Number of Modbus operations waiting for execution").tags(tags)
+                        .register(meterRegistry),
+                FunctionTimer
+                        .builder(METRIC_PREFIX + ".poll.lateness", statistics, ModbusEndpointStatistics::getPollCount,
+                                ModbusEndpointStatistics::getTotalPollLatenessMillis, TimeUnit.MILLISECONDS)
+                        .description("Delay of regular Modbus polls after they were due").tags(tags)
+                        .register(meterRegistry),
+                FunctionCounter
+                        .builder(METRIC_PREFIX + ".poll.skipped", statistics,
+                                ModbusEndpointStatistics::getSkippedPollCount)
+                        .description("Regular Modbus polls skipped since the previous poll was still queued")
+                        .tags(tags).register(meterRegistry),
+                FunctionTimer
+                        .builder(METRIC_PREFIX + ".transaction", statistics,
+                                ModbusEndpointStatistics::getTransactionCount,
+                                ModbusEndpointStatistics::getTotalTransactionTimeMillis, TimeUnit.MILLISECONDS)
+                        .description("Time spent communicating with the Modbus slave").tags(tags)
+                        .register(meterRegistry),
+                FunctionCounter
+                        .builder(METRIC_PREFIX + ".operations", statistics,
+                                ModbusEndpointStatistics::getOperationCount)
+                        .description("Executed Modbus operations").tags(tags).register(meterRegistry),
+                FunctionCounter
+                        .builder(METRIC_PREFIX + ".errors", statistics, ModbusEndpointStatistics::getErrorCount)
+                        .description("Modbus operations failed after all retries").tags(tags)
+                        .register(meterRegistry));
+    }
+
+    private static class EndpointTagVisitor implements ModbusSlaveEndpointVisitor<String> {
+
+        @Override
+        public @NonNull String visit(ModbusTCPSlaveEndpoint endpoint) {
+            return "tcp:" + endpoint.getAddress() + ":" + endpoint.getPort();
+        }
+
+        @Override
+        public @NonNull String visit(ModbusSerialSlaveEndpoint endpoint) {
+            return "serial:" + endpoint.getPortName();
+        }
+
+        @Override
+        public @NonNull String visit(ModbusUDPSlaveEndpoint endpoint) {
+            return "udp:" + endpoint.getAddress() + ":" + endpoint.getPort();
+        }
+    }
+}
@@ -15,12 +15,22 @@ package org.openhab.core.io.monitor.internal.metrics;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.Module;
+import org.openhab.core.automation.ModuleTypeProfile;
 import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleManager;
+import org.openhab.core.automation.RuleProfile;
+import org.openhab.core.automation.RuleProfile.Timing;
 import org.openhab.core.automation.RuleRegistry;
 import org.openhab.core.automation.RuleStatus;
+import org.openhab.core.automation.events.RuleRemovedEvent;
 import org.openhab.core.automation.events.RuleStatusInfoEvent;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventSubscriber;
@@ -29,36 +39,59 @@ import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 
 /**
- * The {@link RuleMetric} class implements a gauge metric for rules RUNNING events (per rule)
+ * The {@link RuleMetric} class implements a gauge metric for rules RUNNING events (per rule), timers for the time
+ * spent running the rules (per rule) and their conditions and actions (per module type) and the depth of the queues of
+ * the rules and the number of coalesced triggers (per rule). The meters of the profile of a rule are removed with the
+ * rule.
  *
  * @author Robert Bach - Initial contribution
+ * @author Andrew Fiddian-Green - Add timers of the rule profiles
+ * @author Andrew Fiddian-Green - Add queue depth metrics
  */
 @NonNullByDefault
 public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
 
     public static final String METRIC_NAME = "openhab.rule.runs";
+    public static final String EXECUTION_METRIC_NAME = "openhab.rule.execution";
+    public static final String QUEUE_WAIT_METRIC_NAME = "openhab.rule.queue.wait";
+    public static final String CONDITIONS_METRIC_NAME = "openhab.rule.conditions";
+    public static final String ACTIONS_METRIC_NAME = "openhab.rule.actions";
+    public static final String QUEUE_DEPTH_METRIC_NAME = "openhab.rule.queue.depth";
+    public static final String COALESCED_METRIC_NAME = "openhab.rule.triggers.coalesced";
+    public static final String MODULE_TYPE_METRIC_NAME = "openhab.rule.moduletype.execution";
     public static final String RULES_TOPIC_PREFIX = "openhab/rules/";
     public static final String RULES_TOPIC_SUFFIX = "/state";
     private final Logger logger = LoggerFactory.getLogger(RuleMetric.class);
     private static final Tag CORE_RULE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.rules");
     private static final String RULE_ID_TAG_NAME = "rule";
     private static final String RULE_NAME_TAG_NAME = "rulename";
+    private static final String MODULE_TYPE_TAG_NAME = "moduletype";
+    private static final Set<String> RULE_PROFILE_METRIC_NAMES = Set.of(EXECUTION_METRIC_NAME, QUEUE_WAIT_METRIC_NAME,
+            CONDITIONS_METRIC_NAME, ACTIONS_METRIC_NAME, QUEUE_DEPTH_METRIC_NAME, COALESCED_METRIC_NAME);
     private @Nullable MeterRegistry meterRegistry;
     private final Set<Tag> tags = new HashSet<>();
     private @Nullable ServiceRegistration<?> eventSubscriberRegistration;
     private BundleContext bundleContext;
     private RuleRegistry ruleRegistry;
+    private RuleManager ruleManager;
+    private final Set<String> profiledRules = ConcurrentHashMap.newKeySet();
+    private final Set<String> profiledModuleTypes = ConcurrentHashMap.newKeySet();
 
-    public RuleMetric(BundleContext bundleContext, Collection<Tag> tags, RuleRegistry ruleRegistry) {
+    public RuleMetric(BundleContext bundleContext, Collection<Tag> tags, RuleRegistry ruleRegistry,
+            RuleManager ruleManager) {
         this.tags.addAll(tags);
         this.tags.add(CORE_RULE_METRIC_TAG);
         this.bundleContext = bundleContext;
         this.ruleRegistry = ruleRegistry;
+        this.ruleManager = ruleManager;
     }
 
     @Override
@@ -81,6 +114,8 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
             }
         }
         this.meterRegistry = null;
+        profiledRules.clear();
+        profiledModuleTypes.clear();
 
         ServiceRegistration<?> eventSubscriberRegistration = this.eventSubscriberRegistration;
         if (eventSubscriberRegistration != null) {
@@ -91,7 +126,7 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
 
     @Override
     public Set<String> getSubscribedEventTypes() {
-        return Set.of(RuleStatusInfoEvent.TYPE);
+        return Set.of(RuleStatusInfoEvent.TYPE, RuleRemovedEvent.TYPE);
     }
 
     @Override
@@ -102,6 +137,11 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
             return;
         }
 
+        if (event instanceof RuleRemovedEvent ruleRemovedEvent) {
+            removeProfileMeters(meterRegistry, ruleRemovedEvent.getRule().uid);
+            return;
+        }
+
         String topic = event.getTopic();
         String ruleId = topic.substring(RULES_TOPIC_PREFIX.length(), topic.lastIndexOf(RULES_TOPIC_SUFFIX));
         if (!event.getPayload().contains(RuleStatus.RUNNING.name())) {
@@ -117,6 +157,78 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
             tagsWithRule.add(Tag.of(RULE_NAME_TAG_NAME, ruleName));
         }
         meterRegistry.counter(METRIC_NAME, tagsWithRule).increment();
+
+        if (profiledRules.add(ruleId)) {
+            registerProfileTimers(meterRegistry, ruleId, tagsWithRule);
+        }
+    }
+
+    /**
+     * Registers the meters reading the profile of a rule and of the module types of its conditions and actions, when
+     * the rule runs for the first time.
+     */
+    private void registerProfileTimers(MeterRegistry meterRegistry, String ruleId, Set<Tag> tagsWithRule) {
+        registerTimer(meterRegistry, EXECUTION_METRIC_NAME, tagsWithRule, ruleId, RuleProfile::getExecution);
+        registerTimer(meterRegistry, QUEUE_WAIT_METRIC_NAME, tagsWithRule, ruleId, RuleProfile::getQueueWait);
+        registerTimer(meterRegistry, CONDITIONS_METRIC_NAME, tagsWithRule, ruleId, RuleProfile::getConditions);
+        registerTimer(meterRegistry, ACTIONS_METRIC_NAME, tagsWithRule, ruleId, RuleProfile::getActions);
+        Gauge.builder(QUEUE_DEPTH_METRIC_NAME, ruleManager, manager -> {
+            RuleProfile profile = manager.getRuleProfile(ruleId);
+            return profile == null ? 0 : profile.getQueueDepth();
+        }).tags(tagsWithRule).register(meterRegistry);
+        FunctionCounter.builder(COALESCED_METRIC_NAME, ruleManager, manager -> {
+            RuleProfile profile = manager.getRuleProfile(ruleId);
+            return profile == null ? 0 : profile.getCoalescedTriggers();
+        }).tags(tagsWithRule).register(meterRegistry);
+
+        Rule rule = ruleRegistry.get(ruleId);
+        if (rule == null) {
+            return;
+        }
+        Stream.concat(rule.getConditions().stream(), rule.getActions().stream()).map(Module::getTypeUID)
+                .filter(profiledModuleTypes::add).forEach(moduleTypeUID -> {
+                    Set<Tag> tagsWithModuleType = new HashSet<>(tags);
+                    tagsWithModuleType.add(Tag.of(MODULE_TYPE_TAG_NAME, moduleTypeUID));
+                    FunctionTimer.builder(MODULE_TYPE_METRIC_NAME, ruleManager,
+                            manager -> getModuleTypeTiming(manager, moduleTypeUID).getCount(),
+                            manager -> getModuleTypeTiming(manager, moduleTypeUID).getTotalMillis(),
+                            TimeUnit.MILLISECONDS).tags(tagsWithModuleType).register(meterRegistry);
+                });
+    }
+
+    /**
+     * Removes the meters reading the profile of a rule which has been removed.
+     */
+    private void removeProfileMeters(MeterRegistry meterRegistry, String ruleId) {
+        if (!profiledRules.remove(ruleId)) {
+            return;
+        }
+        logger.debug("Rule {} removed - removing the meters of its profile.", ruleId);
+        Tag ruleTag = Tag.of(RULE_ID_TAG_NAME, ruleId);
+        for (Meter meter : meterRegistry.getMeters()) {
+            Meter.Id id = meter.getId();
+            if (RULE_PROFILE_METRIC_NAMES.contains(id.getName()) && id.getTags().contains(CORE_RULE_METRIC_TAG)
+                    && id.getTags().contains(ruleTag)) {
+                meterRegistry.remove(meter);
+            }
+        }
+    }
+
+    private void registerTimer(MeterRegistry meterRegistry, String name, Set<Tag> tagsWithRule, String ruleId,
+            Function<RuleProfile, Timing> timing) {
+        FunctionTimer.builder(name, ruleManager, manager -> getRuleTiming(manager, ruleId, timing).getCount(),
+                manager -> getRuleTiming(manager, ruleId, timing).getTotalMillis(), TimeUnit.MILLISECONDS)
+                .tags(tagsWithRule).register(meterRegistry);
+    }
+
+    private static Timing getRuleTiming(RuleManager ruleManager, String ruleId, Function<RuleProfile, Timing> timing) {
+        RuleProfile profile = ruleManager.getRuleProfile(ruleId);
+        return profile == null ? new Timing(0, 0, 0) : timing.apply(profile);
+    }
+
+    private static Timing getModuleTypeTiming(RuleManager ruleManager, String moduleTypeUID) {
+        ModuleTypeProfile profile = ruleManager.getModuleTypeProfile(moduleTypeUID);
+        return profile == null ? new Timing(0, 0, 0) : profile.getExecution();
     }
 
     private @Nullable String getRuleName(String ruleId) {
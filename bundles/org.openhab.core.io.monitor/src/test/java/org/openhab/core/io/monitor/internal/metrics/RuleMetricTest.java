@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.automation.ModuleTypeProfile;
+import org.openhab.core.automation.Rule;
+import org.openhab.core.automation.RuleManager;
+import org.openhab.core.automation.RuleProfile.Timing;
+import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.automation.RuleStatus;
+import org.openhab.core.automation.RuleStatusInfo;
+import org.openhab.core.automation.internal.RuleEventFactory;
+import org.openhab.core.automation.util.ModuleBuilder;
+import org.openhab.core.automation.util.RuleBuilder;
+import org.openhab.core.config.core.Configuration;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for RuleMetric class
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class RuleMetricTest {
+
+    private static final String RULE_UID = "rule1";
+    private static final String MODULE_TYPE_UID = "core.ItemCommandAction";
+
+    @Test
+    public void testProfileMetersAreRemovedWithTheRule() {
+        Rule rule = RuleBuilder.create(RULE_UID).withActions(ModuleBuilder.createAction().withId("action")
+                .withTypeUID(MODULE_TYPE_UID).withConfiguration(new Configuration()).build()).build();
+        RuleRegistry ruleRegistry = mock(RuleRegistry.class);
+        doReturn(rule).when(ruleRegistry).get(RULE_UID);
+        RuleManager ruleManager = mock(RuleManager.class);
+        doReturn(new ModuleTypeProfile(MODULE_TYPE_UID, 0, new Timing(2, 3_000_000, 2_000_000))).when(ruleManager)
+                .getModuleTypeProfile(MODULE_TYPE_UID);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RuleMetric ruleMetric = new RuleMetric(mock(BundleContext.class), Set.of(), ruleRegistry, ruleManager);
+        ruleMetric.bindTo(meterRegistry);
+
+        ruleMetric.receive(RuleEventFactory.createRuleStatusInfoEvent(new RuleStatusInfo(RuleStatus.RUNNING),
+                RULE_UID, null));
+
+        List<String> ruleMeters = getMeterNames(meterRegistry, RULE_UID);
+        assertTrue(ruleMeters.containsAll(List.of(RuleMetric.METRIC_NAME, RuleMetric.EXECUTION_METRIC_NAME,
+                RuleMetric.QUEUE_WAIT_METRIC_NAME, RuleMetric.CONDITIONS_METRIC_NAME, RuleMetric.ACTIONS_METRIC_NAME,
+                RuleMetric.QUEUE_DEPTH_METRIC_NAME, RuleMetric.COALESCED_METRIC_NAME)));
+        FunctionTimer moduleTypeTimer = meterRegistry.get(RuleMetric.MODULE_TYPE_METRIC_NAME)
+                .tag("moduletype", MODULE_TYPE_UID).functionTimer();
+        assertEquals(2, moduleTypeTimer.count());
+        verify(ruleManager, never()).getModuleTypeProfiles();
+
+        ruleMetric.receive(RuleEventFactory.createRuleRemovedEvent(rule, "test"));
+
+        assertEquals(List.of(RuleMetric.METRIC_NAME), getMeterNames(meterRegistry, RULE_UID));
+        // the module type may still be used by other rules
+        assertNotNull(meterRegistry.find(RuleMetric.MODULE_TYPE_METRIC_NAME).functionTimer());
+
+        ruleMetric.unbind();
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    private static List<String> getMeterNames(SimpleMeterRegistry meterRegistry, String ruleUID) {
+        return meterRegistry.getMeters().stream().map(Meter::getId).filter(id -> ruleUID.equals(id.getTag("rule")))
+                .map(Meter.Id::getName).toList();
+    }
+}
@@ -12,8 +12,6 @@
  */
 package org.openhab.core.io.rest.core.internal.fileformat;
 
-import static org.openhab.core.config.discovery.inbox.InboxPredicates.forThingUID;
-
 import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
@@ -1687,9 +1685,11 @@ public class FileFormatResource implements RESTResource {
                 return thing;
             }
 
-            DiscoveryResult discoveryResult = inbox.stream().filter(forThingUID(thingUID)).findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "Thing with UID '" + uid + "' not found in the things or discovery registry!"));
+            DiscoveryResult discoveryResult = inbox.get(thingUID);
+            if (discoveryResult == null) {
+                throw new IllegalArgumentException(
+                        "Thing with UID '" + uid + "' not found in the things or discovery registry!");
+            }
 
             ThingTypeUID thingTypeUID = discoveryResult.getThingTypeUID();
             ThingType thingType = thingTypeRegistry.getThingType(thingTypeUID);
@@ -67,7 +67,9 @@ import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
+import org.openhab.core.io.rest.SerializedResponseCache;
 import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONStreamingOutput;
 import org.openhab.core.io.rest.core.item.EnrichedGroupItemDTO;
 import org.openhab.core.io.rest.core.item.EnrichedItemDTO;
 import org.openhab.core.io.rest.core.item.EnrichedItemDTOMapper;
@@ -266,25 +268,21 @@ public class ItemResource implements RESTResource {
         final UriBuilder uriBuilder = uriBuilder(uriInfo, httpHeaders);
 
         if (staticDataOnly) {
-            if (lastModified != null) {
-                Response.ResponseBuilder responseBuilder = request.evaluatePreconditions(lastModified);
-                if (responseBuilder != null) {
-                    // send 304 Not Modified
-                    return responseBuilder.build();
-                }
-            } else {
+            Date lastModified = this.lastModified;
+            if (lastModified == null) {
                 lastModified = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+                this.lastModified = lastModified;
             }
 
+            // the state and command descriptions may change without a registry event, so the response is not cached
+            // and the content based entity tag catches such changes
             Stream<EnrichedItemDTO> itemStream = getItems(type, tags).stream() //
                     .map(item -> EnrichedItemDTOMapper.map(item, false, null, uriBuilder, locale, zoneId)) //
                     .peek(dto -> addMetadata(dto, namespaces, null)) //
                     .peek(dto -> dto.editable = isEditable(dto));
             itemStream = dtoMapper.limitToFields(itemStream,
                     "name,label,type,groupType,function,category,editable,groupNames,link,tags,metadata,commandDescription,stateDescription");
-
-            return Response.ok(new Stream2JSONInputStream(itemStream)).lastModified(lastModified)
-                    .cacheControl(RESTConstants.CACHE_CONTROL).build();
+            return SerializedResponseCache.createResponse(request, itemStream, lastModified);
         }
 
         Stream<EnrichedItemDTO> itemStream = getItems(type, tags).stream() //
@@ -309,7 +307,7 @@ public class ItemResource implements RESTResource {
                 });
 
         itemStream = dtoMapper.limitToFields(itemStream, fields);
-        return Response.ok(new Stream2JSONInputStream(itemStream)).build();
+        return Response.ok(new Stream2JSONStreamingOutput(itemStream)).build();
     }
 
     /**
@@ -345,6 +343,7 @@ public class ItemResource implements RESTResource {
                     EnrichedItemDTO.class, EnrichedGroupItemDTO.class }))),
             @ApiResponse(responseCode = "404", description = "Item not found") })
     public Response getItemByName(final @Context UriInfo uriInfo, final @Context HttpHeaders httpHeaders,
+            @Context Request request,
             @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @Parameter(description = "language") @Nullable String language,
             @DefaultValue(".*") @QueryParam("metadata") @Parameter(description = "metadata selector - a comma separated list or a regular expression (returns all if no value given)") @Nullable String namespaceSelector,
             @DefaultValue("true") @QueryParam("recursive") @Parameter(description = "get member items if the item is a group item") boolean recursive,
@@ -376,7 +375,7 @@ public class ItemResource implements RESTResource {
                     parent.editable = isEditable(parent);
                 }
             }
-            return JSONResponse.createResponse(Status.OK, dto, null);
+            return SerializedResponseCache.createResponse(request, dto);
         } else {
             return getItemNotFoundResponse(itemName);
         }
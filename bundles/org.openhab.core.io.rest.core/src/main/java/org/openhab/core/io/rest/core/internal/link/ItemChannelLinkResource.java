@@ -26,18 +26,21 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.auth.Role;
+import org.openhab.core.common.registry.RegistryChangedRunnableListener;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.SerializedResponseCache;
 import org.openhab.core.io.rest.core.link.BrokenItemChannelLinkDTO;
 import org.openhab.core.io.rest.core.link.EnrichedItemChannelLinkDTO;
 import org.openhab.core.io.rest.core.link.EnrichedItemChannelLinkDTOMapper;
@@ -63,6 +66,7 @@ import org.openhab.core.thing.type.ChannelKind;
 import org.openhab.core.thing.type.ChannelTypeRegistry;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
 import org.osgi.service.jaxrs.whiteboard.propertytypes.JSONRequired;
@@ -111,6 +115,9 @@ public class ItemChannelLinkResource implements RESTResource {
     private final ThingRegistry thingRegistry;
     private final ItemRegistry itemRegistry;
     private final ProfileTypeRegistry profileTypeRegistry;
+    private final SerializedResponseCache linkCache = new SerializedResponseCache();
+    private final RegistryChangedRunnableListener<ItemChannelLink> invalidateCacheChangeListener = new RegistryChangedRunnableListener<>(
+            linkCache::invalidate);
 
     @Activate
     public ItemChannelLinkResource(final @Reference ItemRegistry itemRegistry,
@@ -123,27 +130,36 @@ public class ItemChannelLinkResource implements RESTResource {
         this.thingRegistry = thingRegistry;
         this.itemRegistry = itemRegistry;
         this.profileTypeRegistry = profileTypeRegistry;
+
+        this.itemChannelLinkRegistry.addRegistryChangeListener(invalidateCacheChangeListener);
+    }
+
+    @Deactivate
+    void deactivate() {
+        this.itemChannelLinkRegistry.removeRegistryChangeListener(invalidateCacheChangeListener);
     }
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @Operation(operationId = "getItemLinks", summary = "Gets all available links.", responses = {
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = EnrichedItemChannelLinkDTO.class)))) })
-    public Response getAll(
+    public Response getAll(@Context Request request,
             @QueryParam("channelUID") @Parameter(description = "filter by channel UID") @Nullable String channelUID,
             @QueryParam("itemName") @Parameter(description = "filter by item name") @Nullable String itemName) {
-        Stream<EnrichedItemChannelLinkDTO> linkStream = itemChannelLinkRegistry.stream()
-                .map(link -> EnrichedItemChannelLinkDTOMapper.map(link,
-                        isEditable(AbstractLink.getIDFor(link.getItemName(), link.getLinkedUID()))));
+        return linkCache.getResponse(request, channelUID + "|" + itemName, () -> {
+            Stream<EnrichedItemChannelLinkDTO> linkStream = itemChannelLinkRegistry.stream()
+                    .map(link -> EnrichedItemChannelLinkDTOMapper.map(link,
+                            isEditable(AbstractLink.getIDFor(link.getItemName(), link.getLinkedUID()))));
 
-        if (channelUID != null) {
-            linkStream = linkStream.filter(link -> channelUID.equals(link.channelUID));
-        }
-        if (itemName != null) {
-            linkStream = linkStream.filter(link -> itemName.equals(link.itemName));
-        }
+            if (channelUID != null) {
+                linkStream = linkStream.filter(link -> channelUID.equals(link.channelUID));
+            }
+            if (itemName != null) {
+                linkStream = linkStream.filter(link -> itemName.equals(link.itemName));
+            }
 
-        return Response.ok(new Stream2JSONInputStream(linkStream)).build();
+            return linkStream;
+        });
     }
 
     @DELETE
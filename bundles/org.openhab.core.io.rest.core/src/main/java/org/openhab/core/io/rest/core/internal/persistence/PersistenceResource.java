@@ -819,6 +819,11 @@ public class PersistenceResource implements RESTResource {
             return JSONResponse.createErrorResponse(Status.BAD_REQUEST, "Invalid filter parameters.");
         }
 
+        Item item = itemRegistry.get(itemName);
+        if (item != null) {
+            persistenceManager.handleExternalPersistenceDataChange(mService, item);
+        }
+
         return Response.status(Status.OK).build();
     }
 
@@ -15,11 +15,8 @@ package org.openhab.core.io.rest.core.internal.thing;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -66,7 +63,9 @@ import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
+import org.openhab.core.io.rest.SerializedResponseCache;
 import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONStreamingOutput;
 import org.openhab.core.io.rest.core.thing.EnrichedThingDTO;
 import org.openhab.core.io.rest.core.thing.EnrichedThingDTOMapper;
 import org.openhab.core.items.ItemFactory;
@@ -170,11 +169,11 @@ public class ThingResource implements RESTResource {
     private final ThingRegistry thingRegistry;
     private final ThingStatusInfoI18nLocalizationService thingStatusInfoI18nLocalizationService;
     private final ThingTypeRegistry thingTypeRegistry;
-    private final RegistryChangedRunnableListener<Thing> resetLastModifiedChangeListener = new RegistryChangedRunnableListener<>(
-            () -> lastModified = null);
+    private final SerializedResponseCache staticDataCache = new SerializedResponseCache();
+    private final RegistryChangedRunnableListener<Thing> invalidateCacheChangeListener = new RegistryChangedRunnableListener<>(
+            staticDataCache::invalidate);
 
     private @Context @NonNullByDefault({}) UriInfo uriInfo;
-    private @Nullable Date lastModified = null;
 
     @Activate
     public ThingResource( //
@@ -208,12 +207,12 @@ public class ThingResource implements RESTResource {
         this.thingStatusInfoI18nLocalizationService = thingStatusInfoI18nLocalizationService;
         this.thingTypeRegistry = thingTypeRegistry;
 
-        this.thingRegistry.addRegistryChangeListener(resetLastModifiedChangeListener);
+        this.thingRegistry.addRegistryChangeListener(invalidateCacheChangeListener);
     }
 
     @Deactivate
     void deactivate() {
-        this.thingRegistry.removeRegistryChangeListener(resetLastModifiedChangeListener);
+        this.thingRegistry.removeRegistryChangeListener(invalidateCacheChangeListener);
     }
 
     /**
@@ -307,31 +306,20 @@ public class ThingResource implements RESTResource {
             @DefaultValue("false") @QueryParam("staticDataOnly") @Parameter(description = "provides a cacheable list of values not expected to change regularly and checks the If-Modified-Since header") boolean staticDataOnly) {
         final Locale locale = localeService.getLocale(language);
 
-        Stream<EnrichedThingDTO> thingStream = thingRegistry.stream().map(t -> convertToEnrichedThingDTO(t, locale))
-                .distinct();
-
         if (staticDataOnly) {
-            if (lastModified != null) {
-                Response.ResponseBuilder responseBuilder = request.evaluatePreconditions(lastModified);
-                if (responseBuilder != null) {
-                    // send 304 Not Modified
-                    return responseBuilder.build();
-                }
-            } else {
-                lastModified = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
-            }
-
-            thingStream = dtoMapper.limitToFields(thingStream,
-                    "UID,label,bridgeUID,thingTypeUID,location,editable,semanticEquipmentTag");
-            return Response.ok(new Stream2JSONInputStream(thingStream)).lastModified(lastModified)
-                    .cacheControl(RESTConstants.CACHE_CONTROL).build();
+            return staticDataCache.getResponse(request, locale.toString(),
+                    () -> dtoMapper.limitToFields(
+                            thingRegistry.stream().map(t -> convertToEnrichedThingDTO(t, locale)).distinct(),
+                            "UID,label,bridgeUID,thingTypeUID,location,editable,semanticEquipmentTag"));
         }
 
+        Stream<EnrichedThingDTO> thingStream = thingRegistry.stream().map(t -> convertToEnrichedThingDTO(t, locale))
+                .distinct();
         if (summary != null && summary) {
             thingStream = dtoMapper.limitToFields(thingStream,
                     "UID,label,bridgeUID,thingTypeUID,statusInfo,firmwareStatus,location,editable,semanticEquipmentTag");
         }
-        return Response.ok(new Stream2JSONInputStream(thingStream)).build();
+        return Response.ok(new Stream2JSONStreamingOutput(thingStream)).build();
     }
 
     @GET
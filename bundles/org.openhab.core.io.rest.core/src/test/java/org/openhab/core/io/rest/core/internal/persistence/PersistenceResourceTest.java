@@ -333,6 +333,19 @@ public class PersistenceResourceTest {
         verify(persistenceManagerMock).handleExternalPersistenceDataChange(eq(pServiceMock), eq(item));
     }
 
+    @Test
+    public void testDeletePersistenceItemData() {
+        HttpHeaders headersMock = mock(HttpHeaders.class);
+        Item item = new NumberItem(ITEM_NAME);
+        when(itemRegistryMock.get(ITEM_NAME)).thenReturn(item);
+
+        pResource.httpDeletePersistenceServiceItem(headersMock, PERSISTENCE_SERVICE_ID, ITEM_NAME,
+                "2024-02-01T00:00:00.000Z", "2024-02-02T00:00:00.000Z");
+
+        verify(pServiceMock).remove(any(), any());
+        verify(persistenceManagerMock).handleExternalPersistenceDataChange(eq(pServiceMock), eq(item));
+    }
+
     @Test
     public void testGetPersistenceItemInfoNotImplemented() throws UnsupportedOperationException {
         // Test method not supported
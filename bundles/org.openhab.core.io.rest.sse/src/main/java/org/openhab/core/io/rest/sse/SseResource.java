@@ -27,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 import javax.annotation.security.RolesAllowed;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -53,6 +54,7 @@ import org.openhab.core.io.rest.SseBroadcaster;
 import org.openhab.core.io.rest.sse.internal.SseItemStatesEventBuilder;
 import org.openhab.core.io.rest.sse.internal.SsePublisher;
 import org.openhab.core.io.rest.sse.internal.SseSinkItemInfo;
+import org.openhab.core.io.rest.sse.internal.SseSinkTopicIndex;
 import org.openhab.core.io.rest.sse.internal.SseSinkTopicInfo;
 import org.openhab.core.io.rest.sse.internal.dto.EventDTO;
 import org.openhab.core.io.rest.sse.internal.util.SseUtil;
@@ -83,6 +85,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * @author Markus Rathgeb - Drop Glassfish dependency and use API only
  * @author Wouter Born - Rework SSE item state sinks for dropping Glassfish
  * @author Wouter Born - Migrated to OpenAPI annotations
+ * @author Andrew Fiddian-Green - Share pre-serialized event frames and drop slow clients
+ * @author Andrew Fiddian-Green - Add merged item state updates with a client defined interval
  */
 @Component(service = { RESTResource.class, SsePublisher.class })
 @JaxrsResource
@@ -102,6 +106,13 @@ public class SseResource implements RESTResource, SsePublisher {
 
     public static final int ALIVE_INTERVAL_SECONDS = 10;
 
+    // The bounds for the interval in which a client may request merged item state updates
+    private static final long MIN_COALESCING_INTERVAL_MILLIS = 100;
+    private static final long MAX_COALESCING_INTERVAL_MILLIS = 60000;
+
+    // The number of events that may be waiting to be written to a client before it is considered too slow and dropped
+    private static final int MAX_PENDING_EVENTS = 500;
+
     private final Logger logger = LoggerFactory.getLogger(SseResource.class);
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager
@@ -110,9 +121,10 @@ public class SseResource implements RESTResource, SsePublisher {
 
     private @Context @NonNullByDefault({}) Sse sse;
 
-    private final SseBroadcaster<SseSinkItemInfo> itemStatesBroadcaster = new SseBroadcaster<>();
+    private final SseBroadcaster<SseSinkItemInfo> itemStatesBroadcaster = new SseBroadcaster<>(MAX_PENDING_EVENTS);
     private final SseItemStatesEventBuilder itemStatesEventBuilder;
-    private final SseBroadcaster<SseSinkTopicInfo> topicBroadcaster = new SseBroadcaster<>();
+    private final SseBroadcaster<SseSinkTopicInfo> topicBroadcaster = new SseBroadcaster<>(MAX_PENDING_EVENTS);
+    private final SseSinkTopicIndex topicIndex = new SseSinkTopicIndex();
 
     private ExecutorService executorService;
 
@@ -120,6 +132,8 @@ public class SseResource implements RESTResource, SsePublisher {
     public SseResource(@Reference SseItemStatesEventBuilder itemStatesEventBuilder) {
         this.executorService = Executors.newSingleThreadExecutor();
         this.itemStatesEventBuilder = itemStatesEventBuilder;
+        this.itemStatesBroadcaster.addListener((sink, info) -> info.cancelFlushJob());
+        this.topicBroadcaster.addListener(topicIndex::remove);
 
         aliveEventJob = scheduler.scheduleWithFixedDelay(() -> {
             if (sse != null) {
@@ -183,30 +197,45 @@ public class SseResource implements RESTResource, SsePublisher {
             return;
         }
 
-        topicBroadcaster.add(sseEventSink, new SseSinkTopicInfo(eventFilter));
+        SseSinkTopicInfo info = new SseSinkTopicInfo(eventFilter);
+        // index the sink first, the broadcaster removes it from the index again when it is dropped
+        topicIndex.add(sseEventSink, info);
+        topicBroadcaster.add(sseEventSink, info);
 
         addCommonResponseHeaders(response);
     }
 
     private void handleEventBroadcastTopic(Event event) {
         final EventDTO eventDTO = SseUtil.buildDTO(event);
+        // the event is serialized once and the same frame is written to all matching sinks
         final OutboundSseEvent sseEvent = SseUtil.buildEvent(sse.newEventBuilder(), eventDTO);
 
-        topicBroadcaster.sendIf(sseEvent, matchesTopic(eventDTO.topic));
+        // only the sinks indexed for the topic are matched against it
+        topicBroadcaster.sendTo(sseEvent, topicIndex.getCandidates(eventDTO.topic), matchesTopic(eventDTO.topic));
     }
 
     /**
      * Subscribes the connecting client for state updates. It will initially only send a "ready" event with a unique
      * connectionId that the client can use to dynamically alter the list of tracked items.
+     * <p>
+     * If an interval is given, state updates are not sent immediately. Instead, at most one event per interval is sent,
+     * which contains the latest state of every tracked item that changed during the interval.
      */
     @GET
     @Path("/states")
     @Produces(MediaType.SERVER_SENT_EVENTS)
     @Operation(operationId = "initNewStateTacker", summary = "Initiates a new item state tracker connection", responses = {
             @ApiResponse(responseCode = "200", description = "OK") })
-    public void getStateEvents(@Context final SseEventSink sseEventSink, @Context final HttpServletResponse response) {
-        final SseSinkItemInfo sinkItemInfo = new SseSinkItemInfo();
+    public void getStateEvents(@Context final SseEventSink sseEventSink, @Context final HttpServletResponse response,
+            @DefaultValue("0") @QueryParam("interval") @Parameter(description = "minimum interval in milliseconds between state update events, state changes within an interval are merged into a single event (0 sends every state change immediately)") long interval) {
+        final long coalescingInterval = interval <= 0 ? 0
+                : Math.min(Math.max(interval, MIN_COALESCING_INTERVAL_MILLIS), MAX_COALESCING_INTERVAL_MILLIS);
+        final SseSinkItemInfo sinkItemInfo = new SseSinkItemInfo(coalescingInterval);
         itemStatesBroadcaster.add(sseEventSink, sinkItemInfo);
+        if (sinkItemInfo.isCoalescing()) {
+            sinkItemInfo.setFlushJob(scheduler.scheduleWithFixedDelay(() -> flushItemStates(sinkItemInfo),
+                    coalescingInterval, coalescingInterval, TimeUnit.MILLISECONDS));
+        }
 
         addCommonResponseHeaders(response);
 
@@ -251,20 +280,44 @@ public class SseResource implements RESTResource, SsePublisher {
 
     /**
      * Broadcasts a state event to all currently listening clients, after transforming it to a simple map.
+     * Clients that merge state updates only get the item marked as changed, it is sent with their next merged event.
      *
      * @param stateChangeEvent the {@link ItemStateChangedEvent} containing the new state
      */
     public void handleEventBroadcastItemState(final ItemStateChangedEvent stateChangeEvent) {
         String itemName = stateChangeEvent.getItemName();
-        boolean isTracked = itemStatesBroadcaster.getInfoIf(info -> true).anyMatch(tracksItem(itemName));
-        if (isTracked) {
+        boolean isTrackedImmediately = false;
+        for (SseSinkItemInfo info : itemStatesBroadcaster.getInfoIf(tracksItem(itemName)).toList()) {
+            if (info.isCoalescing()) {
+                info.markChanged(itemName);
+            } else {
+                isTrackedImmediately = true;
+            }
+        }
+        if (isTrackedImmediately) {
             OutboundSseEvent event = itemStatesEventBuilder.buildEvent(sse.newEventBuilder(), Set.of(itemName));
             if (event != null) {
-                itemStatesBroadcaster.sendIf(event, tracksItem(itemName));
+                itemStatesBroadcaster.sendIf(event, tracksItem(itemName).and(info -> !info.isCoalescing()));
             }
         }
     }
 
+    /**
+     * Sends a single event with the current state of all items that changed since the last call to the given client.
+     *
+     * @param sinkItemInfo the information of the client
+     */
+    private void flushItemStates(final SseSinkItemInfo sinkItemInfo) {
+        Set<String> changedItems = sinkItemInfo.takeChangedItems();
+        if (changedItems.isEmpty() || sse == null) {
+            return;
+        }
+        OutboundSseEvent event = itemStatesEventBuilder.buildEvent(sse.newEventBuilder(), changedItems);
+        if (event != null) {
+            itemStatesBroadcaster.sendIf(event, hasConnectionId(sinkItemInfo.getConnectionId()));
+        }
+    }
+
     private static class AliveEvent {
         public final String type = "ALIVE";
         public final int interval = ALIVE_INTERVAL_SECONDS;
@@ -12,23 +12,48 @@
  */
 package org.openhab.core.io.rest.sse.internal;
 
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledFuture;
 import java.util.function.Predicate;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The specific information we need to hold for a SSE sink which tracks item state updates.
  *
  * @author Wouter Born - Initial contribution
+ * @author Andrew Fiddian-Green - Add coalescing of state updates
  */
 @NonNullByDefault
 public class SseSinkItemInfo {
 
     private final String connectionId = UUID.randomUUID().toString();
     private final Set<String> trackedItems = new CopyOnWriteArraySet<>();
+    private final Set<String> changedItems = ConcurrentHashMap.newKeySet();
+    private final long coalescingInterval;
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    /**
+     * Creates a {@link SseSinkItemInfo} for a connection that receives every state update immediately.
+     */
+    public SseSinkItemInfo() {
+        this(0);
+    }
+
+    /**
+     * Creates a {@link SseSinkItemInfo} for a connection that receives at most one merged state update per interval.
+     *
+     * @param coalescingInterval the interval in milliseconds, 0 to send every state update immediately
+     */
+    public SseSinkItemInfo(long coalescingInterval) {
+        this.coalescingInterval = coalescingInterval;
+    }
 
     /**
      * Gets the connection identifier of this {@link SseSinkItemInfo}
@@ -47,6 +72,69 @@ public class SseSinkItemInfo {
     public void updateTrackedItems(Set<String> itemNames) {
         trackedItems.clear();
         trackedItems.addAll(itemNames);
+        changedItems.retainAll(itemNames);
+    }
+
+    /**
+     * Gets the interval in which state updates are merged for this connection.
+     *
+     * @return the interval in milliseconds, 0 if every state update is sent immediately
+     */
+    public long getCoalescingInterval() {
+        return coalescingInterval;
+    }
+
+    /**
+     * Checks if state updates are merged for this connection.
+     *
+     * @return true if state updates are merged, false if every state update is sent immediately
+     */
+    public boolean isCoalescing() {
+        return coalescingInterval > 0;
+    }
+
+    /**
+     * Marks the state of an item as changed since the last merged state update.
+     *
+     * @param itemName the name of the changed item
+     */
+    public void markChanged(String itemName) {
+        changedItems.add(itemName);
+    }
+
+    /**
+     * Returns the items whose state changed since the last call and resets them.
+     *
+     * @return the names of the changed items
+     */
+    public Set<String> takeChangedItems() {
+        Set<String> itemNames = new HashSet<>();
+        Iterator<String> iterator = changedItems.iterator();
+        while (iterator.hasNext()) {
+            itemNames.add(iterator.next());
+            iterator.remove();
+        }
+        return itemNames;
+    }
+
+    /**
+     * Sets the job that periodically sends the merged state updates of this connection.
+     *
+     * @param flushJob the job
+     */
+    public void setFlushJob(ScheduledFuture<?> flushJob) {
+        this.flushJob = flushJob;
+    }
+
+    /**
+     * Cancels the job that periodically sends the merged state updates of this connection, if any.
+     */
+    public void cancelFlushJob() {
+        ScheduledFuture<?> job = flushJob;
+        if (job != null) {
+            job.cancel(false);
+            flushJob = null;
+        }
     }
 
     public static Predicate<SseSinkItemInfo> hasConnectionId(String connectionId) {
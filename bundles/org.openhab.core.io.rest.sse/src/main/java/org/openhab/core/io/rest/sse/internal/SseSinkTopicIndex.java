@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.ws.rs.sse.SseEventSink;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Indexes the SSE sinks which subscribe to event topics by the topics they are subscribed to, so an event is only
+ * matched against the sinks which may be subscribed to its topic instead of all sinks.
+ * <p>
+ * Sinks are indexed by their literal topics and by the leading topic segments of their topic patterns with wildcards.
+ * Sinks with a wildcard in the first segment of a topic pattern are kept in a separate set and are candidates for all
+ * topics.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class SseSinkTopicIndex {
+
+    private final Map<String, Set<SseEventSink>> sinksByTopic = new ConcurrentHashMap<>();
+    private final Map<String, Set<SseEventSink>> sinksByTopicPrefix = new ConcurrentHashMap<>();
+    private final Set<SseEventSink> wildcardSinks = ConcurrentHashMap.newKeySet();
+
+    public void add(SseEventSink sink, SseSinkTopicInfo info) {
+        info.getTopics().forEach(topic -> add(sinksByTopic, topic, sink));
+        info.getTopicPrefixes().forEach(prefix -> add(sinksByTopicPrefix, prefix, sink));
+        if (info.isWildcard()) {
+            wildcardSinks.add(sink);
+        }
+    }
+
+    public void remove(SseEventSink sink, SseSinkTopicInfo info) {
+        info.getTopics().forEach(topic -> remove(sinksByTopic, topic, sink));
+        info.getTopicPrefixes().forEach(prefix -> remove(sinksByTopicPrefix, prefix, sink));
+        wildcardSinks.remove(sink);
+    }
+
+    /**
+     * Returns the sinks which may be subscribed to the given topic. The topic filters of the returned sinks still have
+     * to be matched against the topic.
+     *
+     * @param topic the topic of the event
+     * @return the candidate sinks
+     */
+    public Set<SseEventSink> getCandidates(String topic) {
+        Set<SseEventSink> candidates = new HashSet<>(wildcardSinks);
+        addAll(candidates, sinksByTopic.get(topic));
+        if (!sinksByTopicPrefix.isEmpty()) {
+            for (int i = topic.indexOf('/'); i >= 0; i = topic.indexOf('/', i + 1)) {
+                addAll(candidates, sinksByTopicPrefix.get(topic.substring(0, i + 1)));
+            }
+        }
+        return candidates;
+    }
+
+    private static void add(Map<String, Set<SseEventSink>> index, String key, SseEventSink sink) {
+        index.compute(key, (k, sinks) -> {
+            Set<SseEventSink> result = sinks == null ? ConcurrentHashMap.newKeySet() : sinks;
+            result.add(sink);
+            return result;
+        });
+    }
+
+    private static void remove(Map<String, Set<SseEventSink>> index, String key, SseEventSink sink) {
+        index.computeIfPresent(key, (k, sinks) -> {
+            sinks.remove(sink);
+            return sinks.isEmpty() ? null : sinks;
+        });
+    }
+
+    private static void addAll(Set<SseEventSink> candidates, @Nullable Set<SseEventSink> sinks) {
+        if (sinks != null) {
+            candidates.addAll(sinks);
+        }
+    }
+}
@@ -12,27 +12,109 @@
  */
 package org.openhab.core.io.rest.sse.internal;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.rest.sse.internal.util.SseUtil;
 
 /**
  * The specific information we need to hold for a SSE sink which subscribes to event topics.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author Andrew Fiddian-Green - Precompile filters and evaluate each distinct filter once per topic, index keys
  */
 @NonNullByDefault
 public class SseSinkTopicInfo {
 
-    private final List<String> regexFilters;
+    private static final String MATCH_ALL = ".*";
 
-    public SseSinkTopicInfo(String topicFilter) {
-        this.regexFilters = SseUtil.convertToRegex(topicFilter);
+    private final String topicFilter;
+    private final List<Pattern> regexFilters;
+    private final boolean matchesAll;
+
+    private final List<String> topics = new ArrayList<>();
+    private final List<String> topicPrefixes = new ArrayList<>();
+    private boolean wildcard;
+
+    public SseSinkTopicInfo(@Nullable String topicFilter) {
+        List<String> regexes = SseUtil.convertToRegex(topicFilter);
+        this.topicFilter = topicFilter == null ? "" : topicFilter;
+        this.regexFilters = regexes.stream().map(Pattern::compile).toList();
+        this.matchesAll = regexes.contains(MATCH_ALL);
+
+        wildcard = matchesAll;
+        for (String pattern : SseUtil.splitTopicFilter(topicFilter)) {
+            int wildcardIndex = pattern.indexOf('*');
+            int segmentEnd = wildcardIndex < 0 ? -1 : pattern.lastIndexOf('/', wildcardIndex);
+            if (wildcardIndex < 0) {
+                topics.add(pattern);
+            } else if (segmentEnd < 0) {
+                wildcard = true;
+            } else {
+                topicPrefixes.add(pattern.substring(0, segmentEnd + 1));
+            }
+        }
+    }
+
+    /**
+     * Returns the topics without wildcards this sink is subscribed to.
+     *
+     * @return the literal topics
+     */
+    public List<String> getTopics() {
+        return topics;
+    }
+
+    /**
+     * Returns the leading topic segments (each ending with "/") of the topic patterns with wildcards this sink is
+     * subscribed to.
+     *
+     * @return the topic prefixes
+     */
+    public List<String> getTopicPrefixes() {
+        return topicPrefixes;
+    }
+
+    /**
+     * Returns whether this sink is subscribed to a topic pattern with a wildcard in its first segment, which cannot be
+     * indexed by topic.
+     *
+     * @return true if any topic may match
+     */
+    public boolean isWildcard() {
+        return wildcard;
+    }
+
+    private boolean matches(String topic) {
+        if (matchesAll) {
+            return true;
+        }
+        for (Pattern regexFilter : regexFilters) {
+            if (regexFilter.matcher(topic).matches()) {
+                return true;
+            }
+        }
+        return false;
     }
 
+    /**
+     * Creates a predicate that checks if a sink is subscribed to the given topic.
+     * <p>
+     * Most clients subscribe with the same topic filter, so the returned predicate indexes the result by topic filter:
+     * each distinct filter is only evaluated once for the topic, all other sinks with the same filter reuse the result.
+     * The predicate is meant to be used for a single broadcast and is not thread-safe.
+     *
+     * @param topic the topic of the event
+     * @return a predicate that checks if a sink is subscribed to the topic
+     */
     public static Predicate<SseSinkTopicInfo> matchesTopic(final String topic) {
-        return info -> info.regexFilters.stream().anyMatch(topic::matches);
+        final Map<String, Boolean> results = new HashMap<>();
+        return info -> results.computeIfAbsent(info.topicFilter, filter -> info.matches(topic));
     }
 }
@@ -24,6 +24,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.events.Event;
 import org.openhab.core.io.rest.sse.internal.dto.EventDTO;
 
+import com.google.gson.Gson;
+
 /**
  * Utility class containing helper methods for the SSE implementation.
  *
@@ -35,6 +37,8 @@ import org.openhab.core.io.rest.sse.internal.dto.EventDTO;
 public class SseUtil {
     static final String TOPIC_VALIDATE_PATTERN = "(\\w*\\*?\\/?,?:?-?\\s*)*";
 
+    private static final Gson GSON = new Gson();
+
     public static EventDTO buildDTO(final Event event) {
         EventDTO dto = new EventDTO();
         dto.topic = event.getTopic();
@@ -45,6 +49,9 @@ public class SseUtil {
 
     /**
      * Creates a new {@link OutboundSseEvent} object containing an {@link EventDTO} created for the given {@link Event}.
+     * <p>
+     * The event data is serialized to JSON once and sent as plain text, so the same pre-encoded frame is written to
+     * every sink instead of serializing the DTO again for each of them.
      *
      * @param eventBuilder the builder that should be used
      * @param event the event data transfer object
@@ -52,8 +59,8 @@ public class SseUtil {
      */
     public static OutboundSseEvent buildEvent(OutboundSseEvent.Builder eventBuilder, EventDTO event) {
         return eventBuilder.name("message") //
-                .mediaType(MediaType.APPLICATION_JSON_TYPE) //
-                .data(event) //
+                .mediaType(MediaType.TEXT_PLAIN_TYPE) //
+                .data(String.class, GSON.toJson(event)) //
                 .build();
     }
 
@@ -68,6 +75,25 @@ public class SseUtil {
         return topicFilter == null || topicFilter.isEmpty() || topicFilter.matches(TOPIC_VALIDATE_PATTERN);
     }
 
+    /**
+     * Splits the given topicFilter at any commas (",") into its trimmed topic patterns
+     *
+     * @param topicFilter
+     * @return the topic patterns, empty if the filter is empty
+     */
+    public static List<String> splitTopicFilter(@Nullable String topicFilter) {
+        List<String> patterns = new ArrayList<>();
+
+        if (topicFilter != null) {
+            StringTokenizer tokenizer = new StringTokenizer(topicFilter, ",");
+            while (tokenizer.hasMoreElements()) {
+                patterns.add(tokenizer.nextToken().trim());
+            }
+        }
+
+        return patterns;
+    }
+
     /**
      * Splits the given topicFilter at any commas (",") and for each token replaces any wildcards(*) with the regex
      * pattern (.*)
@@ -81,10 +107,8 @@ public class SseUtil {
         if (topicFilter == null || topicFilter.isEmpty()) {
             filters.add(".*");
         } else {
-            StringTokenizer tokenizer = new StringTokenizer(topicFilter, ",");
-            while (tokenizer.hasMoreElements()) {
-                String regex = tokenizer.nextToken().trim().replace("*", ".*") + "$";
-                filters.add(regex);
+            for (String pattern : splitTopicFilter(topicFilter)) {
+                filters.add(pattern.replace("*", ".*") + "$");
             }
         }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SseSinkItemInfo}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class SseSinkItemInfoTest {
+
+    @Test
+    public void testCoalescing() {
+        assertThat(new SseSinkItemInfo().isCoalescing(), is(false));
+        assertThat(new SseSinkItemInfo(500).isCoalescing(), is(true));
+    }
+
+    @Test
+    public void testTakeChangedItems() {
+        SseSinkItemInfo info = new SseSinkItemInfo(500);
+        info.updateTrackedItems(Set.of("item1", "item2"));
+
+        info.markChanged("item1");
+        info.markChanged("item1");
+        info.markChanged("item2");
+        assertThat(info.takeChangedItems(), is(Set.of("item1", "item2")));
+        assertThat(info.takeChangedItems(), is(empty()));
+    }
+
+    @Test
+    public void testUntrackedItemsAreDropped() {
+        SseSinkItemInfo info = new SseSinkItemInfo(500);
+        info.updateTrackedItems(Set.of("item1", "item2"));
+        info.markChanged("item1");
+        info.markChanged("item2");
+
+        info.updateTrackedItems(Set.of("item2"));
+        assertThat(info.takeChangedItems(), is(Set.of("item2")));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+import javax.ws.rs.sse.SseEventSink;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SseSinkTopicIndex}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class SseSinkTopicIndexTest {
+
+    private final SseSinkTopicIndex index = new SseSinkTopicIndex();
+
+    @Test
+    public void testCandidatesAreLookedUpByTopic() {
+        SseEventSink all = add("");
+        SseEventSink anyAdded = add("*/added");
+        SseEventSink stateChanged = add("openhab/items/*/statechanged");
+        SseEventSink itemOrThings = add("openhab/items/item/state, openhab/things/*");
+
+        assertThat(index.getCandidates("openhab/items/item/statechanged"),
+                containsInAnyOrder(all, anyAdded, stateChanged));
+        assertThat(index.getCandidates("openhab/items/item/state"),
+                containsInAnyOrder(all, anyAdded, stateChanged, itemOrThings));
+        assertThat(index.getCandidates("openhab/things/thing/status"), containsInAnyOrder(all, anyAdded, itemOrThings));
+        assertThat(index.getCandidates("openhab/channels/channel/triggered"), containsInAnyOrder(all, anyAdded));
+    }
+
+    @Test
+    public void testRemovedSinksAreNoCandidates() {
+        SseSinkTopicInfo info = new SseSinkTopicInfo("openhab/items/item/state, openhab/things/*, *");
+        SseEventSink sink = mock(SseEventSink.class);
+        index.add(sink, info);
+        assertThat(index.getCandidates("openhab/items/item/state"), contains(sink));
+
+        index.remove(sink, info);
+        assertThat(index.getCandidates("openhab/items/item/state"), is(empty()));
+        assertThat(index.getCandidates("openhab/things/thing/status"), is(empty()));
+    }
+
+    private SseEventSink add(String topicFilter) {
+        SseEventSink sink = mock(SseEventSink.class);
+        index.add(sink, new SseSinkTopicInfo(topicFilter));
+        return sink;
+    }
+}
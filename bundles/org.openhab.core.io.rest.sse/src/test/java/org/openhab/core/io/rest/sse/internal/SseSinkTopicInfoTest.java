@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.sse.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SseSinkTopicInfo}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class SseSinkTopicInfoTest {
+
+    @Test
+    public void testMatchesTopic() {
+        SseSinkTopicInfo all = new SseSinkTopicInfo(null);
+        SseSinkTopicInfo empty = new SseSinkTopicInfo("");
+        SseSinkTopicInfo stateChanged = new SseSinkTopicInfo("openhab/items/*/statechanged");
+        SseSinkTopicInfo addedOrThings = new SseSinkTopicInfo("openhab/items/*/added, openhab/things/*");
+
+        Predicate<SseSinkTopicInfo> predicate = SseSinkTopicInfo.matchesTopic("openhab/items/item/statechanged");
+        assertThat(predicate.test(all), is(true));
+        assertThat(predicate.test(empty), is(true));
+        assertThat(predicate.test(stateChanged), is(true));
+        assertThat(predicate.test(addedOrThings), is(false));
+
+        predicate = SseSinkTopicInfo.matchesTopic("openhab/things/thing/status");
+        assertThat(predicate.test(stateChanged), is(false));
+        assertThat(predicate.test(addedOrThings), is(true));
+    }
+
+    @Test
+    public void testSinksWithSameFilterShareResult() {
+        SseSinkTopicInfo sink1 = new SseSinkTopicInfo("openhab/items/*/state");
+        SseSinkTopicInfo sink2 = new SseSinkTopicInfo("openhab/items/*/state");
+
+        Predicate<SseSinkTopicInfo> predicate = SseSinkTopicInfo.matchesTopic("openhab/items/item/state");
+        assertThat(predicate.test(sink1), is(true));
+        assertThat(predicate.test(sink2), is(true));
+
+        predicate = SseSinkTopicInfo.matchesTopic("openhab/items/item/statechanged");
+        assertThat(predicate.test(sink1), is(false));
+        assertThat(predicate.test(sink2), is(false));
+    }
+}
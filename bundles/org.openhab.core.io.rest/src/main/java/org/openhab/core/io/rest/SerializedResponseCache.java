@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * The {@link SerializedResponseCache} keeps serialized JSON responses of a REST resource until the data backing them
+ * changes. Each response carries an {@link EntityTag} calculated from its content, so that clients sending a matching
+ * {@code If-None-Match} (or {@code If-Modified-Since}) header receive a {@code 304 Not Modified} response.
+ * <p>
+ * Resources are expected to call {@link #invalidate()} whenever the registries their responses depend on change, e.g.
+ * from a {@link org.openhab.core.common.registry.RegistryChangedRunnableListener}. Responses that depend on data that
+ * is not covered by registry change events (like item states or dynamic state descriptions) must not be cached, but
+ * can still make use of the content based entity tag by {@link #createResponse(Request, Object)} or
+ * {@link #createResponse(Request, Stream, Date)}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class SerializedResponseCache {
+
+    private static final Gson GSON = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_WITH_TZ_AND_MS).create();
+    private static final int MAX_ENTRIES = 32;
+
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Drops all cached responses. Must be called whenever the data backing the cached responses changes.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        responses.clear();
+    }
+
+    /**
+     * Returns the response for the given key from the cache or serializes the given source if there is no valid cache
+     * entry. If the request preconditions match the cached content a {@code 304 Not Modified} response is returned.
+     *
+     * @param request the request to evaluate the preconditions for
+     * @param key a key identifying all parameters that influence the content of the response
+     * @param source a supplier for the stream of elements that are serialized to a JSON array on a cache miss
+     * @return the response
+     */
+    public Response getResponse(Request request, String key, Supplier<Stream<?>> source) {
+        long currentVersion = version.get();
+        CachedResponse cachedResponse = responses.get(key);
+        if (cachedResponse == null || cachedResponse.version != currentVersion) {
+            cachedResponse = new CachedResponse(currentVersion, serialize(source.get()));
+            if (responses.size() >= MAX_ENTRIES) {
+                responses.clear();
+            }
+            responses.put(key, cachedResponse);
+        }
+        return createResponse(request, cachedResponse.content, cachedResponse.entityTag,
+                cachedResponse.lastModified);
+    }
+
+    /**
+     * Serializes the given entity to JSON and creates a response with a content based entity tag. If the request
+     * preconditions match, a {@code 304 Not Modified} response is returned instead.
+     *
+     * @param request the request to evaluate the preconditions for
+     * @param entity the entity to serialize
+     * @return the response
+     */
+    public static Response createResponse(Request request, Object entity) {
+        byte[] content = GSON.toJson(entity).getBytes(StandardCharsets.UTF_8);
+        return createResponse(request, content, entityTag(content), null);
+    }
+
+    /**
+     * Serializes the given stream of elements to a JSON array and creates a response with a content based entity tag,
+     * without caching it. This suits responses that depend on data without change events, as the entity tag still
+     * changes with the content. If the request preconditions match, a {@code 304 Not Modified} response is returned
+     * instead.
+     *
+     * @param request the request to evaluate the preconditions for
+     * @param source the stream of elements to serialize
+     * @param lastModified the time the data has last been modified, or <code>null</code> to only evaluate the entity
+     *            tag
+     * @return the response
+     */
+    public static Response createResponse(Request request, Stream<?> source, @Nullable Date lastModified) {
+        byte[] content = serialize(source);
+        return createResponse(request, content, entityTag(content), lastModified);
+    }
+
+    private static Response createResponse(Request request, byte[] content, EntityTag entityTag,
+            @Nullable Date lastModified) {
+        ResponseBuilder responseBuilder = lastModified == null ? request.evaluatePreconditions(entityTag)
+                : request.evaluatePreconditions(lastModified, entityTag);
+        if (responseBuilder != null) {
+            // send 304 Not Modified
+            return responseBuilder.tag(entityTag).cacheControl(RESTConstants.CACHE_CONTROL).build();
+        }
+
+        responseBuilder = Response.ok((StreamingOutput) target -> target.write(content), MediaType.APPLICATION_JSON)
+                .tag(entityTag).cacheControl(RESTConstants.CACHE_CONTROL);
+        if (lastModified != null) {
+            responseBuilder.lastModified(lastModified);
+        }
+        return responseBuilder.build();
+    }
+
+    private static byte[] serialize(Stream<?> source) {
+        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            new Stream2JSONStreamingOutput(source).write(buffer);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            // cannot happen for a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static EntityTag entityTag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return new EntityTag(HexFormat.of().formatHex(Arrays.copyOf(digest, 16)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed to be available on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedResponse {
+        private final long version;
+        private final byte[] content;
+        private final EntityTag entityTag;
+        private final Date lastModified;
+
+        private CachedResponse(long version, byte[] content) {
+            this.version = version;
+            this.content = content;
+            this.entityTag = entityTag(content);
+            this.lastModified = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -36,6 +37,7 @@ import org.slf4j.LoggerFactory;
  * connection.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author Andrew Fiddian-Green - Close sinks that do not keep up with the sent events
  *
  * @param <I> the type of the SSE event sink specific information
  */
@@ -50,6 +52,25 @@ public class SseBroadcaster<@NonNull I> implements Closeable {
 
     private final List<Listener<I>> listeners = new CopyOnWriteArrayList<>();
     private final Map<SseEventSink, I> sinks = new ConcurrentHashMap<>();
+    private final Map<SseEventSink, AtomicInteger> pendingEvents = new ConcurrentHashMap<>();
+    private final int maxPendingEvents;
+
+    /**
+     * Creates a broadcaster that does not limit the number of events waiting to be written to a sink.
+     */
+    public SseBroadcaster() {
+        this(0);
+    }
+
+    /**
+     * Creates a broadcaster that closes sinks which do not keep up with the sent events.
+     *
+     * @param maxPendingEvents the maximum number of events that may wait to be written to a sink before the sink is
+     *            considered too slow and is closed, 0 for no limit
+     */
+    public SseBroadcaster(int maxPendingEvents) {
+        this.maxPendingEvents = maxPendingEvents;
+    }
 
     public void addListener(final Listener<I> listener) {
         listeners.add(listener);
@@ -60,10 +81,15 @@ public class SseBroadcaster<@NonNull I> implements Closeable {
     }
 
     public @Nullable I add(final SseEventSink sink, final I info) {
+        if (maxPendingEvents > 0) {
+            // the counter is only created here, so a sink which has been removed meanwhile does not get a new one
+            pendingEvents.putIfAbsent(sink, new AtomicInteger());
+        }
         return sinks.put(sink, info);
     }
 
     public @Nullable I remove(final SseEventSink sink) {
+        pendingEvents.remove(sink);
         return sinks.remove(sink);
     }
 
@@ -84,6 +110,7 @@ public class SseBroadcaster<@NonNull I> implements Closeable {
             close(entry.getKey());
             notifyAboutRemoval(entry.getKey(), entry.getValue());
         }
+        pendingEvents.clear();
     }
 
     public void send(final OutboundSseEvent event) {
@@ -94,28 +121,71 @@ public class SseBroadcaster<@NonNull I> implements Closeable {
         logger.trace("broadcast to potential {} sinks", sinks.size());
         sinks.forEach((sink, info) -> {
             // Check if we should send at all.
-            if (!predicate.test(info)) {
-                return;
+            if (predicate.test(info)) {
+                send(sink, event);
+            }
+        });
+    }
+
+    /**
+     * Sends the event to the given sinks only, e.g. to the sinks a caller has looked up in its own index of the sink
+     * specific information. Sinks which are not added to this broadcaster are skipped.
+     *
+     * @param event the event to send
+     * @param candidates the sinks that may receive the event
+     * @param predicate the predicate a sink specific information has to match to receive the event
+     */
+    public void sendTo(final OutboundSseEvent event, Iterable<SseEventSink> candidates, Predicate<I> predicate) {
+        for (SseEventSink sink : candidates) {
+            final @Nullable I info = sinks.get(sink);
+            if (info != null && predicate.test(info)) {
+                send(sink, event);
             }
+        }
+    }
 
-            if (sink.isClosed()) {
-                // We are using a concurrent collection, so we are allowed to modify the collection asynchronous (we
-                // don't know if there is currently an iteration in progress or not, but it does not matter).
+    private void send(final SseEventSink sink, final OutboundSseEvent event) {
+        if (sink.isClosed()) {
+            // We are using a concurrent collection, so we are allowed to modify the collection asynchronous (we
+            // don't know if there is currently an iteration in progress or not, but it does not matter).
+            handleRemoval(sink);
+            return;
+        }
+
+        final @Nullable AtomicInteger pending;
+        if (maxPendingEvents > 0) {
+            pending = pendingEvents.get(sink);
+            if (pending == null) {
+                // the sink has been removed meanwhile
+                return;
+            }
+            if (pending.get() >= maxPendingEvents) {
+                // Do not let a slow client queue up events (and memory) until it runs out of resources, drop it
+                // instead. Clients are expected to reconnect.
+                logger.debug("SSE event sink does not keep up with {} pending events, closing it", maxPendingEvents);
+                close(sink);
                 handleRemoval(sink);
                 return;
             }
+            pending.incrementAndGet();
+        } else {
+            pending = null;
+        }
 
-            sink.send(event).exceptionally(throwable -> {
-                logger.debug("Sending event to sink failed", throwable);
+        sink.send(event).whenComplete((result, throwable) -> {
+            if (pending != null) {
+                pending.decrementAndGet();
+            }
+        }).exceptionally(throwable -> {
+            logger.debug("Sending event to sink failed", throwable);
 
-                close(sink);
+            close(sink);
 
-                // We are using a concurrent collection, so we are allowed to modify the collection asynchronous (we
-                // don't know if there is currently an iteration in progress or not, but it does not matter).
-                handleRemoval(sink);
+            // We are using a concurrent collection, so we are allowed to modify the collection asynchronous (we
+            // don't know if there is currently an iteration in progress or not, but it does not matter).
+            handleRemoval(sink);
 
-                return null;
-            });
+            return null;
         });
     }
 
@@ -146,6 +216,7 @@ public class SseBroadcaster<@NonNull I> implements Closeable {
     }
 
     private void handleRemoval(final SseEventSink sink) {
+        pendingEvents.remove(sink);
         final @Nullable I info = sinks.remove(sink);
         if (info != null) {
             notifyAboutRemoval(sink, info);
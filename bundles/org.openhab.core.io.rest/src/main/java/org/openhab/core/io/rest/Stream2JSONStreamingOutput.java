@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * This {@link StreamingOutput} writes a {@link Stream} as JSON array directly to the response output stream. In
+ * contrast to the {@link Stream2JSONInputStream} no intermediate {@link String} or byte array is created for the
+ * elements, each element is serialized by a {@link JsonWriter} straight into a buffered writer on top of the target
+ * stream.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class Stream2JSONStreamingOutput implements StreamingOutput {
+
+    private static final Gson GSON = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_WITH_TZ_AND_MS).create();
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Stream<?> source;
+
+    /**
+     * Creates a new {@link Stream2JSONStreamingOutput} backed by the given {@link Stream} source.
+     *
+     * @param source the {@link Stream} backing this output. Must not be null.
+     */
+    public Stream2JSONStreamingOutput(Stream<?> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void write(@Nullable OutputStream target) throws IOException {
+        if (target == null) {
+            return;
+        }
+
+        // target must not be closed, see javadoc of javax.ws.rs.ext.MessageBodyWriter
+        JsonWriter jsonWriter = new JsonWriter(
+                new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE));
+        try (Stream<?> elements = source) {
+            jsonWriter.beginArray();
+            Iterator<?> iterator = elements.iterator();
+            while (iterator.hasNext()) {
+                Object element = iterator.next();
+                if (element == null) {
+                    jsonWriter.nullValue();
+                } else {
+                    GSON.toJson(element, element.getClass(), jsonWriter);
+                }
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests {@link SerializedResponseCache}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class SerializedResponseCacheTest {
+
+    private @Mock @NonNullByDefault({}) Request requestMock;
+
+    private final SerializedResponseCache cache = new SerializedResponseCache();
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Test
+    public void shouldServeCachedContentUntilInvalidated() throws IOException {
+        Response response = cache.getResponse(requestMock, "key", () -> source("a", "b"));
+        assertThat(response.getStatus(), is(200));
+        assertThat(entityToString(response), is("[\"a\",\"b\"]"));
+        EntityTag entityTag = response.getEntityTag();
+
+        response = cache.getResponse(requestMock, "key", () -> source("c"));
+        assertThat(entityToString(response), is("[\"a\",\"b\"]"));
+        assertThat(response.getEntityTag(), is(entityTag));
+        assertThat(serializations.get(), is(1));
+
+        cache.invalidate();
+
+        response = cache.getResponse(requestMock, "key", () -> source("c"));
+        assertThat(entityToString(response), is("[\"c\"]"));
+        assertThat(response.getEntityTag(), is(not(entityTag)));
+        assertThat(serializations.get(), is(2));
+    }
+
+    @Test
+    public void shouldCacheByKey() throws IOException {
+        Response response1 = cache.getResponse(requestMock, "key1", () -> source("a"));
+        Response response2 = cache.getResponse(requestMock, "key2", () -> source("b"));
+
+        assertThat(entityToString(response1), is("[\"a\"]"));
+        assertThat(entityToString(response2), is("[\"b\"]"));
+        assertThat(serializations.get(), is(2));
+    }
+
+    @Test
+    public void shouldReturnNotModifiedIfPreconditionsMatch() {
+        when(requestMock.evaluatePreconditions(any(Date.class), any(EntityTag.class)))
+                .thenReturn(Response.notModified());
+
+        Response response = cache.getResponse(requestMock, "key", () -> source("a"));
+        assertThat(response.getStatus(), is(304));
+        assertThat(response.getEntityTag(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldUseSameEntityTagForSameContent() {
+        Response response1 = SerializedResponseCache.createResponse(requestMock, List.of("a"));
+        Response response2 = SerializedResponseCache.createResponse(requestMock, List.of("a"));
+        Response response3 = SerializedResponseCache.createResponse(requestMock, List.of("b"));
+
+        assertThat(response1.getEntityTag(), is(response2.getEntityTag()));
+        assertThat(response1.getEntityTag(), is(not(response3.getEntityTag())));
+    }
+
+    @Test
+    public void shouldSerializeStreamsWithoutCaching() throws IOException {
+        Response response1 = SerializedResponseCache.createResponse(requestMock, source("a"), null);
+        Response response2 = SerializedResponseCache.createResponse(requestMock, source("b"), null);
+
+        assertThat(entityToString(response1), is("[\"a\"]"));
+        assertThat(entityToString(response2), is("[\"b\"]"));
+        assertThat(response1.getEntityTag(), is(not(response2.getEntityTag())));
+        assertThat(serializations.get(), is(2));
+    }
+
+    private Stream<?> source(String... elements) {
+        serializations.incrementAndGet();
+        return Stream.of(elements);
+    }
+
+    private String entityToString(Response response) throws IOException {
+        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            ((StreamingOutput) response.getEntity()).write(buffer);
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
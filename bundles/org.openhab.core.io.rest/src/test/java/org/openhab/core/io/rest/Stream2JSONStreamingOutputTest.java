@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DateTimeType;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests {@link Stream2JSONStreamingOutput}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class Stream2JSONStreamingOutputTest {
+
+    private static final Gson GSON = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT).create();
+
+    @Test
+    public void shouldReturnForEmptyStream() throws Exception {
+        List<Object> emptyList = List.of();
+        Stream2JSONStreamingOutput output = new Stream2JSONStreamingOutput(emptyList.stream());
+
+        assertThat(outputToString(output), is(GSON.toJson(emptyList)));
+    }
+
+    @Test
+    public void shouldStreamSingleObjectToJSON() throws Exception {
+        DummyObject dummyObject = new DummyObject("demoKey", "demoValue");
+        List<DummyObject> dummyList = List.of(dummyObject);
+        Stream2JSONStreamingOutput output = new Stream2JSONStreamingOutput(Stream.of(dummyObject));
+
+        assertThat(JsonParser.parseString(outputToString(output)), is(JsonParser.parseString(GSON.toJson(dummyList))));
+    }
+
+    @Test
+    public void shouldProduceSameJSONAsInputStream() throws Exception {
+        List<DummyObject> dummyCollection = IntStream.range(0, 5000)
+                .mapToObj(i -> new DummyObject("demoKey" + i, "demoValue" + i)).toList();
+        Stream2JSONStreamingOutput output = new Stream2JSONStreamingOutput(dummyCollection.stream());
+        Stream2JSONInputStream inputStream = new Stream2JSONInputStream(dummyCollection.stream());
+
+        assertThat(outputToString(output), is(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)));
+    }
+
+    private String outputToString(StreamingOutput output) throws IOException {
+        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            output.write(buffer);
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class DummyObject {
+        private final String key;
+        private final String value;
+
+        DummyObject(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -140,4 +140,13 @@ public class ModbusConstants {
      * Limitation by Modbus protocol V1.1B3, 6.12 definition of Write Multiple registers.
      */
     public static final int MAX_REGISTERS_WRITE_COUNT = 123;
+    /**
+     * Maximum size of a Modbus PDU in bytes.
+     * Limitation by Modbus protocol V1.1B3, 4.1 Protocol description.
+     */
+    public static final int MAX_PDU_SIZE = 253;
+    /**
+     * Default time to wait for the response of a pipelined transaction, in milliseconds.
+     */
+    public static final int DEFAULT_TRANSACTION_TIMEOUT_MILLIS = 3000;
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Statistics of the communication with a single endpoint
+ *
+ * All counters and totals are cumulative since the endpoint was first used.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public interface ModbusEndpointStatistics {
+
+    /**
+     * Get number of operations (polls and writes) waiting for execution
+     *
+     * @return number of queued operations
+     */
+    int getQueueSize();
+
+    /**
+     * Get number of regular polls that have been started
+     *
+     * @return number of started regular polls
+     */
+    long getPollCount();
+
+    /**
+     * Get total time regular polls were started after they were due
+     *
+     * @return total lateness in milliseconds
+     */
+    long getTotalPollLatenessMillis();
+
+    /**
+     * Get number of regular polls that were skipped, since the previous poll of the same task was still waiting for
+     * execution when the next one was due
+     *
+     * @return number of skipped regular polls
+     */
+    long getSkippedPollCount();
+
+    /**
+     * Get number of executed operations (polls and writes), including failed ones
+     *
+     * @return number of operations
+     */
+    long getOperationCount();
+
+    /**
+     * Get number of operations that failed, after all retries
+     *
+     * @return number of failed operations
+     */
+    long getErrorCount();
+
+    /**
+     * Get number of operations that communicated with the slave
+     *
+     * @return number of operations with transactions
+     */
+    long getTransactionCount();
+
+    /**
+     * Get total time spent communicating with the slave, including retries
+     *
+     * @return total transaction time in milliseconds
+     */
+    long getTotalTransactionTimeMillis();
+}
@@ -12,6 +12,8 @@
  */
 package org.openhab.core.io.transport.modbus;
 
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -21,6 +23,7 @@ import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
  * ModbusManager is the main interface for interacting with Modbus slaves
  *
  * @author Sami Salonen - Initial contribution
+ * @author Andrew Fiddian-Green - Added endpoint statistics
  */
 @NonNullByDefault
 public interface ModbusManager {
@@ -46,4 +49,13 @@ public interface ModbusManager {
      * @return general connection settings of the given endpoint
      */
     EndpointPoolConfiguration getEndpointPoolConfiguration(ModbusSlaveEndpoint endpoint);
+
+    /**
+     * Get statistics of the communication with the endpoints, e.g. for monitoring
+     *
+     * @return statistics by endpoint
+     */
+    default Map<ModbusSlaveEndpoint, ModbusEndpointStatistics> getEndpointStatistics() {
+        return Map.of();
+    }
 }
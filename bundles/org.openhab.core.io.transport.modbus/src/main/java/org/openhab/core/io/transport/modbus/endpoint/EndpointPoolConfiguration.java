@@ -16,6 +16,7 @@ import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
 
 /**
  * Class representing pooling related configuration of a single endpoint
@@ -23,6 +24,8 @@ import org.eclipse.jdt.annotation.Nullable;
  * This class implements equals hashcode constract, and thus is suitable for use as keys in HashMaps, for example.
  *
  * @author Sami Salonen - Initial contribution
+ * @author Andrew Fiddian-Green - Added read coalescing configuration
+ * @author Andrew Fiddian-Green - Added pipelining configuration
  */
 @NonNullByDefault
 public class EndpointPoolConfiguration {
@@ -64,6 +67,31 @@ public class EndpointPoolConfiguration {
      */
     private int connectTimeoutMillis;
 
+    /**
+     * Maximum number of registers or bits between two regular polls (with same slave id, function code and poll
+     * period) that are still read using one single request. Negative means that regular polls are not coalesced
+     * (default). Zero coalesces only overlapping and adjacent polls.
+     */
+    private int readCoalescingMaxGap = -1;
+
+    /**
+     * Maximum size of the response PDU of a coalesced read request, in bytes. Limits the number of registers or bits
+     * read with one coalesced request, e.g. for slaves that cannot send the maximum PDU size of the specification.
+     */
+    private int readCoalescingMaxPduSize = ModbusConstants.MAX_PDU_SIZE;
+
+    /**
+     * Maximum number of transactions in flight at the same time with the endpoint, matched by their transaction
+     * identifier. Only applies to Modbus TCP endpoints without RTU encoding. One disables pipelining, i.e. every
+     * request waits for the response of the previous one (default).
+     */
+    private int pipelineDepth = 1;
+
+    /**
+     * How long to wait for the response of a pipelined transaction before giving up. In milliseconds.
+     */
+    private int transactionTimeoutMillis = ModbusConstants.DEFAULT_TRANSACTION_TIMEOUT_MILLIS;
+
     public void setAfterConnectionDelayMillis(long afterConnectionDelayMillis) {
         this.afterConnectionDelayMillis = afterConnectionDelayMillis;
     }
@@ -112,10 +140,43 @@ public class EndpointPoolConfiguration {
         this.connectTimeoutMillis = connectTimeoutMillis;
     }
 
+    public int getReadCoalescingMaxGap() {
+        return readCoalescingMaxGap;
+    }
+
+    public void setReadCoalescingMaxGap(int readCoalescingMaxGap) {
+        this.readCoalescingMaxGap = readCoalescingMaxGap;
+    }
+
+    public int getReadCoalescingMaxPduSize() {
+        return readCoalescingMaxPduSize;
+    }
+
+    public void setReadCoalescingMaxPduSize(int readCoalescingMaxPduSize) {
+        this.readCoalescingMaxPduSize = readCoalescingMaxPduSize;
+    }
+
+    public int getPipelineDepth() {
+        return pipelineDepth;
+    }
+
+    public void setPipelineDepth(int pipelineDepth) {
+        this.pipelineDepth = pipelineDepth;
+    }
+
+    public int getTransactionTimeoutMillis() {
+        return transactionTimeoutMillis;
+    }
+
+    public void setTransactionTimeoutMillis(int transactionTimeoutMillis) {
+        this.transactionTimeoutMillis = transactionTimeoutMillis;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(connectMaxTries, connectTimeoutMillis, interConnectDelayMillis, interTransactionDelayMillis,
-                reconnectAfterMillis, afterConnectionDelayMillis);
+                reconnectAfterMillis, afterConnectionDelayMillis, readCoalescingMaxGap, readCoalescingMaxPduSize,
+                pipelineDepth, transactionTimeoutMillis);
     }
 
     @Override
@@ -123,7 +184,9 @@ public class EndpointPoolConfiguration {
         return "EndpointPoolConfiguration [interTransactionDelayMillis=" + interTransactionDelayMillis
                 + ", interConnectDelayMillis=" + interConnectDelayMillis + ", connectMaxTries=" + connectMaxTries
                 + ", reconnectAfterMillis=" + reconnectAfterMillis + ", connectTimeoutMillis=" + connectTimeoutMillis
-                + ", afterConnectionDelayMillis=" + afterConnectionDelayMillis + "]";
+                + ", afterConnectionDelayMillis=" + afterConnectionDelayMillis + ", readCoalescingMaxGap="
+                + readCoalescingMaxGap + ", readCoalescingMaxPduSize=" + readCoalescingMaxPduSize + ", pipelineDepth="
+                + pipelineDepth + ", transactionTimeoutMillis=" + transactionTimeoutMillis + "]";
     }
 
     @Override
@@ -142,6 +205,9 @@ public class EndpointPoolConfiguration {
                 && interConnectDelayMillis == rhs.interConnectDelayMillis
                 && interTransactionDelayMillis == rhs.interTransactionDelayMillis
                 && reconnectAfterMillis == rhs.reconnectAfterMillis
-                && afterConnectionDelayMillis == rhs.afterConnectionDelayMillis;
+                && afterConnectionDelayMillis == rhs.afterConnectionDelayMillis
+                && readCoalescingMaxGap == rhs.readCoalescingMaxGap
+                && readCoalescingMaxPduSize == rhs.readCoalescingMaxPduSize && pipelineDepth == rhs.pipelineDepth
+                && transactionTimeoutMillis == rhs.transactionTimeoutMillis;
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.exception.ModbusSlaveErrorResponseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link PollTask} reading the data of several regular polls with one request.
+ *
+ * The response is split into the data requested by each of the member poll tasks, and the callbacks of the members
+ * are called with their part of the data. Failures are reported to all members.
+ *
+ * If the slave rejects the coalesced request with {@link ModbusSlaveErrorResponseException#ILLEGAL_DATA_ACCESS}, the
+ * failure is not reported to the members, since the rejection is most likely caused by reading the addresses in
+ * between the members. Instead, the task is marked as rejected, see {@link #isRejectedBySlave()}.
+ *
+ * Two instances are equal only if they are the same instance.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class CoalescedPollTask
+        implements PollTask, ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+
+    private final Logger logger = LoggerFactory.getLogger(CoalescedPollTask.class);
+
+    private final ModbusSlaveEndpoint endpoint;
+    private final ModbusReadRequestBlueprint request;
+    private final List<PollTask> members;
+    private volatile boolean rejectedBySlave;
+
+    /**
+     * Creates a task reading the data of all given member tasks.
+     *
+     * @param endpoint endpoint of the member tasks
+     * @param request request covering the requests of all member tasks
+     * @param members member tasks, all having the same slave id and function code as the request
+     */
+    public CoalescedPollTask(ModbusSlaveEndpoint endpoint, ModbusReadRequestBlueprint request, List<PollTask> members) {
+        this.endpoint = endpoint;
+        this.request = request;
+        this.members = List.copyOf(members);
+    }
+
+    @Override
+    public ModbusSlaveEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public ModbusReadRequestBlueprint getRequest() {
+        return request;
+    }
+
+    @Override
+    public ModbusReadCallback getResultCallback() {
+        return this;
+    }
+
+    @Override
+    public ModbusFailureCallback<ModbusReadRequestBlueprint> getFailureCallback() {
+        return this;
+    }
+
+    /**
+     * Get the poll tasks whose data is read by this task
+     *
+     * @return member poll tasks
+     */
+    public List<PollTask> getMembers() {
+        return members;
+    }
+
+    /**
+     * Whether the slave rejected the coalesced request as illegal data access, and the members should be polled
+     * separately.
+     *
+     * @return true if the request was rejected
+     */
+    public boolean isRejectedBySlave() {
+        return rejectedBySlave;
+    }
+
+    @Override
+    public void handle(AsyncModbusReadResult result) {
+        for (PollTask member : members) {
+            ModbusReadRequestBlueprint memberRequest = member.getRequest();
+            int offset = memberRequest.getReference() - request.getReference();
+            int length = memberRequest.getDataLength();
+            AsyncModbusReadResult memberResult = result.getRegisters()
+                    .map(registers -> new AsyncModbusReadResult(memberRequest, slice(registers, offset, length)))
+                    .orElseGet(() -> new AsyncModbusReadResult(memberRequest,
+                            slice(result.getBits().orElseThrow(), offset, length)));
+            try {
+                member.getResultCallback().handle(memberResult);
+            } catch (RuntimeException e) {
+                // do not let one failing callback prevent the other members from receiving their data
+                logger.warn("Read callback of poll task {} failed unexpectedly", member, e);
+            }
+        }
+    }
+
+    @Override
+    public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        if (members.size() > 1 && failure.getCause() instanceof ModbusSlaveErrorResponseException e
+                && e.getExceptionCode() == ModbusSlaveErrorResponseException.ILLEGAL_DATA_ACCESS) {
+            rejectedBySlave = true;
+            return;
+        }
+        for (PollTask member : members) {
+            try {
+                member.getFailureCallback().handle(new AsyncModbusFailure<>(member.getRequest(), failure.getCause()));
+            } catch (RuntimeException e) {
+                logger.warn("Failure callback of poll task {} failed unexpectedly", member, e);
+            }
+        }
+    }
+
+    private static ModbusRegisterArray slice(ModbusRegisterArray registers, int offset, int length) {
+        return new ModbusRegisterArray(Arrays.copyOfRange(registers.getBytes(), offset * 2, (offset + length) * 2));
+    }
+
+    private static BitArray slice(BitArray bits, int offset, int length) {
+        BitArray slice = new BitArray(length);
+        for (int i = 0; i < length; i++) {
+            slice.setBit(i, bits.getBit(offset + i));
+        }
+        return slice;
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescedPollTask [endpoint=" + endpoint + ", request=" + request + ", members=" + members.size()
+                + "]";
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.ModbusEndpointStatistics;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the operations of each endpoint one after another, using at most one thread of the executor per endpoint.
+ *
+ * Since only one transaction can be ongoing per endpoint, operations of the same endpoint would otherwise block the
+ * threads of the executor while waiting for the connection. This way a slow endpoint (e.g. a serial slave) cannot
+ * starve the other endpoints. Endpoints allowing several transactions in flight (pipelining) get as many threads as
+ * transactions allowed.
+ *
+ * One-off operations are executed before regular polls. Regular polls are executed in the order they became due. A
+ * regular poll that is due while its previous execution is still waiting in the queue is skipped, so that overdue
+ * polls do not pile up.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusEndpointScheduler {
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusEndpointScheduler.class);
+
+    private final Executor executor;
+    private final ToIntFunction<ModbusSlaveEndpoint> maxConcurrentOperations;
+    private final Map<ModbusSlaveEndpoint, EndpointQueue> queues = new ConcurrentHashMap<>();
+
+    public ModbusEndpointScheduler(Executor executor) {
+        this(executor, endpoint -> 1);
+    }
+
+    /**
+     * @param executor executor for the operations
+     * @param maxConcurrentOperations maximum number of operations executed at the same time per endpoint
+     */
+    public ModbusEndpointScheduler(Executor executor, ToIntFunction<ModbusSlaveEndpoint> maxConcurrentOperations) {
+        this.executor = executor;
+        this.maxConcurrentOperations = maxConcurrentOperations;
+    }
+
+    /**
+     * Queue a one-off operation
+     *
+     * @param endpoint endpoint the operation communicates with
+     * @param operation the operation
+     * @return future of the operation, can be used to cancel it
+     */
+    public Future<?> submit(ModbusSlaveEndpoint endpoint, Runnable operation) {
+        FutureTask<?> task = new FutureTask<>(operation, null);
+        while (true) {
+            EndpointQueue queue = Objects.requireNonNull(queues.computeIfAbsent(endpoint, this::createQueue));
+            synchronized (queue) {
+                if (queue.removed) {
+                    continue;
+                }
+                queue.oneOffTasks.add(task);
+                if (!startRunner(queue)) {
+                    return task;
+                }
+            }
+            execute(queue);
+            return task;
+        }
+    }
+
+    /**
+     * Queue a regular poll, unless its previous execution is still waiting in the queue.
+     *
+     * @param endpoint endpoint the poll communicates with
+     * @param key key identifying the regular poll
+     * @param dueMillis time the poll is due in milliseconds since epoch, used to calculate the lateness of the poll
+     * @param poll the poll
+     * @return false if the poll was skipped
+     */
+    public boolean submitRegularPoll(ModbusSlaveEndpoint endpoint, Object key, long dueMillis, Runnable poll) {
+        while (true) {
+            EndpointQueue queue = Objects.requireNonNull(queues.computeIfAbsent(endpoint, this::createQueue));
+            synchronized (queue) {
+                if (queue.removed) {
+                    continue;
+                }
+                if (queue.regularPolls.containsKey(key)) {
+                    queue.statistics.skippedPolls.incrementAndGet();
+                    return false;
+                }
+                queue.regularPolls.put(key, new QueuedPoll(dueMillis, poll));
+                if (!startRunner(queue)) {
+                    return true;
+                }
+            }
+            execute(queue);
+            return true;
+        }
+    }
+
+    /**
+     * Remove a regular poll from the queue, in case it is waiting for execution
+     *
+     * @param endpoint endpoint the poll communicates with
+     * @param key key identifying the regular poll
+     */
+    public void cancelRegularPoll(ModbusSlaveEndpoint endpoint, Object key) {
+        EndpointQueue queue = queues.get(endpoint);
+        if (queue != null) {
+            synchronized (queue) {
+                queue.regularPolls.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Forget an endpoint, including its statistics, if it has no operations queued or running
+     *
+     * @param endpoint the endpoint
+     */
+    public void removeEndpoint(ModbusSlaveEndpoint endpoint) {
+        queues.computeIfPresent(endpoint, (e, queue) -> {
+            synchronized (queue) {
+                if (queue.running > 0 || !queue.oneOffTasks.isEmpty() || !queue.regularPolls.isEmpty()) {
+                    return queue;
+                }
+                queue.removed = true;
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Cancel all queued operations
+     */
+    public void clear() {
+        queues.values().forEach(queue -> {
+            synchronized (queue) {
+                queue.oneOffTasks.forEach(task -> task.cancel(false));
+                queue.oneOffTasks.clear();
+                queue.regularPolls.clear();
+            }
+        });
+    }
+
+    /**
+     * Get the statistics used for recording the operations of an endpoint
+     *
+     * @param endpoint the endpoint
+     * @return statistics of the endpoint, or <code>null</code> if the endpoint is not known (anymore)
+     */
+    public @Nullable EndpointStatistics getStatistics(ModbusSlaveEndpoint endpoint) {
+        EndpointQueue queue = queues.get(endpoint);
+        return queue == null ? null : queue.statistics;
+    }
+
+    /**
+     * Get the statistics of all known endpoints
+     *
+     * @return statistics by endpoint
+     */
+    public Map<ModbusSlaveEndpoint, ModbusEndpointStatistics> getStatistics() {
+        Map<ModbusSlaveEndpoint, ModbusEndpointStatistics> statistics = new HashMap<>();
+        queues.forEach((endpoint, queue) -> statistics.put(endpoint, queue.statistics));
+        return statistics;
+    }
+
+    private EndpointQueue createQueue(ModbusSlaveEndpoint endpoint) {
+        return new EndpointQueue(endpoint, Math.max(1, maxConcurrentOperations.applyAsInt(endpoint)));
+    }
+
+    /**
+     * Must be called with the lock of the queue held
+     *
+     * @return true if the caller must start another runner executing the queue
+     */
+    private boolean startRunner(EndpointQueue queue) {
+        if (queue.running >= queue.maxRunning) {
+            return false;
+        }
+        queue.running++;
+        return true;
+    }
+
+    private void execute(EndpointQueue queue) {
+        try {
+            executor.execute(() -> runNext(queue));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Executor rejected the operations of endpoint {}, dropping them: {}", queue.endpoint,
+                    e.getMessage());
+            synchronized (queue) {
+                queue.oneOffTasks.forEach(task -> task.cancel(false));
+                queue.oneOffTasks.clear();
+                queue.regularPolls.clear();
+                queue.running--;
+            }
+        }
+    }
+
+    private void runNext(EndpointQueue queue) {
+        Runnable operation;
+        long lateness = -1;
+        synchronized (queue) {
+            Iterator<FutureTask<?>> oneOffTasks = queue.oneOffTasks.iterator();
+            if (oneOffTasks.hasNext()) {
+                operation = oneOffTasks.next();
+                oneOffTasks.remove();
+            } else {
+                Iterator<QueuedPoll> iterator = queue.regularPolls.values().iterator();
+                if (!iterator.hasNext()) {
+                    queue.running--;
+                    return;
+                }
+                QueuedPoll poll = iterator.next();
+                iterator.remove();
+                operation = poll.poll();
+                lateness = Math.max(0, System.currentTimeMillis() - poll.dueMillis());
+            }
+        }
+
+        if (lateness >= 0) {
+            queue.statistics.polls.incrementAndGet();
+            queue.statistics.totalPollLatenessMillis.addAndGet(lateness);
+        }
+        try {
+            operation.run();
+        } catch (RuntimeException e) {
+            logger.warn("Operation of endpoint {} failed unexpectedly", queue.endpoint, e);
+        } finally {
+            // clear a possible interrupt caused by cancelling a one-off task, it must not affect the next operation
+            Thread.interrupted();
+        }
+        // resubmit instead of looping, so that other endpoints get their turn on a bounded executor
+        execute(queue);
+    }
+
+    private record QueuedPoll(long dueMillis, Runnable poll) {
+    }
+
+    private static class EndpointQueue {
+        private final ModbusSlaveEndpoint endpoint;
+        private final Deque<FutureTask<?>> oneOffTasks = new ArrayDeque<>();
+        private final Map<Object, QueuedPoll> regularPolls = new LinkedHashMap<>();
+        private final EndpointStatistics statistics;
+        private final int maxRunning;
+        private int running;
+        private boolean removed;
+
+        private EndpointQueue(ModbusSlaveEndpoint endpoint, int maxRunning) {
+            this.endpoint = endpoint;
+            this.maxRunning = maxRunning;
+            this.statistics = new EndpointStatistics(this::size);
+        }
+
+        private synchronized int size() {
+            return oneOffTasks.size() + regularPolls.size();
+        }
+    }
+
+    /**
+     * Statistics of one endpoint
+     *
+     * @author Andrew Fiddian-Green - Initial contribution
+     */
+    public static class EndpointStatistics implements ModbusEndpointStatistics {
+        private final IntSupplier queueSize;
+        private final AtomicLong polls = new AtomicLong();
+        private final AtomicLong totalPollLatenessMillis = new AtomicLong();
+        private final AtomicLong skippedPolls = new AtomicLong();
+        private final AtomicLong operations = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong transactions = new AtomicLong();
+        private final AtomicLong totalTransactionTimeMillis = new AtomicLong();
+
+        private EndpointStatistics(IntSupplier queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        /**
+         * Record an executed operation
+         *
+         * @param transactionTimeMillis time spent communicating with the slave, negative if there was no
+         *            communication (e.g. connection could not be established)
+         * @param failed whether the operation failed
+         */
+        public void recordOperation(long transactionTimeMillis, boolean failed) {
+            operations.incrementAndGet();
+            if (failed) {
+                errors.incrementAndGet();
+            }
+            if (transactionTimeMillis >= 0) {
+                transactions.incrementAndGet();
+                totalTransactionTimeMillis.addAndGet(transactionTimeMillis);
+            }
+        }
+
+        @Override
+        public int getQueueSize() {
+            return queueSize.getAsInt();
+        }
+
+        @Override
+        public long getPollCount() {
+            return polls.get();
+        }
+
+        @Override
+        public long getTotalPollLatenessMillis() {
+            return totalPollLatenessMillis.get();
+        }
+
+        @Override
+        public long getSkippedPollCount() {
+            return skippedPolls.get();
+        }
+
+        @Override
+        public long getOperationCount() {
+            return operations.get();
+        }
+
+        @Override
+        public long getErrorCount() {
+            return errors.get();
+        }
+
+        @Override
+        public long getTransactionCount() {
+            return transactions.get();
+        }
+
+        @Override
+        public long getTotalTransactionTimeMillis() {
+            return totalTransactionTimeMillis.get();
+        }
+
+        @Override
+        public String toString() {
+            return "EndpointStatistics [queueSize=" + getQueueSize() + ", polls=" + polls + ", totalPollLatenessMillis="
+                    + totalPollLatenessMillis + ", skippedPolls=" + skippedPolls + ", operations=" + operations
+                    + ", errors=" + errors + ", transactions=" + transactions + ", totalTransactionTimeMillis="
+                    + totalTransactionTimeMillis + "]";
+        }
+    }
+}
@@ -13,7 +13,10 @@
 package org.openhab.core.io.transport.modbus.internal;
 
 import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -37,8 +40,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
 import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusEndpointStatistics;
 import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.ModbusReadCallback;
@@ -59,6 +64,9 @@ import org.openhab.core.io.transport.modbus.exception.ModbusConnectionException;
 import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseFunctionCodeException;
 import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseSizeException;
 import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedTransactionIdException;
+import org.openhab.core.io.transport.modbus.internal.ModbusEndpointScheduler.EndpointStatistics;
+import org.openhab.core.io.transport.modbus.internal.pipelining.ModbusPduCodec;
+import org.openhab.core.io.transport.modbus.internal.pipelining.ModbusPipelinedTCPConnection;
 import org.openhab.core.io.transport.modbus.internal.pooling.ModbusSlaveConnectionFactoryImpl;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -83,6 +91,7 @@ import net.wimpi.modbus.net.ModbusSlaveConnection;
  * capability to handle many connections at the same time
  *
  * @author Sami Salonen - Initial contribution
+ * @author Andrew Fiddian-Green - Poll coalescing, per endpoint scheduling and statistics, pipelined transactions
  */
 @Component(service = ModbusManager.class, configurationPid = "transport.modbus")
 @NonNullByDefault
@@ -96,7 +105,6 @@ public class ModbusManagerImpl implements ModbusManager {
         private static final long serialVersionUID = 6939730579178506885L;
     }
 
-    @FunctionalInterface
     private interface ModbusOperation<T> {
 
         /**
@@ -120,6 +128,27 @@ public class ModbusManagerImpl implements ModbusManager {
         void accept(AggregateStopWatch timer, T task, ModbusSlaveConnection connection)
                 throws ModbusException, IIOException, ModbusUnexpectedTransactionIdException,
                 ModbusUnexpectedResponseFunctionCodeException, ModbusUnexpectedResponseSizeException;
+
+        /**
+         * Execute the operation as one transaction of a pipelined connection.
+         *
+         * All errors should be raised. There should not be any retry mechanism implemented at this level
+         *
+         * @param timer aggregate stop watch for performance profiling
+         * @param task task to execute
+         * @param connection pipelined connection to use
+         * @param timeoutMillis time to wait for the response
+         *
+         * @throws IOException on I/O errors, {@link SocketTimeoutException} if the response was not received in time
+         * @throws InterruptedException when interrupted while waiting for the response
+         * @throws ModbusSlaveErrorResponseExceptionImpl on slave exception responses
+         * @throws ModbusUnexpectedResponseFunctionCodeException when response function code does not match the request
+         *             (ill-behaving slave)
+         * @throws ModbusUnexpectedResponseSizeException when data length of the response and request do not match
+         */
+        void accept(AggregateStopWatch timer, T task, ModbusPipelinedTCPConnection connection, long timeoutMillis)
+                throws IOException, InterruptedException, ModbusSlaveErrorResponseExceptionImpl,
+                ModbusUnexpectedResponseFunctionCodeException, ModbusUnexpectedResponseSizeException;
     }
 
     /**
@@ -215,6 +244,23 @@ public class ModbusManagerImpl implements ModbusManager {
             timer.callback
                     .timeRunnable(() -> ModbusLibraryWrapper.invokeCallbackWithResponse(request, callback, response));
         }
+
+        @Override
+        public void accept(AggregateStopWatch timer, PollTask task, ModbusPipelinedTCPConnection connection,
+                long timeoutMillis) throws IOException, InterruptedException, ModbusSlaveErrorResponseExceptionImpl,
+                ModbusUnexpectedResponseFunctionCodeException, ModbusUnexpectedResponseSizeException {
+            ModbusReadRequestBlueprint request = task.getRequest();
+            ModbusReadCallback callback = task.getResultCallback();
+            String operationId = timer.operationId;
+
+            logger.trace("Going execute pipelined transaction with read request (FC={}): {} [operation ID {}]",
+                    request.getFunctionCode(), request, operationId);
+            byte[] response = executePipelinedTransaction(timer, connection, request.getUnitID(),
+                    ModbusPduCodec.encode(request), timeoutMillis);
+            AsyncModbusReadResult result = ModbusPduCodec.decodeReadResponse(request, response);
+            logger.trace("Response for pipelined read request: {} [operation ID {}]", result, operationId);
+            timer.callback.timeRunnable(() -> invokeCallbackWithResponse(request, callback, result));
+        }
     }
 
     /**
@@ -252,6 +298,36 @@ public class ModbusManagerImpl implements ModbusManager {
             timer.callback.timeRunnable(
                     () -> invokeCallbackWithResponse(request, callback, new ModbusResponseImpl(response)));
         }
+
+        @Override
+        public void accept(AggregateStopWatch timer, WriteTask task, ModbusPipelinedTCPConnection connection,
+                long timeoutMillis) throws IOException, InterruptedException, ModbusSlaveErrorResponseExceptionImpl,
+                ModbusUnexpectedResponseFunctionCodeException {
+            ModbusWriteRequestBlueprint request = task.getRequest();
+            @Nullable
+            ModbusWriteCallback callback = task.getResultCallback();
+            String operationId = timer.operationId;
+            int functionCode = request.getFunctionCode().getFunctionCode();
+
+            logger.trace("Going execute pipelined transaction with write request (FC={}): {} [operation ID {}]",
+                    request.getFunctionCode(), request, operationId);
+            byte[] response = executePipelinedTransaction(timer, connection, request.getUnitID(),
+                    ModbusPduCodec.encode(request), timeoutMillis);
+            ModbusPduCodec.checkResponse(functionCode, response);
+            logger.trace("Response for pipelined write request (FC={}) [operation ID {}]", functionCode, operationId);
+            timer.callback.timeRunnable(
+                    () -> invokeCallbackWithResponse(request, callback, new ModbusResponseImpl(functionCode)));
+        }
+    }
+
+    private byte[] executePipelinedTransaction(AggregateStopWatch timer, ModbusPipelinedTCPConnection connection,
+            int unitId, byte[] request, long timeoutMillis) throws IOException, InterruptedException {
+        timer.transaction.resume();
+        try {
+            return connection.execute(unitId, request, timeoutMillis);
+        } finally {
+            timer.transaction.suspend();
+        }
     }
 
     private final Logger logger = LoggerFactory.getLogger(ModbusManagerImpl.class);
@@ -284,6 +360,12 @@ public class ModbusManagerImpl implements ModbusManager {
      */
     private static final String MODBUS_POLLER_THREAD_POOL_NAME = "modbusManagerPollerThreadPool";
 
+    /**
+     * Thread naming for the timeouts of pipelined transactions. The poller threads wait for the responses, so they
+     * cannot run the timeouts
+     */
+    private static final String MODBUS_TRANSACTION_TIMEOUT_THREAD_POOL_NAME = "modbusTransactionTimeout";
+
     /**
      * The slave exception code indicating that the device is currently busy processing another
      * command.
@@ -337,6 +419,27 @@ public class ModbusManagerImpl implements ModbusManager {
                 }
             });
 
+    private record PollGroupKey(ModbusSlaveEndpoint endpoint, long pollPeriodMillis) {
+    }
+
+    /**
+     * Regular polls of one endpoint having the same poll period. The polls are executed by one scheduled job, using
+     * as few requests as possible.
+     *
+     * Guarded by the lock of the manager.
+     */
+    private static class PollGroup {
+        private final PollGroupKey key;
+        private final Set<PollTask> members = new LinkedHashSet<>();
+        private List<CoalescedPollTask> tasks = List.of();
+        private boolean coalescingEnabled = true;
+        private @Nullable ScheduledFuture<?> future;
+
+        private PollGroup(PollGroupKey key) {
+            this.key = key;
+        }
+    }
+
     private final PollOperation pollOperation = new PollOperation();
     private final WriteOperation writeOperation = new WriteOperation();
 
@@ -355,10 +458,24 @@ public class ModbusManagerImpl implements ModbusManager {
     private volatile @Nullable KeyedObjectPool<ModbusSlaveEndpoint, @Nullable ModbusSlaveConnection> connectionPool;
     private volatile @Nullable ModbusSlaveConnectionFactoryImpl connectionFactory;
     private volatile Map<PollTask, ScheduledFuture<?>> scheduledPollTasks = new ConcurrentHashMap<>();
+    /**
+     * Regular polls that are coalesced, and the group they are polled with. The {@link CoalescedPollTask}s actually
+     * executed are registered in {@link #scheduledPollTasks}.
+     */
+    private volatile Map<PollTask, PollGroup> coalescedPollTasks = new ConcurrentHashMap<>();
+    private volatile Map<PollGroupKey, PollGroup> pollGroups = new ConcurrentHashMap<>();
     /**
      * Executor for requests
      */
     private volatile @Nullable ScheduledExecutorService scheduledThreadPoolExecutor;
+    /**
+     * Queues the operations per endpoint, executed using {@link #scheduledThreadPoolExecutor}
+     */
+    private volatile @Nullable ModbusEndpointScheduler endpointScheduler;
+    /**
+     * Connections of the endpoints with pipelining enabled, these are not pooled
+     */
+    private final Map<ModbusSlaveEndpoint, ModbusPipelinedTCPConnection> pipelinedConnections = new ConcurrentHashMap<>();
     private volatile @Nullable ScheduledFuture<?> monitorFuture;
     private volatile Set<ModbusCommunicationInterfaceImpl> communicationInterfaces = ConcurrentHashMap.newKeySet();
 
@@ -501,6 +618,18 @@ public class ModbusManagerImpl implements ModbusManager {
         }
     }
 
+    private void invokeCallbackWithResponse(ModbusReadRequestBlueprint request, ModbusReadCallback callback,
+            AsyncModbusReadResult result) {
+        try {
+            logger.trace("Calling read response callback {} for request {}. Response was {}", callback, request,
+                    result);
+            callback.handle(result);
+        } finally {
+            logger.trace("Called read response callback {} for request {}. Response was {}", callback, request,
+                    result);
+        }
+    }
+
     private void invokeCallbackWithResponse(ModbusWriteRequestBlueprint request, ModbusWriteCallback callback,
             org.openhab.core.io.transport.modbus.ModbusResponse response) {
         try {
@@ -560,7 +689,14 @@ public class ModbusManagerImpl implements ModbusManager {
             throw new IllegalArgumentException("maxTries should be positive");
         }
 
+        if (isPipelined(endpoint)) {
+            executePipelinedOperation(timer, task, oneOffTask, operation);
+            return;
+        }
+
         Optional<ModbusSlaveConnection> connection = Optional.empty();
+        boolean connectionFailed = false;
+        boolean aborted = false;
         try {
             logger.trace("Starting new operation with task {}. Trying to get connection [operation ID {}]", task,
                     operationId);
@@ -571,12 +707,14 @@ public class ModbusManagerImpl implements ModbusManager {
                 // Could not acquire connection, time to abort
                 // Error logged already, error callback called as well
                 logger.trace("Initial connection was not successful, aborting. [operation ID {}]", operationId);
+                connectionFailed = true;
                 return;
             }
 
             if (scheduledThreadPoolExecutor == null) {
                 logger.debug("Manager has been shut down, aborting proecssing request {} [operation ID {}]", request,
                         operationId);
+                aborted = true;
                 return;
             }
 
@@ -740,10 +878,12 @@ public class ModbusManagerImpl implements ModbusManager {
         } catch (PollTaskUnregistered e) {
             logger.warn("Poll task was unregistered -- not executing/proceeding with the poll: {} [operation ID {}]",
                     e.getMessage(), operationId);
+            aborted = true;
             return;
         } catch (InterruptedException e) {
             logger.warn("Poll task was canceled -- not executing/proceeding with the poll: {} [operation ID {}]",
                     e.getMessage(), operationId);
+            aborted = true;
             if (endpoint instanceof ModbusSerialSlaveEndpoint) {
                 // Workaround for https://github.com/openhab/openhab-core/issues/1842
                 // Avoid disconnect/re-connect serial interfaces
@@ -758,9 +898,316 @@ public class ModbusManagerImpl implements ModbusManager {
             logger.trace("Connection was returned to the pool, ending operation [operation ID {}]", operationId);
             timer.suspendAllRunning();
             logger.debug("Modbus operation ended, timing info: {} [operation ID {}]", timer, operationId);
+            ModbusEndpointScheduler endpointScheduler = this.endpointScheduler;
+            EndpointStatistics statistics = endpointScheduler == null ? null
+                    : endpointScheduler.getStatistics(endpoint);
+            if (statistics != null && !aborted) {
+                statistics.recordOperation(connectionFailed ? -1 : timer.transaction.getTotalTimeMillis(),
+                        connectionFailed || lastError.get() != null);
+            }
         }
     }
 
+    /**
+     * Execute operation using a pipelined connection, with a retry mechanism.
+     *
+     * Other operations with the same endpoint might be executed at the same time. Timed out transactions do not reset
+     * the connection, since the other transactions in flight are not affected by them.
+     *
+     * @param timer aggregate stop watch for performance profiling
+     * @param task task to execute
+     * @param oneOffTask whether the task is a one-off task
+     * @param operation the operation
+     */
+    private <R, C extends ModbusResultCallback, F extends ModbusFailureCallback<R>, T extends TaskWithEndpoint<R, C, F>> void executePipelinedOperation(
+            AggregateStopWatch timer, T task, boolean oneOffTask, ModbusOperation<T> operation) {
+        String operationId = timer.operationId;
+        R request = task.getRequest();
+        ModbusSlaveEndpoint endpoint = task.getEndpoint();
+        F failureCallback = task.getFailureCallback();
+        int maxTries = task.getMaxTries();
+        EndpointPoolConfiguration configuration = getEndpointPoolConfiguration(endpoint);
+        @Nullable
+        Exception lastError = null;
+        boolean connectionFailed = false;
+        boolean aborted = false;
+        try {
+            @Nullable
+            Long lastTryMillis = null;
+            for (int tryIndex = 1; tryIndex <= maxTries; tryIndex++) {
+                logger.trace("Try {} out of {} (pipelined) [operation ID {}]", tryIndex, maxTries, operationId);
+                if (Thread.interrupted()) {
+                    logger.warn("Thread interrupted. Aborting operation [operation ID {}]", operationId);
+                    aborted = true;
+                    return;
+                }
+                // Check poll task is still registered (this is all asynchronous)
+                if (!oneOffTask && task instanceof PollTask pollTask) {
+                    verifyTaskIsRegistered(pollTask);
+                }
+                // Only the retries are delayed, other transactions are in flight at the same time anyway
+                ModbusSlaveConnectionFactoryImpl.waitAtleast(lastTryMillis,
+                        configuration.getInterTransactionDelayMillis());
+
+                Optional<ModbusPipelinedTCPConnection> connection = timer.connection
+                        .timeSupplier(() -> getPipelinedConnection(endpoint, configuration, operationId));
+                if (connection.isEmpty()) {
+                    // Error logged already
+                    connectionFailed = tryIndex == 1;
+                    lastError = new ModbusConnectionException(endpoint);
+                    break;
+                }
+                boolean willRetry = tryIndex < maxTries;
+                try {
+                    operation.accept(timer, task, connection.get(), configuration.getTransactionTimeoutMillis());
+                    lastError = null;
+                    break;
+                } catch (SocketTimeoutException e) {
+                    lastError = new ModbusSlaveIOExceptionImpl(e);
+                    logPipelinedTryFailure(tryIndex, maxTries, willRetry, request, e, operationId);
+                } catch (IOException e) {
+                    lastError = new ModbusSlaveIOExceptionImpl(e);
+                    logPipelinedTryFailure(tryIndex, maxTries, willRetry, request, e, operationId);
+                    // reconnect before the next try, failing the other transactions in flight as well
+                    connection.get().disconnect();
+                } catch (ModbusSlaveErrorResponseExceptionImpl e) {
+                    lastError = e;
+                    if (willRetry && e.getExceptionCode() == MODBUS_EXCEPTION_SLAVE_DEVICE_BUSY) {
+                        logger.debug(
+                                "Try {} out of {} failed when executing request ({}). The slave device is busy (exception code {}). Will try again soon. [operation ID {}]",
+                                tryIndex, maxTries, request, e.getExceptionCode(), operationId);
+                    } else {
+                        logPipelinedTryFailure(tryIndex, maxTries, willRetry, request, e, operationId);
+                    }
+                } catch (ModbusUnexpectedResponseFunctionCodeException | ModbusUnexpectedResponseSizeException e) {
+                    lastError = e;
+                    logPipelinedTryFailure(tryIndex, maxTries, willRetry, request, e, operationId);
+                } finally {
+                    lastTryMillis = System.currentTimeMillis();
+                }
+            }
+            Exception exception = lastError;
+            if (exception != null) {
+                // All retries failed with some error
+                timer.callback.timeRunnable(() -> invokeCallbackWithError(request, failureCallback, exception));
+            }
+        } catch (PollTaskUnregistered e) {
+            logger.warn("Poll task was unregistered -- not executing/proceeding with the poll: {} [operation ID {}]",
+                    e.getMessage(), operationId);
+            aborted = true;
+        } catch (InterruptedException e) {
+            logger.warn("Poll task was canceled -- not executing/proceeding with the poll: {} [operation ID {}]",
+                    e.getMessage(), operationId);
+            aborted = true;
+        } finally {
+            timer.suspendAllRunning();
+            logger.debug("Pipelined Modbus operation ended, timing info: {} [operation ID {}]", timer, operationId);
+            ModbusEndpointScheduler endpointScheduler = this.endpointScheduler;
+            EndpointStatistics statistics = endpointScheduler == null ? null
+                    : endpointScheduler.getStatistics(endpoint);
+            if (statistics != null && !aborted) {
+                statistics.recordOperation(connectionFailed ? -1 : timer.transaction.getTotalTimeMillis(),
+                        lastError != null);
+            }
+        }
+    }
+
+    private <R> void logPipelinedTryFailure(int tryIndex, int maxTries, boolean willRetry, R request, Exception error,
+            String operationId) {
+        if (willRetry) {
+            logger.warn(
+                    "Try {} out of {} failed when executing request ({}). Will try again soon. Error details: {} {} [operation ID {}]",
+                    tryIndex, maxTries, request, error.getClass().getName(), error.getMessage(), operationId);
+        } else {
+            logger.error("Last try {} failed when executing request ({}). Aborting. Error details: {} {} [operation ID {}]",
+                    tryIndex, request, error.getClass().getName(), error.getMessage(), operationId);
+        }
+    }
+
+    /**
+     * Whether operations with the endpoint use a pipelined connection
+     */
+    private boolean isPipelined(ModbusSlaveEndpoint endpoint) {
+        ModbusSlaveConnectionFactoryImpl connectionFactory = this.connectionFactory;
+        return connectionFactory != null && endpoint instanceof ModbusTCPSlaveEndpoint tcpEndpoint
+                && !tcpEndpoint.getRtuEncoded()
+                && connectionFactory.getEndpointPoolConfiguration(endpoint).getPipelineDepth() > 1;
+    }
+
+    private Optional<ModbusPipelinedTCPConnection> getPipelinedConnection(ModbusSlaveEndpoint endpoint,
+            EndpointPoolConfiguration configuration, String operationId) {
+        ScheduledExecutorService scheduledThreadPoolExecutor = this.scheduledThreadPoolExecutor;
+        if (scheduledThreadPoolExecutor == null || !(endpoint instanceof ModbusTCPSlaveEndpoint tcpEndpoint)) {
+            // manager deactivated
+            return Optional.empty();
+        }
+        ModbusPipelinedTCPConnection connection = pipelinedConnections.computeIfAbsent(tcpEndpoint,
+                e -> new ModbusPipelinedTCPConnection(tcpEndpoint.getAddress(), tcpEndpoint.getPort(),
+                        configuration.getConnectTimeoutMillis(), configuration.getPipelineDepth(),
+                        ThreadPoolManager.getScheduledPool(MODBUS_TRANSACTION_TIMEOUT_THREAD_POOL_NAME)));
+        int connectTry = 0;
+        while (true) {
+            try {
+                connection.connect();
+                return Optional.of(connection);
+            } catch (IOException e) {
+                connectTry++;
+                if (connectTry >= configuration.getConnectMaxTries()) {
+                    logger.warn("Could not connect to endpoint {} -- aborting request: {} {} [operation ID {}]",
+                            endpoint, e.getClass().getName(), e.getMessage(), operationId);
+                    return Optional.empty();
+                }
+                logger.debug("Connecting to endpoint {} failed (try {}), trying again: {} [operation ID {}]",
+                        endpoint, connectTry, e.getMessage(), operationId);
+                try {
+                    Thread.sleep(configuration.getInterConnectDelayMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return Optional.empty();
+                }
+            }
+        }
+    }
+
+    private void closePipelinedConnection(ModbusSlaveEndpoint endpoint) {
+        ModbusPipelinedTCPConnection connection = pipelinedConnections.remove(endpoint);
+        if (connection != null) {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Queue a regular poll for execution, unless its previous execution is still waiting in the queue
+     */
+    private void submitRegularPoll(ModbusSlaveEndpoint endpoint, Object key, long pollPeriodMillis, Runnable poll) {
+        ModbusEndpointScheduler endpointScheduler = this.endpointScheduler;
+        if (endpointScheduler == null) {
+            // manager deactivated
+            return;
+        }
+        if (!endpointScheduler.submitRegularPoll(endpoint, key, System.currentTimeMillis(), poll)) {
+            logger.debug(
+                    "Skipping scheduled ({}ms) poll {}, since the previous poll is still waiting for execution. Endpoint {} is too slow for the poll period.",
+                    pollPeriodMillis, key, endpoint);
+        }
+    }
+
+    private void executeScheduledPoll(PollTask task, long pollPeriodMillis) {
+        long started = System.currentTimeMillis();
+        logger.debug("Executing scheduled ({}ms) poll task {}. Current millis: {}", pollPeriodMillis, task, started);
+        try {
+            executeOperation(task, false, pollOperation);
+        } catch (RuntimeException e) {
+            // We want to catch all unexpected exceptions since all unhandled exceptions make
+            // ScheduledExecutorService halt the polling. It is better to print out the exception, and try
+            // again
+            // (on next poll cycle)
+            logger.warn(
+                    "Execution of scheduled ({}ms) poll task {} failed unexpectedly. Ignoring exception, polling again according to poll interval.",
+                    pollPeriodMillis, task, e);
+        }
+        long finished = System.currentTimeMillis();
+        logger.debug(
+                "Execution of scheduled ({}ms) poll task {} finished at {}. Was started at millis: {} (=duration of {} millis)",
+                pollPeriodMillis, task, finished, started, finished - started);
+    }
+
+    private void executeScheduledPolls(PollGroup group) {
+        List<CoalescedPollTask> tasks;
+        synchronized (this) {
+            tasks = group.tasks;
+        }
+        long pollPeriodMillis = group.key.pollPeriodMillis();
+        for (CoalescedPollTask task : tasks) {
+            executeScheduledPoll(task, pollPeriodMillis);
+            if (task.isRejectedBySlave()) {
+                logger.info(
+                        "Slave rejected coalesced request {} with illegal data access. Polling the regular polls of endpoint {} separately from now on.",
+                        task.getRequest(), group.key.endpoint());
+                List<CoalescedPollTask> separateTasks;
+                synchronized (this) {
+                    group.coalescingEnabled = false;
+                    updateCoalescedPollTasks(group);
+                    separateTasks = group.tasks.stream()
+                            .filter(separateTask -> task.getMembers().containsAll(separateTask.getMembers())).toList();
+                }
+                separateTasks.forEach(separateTask -> executeScheduledPoll(separateTask, pollPeriodMillis));
+            }
+        }
+    }
+
+    /**
+     * Register a regular poll to be polled together with the other regular polls of the same endpoint and period.
+     *
+     * Must be called with the lock of the manager held.
+     */
+    private void registerCoalescedPoll(PollTask task, long pollPeriodMillis, long initialDelayMillis,
+            ScheduledExecutorService executor) {
+        PollGroupKey key = new PollGroupKey(task.getEndpoint(), pollPeriodMillis);
+        PollGroup group = pollGroups.get(key);
+        if (group == null) {
+            PollGroup newGroup = new PollGroup(key);
+            newGroup.future = executor.scheduleWithFixedDelay(() -> submitRegularPoll(key.endpoint(), newGroup,
+                    pollPeriodMillis, () -> executeScheduledPolls(newGroup)), initialDelayMillis, pollPeriodMillis,
+                    TimeUnit.MILLISECONDS);
+            pollGroups.put(key, newGroup);
+            group = newGroup;
+        }
+        group.members.add(task);
+        coalescedPollTasks.put(task, group);
+        updateCoalescedPollTasks(group);
+    }
+
+    /**
+     * Unregister a regular poll registered with {@link #registerCoalescedPoll}.
+     *
+     * Must be called with the lock of the manager held.
+     *
+     * @return false if the poll task is not coalesced
+     */
+    private boolean unregisterCoalescedPoll(PollTask task) {
+        PollGroup group = coalescedPollTasks.remove(task);
+        if (group == null) {
+            return false;
+        }
+        group.members.remove(task);
+        if (group.members.isEmpty()) {
+            pollGroups.remove(group.key);
+            ScheduledFuture<?> future = group.future;
+            if (future != null) {
+                future.cancel(true);
+            }
+            ModbusEndpointScheduler endpointScheduler = this.endpointScheduler;
+            if (endpointScheduler != null) {
+                endpointScheduler.cancelRegularPoll(group.key.endpoint(), group);
+            }
+        }
+        updateCoalescedPollTasks(group);
+        return true;
+    }
+
+    /**
+     * Re-calculate the coalesced requests of a poll group after its members have changed.
+     *
+     * Must be called with the lock of the manager held.
+     */
+    private void updateCoalescedPollTasks(PollGroup group) {
+        group.tasks.forEach(scheduledPollTasks::remove);
+        ScheduledFuture<?> future = group.future;
+        if (group.members.isEmpty() || future == null) {
+            group.tasks = List.of();
+            return;
+        }
+        ModbusSlaveEndpoint endpoint = group.key.endpoint();
+        EndpointPoolConfiguration configuration = getEndpointPoolConfiguration(endpoint);
+        int maxGap = group.coalescingEnabled ? configuration.getReadCoalescingMaxGap() : -1;
+        group.tasks = ModbusReadCoalescer.coalesce(endpoint, group.members, maxGap,
+                configuration.getReadCoalescingMaxPduSize());
+        group.tasks.forEach(task -> scheduledPollTasks.put(task, future));
+        logger.debug("Polling {} regular polls of endpoint {} with period {} ms using {} requests",
+                group.members.size(), endpoint, group.key.pollPeriodMillis(), group.tasks.size());
+    }
+
     private class ModbusCommunicationInterfaceImpl implements ModbusCommunicationInterface {
 
         private volatile ModbusSlaveEndpoint endpoint;
@@ -782,14 +1229,14 @@ public class ModbusManagerImpl implements ModbusManager {
             if (closed) {
                 throw new IllegalStateException("Communication interface is closed already!");
             }
-            ScheduledExecutorService executor = scheduledThreadPoolExecutor;
-            Objects.requireNonNull(executor, "Not activated!");
+            ModbusEndpointScheduler scheduler = endpointScheduler;
+            Objects.requireNonNull(scheduler, "Not activated!");
             long scheduleTime = System.currentTimeMillis();
             BasicPollTask task = new BasicPollTask(endpoint, request, resultCallback, failureCallback);
             logger.debug("Scheduling one-off poll task {}", task);
-            return executor.submit(() -> {
+            return scheduler.submit(endpoint, () -> {
                 long millisInThreadPoolWaiting = System.currentTimeMillis() - scheduleTime;
-                logger.debug("Will now execute one-off poll task {}, waited in thread pool for {}", task,
+                logger.debug("Will now execute one-off poll task {}, waited in endpoint queue for {}", task,
                         millisInThreadPoolWaiting);
                 executeOperation(task, true, pollOperation);
             });
@@ -808,32 +1255,20 @@ public class ModbusManagerImpl implements ModbusManager {
                 BasicPollTask task = new BasicPollTask(endpoint, request, resultCallback, failureCallback);
                 logger.trace("Registering poll task {} with period {} using initial delay {}", task, pollPeriodMillis,
                         initialDelayMillis);
-                if (scheduledPollTasks.containsKey(task)) {
+                if (scheduledPollTasks.containsKey(task) || coalescedPollTasks.containsKey(task)) {
                     logger.trace("Unregistering previous poll task (possibly with different period)");
                     unregisterRegularPoll(task);
                 }
-                ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
-                    long started = System.currentTimeMillis();
-                    logger.debug("Executing scheduled ({}ms) poll task {}. Current millis: {}", pollPeriodMillis, task,
-                            started);
-                    try {
-                        executeOperation(task, false, pollOperation);
-                    } catch (RuntimeException e) {
-                        // We want to catch all unexpected exceptions since all unhandled exceptions make
-                        // ScheduledExecutorService halt the polling. It is better to print out the exception, and try
-                        // again
-                        // (on next poll cycle)
-                        logger.warn(
-                                "Execution of scheduled ({}ms) poll task {} failed unexpectedly. Ignoring exception, polling again according to poll interval.",
-                                pollPeriodMillis, task, e);
-                    }
-                    long finished = System.currentTimeMillis();
-                    logger.debug(
-                            "Execution of scheduled ({}ms) poll task {} finished at {}. Was started at millis: {} (=duration of {} millis)",
-                            pollPeriodMillis, task, finished, started, finished - started);
-                }, initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
-
-                scheduledPollTasks.put(task, future);
+                if (getEndpointPoolConfiguration(endpoint).getReadCoalescingMaxGap() >= 0) {
+                    // poll together with other regular polls of the same endpoint and period
+                    registerCoalescedPoll(task, pollPeriodMillis, initialDelayMillis, executor);
+                } else {
+                    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(
+                            () -> submitRegularPoll(endpoint, task, pollPeriodMillis,
+                                    () -> executeScheduledPoll(task, pollPeriodMillis)),
+                            initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
+                    scheduledPollTasks.put(task, future);
+                }
                 pollTasksRegisteredByThisCommInterface.add(task);
                 logger.trace("Registered poll task {} with period {} using initial delay {}", task, pollPeriodMillis,
                         initialDelayMillis);
@@ -853,6 +1288,11 @@ public class ModbusManagerImpl implements ModbusManager {
                 ModbusSlaveConnectionFactoryImpl localConnectionFactory = connectionFactory;
                 Objects.requireNonNull(localConnectionFactory, "Not activated!");
 
+                if (unregisterCoalescedPoll(task)) {
+                    logger.debug("Coalesced poll task {} unregistered", task);
+                    return true;
+                }
+
                 // cancel poller
                 @Nullable
                 ScheduledFuture<?> future = scheduledPollTasks.remove(task);
@@ -863,6 +1303,10 @@ public class ModbusManagerImpl implements ModbusManager {
                 }
                 logger.debug("Unregistering regular poll task {} (interrupting if necessary)", task);
                 future.cancel(true);
+                ModbusEndpointScheduler scheduler = endpointScheduler;
+                if (scheduler != null) {
+                    scheduler.cancelRegularPoll(task.getEndpoint(), task);
+                }
                 logger.debug("Poll task {} canceled", task);
                 return true;
             }
@@ -874,14 +1318,14 @@ public class ModbusManagerImpl implements ModbusManager {
             if (closed) {
                 throw new IllegalStateException("Communication interface is closed already!");
             }
-            ScheduledExecutorService localScheduledThreadPoolExecutor = scheduledThreadPoolExecutor;
-            Objects.requireNonNull(localScheduledThreadPoolExecutor, "Not activated!");
+            ModbusEndpointScheduler scheduler = endpointScheduler;
+            Objects.requireNonNull(scheduler, "Not activated!");
             WriteTask task = new BasicWriteTask(endpoint, request, resultCallback, failureCallback);
             long scheduleTime = System.currentTimeMillis();
             logger.debug("Scheduling one-off write task {}", task);
-            return localScheduledThreadPoolExecutor.submit(() -> {
+            return scheduler.submit(endpoint, () -> {
                 long millisInThreadPoolWaiting = System.currentTimeMillis() - scheduleTime;
-                logger.debug("Will now execute one-off write task {}, waited in thread pool for {}", task,
+                logger.debug("Will now execute one-off write task {}, waited in endpoint queue for {}", task,
                         millisInThreadPoolWaiting);
                 executeOperation(task, true, writeOperation);
             });
@@ -937,6 +1381,12 @@ public class ModbusManagerImpl implements ModbusManager {
         return connectionFactory.getEndpointPoolConfiguration(endpoint);
     }
 
+    @Override
+    public Map<ModbusSlaveEndpoint, ModbusEndpointStatistics> getEndpointStatistics() {
+        ModbusEndpointScheduler endpointScheduler = this.endpointScheduler;
+        return endpointScheduler == null ? Map.of() : endpointScheduler.getStatistics();
+    }
+
     private void unregisterCommunicationInterface(ModbusCommunicationInterface commInterface) {
         communicationInterfaces.remove(commInterface);
         maybeCloseConnections(commInterface.getEndpoint());
@@ -963,6 +1413,11 @@ public class ModbusManagerImpl implements ModbusManager {
                     logger.warn("Could not clear endpoint {}. Stack trace follows", endpoint, e);
                 }
             }
+            closePipelinedConnection(endpoint);
+            ModbusEndpointScheduler endpointScheduler = this.endpointScheduler;
+            if (endpointScheduler != null) {
+                endpointScheduler.removeEndpoint(endpoint);
+            }
         }
     }
 
@@ -982,6 +1437,12 @@ public class ModbusManagerImpl implements ModbusManager {
                 logger.warn("Thread pool is shut down! Aborting activation of ModbusMangerImpl");
                 throw new IllegalStateException("Thread pool(s) shut down! Aborting activation of ModbusMangerImpl");
             }
+            if (endpointScheduler == null) {
+                // pipelined endpoints execute as many operations at the same time as transactions allowed in flight
+                endpointScheduler = new ModbusEndpointScheduler(scheduledThreadPoolExecutor,
+                        endpoint -> isPipelined(endpoint) ? getEndpointPoolConfiguration(endpoint).getPipelineDepth()
+                                : 1);
+            }
             monitorFuture = scheduledThreadPoolExecutor.scheduleWithFixedDelay(this::logTaskQueueInfo, 0,
                     MONITOR_QUEUE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
         }
@@ -1008,6 +1469,12 @@ public class ModbusManagerImpl implements ModbusManager {
                 monitorFuture.cancel(true);
                 monitorFuture = null;
             }
+            ModbusEndpointScheduler endpointScheduler = this.endpointScheduler;
+            if (endpointScheduler != null) {
+                endpointScheduler.clear();
+                this.endpointScheduler = null;
+            }
+            pipelinedConnections.keySet().forEach(this::closePipelinedConnection);
             // Note that it is not allowed to shutdown the executor, since they will be reused when
             // when pool is received from ThreadPoolManager is called
             scheduledThreadPoolExecutor = null;
@@ -1045,6 +1512,24 @@ public class ModbusManagerImpl implements ModbusManager {
                             executor.getQueue().size());
                 }
             }
+            ModbusEndpointScheduler endpointScheduler = this.endpointScheduler;
+            if (endpointScheduler != null) {
+                endpointScheduler.getStatistics().forEach((endpoint, statistics) -> {
+                    long polls = statistics.getPollCount();
+                    long transactions = statistics.getTransactionCount();
+                    pollMonitorLogger.trace(
+                            "POLL MONITOR: endpoint {}: queue size {}, polls {} (skipped {}, average lateness {} ms), operations {} (errors {}, average transaction time {} ms)",
+                            endpoint, statistics.getQueueSize(), polls, statistics.getSkippedPollCount(),
+                            polls == 0 ? 0 : statistics.getTotalPollLatenessMillis() / polls,
+                            statistics.getOperationCount(), statistics.getErrorCount(),
+                            transactions == 0 ? 0 : statistics.getTotalTransactionTimeMillis() / transactions);
+                    if (statistics.getQueueSize() >= WARN_QUEUE_SIZE) {
+                        pollMonitorLogger.warn(
+                                "Many ({}) operations queued for endpoint {}! The endpoint cannot keep up with the requests.",
+                                statistics.getQueueSize(), endpoint);
+                    }
+                });
+            }
 
             pollMonitorLogger.trace("</POLL MONITOR>");
         }
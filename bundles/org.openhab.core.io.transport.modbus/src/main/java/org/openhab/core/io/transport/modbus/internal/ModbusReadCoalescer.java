@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+
+/**
+ * Merges the requests of regular polls into as few requests as possible.
+ *
+ * Requests are merged if they have the same slave id and function code, and the number of registers (or bits) between
+ * them is at most the configured maximum gap. The merged request must not exceed the configured maximum PDU size.
+ * Callers are expected to pass only tasks that are polled with the same period.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadCoalescer {
+
+    private static final Comparator<PollTask> REQUEST_ORDER = Comparator
+            .<PollTask> comparingInt(task -> task.getRequest().getUnitID())
+            .thenComparing(task -> task.getRequest().getFunctionCode())
+            .thenComparingInt(task -> task.getRequest().getReference())
+            .thenComparingInt(task -> task.getRequest().getDataLength());
+
+    private ModbusReadCoalescer() {
+    }
+
+    /**
+     * Get the maximum number of items that can be read with a response of the given PDU size
+     *
+     * @param functionCode function code of the read request
+     * @param maxPduSize maximum size of the response PDU in bytes
+     * @return maximum number of registers or bits, at most the maximum read count of the Modbus specification
+     */
+    public static int getMaxReadCount(ModbusReadFunctionCode functionCode, int maxPduSize) {
+        // response PDU consists of the function code, byte count and the data
+        int dataBytes = Math.max(0, Math.min(maxPduSize, ModbusConstants.MAX_PDU_SIZE) - 2);
+        switch (functionCode) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                return Math.min(dataBytes * 8, ModbusConstants.MAX_BITS_READ_COUNT);
+            default:
+                return Math.min(dataBytes / 2, ModbusConstants.MAX_REGISTERS_READ_COUNT);
+        }
+    }
+
+    /**
+     * Coalesce the given poll tasks
+     *
+     * @param endpoint endpoint of the poll tasks
+     * @param tasks poll tasks to coalesce
+     * @param maxGap maximum number of registers or bits between two requests that are merged. Negative value disables
+     *            merging, i.e. every task is polled with its own request
+     * @param maxPduSize maximum size of the response PDU of a merged request in bytes
+     * @return coalesced tasks, each task given is member of exactly one of them
+     */
+    public static List<CoalescedPollTask> coalesce(ModbusSlaveEndpoint endpoint, Collection<PollTask> tasks,
+            int maxGap, int maxPduSize) {
+        List<PollTask> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(REQUEST_ORDER);
+
+        List<CoalescedPollTask> coalescedTasks = new ArrayList<>();
+        List<PollTask> members = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (PollTask task : sortedTasks) {
+            ModbusReadRequestBlueprint request = task.getRequest();
+            int requestEnd = request.getReference() + request.getDataLength();
+            boolean mergeable = !members.isEmpty() && maxGap >= 0
+                    && canMerge(members.getFirst().getRequest(), request) && request.getReference() - end <= maxGap
+                    && Math.max(end, requestEnd) - start <= getMaxReadCount(request.getFunctionCode(), maxPduSize);
+            if (mergeable) {
+                members.add(task);
+                end = Math.max(end, requestEnd);
+                continue;
+            }
+            if (!members.isEmpty()) {
+                coalescedTasks.add(createTask(endpoint, members, start, end));
+            }
+            members = new ArrayList<>();
+            members.add(task);
+            start = request.getReference();
+            end = requestEnd;
+        }
+        if (!members.isEmpty()) {
+            coalescedTasks.add(createTask(endpoint, members, start, end));
+        }
+        return coalescedTasks;
+    }
+
+    private static boolean canMerge(ModbusReadRequestBlueprint first, ModbusReadRequestBlueprint other) {
+        return first.getUnitID() == other.getUnitID() && first.getFunctionCode() == other.getFunctionCode();
+    }
+
+    private static CoalescedPollTask createTask(ModbusSlaveEndpoint endpoint, List<PollTask> members, int start,
+            int end) {
+        ModbusReadRequestBlueprint first = members.getFirst().getRequest();
+        int maxTries = members.stream().mapToInt(PollTask::getMaxTries).max().orElse(1);
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(first.getUnitID(), first.getFunctionCode(),
+                start, end - start, maxTries);
+        return new CoalescedPollTask(endpoint, request, members);
+    }
+}
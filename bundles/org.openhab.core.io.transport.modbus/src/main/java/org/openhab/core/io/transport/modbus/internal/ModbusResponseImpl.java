@@ -28,7 +28,11 @@ public class ModbusResponseImpl implements ModbusResponse {
     private int responseFunctionCode;
 
     public ModbusResponseImpl(ModbusMessage response) {
-        this.responseFunctionCode = response.getFunctionCode();
+        this(response.getFunctionCode());
+    }
+
+    public ModbusResponseImpl(int responseFunctionCode) {
+        this.responseFunctionCode = responseFunctionCode;
     }
 
     @Override
@@ -25,6 +25,7 @@ import net.wimpi.modbus.ModbusSlaveException;
  *
  * @author Sami Salonen - Initial contribution
  * @author Nagy Attila Gabor - added getter for error type
+ * @author Andrew Fiddian-Green - Construct from raw exception code
  *
  */
 @NonNullByDefault
@@ -37,7 +38,11 @@ public class ModbusSlaveErrorResponseExceptionImpl extends ModbusSlaveErrorRespo
     private KnownExceptionCode exceptionCode;
 
     public ModbusSlaveErrorResponseExceptionImpl(ModbusSlaveException e) {
-        rawCode = e.getType();
+        this(e.getType());
+    }
+
+    public ModbusSlaveErrorResponseExceptionImpl(int rawCode) {
+        this.rawCode = rawCode;
         exceptionCode = KnownExceptionCode.tryFromExceptionCode(rawCode).orElse(null);
     }
 
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal.pipelining;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprintVisitor;
+import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseFunctionCodeException;
+import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseSizeException;
+import org.openhab.core.io.transport.modbus.internal.ModbusSlaveErrorResponseExceptionImpl;
+
+/**
+ * Encoding of requests and decoding of responses as Modbus protocol data units (PDU), i.e. the function code followed
+ * by the data, without any transport specific header.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPduCodec {
+
+    private static final int EXCEPTION_RESPONSE_FLAG = 0x80;
+    private static final int COIL_ON = 0xFF00;
+
+    private ModbusPduCodec() {
+    }
+
+    /**
+     * Get the numeric function code of a read request
+     *
+     * @param functionCode read function code
+     * @return numeric function code
+     */
+    public static int getFunctionCode(ModbusReadFunctionCode functionCode) {
+        return switch (functionCode) {
+            case READ_COILS -> 1;
+            case READ_INPUT_DISCRETES -> 2;
+            case READ_MULTIPLE_REGISTERS -> 3;
+            case READ_INPUT_REGISTERS -> 4;
+        };
+    }
+
+    /**
+     * Encode read request
+     *
+     * @param request read request
+     * @return request PDU
+     */
+    public static byte[] encode(ModbusReadRequestBlueprint request) {
+        byte[] pdu = new byte[5];
+        pdu[0] = (byte) getFunctionCode(request.getFunctionCode());
+        putShort(pdu, 1, request.getReference());
+        putShort(pdu, 3, request.getDataLength());
+        return pdu;
+    }
+
+    /**
+     * Encode write request
+     *
+     * @param request write request
+     * @return request PDU
+     * @throws IllegalArgumentException in case the data does not match the function code, there is no data, or there
+     *             is too much data for a single coil or register write
+     */
+    public static byte[] encode(ModbusWriteRequestBlueprint request) {
+        AtomicReference<byte @Nullable []> pdu = new AtomicReference<>();
+        ModbusWriteFunctionCode functionCode = request.getFunctionCode();
+        request.accept(new ModbusWriteRequestBlueprintVisitor() {
+
+            @Override
+            public void visit(ModbusWriteCoilRequestBlueprint blueprint) {
+                BitArray coils = blueprint.getCoils();
+                if (coils.size() == 0) {
+                    throw new IllegalArgumentException("Must provide at least one coil");
+                }
+                if (functionCode == ModbusWriteFunctionCode.WRITE_COIL) {
+                    if (coils.size() != 1) {
+                        throw new IllegalArgumentException("Must provide single coil with WRITE_COIL");
+                    }
+                    pdu.set(encodeSingle(functionCode, blueprint.getReference(), coils.getBit(0) ? COIL_ON : 0));
+                } else if (functionCode == ModbusWriteFunctionCode.WRITE_MULTIPLE_COILS) {
+                    byte[] data = new byte[(coils.size() + 7) / 8];
+                    for (int i = 0; i < coils.size(); i++) {
+                        if (coils.getBit(i)) {
+                            data[i / 8] |= (byte) (1 << (i % 8));
+                        }
+                    }
+                    pdu.set(encodeMultiple(functionCode, blueprint.getReference(), coils.size(), data));
+                } else {
+                    throw new IllegalArgumentException(
+                            String.format("Coil data cannot be written with function code %s", functionCode));
+                }
+            }
+
+            @Override
+            public void visit(ModbusWriteRegisterRequestBlueprint blueprint) {
+                ModbusRegisterArray registers = blueprint.getRegisters();
+                if (registers.size() == 0) {
+                    throw new IllegalArgumentException("Must provide at least one register");
+                }
+                if (functionCode == ModbusWriteFunctionCode.WRITE_SINGLE_REGISTER) {
+                    if (registers.size() != 1) {
+                        throw new IllegalArgumentException("Must provide single register with WRITE_SINGLE_REGISTER");
+                    }
+                    pdu.set(encodeSingle(functionCode, blueprint.getReference(), registers.getRegister(0)));
+                } else if (functionCode == ModbusWriteFunctionCode.WRITE_MULTIPLE_REGISTERS) {
+                    pdu.set(encodeMultiple(functionCode, blueprint.getReference(), registers.size(),
+                            registers.getBytes()));
+                } else {
+                    throw new IllegalArgumentException(
+                            String.format("Register data cannot be written with function code %s", functionCode));
+                }
+            }
+        });
+        byte[] encoded = pdu.get();
+        if (encoded == null) {
+            throw new IllegalStateException("Unexpected write request " + request);
+        }
+        return encoded;
+    }
+
+    /**
+     * Check that the response belongs to a request with the given function code and is not an exception response
+     *
+     * @param requestFunctionCode numeric function code of the request
+     * @param response response PDU
+     * @throws ModbusSlaveErrorResponseExceptionImpl when the slave responded with an exception response
+     * @throws ModbusUnexpectedResponseFunctionCodeException when the function code of the response does not match
+     */
+    public static void checkResponse(int requestFunctionCode, byte[] response)
+            throws ModbusSlaveErrorResponseExceptionImpl, ModbusUnexpectedResponseFunctionCodeException {
+        int responseFunctionCode = response.length > 0 ? response[0] & 0xff : -1;
+        if (responseFunctionCode == (requestFunctionCode | EXCEPTION_RESPONSE_FLAG) && response.length >= 2) {
+            throw new ModbusSlaveErrorResponseExceptionImpl(response[1] & 0xff);
+        }
+        if (responseFunctionCode != requestFunctionCode) {
+            throw new ModbusUnexpectedResponseFunctionCodeException(requestFunctionCode, responseFunctionCode);
+        }
+    }
+
+    /**
+     * Decode the response of a read request
+     *
+     * @param request read request
+     * @param response response PDU
+     * @return result of the read request
+     * @throws ModbusSlaveErrorResponseExceptionImpl when the slave responded with an exception response
+     * @throws ModbusUnexpectedResponseFunctionCodeException when the function code of the response does not match
+     * @throws ModbusUnexpectedResponseSizeException when the response contains less data than requested
+     */
+    public static AsyncModbusReadResult decodeReadResponse(ModbusReadRequestBlueprint request, byte[] response)
+            throws ModbusSlaveErrorResponseExceptionImpl, ModbusUnexpectedResponseFunctionCodeException,
+            ModbusUnexpectedResponseSizeException {
+        checkResponse(getFunctionCode(request.getFunctionCode()), response);
+        int byteCount = response.length >= 2 ? Math.min(response[1] & 0xff, response.length - 2) : 0;
+        switch (request.getFunctionCode()) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                // bits are sent in multiples of 8, ignore the padding
+                if (byteCount * 8 < request.getDataLength()) {
+                    throw new ModbusUnexpectedResponseSizeException(request.getDataLength(), byteCount * 8);
+                }
+                boolean[] bits = new boolean[request.getDataLength()];
+                for (int i = 0; i < bits.length; i++) {
+                    bits[i] = (response[2 + i / 8] & (1 << (i % 8))) != 0;
+                }
+                return new AsyncModbusReadResult(request, new BitArray(bits));
+            default:
+                if (byteCount / 2 < request.getDataLength()) {
+                    throw new ModbusUnexpectedResponseSizeException(request.getDataLength(), byteCount / 2);
+                }
+                byte[] registers = new byte[byteCount / 2 * 2];
+                System.arraycopy(response, 2, registers, 0, registers.length);
+                return new AsyncModbusReadResult(request, new ModbusRegisterArray(registers));
+        }
+    }
+
+    private static byte[] encodeSingle(ModbusWriteFunctionCode functionCode, int reference, int value) {
+        byte[] pdu = new byte[5];
+        pdu[0] = (byte) functionCode.getFunctionCode();
+        putShort(pdu, 1, reference);
+        putShort(pdu, 3, value);
+        return pdu;
+    }
+
+    private static byte[] encodeMultiple(ModbusWriteFunctionCode functionCode, int reference, int count,
+            byte[] data) {
+        byte[] pdu = new byte[6 + data.length];
+        pdu[0] = (byte) functionCode.getFunctionCode();
+        putShort(pdu, 1, reference);
+        putShort(pdu, 3, count);
+        pdu[5] = (byte) data.length;
+        System.arraycopy(data, 0, pdu, 6, data.length);
+        return pdu;
+    }
+
+    private static void putShort(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >> 8);
+        bytes[offset + 1] = (byte) value;
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal.pipelining;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Modbus TCP connection keeping several transactions in flight at the same time.
+ *
+ * Requests are written without waiting for the responses of the previous requests. Responses are read by a dedicated
+ * thread and matched to the requests by their transaction identifier, so the slave may respond in any order. The
+ * number of transactions in flight is limited to the configured pipeline depth; further requests wait until a
+ * transaction completes.
+ *
+ * A transaction that is not responded in time fails with {@link SocketTimeoutException}, without affecting the other
+ * transactions. A late response to it is discarded. I/O errors fail all transactions in flight and disconnect, the
+ * next request connects again.
+ *
+ * The timeouts are scheduled on the given scheduler, which must not be used to execute the transactions: a thread
+ * waiting for a response would otherwise wait for a timeout that cannot run. Waiting for a response is bounded anyway.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPipelinedTCPConnection {
+
+    private static final int MBAP_HEADER_LENGTH = 7;
+    private static final int MODBUS_PROTOCOL_ID = 0;
+    private static final int MAX_TRANSACTION_ID = 0xffff;
+    // additional time to wait for a response, in case the timeout is not triggered in time
+    private static final long RESPONSE_WAIT_MARGIN_MILLIS = 1000;
+
+    // each connected connection blocks a thread of this pool reading its responses, so the pool has to be sized for
+    // the number of pipelined connections, or configured to use virtual threads
+    private static final String READER_THREAD_POOL_NAME = "modbusPipelineReader";
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPipelinedTCPConnection.class);
+    private final ExecutorService readerExecutor = ThreadPoolManager.getPool(READER_THREAD_POOL_NAME);
+
+    private final String host;
+    private final int port;
+    private final int connectTimeoutMillis;
+    private final int pipelineDepth;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final Semaphore window;
+    private final Map<Integer, Transaction> transactions = new ConcurrentHashMap<>();
+
+    private @Nullable Socket socket;
+    private @Nullable OutputStream outputStream;
+    private int lastTransactionId;
+
+    /**
+     * @param host host name or address of the slave
+     * @param port TCP port of the slave
+     * @param connectTimeoutMillis connection timeout in milliseconds, 0 for system default
+     * @param pipelineDepth maximum number of transactions in flight
+     * @param timeoutScheduler scheduler used for the per transaction timeouts, not used to execute transactions
+     */
+    public ModbusPipelinedTCPConnection(String host, int port, int connectTimeoutMillis, int pipelineDepth,
+            ScheduledExecutorService timeoutScheduler) {
+        if (pipelineDepth < 1) {
+            throw new IllegalArgumentException("pipelineDepth should be positive");
+        }
+        this.host = host;
+        this.port = port;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.pipelineDepth = pipelineDepth;
+        this.timeoutScheduler = timeoutScheduler;
+        this.window = new Semaphore(pipelineDepth, true);
+    }
+
+    public int getPipelineDepth() {
+        return pipelineDepth;
+    }
+
+    /**
+     * Get number of transactions waiting for their response
+     *
+     * @return number of transactions in flight
+     */
+    public int getTransactionsInFlight() {
+        return transactions.size();
+    }
+
+    public synchronized boolean isConnected() {
+        Socket socket = this.socket;
+        return socket != null && socket.isConnected() && !socket.isClosed();
+    }
+
+    /**
+     * Connect to the slave, unless connected already
+     *
+     * @throws IOException when connection cannot be established
+     */
+    public synchronized void connect() throws IOException {
+        if (isConnected()) {
+            return;
+        }
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(host, port), connectTimeoutMillis);
+            outputStream = socket.getOutputStream();
+            DataInputStream inputStream = new DataInputStream(socket.getInputStream());
+            this.socket = socket;
+            readerExecutor.execute(() -> readResponses(socket, inputStream));
+        } catch (IOException e) {
+            closeQuietly(socket);
+            throw e;
+        }
+        logger.debug("Connected to {}:{} with pipeline depth {}", host, port, pipelineDepth);
+    }
+
+    /**
+     * Disconnect from the slave, failing all transactions in flight
+     */
+    public void disconnect() {
+        Socket socket;
+        synchronized (this) {
+            socket = this.socket;
+        }
+        if (socket != null) {
+            disconnect(socket, new IOException("Connection closed"));
+        }
+    }
+
+    /**
+     * Execute a transaction, waiting for its response
+     *
+     * @param unitId unit identifier (slave id) of the request
+     * @param request request PDU
+     * @param timeoutMillis time to wait for the response, after the request was sent
+     * @return response PDU
+     * @throws SocketTimeoutException when the response was not received in time
+     * @throws IOException on I/O errors, e.g. if the connection is closed
+     * @throws InterruptedException when interrupted while waiting. The transaction is abandoned, a late response to it
+     *             is discarded.
+     */
+    public byte[] execute(int unitId, byte[] request, long timeoutMillis) throws IOException, InterruptedException {
+        CompletableFuture<byte[]> response = submit(unitId, request, timeoutMillis);
+        try {
+            return response.get(timeoutMillis + RESPONSE_WAIT_MARGIN_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            response.cancel(false);
+            throw e;
+        } catch (TimeoutException e) {
+            SocketTimeoutException timeout = new SocketTimeoutException(
+                    String.format("No response within %d ms", timeoutMillis));
+            response.completeExceptionally(timeout);
+            throw timeout;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Send a request, without waiting for its response
+     *
+     * Waits until the number of transactions in flight is below the pipeline depth.
+     *
+     * @param unitId unit identifier (slave id) of the request
+     * @param request request PDU
+     * @param timeoutMillis time to wait for the response, after the request was sent
+     * @return future completed with the response PDU, or exceptionally with {@link SocketTimeoutException} when the
+     *         response was not received in time, or with {@link IOException} on I/O errors. Cancelling the future
+     *         abandons the transaction.
+     * @throws IOException when not connected, or the request cannot be sent
+     * @throws InterruptedException when interrupted while waiting for a free slot in the pipeline
+     */
+    public CompletableFuture<byte[]> submit(int unitId, byte[] request, long timeoutMillis)
+            throws IOException, InterruptedException {
+        if (request.length == 0 || request.length > ModbusConstants.MAX_PDU_SIZE) {
+            throw new IllegalArgumentException("Invalid request PDU length " + request.length);
+        }
+        window.acquire();
+        Transaction transaction;
+        Socket socket;
+        OutputStream outputStream;
+        synchronized (this) {
+            socket = this.socket;
+            outputStream = this.outputStream;
+            if (socket == null || outputStream == null) {
+                window.release();
+                throw new IOException("Not connected");
+            }
+            transaction = new Transaction(nextTransactionId(), unitId);
+            transactions.put(transaction.id, transaction);
+            // releases the slot of the pipeline, whatever the outcome of the transaction
+            transaction.response.whenComplete((r, e) -> complete(transaction));
+
+            byte[] frame = new byte[MBAP_HEADER_LENGTH + request.length];
+            putShort(frame, 0, transaction.id);
+            putShort(frame, 2, MODBUS_PROTOCOL_ID);
+            putShort(frame, 4, request.length + 1);
+            frame[6] = (byte) unitId;
+            System.arraycopy(request, 0, frame, MBAP_HEADER_LENGTH, request.length);
+            try {
+                outputStream.write(frame);
+                outputStream.flush();
+            } catch (IOException e) {
+                transaction.response.completeExceptionally(e);
+                disconnect(socket, e);
+                throw e;
+            }
+        }
+        ScheduledFuture<?> timeout = timeoutScheduler.schedule(
+                () -> transaction.response.completeExceptionally(new SocketTimeoutException(String.format(
+                        "No response to transaction %d within %d ms", transaction.id, timeoutMillis))),
+                timeoutMillis, TimeUnit.MILLISECONDS);
+        transaction.timeout = timeout;
+        if (transaction.response.isDone()) {
+            // responded before the timeout was scheduled
+            timeout.cancel(false);
+        }
+        return transaction.response;
+    }
+
+    /**
+     * Must be called with the lock held
+     */
+    private int nextTransactionId() {
+        // skip identifiers still in flight, possible only after wrap-around with abandoned transactions
+        do {
+            lastTransactionId = lastTransactionId % MAX_TRANSACTION_ID + 1;
+        } while (transactions.containsKey(lastTransactionId));
+        return lastTransactionId;
+    }
+
+    private void complete(Transaction transaction) {
+        if (transactions.remove(transaction.id, transaction)) {
+            window.release();
+        }
+        ScheduledFuture<?> timeout = transaction.timeout;
+        if (timeout != null) {
+            timeout.cancel(false);
+        }
+    }
+
+    private void readResponses(Socket socket, DataInputStream inputStream) {
+        byte[] header = new byte[MBAP_HEADER_LENGTH];
+        try {
+            while (true) {
+                inputStream.readFully(header);
+                int transactionId = getShort(header, 0);
+                int protocolId = getShort(header, 2);
+                int length = getShort(header, 4);
+                int unitId = header[6] & 0xff;
+                if (length < 2 || length > ModbusConstants.MAX_PDU_SIZE + 1) {
+                    throw new IOException(String.format("Invalid length %d in response header", length));
+                }
+                byte[] response = new byte[length - 1];
+                inputStream.readFully(response);
+
+                Transaction transaction = transactions.get(transactionId);
+                if (protocolId != MODBUS_PROTOCOL_ID || transaction == null || transaction.unitId != unitId) {
+                    // most likely a late response of a transaction that timed out already
+                    logger.debug(
+                            "Discarding unexpected response from {}:{} (transaction ID {}, protocol ID {}, unit ID {})",
+                            host, port, transactionId, protocolId, unitId);
+                    continue;
+                }
+                transaction.response.complete(response);
+            }
+        } catch (EOFException e) {
+            disconnect(socket, new EOFException("Connection closed by the slave"));
+        } catch (IOException e) {
+            disconnect(socket, e);
+        }
+    }
+
+    private void disconnect(Socket socket, IOException cause) {
+        synchronized (this) {
+            if (this.socket != socket) {
+                // disconnected already
+                return;
+            }
+            this.socket = null;
+            this.outputStream = null;
+        }
+        logger.debug("Disconnecting from {}:{}: {}", host, port, cause.getMessage());
+        closeQuietly(socket);
+        transactions.values().forEach(transaction -> transaction.response.completeExceptionally(cause));
+    }
+
+    private void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.debug("Error closing connection to {}:{}: {}", host, port, e.getMessage());
+        }
+    }
+
+    private static int getShort(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xff) << 8) | (bytes[offset + 1] & 0xff);
+    }
+
+    private static void putShort(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >> 8);
+        bytes[offset + 1] = (byte) value;
+    }
+
+    @Override
+    public String toString() {
+        return "ModbusPipelinedTCPConnection [host=" + host + ", port=" + port + ", pipelineDepth=" + pipelineDepth
+                + ", connected=" + isConnected() + ", transactionsInFlight=" + getTransactionsInFlight() + "]";
+    }
+
+    private static class Transaction {
+        private final int id;
+        private final int unitId;
+        private final CompletableFuture<byte[]> response = new CompletableFuture<>();
+        private volatile @Nullable ScheduledFuture<?> timeout;
+
+        private Transaction(int id, int unitId) {
+            this.id = id;
+            this.unitId = unitId;
+        }
+    }
+}
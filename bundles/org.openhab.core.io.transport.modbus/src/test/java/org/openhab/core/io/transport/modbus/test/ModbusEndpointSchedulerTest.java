@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.ModbusEndpointStatistics;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.internal.ModbusEndpointScheduler;
+import org.openhab.core.io.transport.modbus.internal.ModbusEndpointScheduler.EndpointStatistics;
+
+/**
+ * Tests {@link ModbusEndpointScheduler}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusEndpointSchedulerTest {
+
+    private final ModbusSlaveEndpoint endpoint1 = new ModbusTCPSlaveEndpoint("host1", 502, false);
+    private final ModbusSlaveEndpoint endpoint2 = new ModbusTCPSlaveEndpoint("host2", 502, false);
+
+    /**
+     * Executor collecting the submitted tasks, so that the test controls when they run
+     */
+    private final Queue<Runnable> executorQueue = new ArrayDeque<>();
+    private final Executor executor = executorQueue::add;
+    private final ModbusEndpointScheduler scheduler = new ModbusEndpointScheduler(executor);
+    private final List<String> executed = new ArrayList<>();
+
+    private void runExecutor() {
+        Runnable task;
+        while ((task = executorQueue.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    public void testOneRunnerPerEndpoint() {
+        scheduler.submit(endpoint1, () -> executed.add("1a"));
+        scheduler.submit(endpoint1, () -> executed.add("1b"));
+        scheduler.submit(endpoint2, () -> executed.add("2a"));
+
+        // one task per endpoint is handed to the executor
+        assertThat(executorQueue.size(), is(2));
+
+        runExecutor();
+
+        // endpoints take turns, the operations of each endpoint keep their order
+        assertThat(executed, is(List.of("1a", "2a", "1b")));
+        assertThat(executorQueue.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testOneOffOperationsBeforeRegularPolls() {
+        scheduler.submitRegularPoll(endpoint1, "poll", System.currentTimeMillis(), () -> executed.add("poll"));
+        scheduler.submit(endpoint1, () -> executed.add("write"));
+
+        runExecutor();
+
+        assertThat(executed, is(List.of("write", "poll")));
+    }
+
+    @Test
+    public void testOverdueDuplicatePollIsSkipped() {
+        long now = System.currentTimeMillis();
+        assertThat(scheduler.submitRegularPoll(endpoint1, "poll1", now - 100, () -> executed.add("poll1")),
+                is(true));
+        assertThat(scheduler.submitRegularPoll(endpoint1, "poll2", now, () -> executed.add("poll2")), is(true));
+        assertThat(scheduler.submitRegularPoll(endpoint1, "poll1", now, () -> executed.add("poll1 again")),
+                is(false));
+
+        runExecutor();
+
+        assertThat(executed, is(List.of("poll1", "poll2")));
+        ModbusEndpointStatistics statistics = scheduler.getStatistics().get(endpoint1);
+        assertThat(statistics.getPollCount(), is(2L));
+        assertThat(statistics.getSkippedPollCount(), is(1L));
+        assertThat(statistics.getTotalPollLatenessMillis() >= 100, is(true));
+        assertThat(statistics.getQueueSize(), is(0));
+    }
+
+    @Test
+    public void testCancelRegularPoll() {
+        scheduler.submitRegularPoll(endpoint1, "poll1", System.currentTimeMillis(), () -> executed.add("poll1"));
+        scheduler.submitRegularPoll(endpoint1, "poll2", System.currentTimeMillis(), () -> executed.add("poll2"));
+        scheduler.cancelRegularPoll(endpoint1, "poll1");
+
+        runExecutor();
+
+        assertThat(executed, is(List.of("poll2")));
+    }
+
+    @Test
+    public void testCancelledOneOffOperationIsNotExecuted() {
+        Future<?> future = scheduler.submit(endpoint1, () -> executed.add("cancelled"));
+        scheduler.submit(endpoint1, () -> executed.add("executed"));
+        future.cancel(false);
+
+        runExecutor();
+
+        assertThat(executed, is(List.of("executed")));
+    }
+
+    @Test
+    public void testFailingOperationDoesNotStopQueue() {
+        scheduler.submit(endpoint1, () -> {
+            throw new IllegalStateException("test");
+        });
+        scheduler.submitRegularPoll(endpoint1, "poll", System.currentTimeMillis(), () -> executed.add("poll"));
+
+        runExecutor();
+
+        assertThat(executed, is(List.of("poll")));
+    }
+
+    @Test
+    public void testStatistics() {
+        // the statistics of an endpoint only exist once operations have been queued for it
+        assertThat(scheduler.getStatistics(endpoint1), is(nullValue()));
+        scheduler.submit(endpoint1, () -> executed.add("1a"));
+        runExecutor();
+
+        EndpointStatistics endpointStatistics = Objects.requireNonNull(scheduler.getStatistics(endpoint1));
+        endpointStatistics.recordOperation(20, false);
+        endpointStatistics.recordOperation(40, true);
+        endpointStatistics.recordOperation(-1, true);
+
+        ModbusEndpointStatistics statistics = scheduler.getStatistics().get(endpoint1);
+        assertThat(statistics.getOperationCount(), is(3L));
+        assertThat(statistics.getErrorCount(), is(2L));
+        assertThat(statistics.getTransactionCount(), is(2L));
+        assertThat(statistics.getTotalTransactionTimeMillis(), is(60L));
+
+        scheduler.removeEndpoint(endpoint1);
+        assertThat(scheduler.getStatistics().containsKey(endpoint1), is(false));
+        // reading the statistics does not bring back the removed endpoint
+        assertThat(scheduler.getStatistics(endpoint1), is(nullValue()));
+        assertThat(scheduler.getStatistics().containsKey(endpoint1), is(false));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseFunctionCodeException;
+import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseSizeException;
+import org.openhab.core.io.transport.modbus.internal.ModbusSlaveErrorResponseExceptionImpl;
+import org.openhab.core.io.transport.modbus.internal.pipelining.ModbusPduCodec;
+
+/**
+ * Tests {@link ModbusPduCodec}
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPduCodecTest {
+
+    @Test
+    public void testEncodeReadRequest() {
+        assertArrayEquals(new byte[] { 4, 0x01, 0x02, 0, 10 }, ModbusPduCodec.encode(
+                new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0x0102, 10, 1)));
+    }
+
+    @Test
+    public void testEncodeWriteRequests() {
+        assertArrayEquals(new byte[] { 5, 0, 3, (byte) 0xff, 0 },
+                ModbusPduCodec.encode(new ModbusWriteCoilRequestBlueprint(1, 3, true, false, 1)));
+        assertArrayEquals(new byte[] { 15, 0, 3, 0, 10, 2, 0b00000101, 0b00000010 },
+                ModbusPduCodec.encode(new ModbusWriteCoilRequestBlueprint(1, 3,
+                        new BitArray(true, false, true, false, false, false, false, false, false, true), true, 1)));
+        assertArrayEquals(new byte[] { 6, 0, 7, 0x12, 0x34 }, ModbusPduCodec
+                .encode(new ModbusWriteRegisterRequestBlueprint(1, 7, new ModbusRegisterArray(0x1234), false, 1)));
+        assertArrayEquals(new byte[] { 16, 0, 7, 0, 2, 4, 0x12, 0x34, 0x56, 0x78 },
+                ModbusPduCodec.encode(new ModbusWriteRegisterRequestBlueprint(1, 7,
+                        new ModbusRegisterArray(0x1234, 0x5678), true, 1)));
+    }
+
+    @Test
+    public void testDecodeBits() throws Exception {
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, 0,
+                10, 1);
+        AsyncModbusReadResult result = ModbusPduCodec.decodeReadResponse(request,
+                new byte[] { 1, 2, 0b00000101, (byte) 0b11111110 });
+        assertThat(result.getBits().get(),
+                is(new BitArray(true, false, true, false, false, false, false, false, false, true)));
+    }
+
+    @Test
+    public void testDecodeRegisters() throws Exception {
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1,
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, 1);
+        AsyncModbusReadResult result = ModbusPduCodec.decodeReadResponse(request,
+                new byte[] { 3, 4, 0x12, 0x34, 0x56, 0x78 });
+        assertThat(result.getRegisters().get(), is(new ModbusRegisterArray(0x1234, 0x5678)));
+    }
+
+    @Test
+    public void testDecodeErrors() {
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1,
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, 1);
+        ModbusSlaveErrorResponseExceptionImpl error = assertThrows(ModbusSlaveErrorResponseExceptionImpl.class,
+                () -> ModbusPduCodec.decodeReadResponse(request, new byte[] { (byte) 0x83, 2 }));
+        assertThat(error.getExceptionCode(), is(2));
+        assertThrows(ModbusUnexpectedResponseFunctionCodeException.class,
+                () -> ModbusPduCodec.decodeReadResponse(request, new byte[] { 4, 4, 0, 0, 0, 0 }));
+        assertThrows(ModbusUnexpectedResponseSizeException.class,
+                () -> ModbusPduCodec.decodeReadResponse(request, new byte[] { 3, 2, 0, 0 }));
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.internal.pipelining.ModbusPduCodec;
+import org.openhab.core.io.transport.modbus.internal.pipelining.ModbusPipelinedTCPConnection;
+
+/**
+ * Tests {@link ModbusPipelinedTCPConnection} against a local stand-in of a Modbus TCP slave
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPipelinedTCPConnectionTest {
+
+    private static final int UNIT_ID = 1;
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @NonNullByDefault({}) SlaveStandIn slave;
+    private final List<ModbusPipelinedTCPConnection> connections = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        slave = new SlaveStandIn();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        connections.forEach(ModbusPipelinedTCPConnection::disconnect);
+        slave.close();
+        scheduler.shutdownNow();
+    }
+
+    private ModbusPipelinedTCPConnection connect(int pipelineDepth) throws IOException {
+        ModbusPipelinedTCPConnection connection = new ModbusPipelinedTCPConnection(
+                InetAddress.getLoopbackAddress().getHostAddress(), slave.getPort(), 1000, pipelineDepth, scheduler);
+        connections.add(connection);
+        connection.connect();
+        return connection;
+    }
+
+    private static byte[] readRequest(int reference) {
+        return ModbusPduCodec.encode(new ModbusReadRequestBlueprint(UNIT_ID,
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, reference, 1, 1));
+    }
+
+    private static byte[] registerResponse(int value) {
+        return new byte[] { 3, 2, (byte) (value >> 8), (byte) value };
+    }
+
+    private static int getReference(byte[] requestFrame) {
+        return ((requestFrame[8] & 0xff) << 8) | (requestFrame[9] & 0xff);
+    }
+
+    @Test
+    public void testResponsesMatchedByTransactionId() throws Exception {
+        ModbusPipelinedTCPConnection connection = connect(4);
+        List<CompletableFuture<byte[]>> responses = new ArrayList<>();
+        for (int reference = 0; reference < 4; reference++) {
+            responses.add(connection.submit(UNIT_ID, readRequest(reference), TIMEOUT_MILLIS));
+        }
+
+        // all requests are sent without waiting for responses
+        List<byte[]> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(slave.takeRequest());
+        }
+        assertThat(connection.getTransactionsInFlight(), is(4));
+
+        // respond in reverse order, each response containing the address of its request
+        for (int i = 3; i >= 0; i--) {
+            slave.respond(requests.get(i), registerResponse(getReference(requests.get(i))));
+        }
+        for (int reference = 0; reference < 4; reference++) {
+            ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(UNIT_ID,
+                    ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, reference, 1, 1);
+            AsyncModbusReadResult result = ModbusPduCodec.decodeReadResponse(request,
+                    responses.get(reference).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            assertThat(result.getRegisters().get(), is(new ModbusRegisterArray(reference)));
+        }
+        assertThat(connection.getTransactionsInFlight(), is(0));
+    }
+
+    @Test
+    public void testPipelineDepthLimitsTransactionsInFlight() throws Exception {
+        ModbusPipelinedTCPConnection connection = connect(2);
+        connection.submit(UNIT_ID, readRequest(0), TIMEOUT_MILLIS);
+        connection.submit(UNIT_ID, readRequest(1), TIMEOUT_MILLIS);
+        byte[] first = slave.takeRequest();
+        slave.takeRequest();
+
+        CompletableFuture<byte[]> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return connection.execute(UNIT_ID, readRequest(2), TIMEOUT_MILLIS);
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        // the third request waits for a free slot
+        assertThat(slave.pollRequest(200), is(nullValue()));
+
+        slave.respond(first, registerResponse(0));
+        byte[] thirdRequest = slave.takeRequest();
+        assertThat(getReference(thirdRequest), is(2));
+        slave.respond(thirdRequest, registerResponse(2));
+        assertArrayEquals(registerResponse(2), third.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testTimeoutDoesNotAffectOtherTransactions() throws Exception {
+        ModbusPipelinedTCPConnection connection = connect(2);
+        CompletableFuture<byte[]> unanswered = connection.submit(UNIT_ID, readRequest(0), 100);
+        CompletableFuture<byte[]> answered = connection.submit(UNIT_ID, readRequest(1), TIMEOUT_MILLIS);
+        byte[] unansweredRequest = slave.takeRequest();
+        byte[] answeredRequest = slave.takeRequest();
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> unanswered.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertThat(e.getCause(), is(instanceOf(SocketTimeoutException.class)));
+
+        // late response is discarded, the connection stays usable
+        slave.respond(unansweredRequest, registerResponse(0));
+        slave.respond(answeredRequest, registerResponse(1));
+        assertArrayEquals(registerResponse(1), answered.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertThat(connection.isConnected(), is(true));
+        assertThat(connection.getTransactionsInFlight(), is(0));
+    }
+
+    @Test
+    public void testConnectionLossFailsTransactionsInFlight() throws Exception {
+        ModbusPipelinedTCPConnection connection = connect(2);
+        CompletableFuture<byte[]> response = connection.submit(UNIT_ID, readRequest(0), TIMEOUT_MILLIS);
+        slave.takeRequest();
+
+        slave.closeConnection();
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> response.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertThat(e.getCause(), is(instanceOf(IOException.class)));
+        assertThat(connection.isConnected(), is(false));
+        assertThat(connection.getTransactionsInFlight(), is(0));
+        assertThrows(IOException.class, () -> connection.submit(UNIT_ID, readRequest(0), TIMEOUT_MILLIS));
+
+        // next request connects again
+        connection.connect();
+        CompletableFuture<byte[]> next = connection.submit(UNIT_ID, readRequest(1), TIMEOUT_MILLIS);
+        slave.respond(slave.takeRequest(), registerResponse(1));
+        assertArrayEquals(registerResponse(1), next.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testInterruptedTransactionIsAbandoned() throws Exception {
+        ModbusPipelinedTCPConnection connection = connect(1);
+        Thread caller = Thread.currentThread();
+        scheduler.schedule(caller::interrupt, 100, TimeUnit.MILLISECONDS);
+        assertThrows(InterruptedException.class, () -> connection.execute(UNIT_ID, readRequest(0), TIMEOUT_MILLIS));
+        slave.takeRequest();
+
+        // slot of the pipeline is free again
+        assertThat(connection.getTransactionsInFlight(), is(0));
+        CompletableFuture<byte[]> next = connection.submit(UNIT_ID, readRequest(1), TIMEOUT_MILLIS);
+        slave.respond(slave.takeRequest(), registerResponse(1));
+        assertArrayEquals(registerResponse(1), next.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testWaitingForResponseIsBoundedWhenTimeoutCannotRun() throws Exception {
+        ModbusPipelinedTCPConnection connection = connect(1);
+        // the only thread of the scheduler is busy, e.g. waiting for a response itself
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            assertThrows(SocketTimeoutException.class, () -> connection.execute(UNIT_ID, readRequest(0), 100));
+        } finally {
+            release.countDown();
+        }
+        slave.takeRequest();
+
+        // slot of the pipeline is free again
+        assertThat(connection.getTransactionsInFlight(), is(0));
+    }
+
+    /**
+     * Stand-in of a Modbus TCP slave. Collects the requests, the test decides when and in which order to respond.
+     */
+    private static class SlaveStandIn implements AutoCloseable {
+        private final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        private final BlockingQueue<byte[]> requests = new LinkedBlockingQueue<>();
+        private volatile @Nullable Socket socket;
+
+        private SlaveStandIn() throws IOException {
+            Thread thread = new Thread(this::serve, "modbus-slave-stand-in");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void serve() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    this.socket = socket;
+                    DataInputStream inputStream = new DataInputStream(socket.getInputStream());
+                    while (true) {
+                        byte[] header = new byte[7];
+                        inputStream.readFully(header);
+                        int length = ((header[4] & 0xff) << 8) | (header[5] & 0xff);
+                        byte[] frame = new byte[6 + length];
+                        System.arraycopy(header, 0, frame, 0, header.length);
+                        inputStream.readFully(frame, header.length, length - 1);
+                        requests.add(frame);
+                    }
+                } catch (IOException e) {
+                    // connection closed, accept the next one
+                }
+            }
+        }
+
+        private byte[] takeRequest() throws InterruptedException, TimeoutException {
+            byte[] request = pollRequest(TIMEOUT_MILLIS);
+            if (request == null) {
+                throw new TimeoutException("No request received");
+            }
+            return request;
+        }
+
+        private byte @Nullable [] pollRequest(long timeoutMillis) throws InterruptedException {
+            return requests.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void respond(byte[] requestFrame, byte[] response) throws IOException {
+            Socket socket = this.socket;
+            assertNotNull(socket);
+            byte[] frame = new byte[7 + response.length];
+            // transaction identifier, protocol identifier and unit identifier of the request
+            System.arraycopy(requestFrame, 0, frame, 0, 4);
+            frame[4] = (byte) ((response.length + 1) >> 8);
+            frame[5] = (byte) (response.length + 1);
+            frame[6] = requestFrame[6];
+            System.arraycopy(response, 0, frame, 7, response.length);
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(frame);
+            outputStream.flush();
+        }
+
+        private void closeConnection() throws IOException {
+            Socket socket = this.socket;
+            if (socket != null) {
+                socket.close();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeConnection();
+            serverSocket.close();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.exception.ModbusSlaveErrorResponseException;
+import org.openhab.core.io.transport.modbus.internal.BasicPollTask;
+import org.openhab.core.io.transport.modbus.internal.CoalescedPollTask;
+import org.openhab.core.io.transport.modbus.internal.ModbusReadCoalescer;
+
+/**
+ * Tests {@link ModbusReadCoalescer} and {@link CoalescedPollTask}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadCoalescerTest {
+
+    private final ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("localhost", 502, false);
+    private final List<AsyncModbusReadResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+
+    private PollTask task(ModbusReadFunctionCode functionCode, int start, int length) {
+        return task(1, functionCode, start, length);
+    }
+
+    private PollTask task(int slaveId, ModbusReadFunctionCode functionCode, int start, int length) {
+        return new BasicPollTask(endpoint, new ModbusReadRequestBlueprint(slaveId, functionCode, start, length, 3),
+                results::add, failures::add);
+    }
+
+    @Test
+    public void testAdjacentAndOverlappingRequestsAreMerged() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2);
+        PollTask task3 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 3, 4);
+
+        List<CoalescedPollTask> coalesced = ModbusReadCoalescer.coalesce(endpoint, List.of(task3, task1, task2), 0,
+                ModbusConstants.MAX_PDU_SIZE);
+
+        assertThat(coalesced.size(), is(1));
+        assertThat(coalesced.getFirst().getRequest(),
+                is(new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 7, 3)));
+        assertThat(coalesced.getFirst().getMembers(), is(List.of(task1, task2, task3)));
+    }
+
+    @Test
+    public void testGapIsRespected() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 5, 2);
+
+        assertThat(ModbusReadCoalescer.coalesce(endpoint, List.of(task1, task2), 2, ModbusConstants.MAX_PDU_SIZE)
+                .size(), is(2));
+        assertThat(ModbusReadCoalescer.coalesce(endpoint, List.of(task1, task2), 3, ModbusConstants.MAX_PDU_SIZE)
+                .size(), is(1));
+        assertThat(ModbusReadCoalescer.coalesce(endpoint, List.of(task1, task2), -1, ModbusConstants.MAX_PDU_SIZE)
+                .size(), is(2));
+    }
+
+    @Test
+    public void testOnlySameSlaveAndFunctionCodeAreMerged() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 2, 2);
+        PollTask task3 = task(2, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2);
+
+        List<CoalescedPollTask> coalesced = ModbusReadCoalescer.coalesce(endpoint, List.of(task1, task2, task3), 10,
+                ModbusConstants.MAX_PDU_SIZE);
+
+        assertThat(coalesced.size(), is(3));
+    }
+
+    @Test
+    public void testMaxPduSizeIsRespected() {
+        // 12 bytes PDU leave room for 5 registers or 80 bits
+        assertThat(ModbusReadCoalescer.getMaxReadCount(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 12), is(5));
+        assertThat(ModbusReadCoalescer.getMaxReadCount(ModbusReadFunctionCode.READ_COILS, 12), is(80));
+        assertThat(ModbusReadCoalescer.getMaxReadCount(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 1000),
+                is(ModbusConstants.MAX_REGISTERS_READ_COUNT));
+        assertThat(ModbusReadCoalescer.getMaxReadCount(ModbusReadFunctionCode.READ_INPUT_DISCRETES, 1000),
+                is(ModbusConstants.MAX_BITS_READ_COUNT));
+
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 3);
+        PollTask task3 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 1);
+
+        List<CoalescedPollTask> coalesced = ModbusReadCoalescer.coalesce(endpoint, List.of(task1, task2, task3), 0,
+                12);
+
+        assertThat(coalesced.size(), is(2));
+        assertThat(coalesced.get(0).getMembers(), is(List.of(task1, task2)));
+        assertThat(coalesced.get(1).getMembers(), is(List.of(task3)));
+    }
+
+    @Test
+    public void testRegistersAreDemultiplexed() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 13, 1);
+        CoalescedPollTask coalesced = ModbusReadCoalescer
+                .coalesce(endpoint, List.of(task1, task2), 1, ModbusConstants.MAX_PDU_SIZE).getFirst();
+
+        coalesced.getResultCallback().handle(
+                new AsyncModbusReadResult(coalesced.getRequest(), new ModbusRegisterArray(1, 2, 3, 4)));
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0).getRequest(), is(sameInstance(task1.getRequest())));
+        assertThat(results.get(0).getRegisters().get(), is(new ModbusRegisterArray(1, 2)));
+        assertThat(results.get(1).getRequest(), is(sameInstance(task2.getRequest())));
+        assertThat(results.get(1).getRegisters().get(), is(new ModbusRegisterArray(4)));
+    }
+
+    @Test
+    public void testBitsAreDemultiplexed() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_COILS, 0, 3);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_COILS, 2, 2);
+        CoalescedPollTask coalesced = ModbusReadCoalescer
+                .coalesce(endpoint, List.of(task1, task2), 0, ModbusConstants.MAX_PDU_SIZE).getFirst();
+
+        coalesced.getResultCallback()
+                .handle(new AsyncModbusReadResult(coalesced.getRequest(), new BitArray(true, false, true, true)));
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0).getBits().get(), is(new BitArray(true, false, true)));
+        assertThat(results.get(1).getBits().get(), is(new BitArray(true, true)));
+    }
+
+    @Test
+    public void testFailureIsReportedToAllMembers() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 1);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 1, 1);
+        CoalescedPollTask coalesced = ModbusReadCoalescer
+                .coalesce(endpoint, List.of(task1, task2), 0, ModbusConstants.MAX_PDU_SIZE).getFirst();
+        Exception cause = new SlaveErrorResponseException(ModbusSlaveErrorResponseException.SLAVE_DEVICE_FAILURE);
+
+        coalesced.getFailureCallback().handle(new AsyncModbusFailure<>(coalesced.getRequest(), cause));
+
+        assertThat(coalesced.isRejectedBySlave(), is(false));
+        assertThat(failures.size(), is(2));
+        assertThat(failures.get(0).getRequest(), is(sameInstance(task1.getRequest())));
+        assertThat(failures.get(0).getCause(), is(sameInstance(cause)));
+        assertThat(failures.get(1).getRequest(), is(sameInstance(task2.getRequest())));
+    }
+
+    @Test
+    public void testIllegalDataAccessMarksTaskAsRejected() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 1);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 1);
+        CoalescedPollTask coalesced = ModbusReadCoalescer
+                .coalesce(endpoint, List.of(task1, task2), 1, ModbusConstants.MAX_PDU_SIZE).getFirst();
+
+        coalesced.getFailureCallback().handle(new AsyncModbusFailure<>(coalesced.getRequest(),
+                new SlaveErrorResponseException(ModbusSlaveErrorResponseException.ILLEGAL_DATA_ACCESS)));
+
+        assertThat(coalesced.isRejectedBySlave(), is(true));
+        assertThat(failures.size(), is(0));
+    }
+
+    private static class SlaveErrorResponseException extends ModbusSlaveErrorResponseException {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int exceptionCode;
+
+        private SlaveErrorResponseException(int exceptionCode) {
+            this.exceptionCode = exceptionCode;
+        }
+
+        @Override
+        public int getExceptionCode() {
+            return exceptionCode;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -31,6 +32,8 @@ import javax.net.ssl.TrustManagerFactory;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
+import org.openhab.core.io.transport.mqtt.internal.SubscriptionTree;
+import org.openhab.core.io.transport.mqtt.internal.TopicOrderedExecutor;
 import org.openhab.core.io.transport.mqtt.internal.client.Mqtt3AsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.internal.client.Mqtt5AsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.internal.client.MqttAsyncClientWrapper;
@@ -59,6 +62,8 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
  * @author Jan N. Klug - changed from PAHO to HiveMQ client
  * @author Mark Herwege - Added flag for hostname validation
  * @author Mark Herwege - Added parameter for cleanSession/cleanStart
+ * @author Andrew Fiddian-Green - Match received messages by a subscription tree and optionally deliver them on an
+ *         executor
  */
 @NonNullByDefault
 public class MqttBrokerConnection {
@@ -109,6 +114,8 @@ public class MqttBrokerConnection {
     protected boolean isConnecting = false;
     protected final List<MqttConnectionObserver> connectionObservers = new CopyOnWriteArrayList<>();
     protected final Map<String, Subscription> subscribers = new ConcurrentHashMap<>();
+    private final SubscriptionTree subscriptionTree = new SubscriptionTree();
+    private @Nullable TopicOrderedExecutor messageExecutor;
 
     // Connection timeout handling
     protected final AtomicReference<@Nullable ScheduledFuture<?>> timeoutFuture = new AtomicReference<>(null);
@@ -313,6 +320,19 @@ public class MqttBrokerConnection {
         this.timeout = timeoutInMS;
     }
 
+    /**
+     * Set an executor for delivering received messages to the subscribers. Messages to the same topic are delivered
+     * in the order they were received, messages to different topics may be delivered in parallel. A bounded executor,
+     * like a pool of the {@link org.openhab.core.common.ThreadPoolManager}, should be used to limit the number of
+     * threads. The default executor is none, in which case messages are delivered by the thread of the MQTT client
+     * one after another.
+     *
+     * @param executor The executor for delivering messages or null to deliver them on the MQTT client thread
+     */
+    public void setMessageExecutor(@Nullable Executor executor) {
+        messageExecutor = executor == null ? null : new TopicOrderedExecutor(executor);
+    }
+
     public void setTrustManagers(TrustManager[] trustManagers) {
         if (trustManagers.length != 0) {
             trustManagerFactory = new CustomTrustManagerFactory(trustManagers);
@@ -547,7 +567,11 @@ public class MqttBrokerConnection {
         final Subscription subscription;
         final boolean needsSubscribe;
         synchronized (subscribers) {
-            subscription = subscribers.computeIfAbsent(topic, t -> new Subscription());
+            subscription = subscribers.computeIfAbsent(topic, t -> {
+                Subscription newSubscription = new Subscription();
+                subscriptionTree.put(t, newSubscription);
+                return newSubscription;
+            });
 
             needsSubscribe = subscription.isEmpty();
 
@@ -571,7 +595,7 @@ public class MqttBrokerConnection {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
         final MqttAsyncClientWrapper mqttClient = this.client;
         if (mqttClient != null && mqttClient.getState().isConnected()) {
-            mqttClient.subscribe(topic, qos, subscription).whenComplete((s, t) -> {
+            mqttClient.subscribe(topic, qos).whenComplete((s, t) -> {
                 if (t == null) {
                     logger.trace("Successfully subscribed to topic {}", topic);
                     future.complete(true);
@@ -609,6 +633,7 @@ public class MqttBrokerConnection {
             if (subscription.isEmpty()) {
                 needsUnsubscribe = true;
                 subscribers.remove(topic);
+                subscriptionTree.remove(topic);
             } else {
                 needsUnsubscribe = false;
             }
@@ -733,10 +758,31 @@ public class MqttBrokerConnection {
     protected MqttAsyncClientWrapper createClient() {
         if (mqttVersion == MqttVersion.V3) {
             return new Mqtt3AsyncClientWrapper(host, port, clientId, protocol, secure, hostnameValidated,
-                    connectionCallback, trustManagerFactory);
+                    connectionCallback, trustManagerFactory, this::messageArrived);
         } else {
             return new Mqtt5AsyncClientWrapper(host, port, clientId, protocol, secure, hostnameValidated,
-                    connectionCallback, trustManagerFactory);
+                    connectionCallback, trustManagerFactory, this::messageArrived);
+        }
+    }
+
+    /**
+     * Delivers a received message to the subscriptions with a matching topic filter.
+     *
+     * @param topic The topic of the message
+     * @param payload The message payload
+     * @param retain Whether the message is a retained message
+     */
+    protected void messageArrived(String topic, byte[] payload, boolean retain) {
+        List<Subscription> subscriptions = subscriptionTree.match(topic);
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        TopicOrderedExecutor executor = messageExecutor;
+        if (executor == null) {
+            subscriptions.forEach(subscription -> subscription.messageArrived(topic, payload, retain));
+        } else {
+            executor.execute(topic,
+                    () -> subscriptions.forEach(subscription -> subscription.messageArrived(topic, payload, retain)));
         }
     }
 
@@ -770,6 +816,7 @@ public class MqttBrokerConnection {
                 futures.add(unsubscribeRaw(client, topic));
             });
             subscribers.clear();
+            subscriptionTree.clear();
         }
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
     }
@@ -22,9 +22,6 @@ import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
-import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
-
 /**
  * This class keeps track of all the subscribers to a specific topic.
  * <p>
@@ -69,14 +66,6 @@ public class Subscription {
         return subscribers.isEmpty();
     }
 
-    public void messageArrived(Mqtt3Publish message) {
-        messageArrived(message.getTopic().toString(), message.getPayloadAsBytes(), message.isRetain());
-    }
-
-    public void messageArrived(Mqtt5Publish message) {
-        messageArrived(message.getTopic().toString(), message.getPayloadAsBytes(), message.isRetain());
-    }
-
     public void messageArrived(String topic, byte[] payload, boolean retain) {
         // http://docs.oasis-open.org/mqtt/mqtt/v3.1.1/os/mqtt-v3.1.1-os.html#_Toc385349265
         // Only the first message delivered will have the retain flag; subsequent messages
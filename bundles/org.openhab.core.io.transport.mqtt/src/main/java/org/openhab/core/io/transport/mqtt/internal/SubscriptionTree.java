@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A tree of {@link Subscription}s by the levels of their topic filter. It finds all subscriptions matching a topic
+ * by walking the levels of the topic once, instead of testing every topic filter.
+ * <p>
+ * The single-level wildcard {@code +} and the multi-level wildcard {@code #} are handled as specified in
+ * http://docs.oasis-open.org/mqtt/mqtt/v3.1.1/os/mqtt-v3.1.1-os.html#_Toc398718106. Topics starting with {@code $}
+ * are not matched by filters starting with a wildcard.
+ * <p>
+ * Lookups do not lock and may run concurrently to modifications.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class SubscriptionTree {
+    private static final String LEVEL_SEPARATOR = "/";
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a subscription for the given topic filter. An existing subscription for the same filter is replaced.
+     *
+     * @param topicFilter the topic filter, may contain wildcards
+     * @param subscription the subscription
+     */
+    public synchronized void put(String topicFilter, Subscription subscription) {
+        Node node = root;
+        for (String level : topicFilter.split(LEVEL_SEPARATOR, -1)) {
+            node = node.children.computeIfAbsent(level, l -> new Node());
+        }
+        node.subscription = subscription;
+    }
+
+    /**
+     * Removes the subscription for the given topic filter.
+     *
+     * @param topicFilter the topic filter
+     */
+    public synchronized void remove(String topicFilter) {
+        remove(root, topicFilter.split(LEVEL_SEPARATOR, -1), 0);
+    }
+
+    private boolean remove(Node node, String[] levels, int index) {
+        if (index == levels.length) {
+            node.subscription = null;
+        } else {
+            Node child = node.children.get(levels[index]);
+            if (child != null && remove(child, levels, index + 1)) {
+                node.children.remove(levels[index]);
+            }
+        }
+        return node.subscription == null && node.children.isEmpty();
+    }
+
+    /**
+     * Removes all subscriptions.
+     */
+    public synchronized void clear() {
+        root.children.clear();
+    }
+
+    /**
+     * Finds all subscriptions with a topic filter matching the given topic.
+     *
+     * @param topic the topic of a received message, must not contain wildcards
+     * @return the matching subscriptions
+     */
+    public List<Subscription> match(String topic) {
+        List<Subscription> result = new ArrayList<>();
+        match(root, topic.split(LEVEL_SEPARATOR, -1), 0, !topic.startsWith("$"), result);
+        return result;
+    }
+
+    private void match(Node node, String[] levels, int index, boolean wildcardsAllowed, List<Subscription> result) {
+        // "#" also matches the parent level, i.e. "a/#" matches "a"
+        Node multiLevel = wildcardsAllowed ? node.children.get(MULTI_LEVEL_WILDCARD) : null;
+        if (multiLevel != null) {
+            addIfPresent(multiLevel, result);
+        }
+
+        if (index == levels.length) {
+            addIfPresent(node, result);
+            return;
+        }
+
+        Node singleLevel = wildcardsAllowed ? node.children.get(SINGLE_LEVEL_WILDCARD) : null;
+        if (singleLevel != null) {
+            match(singleLevel, levels, index + 1, true, result);
+        }
+        Node exact = node.children.get(levels[index]);
+        if (exact != null) {
+            match(exact, levels, index + 1, true, result);
+        }
+    }
+
+    private void addIfPresent(Node node, List<Subscription> result) {
+        Subscription subscription = node.subscription;
+        if (subscription != null) {
+            result.add(subscription);
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+        private volatile @Nullable Subscription subscription;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks on an {@link Executor} while keeping the order of the tasks for the same topic. Tasks for different
+ * topics run in parallel, tasks for the same topic run one after another in the order they were submitted.
+ * <p>
+ * Only one task per topic is handed to the executor at a time, so a busy topic cannot occupy more than one thread of
+ * the executor.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class TopicOrderedExecutor {
+    private final Logger logger = LoggerFactory.getLogger(TopicOrderedExecutor.class);
+
+    private final Executor executor;
+    private final Map<String, Queue<Runnable>> pendingTasks = new HashMap<>();
+
+    public TopicOrderedExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Executes the task after all previously submitted tasks of the same topic have been executed.
+     *
+     * @param topic the topic the task belongs to
+     * @param task the task
+     */
+    public void execute(String topic, Runnable task) {
+        synchronized (pendingTasks) {
+            @Nullable Queue<Runnable> queue = pendingTasks.get(topic);
+            if (queue != null) {
+                // a task for this topic is running, it will pick up this one when done
+                queue.add(task);
+                return;
+            }
+            pendingTasks.put(topic, new ArrayDeque<>());
+        }
+        submit(topic, task);
+    }
+
+    private void submit(String topic, Runnable task) {
+        try {
+            executor.execute(() -> run(topic, task));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Dropping pending messages for topic '{}', the executor rejected them: {}", topic,
+                    e.getMessage());
+            synchronized (pendingTasks) {
+                pendingTasks.remove(topic);
+            }
+        }
+    }
+
+    private void run(String topic, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to process message for topic '{}'", topic, e);
+        }
+
+        @Nullable Runnable next;
+        synchronized (pendingTasks) {
+            @Nullable Queue<Runnable> queue = pendingTasks.get(topic);
+            next = queue == null ? null : queue.poll();
+            if (next == null) {
+                pendingTasks.remove(topic);
+                return;
+            }
+        }
+        // resubmit instead of looping, so that other topics get their turn on a bounded executor
+        submit(topic, next);
+    }
+}
@@ -21,9 +21,9 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.ConnectionCallback;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.Protocol;
 import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
-import org.openhab.core.io.transport.mqtt.internal.Subscription;
 
 import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3Client;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3ClientBuilder;
@@ -39,6 +39,7 @@ import com.hivemq.client.mqtt.mqtt3.message.unsubscribe.Mqtt3Unsubscribe;
  * @author Jan N. Klug - Initial contribution
  * @author Mark Herwege - Added flag for hostname validation
  * @author Mark Herwege - Added parameter for cleanSession
+ * @author Andrew Fiddian-Green - Deliver all received messages to a single callback
  */
 @NonNullByDefault
 public class Mqtt3AsyncClientWrapper extends MqttAsyncClientWrapper {
@@ -46,7 +47,7 @@ public class Mqtt3AsyncClientWrapper extends MqttAsyncClientWrapper {
 
     public Mqtt3AsyncClientWrapper(String host, int port, String clientId, Protocol protocol, boolean secure,
             boolean hostnameValidated, ConnectionCallback connectionCallback,
-            @Nullable TrustManagerFactory trustManagerFactory) {
+            @Nullable TrustManagerFactory trustManagerFactory, MessageCallback messageCallback) {
         Mqtt3ClientBuilder clientBuilder = Mqtt3Client.builder().serverHost(host).serverPort(port).identifier(clientId)
                 .addConnectedListener(connectionCallback).addDisconnectedListener(connectionCallback);
 
@@ -64,6 +65,9 @@ public class Mqtt3AsyncClientWrapper extends MqttAsyncClientWrapper {
         }
 
         client = clientBuilder.buildAsync();
+        // register before connecting, so that no message of a persistent session is missed
+        client.publishes(MqttGlobalPublishFilter.SUBSCRIBED, message -> messageCallback
+                .messageArrived(message.getTopic().toString(), message.getPayloadAsBytes(), message.isRetain()));
     }
 
     @Override
@@ -72,10 +76,10 @@ public class Mqtt3AsyncClientWrapper extends MqttAsyncClientWrapper {
     }
 
     @Override
-    public CompletableFuture<?> subscribe(String topic, int qos, Subscription subscription) {
+    public CompletableFuture<?> subscribe(String topic, int qos) {
         Mqtt3Subscribe subscribeMessage = Mqtt3Subscribe.builder().topicFilter(topic).qos(getMqttQosFromInt(qos))
                 .build();
-        return client.subscribe(subscribeMessage, subscription::messageArrived);
+        return client.subscribe(subscribeMessage);
     }
 
     @Override
@@ -21,9 +21,9 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.ConnectionCallback;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.Protocol;
 import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
-import org.openhab.core.io.transport.mqtt.internal.Subscription;
 
 import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5ClientBuilder;
@@ -40,6 +40,7 @@ import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5Unsubscribe;
  * @author Jan N. Klug - Initial contribution
  * @author Mark Herwege - Added flag for hostname validation
  * @author Mark Herwege - Added parameter for cleanStart
+ * @author Andrew Fiddian-Green - Deliver all received messages to a single callback
  */
 @NonNullByDefault
 public class Mqtt5AsyncClientWrapper extends MqttAsyncClientWrapper {
@@ -47,7 +48,7 @@ public class Mqtt5AsyncClientWrapper extends MqttAsyncClientWrapper {
 
     public Mqtt5AsyncClientWrapper(String host, int port, String clientId, Protocol protocol, boolean secure,
             boolean hostnameValidated, ConnectionCallback connectionCallback,
-            @Nullable TrustManagerFactory trustManagerFactory) {
+            @Nullable TrustManagerFactory trustManagerFactory, MessageCallback messageCallback) {
         Mqtt5ClientBuilder clientBuilder = Mqtt5Client.builder().serverHost(host).serverPort(port).identifier(clientId)
                 .addConnectedListener(connectionCallback).addDisconnectedListener(connectionCallback);
 
@@ -65,6 +66,9 @@ public class Mqtt5AsyncClientWrapper extends MqttAsyncClientWrapper {
         }
 
         client = clientBuilder.buildAsync();
+        // register before connecting, so that no message of a persistent session is missed
+        client.publishes(MqttGlobalPublishFilter.SUBSCRIBED, message -> messageCallback
+                .messageArrived(message.getTopic().toString(), message.getPayloadAsBytes(), message.isRetain()));
     }
 
     @Override
@@ -73,10 +77,10 @@ public class Mqtt5AsyncClientWrapper extends MqttAsyncClientWrapper {
     }
 
     @Override
-    public CompletableFuture<?> subscribe(String topic, int qos, Subscription subscription) {
+    public CompletableFuture<?> subscribe(String topic, int qos) {
         Mqtt5Subscribe subscribeMessage = Mqtt5Subscribe.builder().topicFilter(topic).qos(getMqttQosFromInt(qos))
                 .build();
-        return client.subscribe(subscribeMessage, subscription::messageArrived);
+        return client.subscribe(subscribeMessage);
     }
 
     @Override
@@ -20,7 +20,6 @@ import javax.net.ssl.SSLSession;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
-import org.openhab.core.io.transport.mqtt.internal.Subscription;
 
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.datatypes.MqttQos;
@@ -30,10 +29,19 @@ import com.hivemq.client.mqtt.datatypes.MqttQos;
  *
  * @author Jan N. Klug - Initial contribution
  * @author Mark Herwege - Added parameter for cleanSession/cleanStart
+ * @author Andrew Fiddian-Green - Deliver all received messages to a single callback
  */
 
 @NonNullByDefault
 public abstract class MqttAsyncClientWrapper implements HostnameVerifier {
+    /**
+     * The callback for all messages received for any subscription of a client
+     */
+    @FunctionalInterface
+    public interface MessageCallback {
+        void messageArrived(String topic, byte[] payload, boolean retain);
+    }
+
     /**
      * connect this client
      *
@@ -73,14 +81,13 @@ public abstract class MqttAsyncClientWrapper implements HostnameVerifier {
     public abstract CompletableFuture<?> publish(String topic, byte[] payload, boolean retain, int qos);
 
     /**
-     * subscribe a client callback to a topic
+     * subscribe to a topic, received messages are delivered to the {@link MessageCallback} of this client
      *
      * @param topic the topic
      * @param qos QoS for this subscription
-     * @param subscription the subscription which keeps track of subscribers and retained messages
      * @return a CompletableFuture (exceptionally on fail)
      */
-    public abstract CompletableFuture<?> subscribe(String topic, int qos, Subscription subscription);
+    public abstract CompletableFuture<?> subscribe(String topic, int qos);
 
     /**
      * unsubscribes from a topic
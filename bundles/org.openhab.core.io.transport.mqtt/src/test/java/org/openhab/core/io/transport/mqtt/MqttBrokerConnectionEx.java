@@ -87,7 +87,7 @@ public class MqttBrokerConnectionEx extends MqttBrokerConnection {
                 future.completeExceptionally(new Throwable("subscription failed"));
                 return future;
             }
-        }).when(mockedClient).subscribe(any(), anyInt(), any());
+        }).when(mockedClient).subscribe(any(), anyInt());
         // unsubscribe
         doAnswer(i -> {
             if (unsubscribeSuccess) {
@@ -18,12 +18,17 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,7 +40,6 @@ import org.openhab.core.test.java.JavaTest;
 import org.osgi.service.cm.ConfigurationException;
 
 import com.hivemq.client.mqtt.lifecycle.MqttClientDisconnectedContext;
-import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
 
 /**
  * Tests the MqttBrokerConnection class
@@ -70,10 +74,9 @@ public class MqttBrokerConnectionTests extends JavaTest {
         assertTrue(connection.hasSubscribers());
         assertThat(connection.connectionState(), is(MqttConnectionState.CONNECTED));
 
-        Mqtt3Publish publishMessage = Mqtt3Publish.builder().topic("homie/device123/$name").payload(HELLO_BYTES)
-                .build();
         // Test if subscription is active
-        connection.getSubscribers().get("homie/device123/$name").messageArrived(publishMessage);
+        connection.getSubscribers().get("homie/device123/$name").messageArrived("homie/device123/$name", HELLO_BYTES,
+                false);
         verify(subscriber).processMessage(eq("homie/device123/$name"), eqHelloBytes());
     }
 
@@ -97,17 +100,73 @@ public class MqttBrokerConnectionTests extends JavaTest {
         assertTrue(connection.hasSubscribers());
         assertThat(connection.connectionState(), is(MqttConnectionState.CONNECTED));
 
-        Mqtt3Publish publishMessage = Mqtt3Publish.builder().topic("homie/device123/$name").payload(HELLO_BYTES)
-                .build();
-        connection.getSubscribers().get("homie/device123/+").messageArrived(publishMessage);
-        connection.getSubscribers().get("#").messageArrived(publishMessage);
-        connection.getSubscribers().get("homie/#").messageArrived(publishMessage);
+        String topic = "homie/device123/$name";
+        connection.getSubscribers().get("homie/device123/+").messageArrived(topic, HELLO_BYTES, false);
+        connection.getSubscribers().get("#").messageArrived(topic, HELLO_BYTES, false);
+        connection.getSubscribers().get("homie/#").messageArrived(topic, HELLO_BYTES, false);
 
         verify(subscriber).processMessage(eq("homie/device123/$name"), eqHelloBytes());
         verify(subscriber2).processMessage(eq("homie/device123/$name"), eqHelloBytes());
         verify(subscriber3).processMessage(eq("homie/device123/$name"), eqHelloBytes());
     }
 
+    @Test
+    public void messageArrivedIsDeliveredToMatchingSubscriptions() {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+
+        MqttMessageSubscriber subscriber = mock(MqttMessageSubscriber.class);
+        connection.subscribe("homie/device123/+", subscriber);
+        MqttMessageSubscriber subscriber2 = mock(MqttMessageSubscriber.class);
+        connection.subscribe("homie/device456/+", subscriber2);
+        MqttMessageSubscriber subscriber3 = mock(MqttMessageSubscriber.class);
+        connection.subscribe("homie/#", subscriber3);
+
+        connection.messageArrived("homie/device123/$name", HELLO_BYTES, false);
+
+        verify(subscriber).processMessage(eq("homie/device123/$name"), eqHelloBytes());
+        verify(subscriber2, never()).processMessage(any(), any());
+        verify(subscriber3).processMessage(eq("homie/device123/$name"), eqHelloBytes());
+
+        // no longer delivered after unsubscribing
+        connection.unsubscribe("homie/#", subscriber3);
+        connection.messageArrived("homie/device123/$name", GOODBYE_BYTES, false);
+        verify(subscriber).processMessage(eq("homie/device123/$name"), eqGoodbyeBytes());
+        verify(subscriber3, never()).processMessage(any(), eqGoodbyeBytes());
+    }
+
+    @Test
+    public void messageExecutorKeepsOrderPerTopic() throws InterruptedException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        connection.setMessageExecutor(executor);
+
+        int messageCount = 200;
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2 * messageCount);
+        MqttMessageSubscriber subscriber = (topic, payload) -> {
+            received.add(topic + ":" + new String(payload));
+            latch.countDown();
+        };
+        connection.subscribe("topic/+", subscriber);
+
+        for (int i = 0; i < messageCount; i++) {
+            connection.messageArrived("topic/a", String.valueOf(i).getBytes(), false);
+            connection.messageArrived("topic/b", String.valueOf(i).getBytes(), false);
+        }
+
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        List<String> expected = IntStream.range(0, messageCount).mapToObj(i -> "topic/a:" + i).toList();
+        assertThat(received.stream().filter(message -> message.startsWith("topic/a:")).toList(), is(expected));
+        expected = IntStream.range(0, messageCount).mapToObj(i -> "topic/b:" + i).toList();
+        assertThat(received.stream().filter(message -> message.startsWith("topic/b:")).toList(), is(expected));
+    }
+
     @Test
     public void subscriber()
             throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
@@ -137,7 +196,7 @@ public class MqttBrokerConnectionTests extends JavaTest {
 
         // Add subscriber (while connected)
         CompletableFuture<Boolean> future = connection.subscribe("topic", subscriber);
-        verify(connection.client).subscribe(any(), anyInt(), any());
+        verify(connection.client).subscribe(any(), anyInt());
         assertTrue(future.get(200, TimeUnit.MILLISECONDS));
 
         // Remove subscriber (while connected)
@@ -154,11 +213,8 @@ public class MqttBrokerConnectionTests extends JavaTest {
         MqttMessageSubscriber subscriber2 = mock(MqttMessageSubscriber.class);
         connection.subscribe("topic", subscriber1);
 
-        Mqtt3Publish publishMessage = Mqtt3Publish.builder().topic("topic").payload(HELLO_BYTES).retain(true).build();
-        connection.getSubscribers().get("topic").messageArrived(publishMessage);
-
-        publishMessage = Mqtt3Publish.builder().topic("topic").payload(GOODBYE_BYTES).build();
-        connection.getSubscribers().get("topic").messageArrived(publishMessage);
+        connection.getSubscribers().get("topic").messageArrived("topic", HELLO_BYTES, true);
+        connection.getSubscribers().get("topic").messageArrived("topic", GOODBYE_BYTES, false);
 
         connection.subscribe("topic", subscriber2);
 
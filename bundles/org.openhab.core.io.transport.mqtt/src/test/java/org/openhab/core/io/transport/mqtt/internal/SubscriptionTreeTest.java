@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link SubscriptionTree}
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class SubscriptionTreeTest {
+    private static final String[] TOPIC_FILTERS = { "#", "+", "a", "a/b", "a/+", "a/#", "+/b", "+/+/c", "a/b/#",
+            "$SYS/#", "/a", "a//c" };
+
+    private final SubscriptionTree tree = new SubscriptionTree();
+    private final Map<String, Subscription> subscriptions = new HashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        for (String topicFilter : TOPIC_FILTERS) {
+            Subscription subscription = new Subscription();
+            subscriptions.put(topicFilter, subscription);
+            tree.put(topicFilter, subscription);
+        }
+    }
+
+    @Test
+    public void matchesLevelsAndWildcards() {
+        assertMatches("a", "#", "+", "a", "a/#");
+        assertMatches("a/b", "#", "a/b", "a/+", "a/#", "+/b", "a/b/#");
+        assertMatches("a/c", "#", "a/+", "a/#");
+        assertMatches("a/b/c", "#", "a/#", "+/+/c", "a/b/#");
+        assertMatches("x/b/c", "#", "+/+/c");
+        assertMatches("x/y", "#");
+    }
+
+    @Test
+    public void matchesEmptyLevels() {
+        assertMatches("/a", "#", "/a");
+        assertMatches("a//c", "#", "a/#", "+/+/c", "a//c");
+    }
+
+    @Test
+    public void wildcardsDoNotMatchDollarTopics() {
+        assertMatches("$SYS/broker", "$SYS/#");
+        assertMatches("$SYS", "$SYS/#");
+    }
+
+    @Test
+    public void removeStopsMatching() {
+        tree.remove("a/+");
+        tree.remove("#");
+        tree.remove("unknown/filter");
+        assertMatches("a/c", "a/#");
+        assertMatches("a/b", "a/b", "a/#", "+/b", "a/b/#");
+
+        tree.clear();
+        assertThat(tree.match("a/b"), is(empty()));
+    }
+
+    private void assertMatches(String topic, String... topicFilters) {
+        Subscription[] expected = Arrays.stream(topicFilters).map(subscriptions::get)
+                .filter(Objects::nonNull).toArray(Subscription[]::new);
+        assertThat(topic, tree.match(topic), containsInAnyOrder(expected));
+    }
+}
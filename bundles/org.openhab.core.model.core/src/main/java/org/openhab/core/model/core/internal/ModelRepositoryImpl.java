@@ -40,10 +40,13 @@ import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.validation.AbstractValidationDiagnostic;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.model.core.EventType;
 import org.openhab.core.model.core.ModelRepository;
 import org.openhab.core.model.core.ModelRepositoryChangeListener;
 import org.openhab.core.model.core.SafeEMF;
+import org.openhab.core.model.core.internal.ModelValidationCache.CachedValidation;
+import org.openhab.core.storage.StorageService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -51,11 +54,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * The {@link ModelRepositoryImpl} holds the DSL models in a single resource set.
+ * <p>
+ * A model is validated on a separate resource before it is loaded. Like any other access to the resource set, which is
+ * not thread-safe, the validation holds the lock of the resource set. Successful validations are remembered by the
+ * {@link ModelValidationCache}, models whose content and whose loaded models are unchanged since then are parsed only
+ * once.
+ *
  * @author Kai Kreuzer - Initial contribution
  * @author Oliver Libutzki - Added reloadAllModelsOfType method
  * @author Simon Kaufmann - added validation of models before loading them
  * @author Laurent Garnier - Added methods generateFileFormat and createIsolatedModel
  *         + return errors and warnings when loading a model
+ * @author Andrew Fiddian-Green - Skip validation of unchanged models
  */
 @Component(immediate = true)
 @NonNullByDefault
@@ -69,12 +80,15 @@ public class ModelRepositoryImpl implements ModelRepository {
     private final List<ModelRepositoryChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     private final SafeEMF safeEmf;
+    private final ModelValidationCache validationCache;
 
     private int counter;
 
     @Activate
-    public ModelRepositoryImpl(final @Reference SafeEMF safeEmf) {
+    public ModelRepositoryImpl(final @Reference SafeEMF safeEmf, final @Reference StorageService storageService) {
         this.safeEmf = safeEmf;
+        this.validationCache = new ModelValidationCache(storageService.getStorage(CachedValidation.class.getName(),
+                CachedValidation.class.getClassLoader()), OpenHAB.getVersion());
 
         XtextResourceSet xtextResourceSet = new SynchronizedXtextResourceSet();
         xtextResourceSet.addLoadOption(XtextResource.OPTION_RESOLVE_ALL, Boolean.TRUE);
@@ -93,6 +107,7 @@ public class ModelRepositoryImpl implements ModelRepository {
                 } else {
                     logger.warn("DSL model '{}' is either empty or cannot be parsed correctly!", name);
                     resourceSet.getResources().remove(resource);
+                    validationCache.modelUnloaded(name);
                     return null;
                 }
             } else {
@@ -124,7 +139,26 @@ public class ModelRepositoryImpl implements ModelRepository {
             bytes = inputStream.readAllBytes();
             List<String> newErrors = new ArrayList<>();
             List<String> newWarnings = new ArrayList<>();
-            boolean valid = validateModel(name, new ByteArrayInputStream(bytes), newErrors, newWarnings);
+            boolean valid;
+            boolean isolated = isIsolatedModel(name);
+            synchronized (resourceSet) {
+                @Nullable
+                List<String> cachedWarnings = isolated ? null : validationCache.getWarnings(name, bytes);
+                if (cachedWarnings != null) {
+                    logger.debug("DSL model '{}' is unchanged since its last successful validation", name);
+                    newWarnings.addAll(cachedWarnings);
+                    valid = true;
+                } else {
+                    valid = validateModel(name, new ByteArrayInputStream(bytes), newErrors, newWarnings);
+                    if (!isolated) {
+                        if (valid) {
+                            validationCache.putValid(name, bytes, newWarnings);
+                        } else {
+                            validationCache.remove(name);
+                        }
+                    }
+                }
+            }
             if (errors != null) {
                 errors.addAll(newErrors);
             }
@@ -160,6 +194,7 @@ public class ModelRepositoryImpl implements ModelRepository {
                         resource = resourceSet.createResource(URI.createURI(name));
                         if (resource != null) {
                             resource.load(inputStream, resourceOptions);
+                            modelLoaded(name, bytes);
                             notifyListeners(name, EventType.ADDED);
                             return true;
                         } else {
@@ -171,6 +206,7 @@ public class ModelRepositoryImpl implements ModelRepository {
                 synchronized (resourceSet) {
                     resource.unload();
                     resource.load(inputStream, resourceOptions);
+                    modelLoaded(name, bytes);
                     notifyListeners(name, EventType.MODIFIED);
                     return true;
                 }
@@ -182,6 +218,7 @@ public class ModelRepositoryImpl implements ModelRepository {
             logger.warn("DSL model '{}' cannot be parsed correctly!", name, e);
             if (resource != null) {
                 resourceSet.getResources().remove(resource);
+                validationCache.modelUnloaded(name);
             }
         }
         return false;
@@ -204,6 +241,7 @@ public class ModelRepositoryImpl implements ModelRepository {
                 // do not physically delete it, but remove it from the resource set
                 notifyListeners(name, EventType.REMOVED);
                 resourceSet.getResources().remove(resource);
+                validationCache.modelUnloaded(name);
                 return true;
             }
         } else {
@@ -260,6 +298,7 @@ public class ModelRepositoryImpl implements ModelRepository {
                     logger.debug("Removing resource '{}'", resource.getURI().lastSegment());
                     ret.add(resource.getURI().lastSegment());
                     resourceSet.getResources().remove(resource);
+                    validationCache.modelUnloaded(resource.getURI().lastSegment());
                     notifyListeners(resource.getURI().lastSegment(), EventType.REMOVED);
                 }
             }
@@ -300,6 +339,12 @@ public class ModelRepositoryImpl implements ModelRepository {
         }
     }
 
+    private void modelLoaded(String name, byte[] content) {
+        if (!isIsolatedModel(name)) {
+            validationCache.modelLoaded(name, content);
+        }
+    }
+
     private @Nullable Resource getResource(String name) {
         return resourceSet.getResource(URI.createURI(name), false);
     }
@@ -318,7 +363,7 @@ public class ModelRepositoryImpl implements ModelRepository {
      * </ol>
      * <p>
      * Validation will be done on a separate resource, in order to keep the original one intact in case its content
-     * needs to be removed because of syntactical errors.
+     * needs to be removed because of syntactical errors. The caller must hold the lock of the resource set.
      *
      * @param name the model name
      * @param inputStream an input stream with the model's content
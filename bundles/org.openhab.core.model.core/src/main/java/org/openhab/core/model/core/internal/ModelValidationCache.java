@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.core.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.storage.Storage;
+
+/**
+ * The {@link ModelValidationCache} remembers which DSL models have been validated successfully, keyed by a hash of
+ * their content and of the models that were loaded at that time.
+ * <p>
+ * Validating a model parses it into a separate resource and runs all validation checks on it, before it is parsed
+ * again into the resource that is actually used. If the content of a model is unchanged since it has been validated
+ * successfully, e.g. after a restart, the validation can be skipped and the model is parsed only once. The result of a
+ * validation also depends on the other models, e.g. on duplicate names or on references between the models, so a
+ * validation is only reused if the same models with the same content were loaded when it was done. The version of
+ * openHAB is part of the hash, so that all models are validated again after an upgrade, in case the grammar or the
+ * validation checks have changed.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModelValidationCache {
+
+    private final Storage<CachedValidation> storage;
+    private final String version;
+
+    /* the content hashes of the loaded models, sorted by name */
+    private final Map<String, String> loadedModels = new TreeMap<>();
+
+    /**
+     * @param storage the storage for the validation results
+     * @param version the version of the grammars and validation checks, usually the version of openHAB
+     */
+    public ModelValidationCache(Storage<CachedValidation> storage, String version) {
+        this.storage = storage;
+        this.version = version;
+    }
+
+    /**
+     * Returns the warnings of a successful validation of the given model content.
+     *
+     * @param name the model name
+     * @param content the model content
+     * @return the warnings of the validation, or {@code null} if this content has not been validated successfully
+     */
+    public synchronized @Nullable List<String> getWarnings(String name, byte[] content) {
+        CachedValidation validation = storage.get(name);
+        if (validation == null || !hash(name, content).equals(validation.hash)) {
+            return null;
+        }
+        List<String> warnings = validation.warnings;
+        return warnings == null ? List.of() : warnings;
+    }
+
+    /**
+     * Remembers a successful validation of the given model content.
+     *
+     * @param name the model name
+     * @param content the model content
+     * @param warnings the warnings of the validation
+     */
+    public synchronized void putValid(String name, byte[] content, List<String> warnings) {
+        storage.put(name, new CachedValidation(hash(name, content), List.copyOf(warnings)));
+    }
+
+    /**
+     * Forgets the validation of a model.
+     *
+     * @param name the model name
+     */
+    public synchronized void remove(String name) {
+        storage.remove(name);
+    }
+
+    /**
+     * Notes that a model has been loaded, so that the validations of other models depend on it.
+     *
+     * @param name the model name
+     * @param content the model content
+     */
+    public synchronized void modelLoaded(String name, byte[] content) {
+        MessageDigest digest = createDigest();
+        digest.update(content);
+        loadedModels.put(name, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Notes that a model has been unloaded.
+     *
+     * @param name the model name
+     */
+    public synchronized void modelUnloaded(String name) {
+        loadedModels.remove(name);
+    }
+
+    private String hash(String name, byte[] content) {
+        MessageDigest digest = createDigest();
+        digest.update(version.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+        for (Map.Entry<String, String> loadedModel : loadedModels.entrySet()) {
+            if (!loadedModel.getKey().equals(name)) {
+                digest.update((byte) 0);
+                digest.update(loadedModel.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(loadedModel.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The stored result of a successful validation.
+     */
+    public static class CachedValidation {
+        public @Nullable String hash;
+        public @Nullable List<String> warnings;
+
+        CachedValidation() {
+            // used by deserialization
+        }
+
+        CachedValidation(String hash, List<String> warnings) {
+            this.hash = hash;
+            this.warnings = warnings;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.core.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.model.core.internal.ModelValidationCache.CachedValidation;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.test.storage.VolatileStorage;
+
+/**
+ * Tests {@link ModelValidationCache}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class ModelValidationCacheTest {
+
+    private static final String MODEL_NAME = "test.items";
+    private static final byte[] CONTENT = "Switch Test".getBytes(StandardCharsets.UTF_8);
+
+    private final Storage<CachedValidation> storage = new VolatileStorage<>();
+    private final ModelValidationCache cache = new ModelValidationCache(storage, "5.0.0");
+
+    @Test
+    public void testUnknownModel() {
+        assertThat(cache.getWarnings(MODEL_NAME, CONTENT), is(nullValue()));
+    }
+
+    @Test
+    public void testUnchangedContent() {
+        cache.putValid(MODEL_NAME, CONTENT, List.of("warning"));
+
+        assertThat(cache.getWarnings(MODEL_NAME, "Switch Test".getBytes(StandardCharsets.UTF_8)),
+                is(List.of("warning")));
+        // the cache survives a restart as long as the storage does
+        assertThat(new ModelValidationCache(storage, "5.0.0").getWarnings(MODEL_NAME, CONTENT),
+                is(List.of("warning")));
+    }
+
+    @Test
+    public void testChangedContent() {
+        cache.putValid(MODEL_NAME, CONTENT, List.of());
+
+        assertThat(cache.getWarnings(MODEL_NAME, "Switch Other".getBytes(StandardCharsets.UTF_8)),
+                is(nullValue()));
+        assertThat(cache.getWarnings("other.items", CONTENT), is(nullValue()));
+    }
+
+    @Test
+    public void testChangedVersion() {
+        cache.putValid(MODEL_NAME, CONTENT, List.of());
+
+        assertThat(new ModelValidationCache(storage, "5.1.0").getWarnings(MODEL_NAME, CONTENT), is(nullValue()));
+    }
+
+    @Test
+    public void testChangedLoadedModels() {
+        cache.modelLoaded("other.items", CONTENT);
+        cache.putValid(MODEL_NAME, CONTENT, List.of());
+        // the model itself does not change the validation
+        cache.modelLoaded(MODEL_NAME, CONTENT);
+        assertThat(cache.getWarnings(MODEL_NAME, CONTENT), is(List.of()));
+
+        cache.modelLoaded("other.items", "Switch Other".getBytes(StandardCharsets.UTF_8));
+        assertThat(cache.getWarnings(MODEL_NAME, CONTENT), is(nullValue()));
+
+        cache.modelLoaded("other.items", CONTENT);
+        assertThat(cache.getWarnings(MODEL_NAME, CONTENT), is(List.of()));
+
+        cache.modelUnloaded("other.items");
+        assertThat(cache.getWarnings(MODEL_NAME, CONTENT), is(nullValue()));
+
+        cache.modelLoaded("third.items", CONTENT);
+        cache.modelLoaded("other.items", CONTENT);
+        assertThat(cache.getWarnings(MODEL_NAME, CONTENT), is(nullValue()));
+    }
+
+    @Test
+    public void testRemove() {
+        cache.putValid(MODEL_NAME, CONTENT, List.of());
+        cache.remove(MODEL_NAME);
+
+        assertThat(cache.getWarnings(MODEL_NAME, CONTENT), is(nullValue()));
+    }
+}
@@ -16,6 +16,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -34,6 +35,8 @@ import java.util.Comparator;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -45,6 +48,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.model.core.ModelParser;
 import org.openhab.core.model.core.ModelRepository;
+import org.openhab.core.service.ReadyMarker;
 import org.openhab.core.service.ReadyService;
 import org.openhab.core.service.WatchService;
 import org.openhab.core.test.java.JavaTest;
@@ -59,6 +63,7 @@ import org.osgi.service.component.ComponentContext;
  * @author Stefan Triller - added hidden file test
  * @author Simon Kaufmann - ported to Java
  * @author Jan N. Klug - Refactored to UnitTest
+ * @author Andrew Fiddian-Green - Added a test of the initial loading
  */
 @ExtendWith(MockitoExtension.class)
 @NonNullByDefault
@@ -135,6 +140,36 @@ public class FolderObserverTest extends JavaTest {
         verifyNoMoreInteractions(modelRepoMock);
     }
 
+    /**
+     * The following method creates files before the activation. All of them are expected to be loaded
+     * before the extension is marked as ready.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testInitialLoading() throws Exception {
+        List<String> fileNames = List.of("MockFile1.java", "MockFile2.java", "MockFile3.java", "MockFile4.java",
+                "MockFile5.java");
+        for (String fileName : fileNames) {
+            Files.writeString(new File(EXISTING_SUBDIR_PATH, fileName).toPath(), INITIAL_FILE_CONTENT,
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+        }
+
+        Set<String> loaded = ConcurrentHashMap.newKeySet();
+        Set<String> loadedWhenReady = ConcurrentHashMap.newKeySet();
+        when(modelRepoMock.addOrRefreshModel(any(), any())).thenAnswer(invocation -> {
+            loaded.add(invocation.getArgument(0));
+            return true;
+        });
+        doAnswer(invocation -> loadedWhenReady.addAll(loaded)).when(readyServiceMock)
+                .markReady(new ReadyMarker("dsl", "java"));
+
+        configProps.put(EXISTING_SUBDIR_NAME, "java");
+        folderObserver.activate(contextMock);
+
+        assertThat(loadedWhenReady, is(Set.copyOf(fileNames)));
+    }
+
     /**
      * The following method creates a file in an existing directory. The file's extension is
      * in the configuration properties and there is a registered ModelParser for it.
@@ -15,6 +15,7 @@ package org.openhab.core.model.yaml.internal;
 import static org.openhab.core.model.yaml.YamlModelUtils.*;
 import static org.openhab.core.service.WatchService.Kind.CREATE;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -34,16 +35,21 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.dto.ModularDTO;
 import org.openhab.core.io.dto.SerializationException;
 import org.openhab.core.model.yaml.YamlElement;
 import org.openhab.core.model.yaml.YamlElementName;
 import org.openhab.core.model.yaml.YamlModelListener;
 import org.openhab.core.model.yaml.YamlModelRepository;
+import org.openhab.core.model.yaml.internal.YamlModelWrapper.ElementDiagnostics;
 import org.openhab.core.model.yaml.internal.items.YamlItemDTO;
 import org.openhab.core.model.yaml.internal.rules.YamlRuleDTO;
 import org.openhab.core.model.yaml.internal.rules.YamlRuleTemplateDTO;
@@ -57,6 +63,7 @@ import org.openhab.core.service.ReadyMarker;
 import org.openhab.core.service.ReadyService;
 import org.openhab.core.service.WatchService;
 import org.openhab.core.service.WatchService.Kind;
+import org.openhab.core.service.WatchService.WatchEvent;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -93,10 +100,12 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
  *         removeIsolatedModel
  * @author Jimmy Tanagra - Add YamlPageDTO and YamlWidgetDTO
  * @author Laurent Garnier - Add YamlSitemapDTO
+ * @author Andrew Fiddian-Green - Parse only changed elements on update and read files in parallel on first load
+ * @author Andrew Fiddian-Green - Process batches of changed files
  */
 @NonNullByDefault
 @Component(immediate = true)
-public class YamlModelRepositoryImpl implements WatchService.WatchEventListener, YamlModelRepository {
+public class YamlModelRepositoryImpl implements WatchService.BatchWatchEventListener, YamlModelRepository {
     private static final int DEFAULT_MODEL_VERSION = 1;
     private static final String VERSION = "version";
     private static final String READ_ONLY = "readOnly";
@@ -115,6 +124,8 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
     private static final String UNWANTED_EXCEPTION_TEXT = "at [Source: UNKNOWN; byte offset: #UNKNOWN] ";
     private static final String UNWANTED_EXCEPTION_TEXT2 = "\\n \\(through reference chain: .*";
 
+    private static final String THREAD_POOL_NAME = "yamlmodel";
+
     private static final List<Path> WATCHED_PATHS = Stream.of("things", "items", "tags", "sitemaps", "rules", "yaml")
             .map(Path::of).toList();
 
@@ -161,6 +172,7 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
         watchService.registerListener(this, WATCHED_PATHS);
 
         // read initial contents
+        List<WatchEvent> initialFiles = new ArrayList<>();
         WATCHED_PATHS.forEach(watchPath -> {
             Path fullPath = mainWatchPath.resolve(watchPath);
             if (!Files.exists(fullPath)) {
@@ -175,7 +187,7 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
                     public FileVisitResult visitFile(@NonNullByDefault({}) Path file,
                             @NonNullByDefault({}) BasicFileAttributes attrs) throws IOException {
                         if (attrs.isRegularFile()) {
-                            processWatchEvent(CREATE, file);
+                            initialFiles.add(new WatchEvent(CREATE, file));
                         }
                         return FileVisitResult.CONTINUE;
                     }
@@ -199,6 +211,7 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
                         e.getMessage());
             }
         });
+        processWatchEvents(initialFiles);
 
         this.allFilesVisited = true;
 
@@ -214,9 +227,60 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
         watchService.unregisterListener(this);
     }
 
-    // The method is "synchronized" to avoid concurrent files processing
+    /**
+     * Processes the models found when starting or changed together, e.g. by a {@code git pull}.
+     * <p>
+     * Reading and parsing the files is done in parallel, as it does not depend on any state of the repository. The
+     * parsed contents are then processed one after the other in the given order, exactly as if the files were changed
+     * one after the other.
+     *
+     * @param events the changed files
+     */
+    @Override
+    public void processWatchEvents(List<WatchEvent> events) {
+        if (events.size() <= 1) {
+            events.forEach(event -> processWatchEvent(event.kind(), event.fullPath()));
+            return;
+        }
+
+        ExecutorService executor = ThreadPoolManager.getPool(THREAD_POOL_NAME);
+        List<ContentReader> contentReaders = new ArrayList<>(events.size());
+        for (WatchEvent event : events) {
+            File file = event.fullPath().toFile();
+            String fileName = file.getName();
+            if (event.kind() != Kind.DELETE && (fileName.endsWith(".yaml") || fileName.endsWith(".yml"))) {
+                Future<JsonNode> content = executor.submit(() -> objectMapper.readTree(file));
+                contentReaders.add(() -> getContent(content));
+            } else {
+                // not read when processed
+                contentReaders.add(() -> objectMapper.readTree(file));
+            }
+        }
+        for (int i = 0; i < events.size(); i++) {
+            WatchEvent event = events.get(i);
+            processModelFile(event.kind(), event.fullPath(), contentReaders.get(i));
+        }
+    }
+
+    private static JsonNode getContent(Future<JsonNode> content) throws IOException {
+        try {
+            return content.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ioException ? ioException : new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the model");
+        }
+    }
+
     @Override
-    public synchronized void processWatchEvent(Kind kind, Path fullPath) {
+    public void processWatchEvent(Kind kind, Path fullPath) {
+        processModelFile(kind, fullPath, () -> objectMapper.readTree(fullPath.toFile()));
+    }
+
+    // The method is "synchronized" to avoid concurrent files processing
+    private synchronized void processModelFile(Kind kind, Path fullPath, ContentReader contentReader) {
         Path relativePath = mainWatchPath.relativize(fullPath);
         String modelName = relativePath.toString();
         if (!modelName.endsWith(".yaml") && !modelName.endsWith(".yml")) {
@@ -230,7 +294,7 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
             if (kind == WatchService.Kind.DELETE) {
                 removeModel(modelName);
             } else if (!Files.isHidden(fullPath) && Files.isReadable(fullPath) && !Files.isDirectory(fullPath)) {
-                processModelContent(modelName, kind, objectMapper.readTree(fullPath.toFile()), errors, warnings);
+                processModelContent(modelName, kind, contentReader.read(), errors, warnings);
             } else {
                 logger.trace("Ignored {}", fullPath);
             }
@@ -307,22 +371,29 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
                 continue;
             }
             JsonNode newNodeElements = node;
+            Map<String, ElementDiagnostics> elementDiagnostics = model.getDiagnostics(elementName);
 
             JsonNode oldNodeElements = model.getNodes().get(elementName);
+            if (newNodeElements.equals(oldNodeElements)) {
+                // nothing changed in this element, no need to parse it, but its errors and warnings still apply
+                valid &= reportDiagnostics(newNodeElements, elementDiagnostics, errors, warnings);
+                continue;
+            }
+            // only the elements with a changed ID or content need to be parsed and compared
+            JsonNode changedOldNodeElements = getChangedEntries(oldNodeElements, newNodeElements);
+            JsonNode changedNewNodeElements = getChangedEntries(newNodeElements, oldNodeElements);
+            elementDiagnostics.keySet().removeIf(id -> !newNodeElements.has(id));
+            if (changedNewNodeElements != null) {
+                changedNewNodeElements.fieldNames().forEachRemaining(elementDiagnostics::remove);
+            }
 
             for (YamlModelListener<?> elementListener : getElementListeners(elementName, modelVersion)) {
                 Class<? extends YamlElement> elementClass = elementListener.getElementClass();
 
-                List<String> errors2 = new ArrayList<>();
-                List<String> warnings2 = new ArrayList<>();
-
                 Map<String, ? extends YamlElement> oldElements = listToMap(
-                        parseJsonMapNode(oldNodeElements, elementClass, null, null));
+                        parseJsonMapNode(changedOldNodeElements, elementClass, null, null));
                 Map<String, ? extends YamlElement> newElements = listToMap(
-                        parseJsonMapNode(newNodeElements, elementClass, errors2, warnings2));
-                valid &= errors2.isEmpty();
-                errors.addAll(errors2);
-                warnings.addAll(warnings2);
+                        parseJsonMapNode(changedNewNodeElements, elementClass, elementDiagnostics));
 
                 List addedElements = newElements.values().stream().filter(e -> !oldElements.containsKey(e.getId()))
                         .toList();
@@ -351,6 +422,7 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
 
             // replace cache
             model.getNodes().put(elementName, newNodeElements);
+            valid &= reportDiagnostics(newNodeElements, elementDiagnostics, errors, warnings);
         }
 
         // remove removed elements
@@ -361,6 +433,7 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
             }
 
             JsonNode removedNode = e.getValue();
+            model.removeDiagnostics(elementName);
             getElementListeners(elementName, modelVersion).forEach(listener -> {
                 List removedElements = parseJsonMapNode(removedNode, listener.getElementClass(), null, null);
                 listener.removedModel(modelName, removedElements);
@@ -723,6 +796,65 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
         return result;
     }
 
+    /**
+     * Returns the entries of a map node which are missing or different in another map node.
+     *
+     * @param mapNode the map node
+     * @param otherMapNode the map node to compare with
+     * @return a map node with the entries of {@code mapNode} which are not contained unchanged in {@code otherMapNode}
+     */
+    private static @Nullable JsonNode getChangedEntries(@Nullable JsonNode mapNode, @Nullable JsonNode otherMapNode) {
+        if (mapNode == null || otherMapNode == null) {
+            return mapNode;
+        }
+        ObjectNode changedEntries = JsonNodeFactory.instance.objectNode();
+        mapNode.properties().forEach(entry -> {
+            if (!entry.getValue().equals(otherMapNode.get(entry.getKey()))) {
+                changedEntries.set(entry.getKey(), entry.getValue());
+            }
+        });
+        return changedEntries;
+    }
+
+    /**
+     * Parses the entries of a map node and keeps the errors and warnings of each entry, so they can be reported again
+     * as long as the entry is unchanged.
+     */
+    private <T extends YamlElement> List<T> parseJsonMapNode(@Nullable JsonNode mapNode, Class<T> elementClass,
+            Map<String, ElementDiagnostics> diagnostics) {
+        List<T> elements = new ArrayList<>();
+        if (mapNode != null) {
+            mapNode.properties().forEach(entry -> {
+                String id = entry.getKey();
+                ElementDiagnostics entryDiagnostics = Objects.requireNonNull(diagnostics.computeIfAbsent(id,
+                        k -> new ElementDiagnostics(entry.getValue(), new ArrayList<>(), new ArrayList<>())));
+                ObjectNode entryNode = JsonNodeFactory.instance.objectNode().set(id, entry.getValue());
+                elements.addAll(parseJsonMapNode(entryNode, elementClass, entryDiagnostics.errors(),
+                        entryDiagnostics.warnings()));
+            });
+        }
+        return elements;
+    }
+
+    /**
+     * Adds the kept errors and warnings of the entries of a map node.
+     *
+     * @return true if there are no errors
+     */
+    private static boolean reportDiagnostics(JsonNode mapNode, Map<String, ElementDiagnostics> diagnostics,
+            List<String> errors, List<String> warnings) {
+        boolean valid = true;
+        for (Map.Entry<String, JsonNode> entry : mapNode.properties()) {
+            ElementDiagnostics entryDiagnostics = diagnostics.get(entry.getKey());
+            if (entryDiagnostics != null && entryDiagnostics.node().equals(entry.getValue())) {
+                valid &= entryDiagnostics.errors().isEmpty();
+                errors.addAll(entryDiagnostics.errors());
+                warnings.addAll(entryDiagnostics.warnings());
+            }
+        }
+        return valid;
+    }
+
     private <T extends YamlElement> List<T> parseJsonMapNode(@Nullable JsonNode mapNode, Class<T> elementClass,
             @Nullable List<String> errors, @Nullable List<String> warnings) {
         List<T> elements = new ArrayList<>();
@@ -793,4 +925,9 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
         }
         return result;
     }
+
+    @FunctionalInterface
+    private interface ContentReader {
+        JsonNode read() throws IOException;
+    }
 }
@@ -12,7 +12,9 @@
  */
 package org.openhab.core.model.yaml.internal;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -25,12 +27,14 @@ import com.fasterxml.jackson.databind.JsonNode;
  *
  * @author Jan N. Klug - Initial contribution
  * @author Laurent Garnier - Map used instead of table
+ * @author Andrew Fiddian-Green - Keep the errors and warnings of the elements
  */
 @NonNullByDefault
 public class YamlModelWrapper {
     private final int version;
     private final boolean readOnly;
     private final Map<String, @Nullable JsonNode> nodes = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ElementDiagnostics>> diagnostics = new ConcurrentHashMap<>();
 
     public YamlModelWrapper(int version, boolean readOnly) {
         this.version = version;
@@ -48,4 +52,28 @@ public class YamlModelWrapper {
     public Map<String, @Nullable JsonNode> getNodes() {
         return nodes;
     }
+
+    /**
+     * Returns the errors and warnings found when parsing the elements of a type, by element ID.
+     *
+     * @param elementName the name of the element type
+     * @return the modifiable map of the errors and warnings
+     */
+    public Map<String, ElementDiagnostics> getDiagnostics(String elementName) {
+        return Objects.requireNonNull(diagnostics.computeIfAbsent(elementName, k -> new ConcurrentHashMap<>()));
+    }
+
+    public void removeDiagnostics(String elementName) {
+        diagnostics.remove(elementName);
+    }
+
+    /**
+     * The errors and warnings found when parsing the node of an element.
+     *
+     * @param node the node of the element which has been parsed
+     * @param errors the errors
+     * @param warnings the warnings
+     */
+    public record ElementDiagnostics(JsonNode node, List<String> errors, List<String> warnings) {
+    }
 }
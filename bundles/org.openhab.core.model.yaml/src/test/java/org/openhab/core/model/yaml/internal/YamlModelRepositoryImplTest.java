@@ -52,6 +52,7 @@ import org.openhab.core.model.yaml.test.FirstTypeDTO;
 import org.openhab.core.model.yaml.test.SecondTypeDTO;
 import org.openhab.core.service.ReadyService;
 import org.openhab.core.service.WatchService;
+import org.openhab.core.test.java.JavaTest;
 import org.yaml.snakeyaml.Yaml;
 
 /**
@@ -60,11 +61,12 @@ import org.yaml.snakeyaml.Yaml;
  * @author Jan N. Klug - Initial contribution
  * @author Laurent Garnier - Extended tests to cover version 2
  * @author Laurent Garnier - Added one test for version management
+ * @author Andrew Fiddian-Green - Added tests for unchanged elements and initial loading of several files
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 @NonNullByDefault
-public class YamlModelRepositoryImplTest {
+public class YamlModelRepositoryImplTest extends JavaTest {
     private static final Path SOURCE_PATH = Path.of("src/test/resources/model");
     private static final Path SOURCE_PATH_ITEMS = Path.of("src/test/resources/model/items");
     private static final String MODEL_NAME = "model.yaml";
@@ -215,6 +217,77 @@ public class YamlModelRepositoryImplTest {
         assertThat(firstTypeCaptorValues.get(3), contains(new FirstTypeDTO("Third", "Third original")));
     }
 
+    @Test
+    public void testFileUpdatedWithoutChanges() throws IOException {
+        YamlModelRepositoryImpl modelRepository = new YamlModelRepositoryImpl(watchServiceMock, readyServiceMock);
+        modelRepository.addYamlModelListener(firstTypeListener);
+
+        Files.copy(SOURCE_PATH.resolve("modelFileUpdatePost.yaml"), fullModelPath);
+        modelRepository.processWatchEvent(WatchService.Kind.CREATE, fullModelPath);
+        // same content, only the comment changed
+        Files.writeString(fullModelPath, "# changed comment\n" + Files.readString(fullModelPath));
+        modelRepository.processWatchEvent(WatchService.Kind.MODIFY, fullModelPath);
+
+        verify(firstTypeListener).addedModel(eq(MODEL_NAME), any());
+        verify(firstTypeListener, never()).updatedModel(any(), any());
+        verify(firstTypeListener, never()).removedModel(any(), any());
+    }
+
+    @Test
+    public void testErrorsOfUnchangedElementsAreReportedAgain() throws IOException {
+        YamlModelRepositoryImpl modelRepository = new YamlModelRepositoryImpl(watchServiceMock, readyServiceMock);
+        modelRepository.addYamlModelListener(firstTypeListener);
+
+        Files.writeString(fullModelPath, """
+                version: 1
+                firstType:
+                  First:
+                    description: First original
+                  Second:
+                    unknown: Second original
+                """);
+        modelRepository.processWatchEvent(WatchService.Kind.CREATE, fullModelPath);
+        Files.writeString(fullModelPath, """
+                version: 1
+                firstType:
+                  First:
+                    description: First modified
+                  Second:
+                    unknown: Second original
+                """);
+        setupInterceptedLogger(YamlModelRepositoryImpl.class, LogLevel.WARN);
+        modelRepository.processWatchEvent(WatchService.Kind.MODIFY, fullModelPath);
+        stopInterceptedLogger(YamlModelRepositoryImpl.class);
+
+        verify(firstTypeListener).updatedModel(eq(MODEL_NAME), firstTypeCaptor.capture());
+        assertThat(firstTypeCaptor.getValue(), contains(new FirstTypeDTO("First", "First modified")));
+        assertLogMessage(YamlModelRepositoryImpl.class, LogLevel.WARN,
+                "YAML model model.yaml: could not parse element with ID Second to FirstTypeDTO: "
+                        + "Unrecognized field \"unknown\" (class org.openhab.core.model.yaml.test.FirstTypeDTO), "
+                        + "not marked as ignorable (2 known properties: \"uid\", \"description\")");
+    }
+
+    @Test
+    public void testInitialLoadingOfSeveralFiles() throws IOException {
+        Path yamlPath = Files.createDirectory(watchPath.resolve("yaml"));
+        Files.copy(SOURCE_PATH.resolve("modelFileAddedOrRemoved.yaml"), yamlPath.resolve("model1.yaml"));
+        Files.copy(SOURCE_PATH.resolve("modelFileUpdatePost.yaml"), yamlPath.resolve("model2.yaml"));
+        Files.writeString(yamlPath.resolve("model3.yaml"), "invalid: [");
+
+        YamlModelRepositoryImpl modelRepository = new YamlModelRepositoryImpl(watchServiceMock, readyServiceMock);
+        modelRepository.addYamlModelListener(firstTypeListener);
+
+        verify(firstTypeListener).addedModel(eq(Path.of("yaml", "model1.yaml").toString()),
+                firstTypeCaptor.capture());
+        verify(firstTypeListener).addedModel(eq(Path.of("yaml", "model2.yaml").toString()),
+                firstTypeCaptor.capture());
+        verify(firstTypeListener, times(2)).addedModel(any(), any());
+
+        List<Collection<FirstTypeDTO>> firstTypeCaptorValues = firstTypeCaptor.getAllValues();
+        assertThat(firstTypeCaptorValues.getFirst(), hasSize(2));
+        assertThat(firstTypeCaptorValues.get(1), hasSize(3));
+    }
+
     @ParameterizedTest
     @CsvSource({ //
             "modelFileUpdateRemovedElements.yaml", "modelFileUpdateRenamedElements.yaml",
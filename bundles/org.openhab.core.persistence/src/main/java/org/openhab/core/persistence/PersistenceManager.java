@@ -12,7 +12,10 @@
  */
 package org.openhab.core.persistence;
 
+import java.util.Optional;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.Item;
 
 /**
@@ -21,6 +24,7 @@ import org.openhab.core.items.Item;
  * is required because forecast jobs might need an update when the persisted data changes.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author Andrew Fiddian-Green - Query the recent states kept in memory
  */
 @NonNullByDefault
 public interface PersistenceManager {
@@ -36,4 +40,19 @@ public interface PersistenceManager {
      * @param item the item for which persisted data has been updated
      */
     void handleExternalPersistenceDataChange(PersistenceService persistenceService, Item item);
+
+    /**
+     * Queries the persisted states of an item like {@link QueryablePersistenceService#query(FilterCriteria, String)}.
+     * The {@link PersistenceManager} may keep the recent states it has stored in the persistence service in memory and
+     * answer the query from them. The persistence service is then only queried for older states, if they are needed.
+     *
+     * @param persistenceService the persistence service
+     * @param filter the filter to apply to the query, with the name of the item
+     * @param alias the alias of the item in the persistence service
+     * @return the states, or empty if the query has to be passed to the persistence service
+     */
+    default Optional<Iterable<HistoricItem>> queryRecentStates(QueryablePersistenceService persistenceService,
+            FilterCriteria filter, @Nullable String alias) {
+        return Optional.empty();
+    }
 }
@@ -76,6 +76,7 @@ import org.slf4j.LoggerFactory;
  * @author Jörg Sautter - use Instant instead of ZonedDateTime in Riemann sum methods
  * @author Mark Herwege - handle timeseries update
  * @author Mark Herwege - use base unit for calculations and results
+ * @author Andrew Fiddian-Green - query the recent states kept in memory by the persistence manager
  */
 @Component(immediate = true)
 @NonNullByDefault
@@ -351,7 +352,7 @@ public class PersistenceExtensions {
             filter.setItemName(item.getName());
             filter.setPageSize(1);
             filter.setOrdering(Ordering.DESCENDING);
-            Iterable<HistoricItem> result = qService.query(filter, alias);
+            Iterable<HistoricItem> result = query(qService, filter, alias);
             if (result.iterator().hasNext()) {
                 return result.iterator().next();
             }
@@ -498,7 +499,7 @@ public class PersistenceExtensions {
             int startPage = 0;
             filter.setPageNumber(startPage);
 
-            Iterator<HistoricItem> itemIterator = qService.query(filter, alias).iterator();
+            Iterator<HistoricItem> itemIterator = query(qService, filter, alias).iterator();
             if (!itemIterator.hasNext()) {
                 return null;
             }
@@ -529,7 +530,7 @@ public class PersistenceExtensions {
                     if (itemCount == filter.getPageSize()) {
                         itemCount = 0;
                         filter.setPageNumber(++startPage);
-                        itemIterator = qService.query(filter, alias).iterator();
+                        itemIterator = query(qService, filter, alias).iterator();
                     }
                 }
             }
@@ -668,7 +669,7 @@ public class PersistenceExtensions {
             int startPage = 0;
             filter.setPageNumber(startPage);
 
-            Iterator<HistoricItem> itemIterator = qService.query(filter, alias).iterator();
+            Iterator<HistoricItem> itemIterator = query(qService, filter, alias).iterator();
             int itemCount = 0;
             while (itemIterator.hasNext()) {
                 HistoricItem historicItem = itemIterator.next();
@@ -679,7 +680,7 @@ public class PersistenceExtensions {
                 if (itemCount == filter.getPageSize()) {
                     itemCount = 0;
                     filter.setPageNumber(++startPage);
-                    itemIterator = qService.query(filter, alias).iterator();
+                    itemIterator = query(qService, filter, alias).iterator();
                 }
             }
         } else {
@@ -3524,7 +3525,7 @@ public class PersistenceExtensions {
             filter.setItemName(item.getName());
             filter.setOrdering(Ordering.ASCENDING);
 
-            return qService.query(filter, alias);
+            return query(qService, filter, alias);
         } else {
             LoggerFactory.getLogger(PersistenceExtensions.class)
                     .warn("There is no queryable persistence service registered with the id '{}'", effectiveServiceId);
@@ -3703,6 +3704,15 @@ public class PersistenceExtensions {
         return !betweenItemsList.isEmpty() ? betweenItemsList : null;
     }
 
+    private static Iterable<HistoricItem> query(QueryablePersistenceService service, FilterCriteria filter,
+            @Nullable String alias) {
+        PersistenceManager manager = PersistenceExtensions.manager;
+        if (manager != null) {
+            return manager.queryRecentStates(service, filter, alias).orElseGet(() -> service.query(filter, alias));
+        }
+        return service.query(filter, alias);
+    }
+
     private static @Nullable PersistenceService getService(String serviceId) {
         PersistenceServiceRegistry reg = registry;
         return reg != null ? reg.get(serviceId) : null;
@@ -26,6 +26,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -38,6 +39,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.SafeCaller;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -79,6 +81,7 @@ import org.openhab.core.types.UnDefType;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -95,12 +98,14 @@ import org.slf4j.LoggerFactory;
  * @author Mark Herwege - Added restoring lastState, lastStateChange and lastStateUpdate
  * @author Mark Herwege - Make default strategy to be only a configuration suggestion
  * @author Mark Herwege - Fix and enhance handling of time series and external persistence updates
+ * @author Andrew Fiddian-Green - Keep the recent states of items in memory
  */
-@Component(immediate = true, service = PersistenceManager.class)
+@Component(immediate = true, service = PersistenceManager.class, configurationPid = "org.openhab.persistence")
 @NonNullByDefault
 public class PersistenceManagerImpl implements ItemRegistryChangeListener, StateChangeListener, ReadyTracker,
         PersistenceServiceConfigurationRegistryChangeListener, TimeSeriesListener, PersistenceManager {
     private static final String PERSISTENCE_SOURCE = "org.openhab.core.persistence";
+    private static final String CONFIG_RECENT_STATES = "recentStates";
 
     private final Logger logger = LoggerFactory.getLogger(PersistenceManagerImpl.class);
 
@@ -115,6 +120,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
 
     private volatile boolean started = false;
+    private volatile int recentStates = 0;
 
     private final Map<String, PersistenceServiceContainer> persistenceServiceContainers = new ConcurrentHashMap<>();
 
@@ -122,7 +128,8 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
     public PersistenceManagerImpl(final @Reference CronScheduler cronScheduler, final @Reference Scheduler scheduler,
             final @Reference ItemRegistry itemRegistry, final @Reference SafeCaller safeCaller,
             final @Reference ReadyService readyService,
-            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry) {
+            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry,
+            Map<String, Object> config) {
         this.cronScheduler = cronScheduler;
         this.scheduler = scheduler;
         this.itemRegistry = itemRegistry;
@@ -133,6 +140,16 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         persistenceServiceConfigurationRegistry.addRegistryChangeListener(this);
         readyService.registerTracker(this, new ReadyMarkerFilter().withType(StartLevelService.STARTLEVEL_MARKER_TYPE)
                 .withIdentifier(Integer.toString(StartLevelService.STARTLEVEL_MODEL)));
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        int recentStates = Math.max(0, ConfigParser.valueAsOrElse(config.get(CONFIG_RECENT_STATES), Integer.class, 0));
+        if (recentStates != this.recentStates) {
+            this.recentStates = recentStates;
+            persistenceServiceContainers.values().forEach(PersistenceServiceContainer::clearRecentStates);
+        }
     }
 
     @Deactivate
@@ -196,6 +213,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 .forEach(itemConfig -> {
                     itemConfig.filters().forEach(filter -> filter.persisted(item));
                     container.getPersistenceService().store(item, container.getAlias(item));
+                    container.addRecentState(item);
                 });
     }
 
@@ -371,6 +389,13 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                         .distinct().filter(itemConfig -> appliesToItem(itemConfig, item)).forEach(itemConfig -> {
                             ModifiablePersistenceService service = (ModifiablePersistenceService) container
                                     .getPersistenceService();
+                            // the stored states are not in the order of time, states in the future are missed by
+                            // the recent states once their time has come
+                            if (timeSeries.getStates().anyMatch(e -> e.timestamp().isAfter(Instant.now()))) {
+                                container.disableRecentStates(item.getName());
+                            } else {
+                                container.removeRecentStates(item.getName());
+                            }
                             // remove old values if replace selected
                             if (timeSeries.getPolicy() == TimeSeries.Policy.REPLACE) {
                                 ZonedDateTime begin = timeSeries.getBegin().atZone(ZoneId.systemDefault());
@@ -461,6 +486,9 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         if (!(persistenceService instanceof QueryablePersistenceService)) {
             return;
         }
+        persistenceServiceContainers.values().stream()
+                .filter(container -> container.persistenceService.equals(persistenceService))
+                .forEach(container -> container.disableRecentStates(item.getName()));
         persistenceServiceContainers.values().stream()
                 .filter(container -> container.persistenceService.equals(persistenceService) && Stream
                         .concat(container.getMatchingConfigurations(UPDATE),
@@ -473,6 +501,20 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 });
     }
 
+    @Override
+    public Optional<Iterable<HistoricItem>> queryRecentStates(QueryablePersistenceService persistenceService,
+            FilterCriteria filter, @Nullable String alias) {
+        String itemName = filter.getItemName();
+        PersistenceServiceContainer container = persistenceServiceContainers.get(persistenceService.getId());
+        if (itemName == null || container == null || !container.persistenceService.equals(persistenceService)) {
+            return Optional.empty();
+        }
+        RecentStatesBuffer buffer = container.getRecentStates(itemName);
+        return buffer == null ? Optional.empty()
+                : Optional.ofNullable(buffer.query(filter, System.currentTimeMillis(),
+                        older -> persistenceService.query(older, alias)));
+    }
+
     private void storeInOtherServices(PersistenceService persistenceService, Item item, State oldState) {
         boolean changed = !item.getState().equals(oldState);
         persistenceServiceContainers.values().stream()
@@ -489,6 +531,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
         private final Set<ScheduledCompletableFuture<?>> persistJobs = new HashSet<>();
         private final Map<String, ScheduledCompletableFuture<?>> forecastJobs = new ConcurrentHashMap<>();
         private final Map<PersistenceStrategy, Collection<PersistenceItemConfiguration>> strategyCache = new ConcurrentHashMap<>();
+        private final Map<String, Optional<RecentStatesBuffer>> recentStatesBuffers = new ConcurrentHashMap<>();
 
         private PersistenceServiceConfiguration configuration;
 
@@ -513,6 +556,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
             cancelForecastJobs();
             this.configuration = Objects.requireNonNullElseGet(configuration, this::getEmptyConfig);
             strategyCache.clear();
+            clearRecentStates();
         }
 
         /**
@@ -597,6 +641,59 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
             if (job != null) {
                 job.cancel(true);
             }
+            removeRecentStates(itemName);
+        }
+
+        /**
+         * Keeps the state of an item, which has just been stored in the persistence service, in memory. Items with a
+         * forecast strategy or with states in the future are not kept, because their future states are not stored
+         * through the persistence manager.
+         *
+         * @param item the stored item
+         */
+        public void addRecentState(Item item) {
+            int capacity = recentStates;
+            if (capacity == 0 || !(persistenceService instanceof QueryablePersistenceService queryService)) {
+                return;
+            }
+            long timestamp = System.currentTimeMillis();
+            String itemName = item.getName();
+            Optional<RecentStatesBuffer> buffer = recentStatesBuffers.get(itemName);
+            if (buffer == null) {
+                // the persistence service is queried outside of the map, a concurrent disabling takes precedence
+                boolean forecast = getMatchingConfigurations(FORECAST)
+                        .anyMatch(itemConfig -> appliesToItem(itemConfig, item));
+                FilterCriteria futureStates = new FilterCriteria().setItemName(itemName)
+                        .setBeginDate(Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault())).setPageSize(1);
+                buffer = forecast || queryService.query(futureStates, getAlias(item)).iterator().hasNext()
+                        ? Optional.empty()
+                        : Optional.of(new RecentStatesBuffer(itemName, capacity));
+                buffer = Objects.requireNonNullElse(recentStatesBuffers.putIfAbsent(itemName, buffer), buffer);
+            }
+            buffer.ifPresent(b -> b.add(timestamp, item.getState()));
+        }
+
+        public @Nullable RecentStatesBuffer getRecentStates(String itemName) {
+            Optional<RecentStatesBuffer> buffer = recentStatesBuffers.get(itemName);
+            return buffer == null ? null : buffer.orElse(null);
+        }
+
+        public void removeRecentStates(String itemName) {
+            recentStatesBuffers.remove(itemName);
+        }
+
+        /**
+         * Stops keeping the states of an item in memory, because its persisted data has been changed by other means,
+         * possibly with states in the future.
+         *
+         * @param itemName the name of the item
+         */
+        public void disableRecentStates(String itemName) {
+            recentStatesBuffers.put(itemName, Optional.empty());
+        }
+
+        public void clearRecentStates() {
+            recentStatesBuffers.clear();
         }
 
         private @Nullable PersistedItem getPersistedItem(Item item) {
@@ -823,6 +920,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                         long startTime = System.nanoTime();
                         itemConfig.filters().forEach(filter -> filter.persisted(item));
                         persistenceService.store(item, getAlias(item));
+                        addRecentState(item);
                         logger.trace("Storing item '{}' with persistence service '{}' took {}ms", item.getName(),
                                 configuration.getUID(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
                     }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link RecentStatesBuffer} keeps the recent states of an item, which the {@link PersistenceManagerImpl} has
+ * stored in a persistence service, in a ring of a fixed size. Queries within the time covered by the ring are answered
+ * from memory. Queries for the first page in descending order which reach further back only query the service for the
+ * older states, and only when they are iterated.
+ * <p>
+ * The ring only knows the states stored through the {@link PersistenceManagerImpl}, it has to be discarded when the
+ * persisted data of the item is changed by other means.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+class RecentStatesBuffer {
+
+    private final String itemName;
+    private final long[] timestamps;
+    private final State[] states;
+
+    private int head;
+    private int size;
+    // all states stored at or after this time (in milliseconds) are in the ring
+    private long coveredSince = Long.MAX_VALUE;
+
+    /**
+     * @param itemName the name of the item
+     * @param capacity the maximum number of states kept, must be positive
+     */
+    RecentStatesBuffer(String itemName, int capacity) {
+        this.itemName = itemName;
+        this.timestamps = new long[capacity];
+        this.states = new State[capacity];
+    }
+
+    /**
+     * Adds a state which has been stored in the persistence service.
+     *
+     * @param timestamp the time the state has been stored in milliseconds, an earlier time than the time of the latest
+     *            state is moved to the time of the latest state
+     * @param state the state
+     */
+    synchronized void add(long timestamp, State state) {
+        int capacity = timestamps.length;
+        if (size == 0) {
+            coveredSince = timestamp;
+        } else {
+            timestamp = Math.max(timestamp, timestamps[index(size - 1)]);
+        }
+        if (size < capacity) {
+            int index = index(size++);
+            timestamps[index] = timestamp;
+            states[index] = state;
+        } else {
+            // the oldest state is dropped, the states stored at the same time are no longer complete
+            coveredSince = timestamps[head] + 1;
+            timestamps[head] = timestamp;
+            states[head] = state;
+            head = (head + 1) % capacity;
+        }
+    }
+
+    /**
+     * Queries the states of the item like {@link org.openhab.core.persistence.QueryablePersistenceService#query}.
+     *
+     * @param filter the filter to apply to the query
+     * @param now the current time in milliseconds
+     * @param service queries the states which are older than the states in the ring from the persistence service
+     * @return the states, or <code>null</code> if the query has to be passed to the persistence service
+     */
+    synchronized @Nullable Iterable<HistoricItem> query(FilterCriteria filter, long now,
+            Function<FilterCriteria, Iterable<HistoricItem>> service) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        // the persistence service may also hold states which have been stored for the future
+        if (size == 0 || filter.getState() != null || endDate == null || endDate.toInstant().toEpochMilli() > now) {
+            return null;
+        }
+        long begin = beginDate == null ? Long.MIN_VALUE : beginDate.toInstant().toEpochMilli();
+        long end = endDate.toInstant().toEpochMilli();
+        boolean covered = begin >= coveredSince;
+        boolean descending = filter.getOrdering() == Ordering.DESCENDING;
+        // ascending queries start with the older states and later pages would skip an unknown number of them
+        if (!covered && (!descending || filter.getPageNumber() > 0)) {
+            return null;
+        }
+
+        long offset = (long) filter.getPageNumber() * filter.getPageSize();
+        long limit = filter.getPageSize();
+        long from = Math.max(begin, coveredSince);
+        List<HistoricItem> page = new ArrayList<>();
+        long matches = 0;
+        for (int i = 0; i < size; i++) {
+            int index = index(descending ? size - 1 - i : i);
+            long timestamp = timestamps[index];
+            if (timestamp >= from && timestamp <= end) {
+                if (matches >= offset && matches - offset < limit) {
+                    page.add(new BufferedHistoricItem(itemName, timestamp, states[index]));
+                }
+                matches++;
+            }
+        }
+        if (covered || offset + limit <= matches) {
+            return page;
+        }
+
+        FilterCriteria olderFilter = new FilterCriteria(filter)
+                .setEndDate(Instant.ofEpochMilli(coveredSince - 1).atZone(ZoneId.systemDefault())).setPageNumber(0)
+                .setPageSize((int) (limit - matches));
+        return new RecentAndOlderStates(page, () -> service.apply(olderFilter));
+    }
+
+    private int index(int position) {
+        return (head + position) % timestamps.length;
+    }
+
+    /**
+     * The states of a page which starts in the ring and continues with older states from the persistence service.
+     */
+    private static class RecentAndOlderStates implements Iterable<HistoricItem> {
+
+        private final List<HistoricItem> recentStates;
+        private final Supplier<Iterable<HistoricItem>> query;
+        private @Nullable List<HistoricItem> olderStates;
+
+        private RecentAndOlderStates(List<HistoricItem> recentStates, Supplier<Iterable<HistoricItem>> query) {
+            this.recentStates = recentStates;
+            this.query = query;
+        }
+
+        @Override
+        public Iterator<HistoricItem> iterator() {
+            return new Iterator<>() {
+                private final Iterator<HistoricItem> recent = recentStates.iterator();
+                private @Nullable Iterator<HistoricItem> older;
+
+                @Override
+                public boolean hasNext() {
+                    return recent.hasNext() || older().hasNext();
+                }
+
+                @Override
+                public HistoricItem next() {
+                    return recent.hasNext() ? recent.next() : older().next();
+                }
+
+                private Iterator<HistoricItem> older() {
+                    Iterator<HistoricItem> older = this.older;
+                    if (older == null) {
+                        older = getOlderStates().iterator();
+                        this.older = older;
+                    }
+                    return older;
+                }
+            };
+        }
+
+        private synchronized List<HistoricItem> getOlderStates() {
+            List<HistoricItem> olderStates = this.olderStates;
+            if (olderStates == null) {
+                olderStates = StreamSupport.stream(query.get().spliterator(), false).toList();
+                this.olderStates = olderStates;
+            }
+            return olderStates;
+        }
+    }
+
+    private static class BufferedHistoricItem implements HistoricItem {
+
+        private final String name;
+        private final Instant instant;
+        private final State state;
+
+        private BufferedHistoricItem(String name, long timestamp, State state) {
+            this.name = name;
+            this.instant = Instant.ofEpochMilli(timestamp);
+            this.state = state;
+        }
+
+        @Override
+        public ZonedDateTime getTimestamp() {
+            return instant.atZone(ZoneId.systemDefault());
+        }
+
+        @Override
+        public Instant getInstant() {
+            return instant;
+        }
+
+        @Override
+        public State getState() {
+            return state;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return "BufferedHistoricItem [name=" + name + ", instant=" + instant + ", state=" + state + "]";
+        }
+    }
+}
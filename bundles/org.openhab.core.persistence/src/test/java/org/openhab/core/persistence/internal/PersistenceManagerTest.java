@@ -87,6 +87,7 @@ import org.openhab.core.types.UnDefType;
  *
  * @author Jan N. Klug - Initial contribution
  * @author Mark Herwege - Implement aliases
+ * @author Andrew Fiddian-Green - Recent states in memory
  */
 @NonNullByDefault
 @ExtendWith(MockitoExtension.class)
@@ -199,7 +200,7 @@ public class PersistenceManagerTest {
         when(modifiablePersistenceServiceMock.getId()).thenReturn(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID);
 
         manager = new PersistenceManagerImpl(cronSchedulerMock, schedulerMock, itemRegistryMock, safeCallerMock,
-                readyServiceMock, persistenceServiceConfigurationRegistryMock);
+                readyServiceMock, persistenceServiceConfigurationRegistryMock, Map.of());
         manager.addPersistenceService(persistenceServiceMock);
         manager.addPersistenceService(queryablePersistenceServiceMock);
         manager.addPersistenceService(modifiablePersistenceServiceMock);
@@ -605,6 +606,85 @@ public class PersistenceManagerTest {
         verifyNoMoreInteractions(persistenceServiceMock);
     }
 
+    @Test
+    public void storedStatesAreQueriedFromMemory() {
+        manager.modified(Map.of("recentStates", 10));
+        setupPersistence(new PersistenceItemConfig(TEST_ITEM_NAME));
+        addConfiguration(TEST_QUERYABLE_PERSISTENCE_SERVICE_ID, List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+        when(queryablePersistenceServiceMock.query(any(), any())).thenReturn(List.of());
+        FilterCriteria filter = new FilterCriteria().setItemName(TEST_ITEM_NAME).setEndDate(ZonedDateTime.now())
+                .setPageSize(1);
+        assertTrue(manager.queryRecentStates(queryablePersistenceServiceMock, filter, null).isEmpty());
+
+        TEST_ITEM.setState(TEST_STATE);
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+        filter.setEndDate(ZonedDateTime.now());
+
+        Iterable<HistoricItem> result = manager.queryRecentStates(queryablePersistenceServiceMock, filter, null)
+                .orElseThrow();
+        assertThat(result.iterator().next().getState(), is(TEST_STATE));
+        // the service is only queried for states in the future, when the first state is stored
+        ArgumentCaptor<FilterCriteria> captor = ArgumentCaptor.forClass(FilterCriteria.class);
+        verify(queryablePersistenceServiceMock).query(captor.capture(), any());
+        assertNotNull(captor.getValue().getBeginDate());
+        assertNull(captor.getValue().getEndDate());
+
+        // the persisted data has been changed by other means, possibly with states in the future
+        manager.handleExternalPersistenceDataChange(queryablePersistenceServiceMock, TEST_ITEM);
+        assertTrue(manager.queryRecentStates(queryablePersistenceServiceMock, filter, null).isEmpty());
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+        filter.setEndDate(ZonedDateTime.now());
+        assertTrue(manager.queryRecentStates(queryablePersistenceServiceMock, filter, null).isEmpty());
+    }
+
+    @Test
+    public void storedStatesAreNotQueriedFromMemoryWithStatesInTheFuture() {
+        manager.modified(Map.of("recentStates", 10));
+        addConfiguration(TEST_QUERYABLE_PERSISTENCE_SERVICE_ID, List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+        when(queryablePersistenceServiceMock.query(any(), any())).thenReturn(List.of(TEST_HISTORIC_ITEM));
+
+        TEST_ITEM.setState(TEST_STATE);
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+
+        FilterCriteria filter = new FilterCriteria().setItemName(TEST_ITEM_NAME).setEndDate(ZonedDateTime.now());
+        assertTrue(manager.queryRecentStates(queryablePersistenceServiceMock, filter, null).isEmpty());
+    }
+
+    @Test
+    public void storedStatesAreNotQueriedFromMemoryAfterTimeSeriesInTheFuture() {
+        manager.modified(Map.of("recentStates", 10));
+        addConfiguration(TEST_MODIFIABLE_PERSISTENCE_SERVICE_ID, List.of(new PersistenceItemConfig(TEST_ITEM_NAME)),
+                PersistenceStrategy.Globals.UPDATE, null);
+        when(modifiablePersistenceServiceMock.query(any(), any())).thenReturn(List.of());
+        when(schedulerMock.at(any(SchedulerRunnable.class), any(Instant.class)))
+                .thenAnswer(i -> mock(ScheduledCompletableFuture.class));
+        FilterCriteria filter = new FilterCriteria().setItemName(TEST_ITEM_NAME);
+
+        TEST_ITEM.setState(TEST_STATE);
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+        filter.setEndDate(ZonedDateTime.now());
+        assertTrue(manager.queryRecentStates(modifiablePersistenceServiceMock, filter, null).isPresent());
+
+        // states in the past are older than the states which are stored later
+        TimeSeries pastTimeSeries = new TimeSeries(TimeSeries.Policy.ADD);
+        pastTimeSeries.add(Instant.now().minusSeconds(1000), new StringType("past"));
+        manager.timeSeriesUpdated(TEST_ITEM, pastTimeSeries);
+        assertTrue(manager.queryRecentStates(modifiablePersistenceServiceMock, filter, null).isEmpty());
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+        filter.setEndDate(ZonedDateTime.now());
+        assertTrue(manager.queryRecentStates(modifiablePersistenceServiceMock, filter, null).isPresent());
+
+        // states in the future would be missed by the recent states once their time has come
+        TimeSeries futureTimeSeries = new TimeSeries(TimeSeries.Policy.ADD);
+        futureTimeSeries.add(Instant.now().plusSeconds(1000), new StringType("future"));
+        manager.timeSeriesUpdated(TEST_ITEM, futureTimeSeries);
+        manager.stateUpdated(TEST_ITEM, TEST_STATE);
+        filter.setEndDate(ZonedDateTime.now());
+        assertTrue(manager.queryRecentStates(modifiablePersistenceServiceMock, filter, null).isEmpty());
+    }
+
     /**
      * Add a configuration for restoring TEST_ITEM and mock the SafeCaller
      */
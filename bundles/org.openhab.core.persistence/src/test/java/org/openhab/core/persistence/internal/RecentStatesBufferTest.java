@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.persistence.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * Tests {@link RecentStatesBuffer}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class RecentStatesBufferTest {
+
+    private static final String ITEM_NAME = "item";
+    private static final long NOW = 10_000;
+
+    private final List<FilterCriteria> serviceQueries = new ArrayList<>();
+    private final List<HistoricItem> olderStates = new ArrayList<>();
+    private final RecentStatesBuffer buffer = new RecentStatesBuffer(ITEM_NAME, 3);
+
+    @BeforeEach
+    public void setUp() {
+        olderStates.add(historicItem(500, 0));
+    }
+
+    @Test
+    public void testStatesWithinTheRingAreAnsweredFromMemory() {
+        add(1000, 1);
+        add(2000, 2);
+        add(3000, 3);
+
+        assertEquals(List.of(2L, 3L), values(query(filter(1500, 3000).setOrdering(Ordering.ASCENDING))));
+        assertEquals(List.of(3L, 2L, 1L), values(query(filter(1000, 4000))));
+        assertEquals(List.of(2L), values(query(filter(1000, 4000).setPageSize(1).setPageNumber(1))));
+        // the latest state at a point in time
+        assertEquals(List.of(2L), values(query(filter(null, 2500).setPageSize(1))));
+        assertTrue(serviceQueries.isEmpty());
+    }
+
+    @Test
+    public void testOlderStatesAreOnlyQueriedWhenTheyAreNeeded() {
+        add(1000, 1);
+        add(2000, 2);
+
+        Iterable<HistoricItem> result = query(filter(null, 3000));
+        assertNotNull(result);
+        assertTrue(serviceQueries.isEmpty());
+
+        assertEquals(List.of(2L, 1L, 0L), values(result));
+        assertEquals(1, serviceQueries.size());
+        assertEquals(999, serviceQueries.getFirst().getEndDate().toInstant().toEpochMilli());
+
+        // a later page which reaches before the ring
+        assertNull(query(filter(null, 3000).setPageSize(2).setPageNumber(1)));
+    }
+
+    @Test
+    public void testDroppedStatesAreQueriedFromTheService() {
+        add(1000, 1);
+        add(1000, 2);
+        add(2000, 3);
+        add(3000, 4);
+
+        assertEquals(List.of(4L), values(query(filter(2500, 4000))));
+        // the state dropped from the ring has been stored at the same time as the oldest state in the ring
+        assertEquals(List.of(4L, 3L, 0L), values(query(filter(1000, 4000))));
+        assertEquals(1, serviceQueries.size());
+        assertEquals(1000, serviceQueries.getFirst().getEndDate().toInstant().toEpochMilli());
+        assertNull(query(filter(1000, 4000).setOrdering(Ordering.ASCENDING)));
+    }
+
+    @Test
+    public void testQueriesWhichCannotBeAnsweredFromMemory() {
+        assertNull(query(filter(0, 4000)));
+
+        add(1000, 1);
+        assertNull(query(filter(1000, NOW + 1)));
+        assertNull(query(new FilterCriteria().setItemName(ITEM_NAME).setBeginDate(time(1000))));
+        assertNull(query(filter(1000, 4000).setState(new DecimalType(1))));
+        assertNull(query(filter(null, 4000).setOrdering(Ordering.ASCENDING)));
+    }
+
+    @Test
+    public void testStatesAreKeptInTheOrderOfTime() {
+        add(2000, 1);
+        add(1000, 2);
+
+        assertEquals(List.of(1L, 2L), values(query(filter(2000, 2000).setOrdering(Ordering.ASCENDING))));
+    }
+
+    private void add(long timestamp, long value) {
+        buffer.add(timestamp, new DecimalType(value));
+    }
+
+    private @Nullable Iterable<HistoricItem> query(FilterCriteria filter) {
+        return buffer.query(filter, NOW, older -> {
+            serviceQueries.add(older);
+            return olderStates;
+        });
+    }
+
+    private static FilterCriteria filter(@Nullable Integer begin, long end) {
+        FilterCriteria filter = new FilterCriteria().setItemName(ITEM_NAME).setEndDate(time(end));
+        return begin == null ? filter : filter.setBeginDate(time(begin));
+    }
+
+    private static ZonedDateTime time(long timestamp) {
+        return Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault());
+    }
+
+    private static List<Long> values(@Nullable Iterable<HistoricItem> result) {
+        assertNotNull(result);
+        return StreamSupport.stream(result.spliterator(), false).map(HistoricItem::getState)
+                .map(state -> ((DecimalType) state).longValue()).toList();
+    }
+
+    private static HistoricItem historicItem(long timestamp, long value) {
+        return new HistoricItem() {
+            @Override
+            public ZonedDateTime getTimestamp() {
+                return time(timestamp);
+            }
+
+            @Override
+            public State getState() {
+                return new DecimalType(value);
+            }
+
+            @Override
+            public String getName() {
+                return ITEM_NAME;
+            }
+        };
+    }
+}
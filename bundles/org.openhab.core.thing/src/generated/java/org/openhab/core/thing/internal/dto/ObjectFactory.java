@@ -0,0 +1,146 @@
+
+package org.openhab.core.thing.internal.dto;
+
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlRegistry;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the org.openhab.core.thing.internal.dto package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+public class ObjectFactory {
+
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: org.openhab.core.thing.internal.dto
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link XmlThingDescriptions }
+     * 
+     */
+    public XmlThingDescriptions createXmlThingDescriptions() {
+        return new XmlThingDescriptions();
+    }
+
+    /**
+     * Create an instance of {@link XmlThingType }
+     * 
+     */
+    public XmlThingType createXmlThingType() {
+        return new XmlThingType();
+    }
+
+    /**
+     * Create an instance of {@link XmlBridgeType }
+     * 
+     */
+    public XmlBridgeType createXmlBridgeType() {
+        return new XmlBridgeType();
+    }
+
+    /**
+     * Create an instance of {@link XmlChannelType }
+     * 
+     */
+    public XmlChannelType createXmlChannelType() {
+        return new XmlChannelType();
+    }
+
+    /**
+     * Create an instance of {@link XmlChannelGroupType }
+     * 
+     */
+    public XmlChannelGroupType createXmlChannelGroupType() {
+        return new XmlChannelGroupType();
+    }
+
+    /**
+     * Create an instance of {@link XmlBridgeTypeRef }
+     * 
+     */
+    public XmlBridgeTypeRef createXmlBridgeTypeRef() {
+        return new XmlBridgeTypeRef();
+    }
+
+    /**
+     * Create an instance of {@link XmlChannel }
+     * 
+     */
+    public XmlChannel createXmlChannel() {
+        return new XmlChannel();
+    }
+
+    /**
+     * Create an instance of {@link XmlChannelGroup }
+     * 
+     */
+    public XmlChannelGroup createXmlChannelGroup() {
+        return new XmlChannelGroup();
+    }
+
+    /**
+     * Create an instance of {@link XmlItemType }
+     * 
+     */
+    public XmlItemType createXmlItemType() {
+        return new XmlItemType();
+    }
+
+    /**
+     * Create an instance of {@link XmlState }
+     * 
+     */
+    public XmlState createXmlState() {
+        return new XmlState();
+    }
+
+    /**
+     * Create an instance of {@link XmlEvent }
+     * 
+     */
+    public XmlEvent createXmlEvent() {
+        return new XmlEvent();
+    }
+
+    /**
+     * Create an instance of {@link XmlCommand }
+     * 
+     */
+    public XmlCommand createXmlCommand() {
+        return new XmlCommand();
+    }
+
+    /**
+     * Create an instance of {@link XmlOption }
+     * 
+     */
+    public XmlOption createXmlOption() {
+        return new XmlOption();
+    }
+
+    /**
+     * Create an instance of {@link XmlProperty }
+     * 
+     */
+    public XmlProperty createXmlProperty() {
+        return new XmlProperty();
+    }
+
+}
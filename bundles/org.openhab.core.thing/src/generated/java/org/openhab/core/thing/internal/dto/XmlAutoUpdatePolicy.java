@@ -0,0 +1,55 @@
+
+package org.openhab.core.thing.internal.dto;
+
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for auto-update-policy.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <pre>
+ * &lt;simpleType name="auto-update-policy"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="veto"/&gt;
+ *     &lt;enumeration value="default"/&gt;
+ *     &lt;enumeration value="recommend"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "auto-update-policy")
+@XmlEnum
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+public enum XmlAutoUpdatePolicy {
+
+    @XmlEnumValue("veto")
+    VETO("veto"),
+    @XmlEnumValue("default")
+    DEFAULT("default"),
+    @XmlEnumValue("recommend")
+    RECOMMEND("recommend");
+    private final String value;
+
+    XmlAutoUpdatePolicy(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static XmlAutoUpdatePolicy fromValue(String v) {
+        for (XmlAutoUpdatePolicy c: XmlAutoUpdatePolicy.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,498 @@
+
+package org.openhab.core.thing.internal.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import org.openhab.core.config.core.dto.XmlConfigDescription;
+import org.openhab.core.config.core.dto.XmlConfigDescriptionRef;
+
+
+/**
+ * <p>Java class for channelType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="channelType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="item-type" type="{https://openhab.org/schemas/thing-description/v1.0.0}itemType" minOccurs="0"/&gt;
+ *         &lt;element name="kind" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/&gt;
+ *         &lt;element name="label" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="description" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/&gt;
+ *         &lt;element name="category" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/&gt;
+ *         &lt;element name="tags" type="{https://openhab.org/schemas/thing-description/v1.0.0}tags" minOccurs="0"/&gt;
+ *         &lt;element name="state" type="{https://openhab.org/schemas/thing-description/v1.0.0}state" minOccurs="0"/&gt;
+ *         &lt;element name="command" type="{https://openhab.org/schemas/thing-description/v1.0.0}command" minOccurs="0"/&gt;
+ *         &lt;element name="event" type="{https://openhab.org/schemas/thing-description/v1.0.0}event" minOccurs="0"/&gt;
+ *         &lt;element name="autoUpdatePolicy" type="{https://openhab.org/schemas/thing-description/v1.0.0}auto-update-policy" minOccurs="0"/&gt;
+ *         &lt;choice minOccurs="0"&gt;
+ *           &lt;element name="config-description" type="{https://openhab.org/schemas/config-description/v1.0.0}configDescription"/&gt;
+ *           &lt;element name="config-description-ref" type="{https://openhab.org/schemas/config-description/v1.0.0}configDescriptionRef"/&gt;
+ *         &lt;/choice&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{https://openhab.org/schemas/config-description/v1.0.0}idRestrictionPattern" /&gt;
+ *       &lt;attribute name="advanced" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *       &lt;attribute name="system" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "channelType", propOrder = {
+    "itemType",
+    "kind",
+    "label",
+    "description",
+    "category",
+    "tags",
+    "state",
+    "command",
+    "event",
+    "autoUpdatePolicy",
+    "configDescription",
+    "configDescriptionRef"
+})
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+public class XmlChannelType implements Serializable
+{
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    private final static long serialVersionUID = 1L;
+    @XmlElement(name = "item-type")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected XmlItemType itemType;
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected String kind;
+    @XmlElement(required = true)
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected String label;
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected String description;
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected String category;
+    @XmlElementWrapper
+    @XmlElement(name = "tag")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected List<String> tags = new ArrayList<String>();
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected XmlState state;
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected XmlCommand command;
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected XmlEvent event;
+    @XmlSchemaType(name = "string")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected XmlAutoUpdatePolicy autoUpdatePolicy;
+    @XmlElement(name = "config-description")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected XmlConfigDescription configDescription;
+    @XmlElement(name = "config-description-ref")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected XmlConfigDescriptionRef configDescriptionRef;
+    @XmlAttribute(name = "id", required = true)
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected String id;
+    @XmlAttribute(name = "advanced")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected Boolean advanced;
+    @XmlAttribute(name = "system")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected Boolean system;
+
+    /**
+     * Gets the value of the itemType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlItemType }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public XmlItemType getItemType() {
+        return itemType;
+    }
+
+    /**
+     * Sets the value of the itemType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlItemType }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setItemType(XmlItemType value) {
+        this.itemType = value;
+    }
+
+    /**
+     * Gets the value of the kind property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Sets the value of the kind property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setKind(String value) {
+        this.kind = value;
+    }
+
+    /**
+     * Gets the value of the label property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Sets the value of the label property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setLabel(String value) {
+        this.label = value;
+    }
+
+    /**
+     * Gets the value of the description property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets the value of the description property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setDescription(String value) {
+        this.description = value;
+    }
+
+    /**
+     * Gets the value of the category property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Sets the value of the category property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setCategory(String value) {
+        this.category = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlState }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public XmlState getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlState }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setState(XmlState value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the command property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlCommand }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public XmlCommand getCommand() {
+        return command;
+    }
+
+    /**
+     * Sets the value of the command property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlCommand }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setCommand(XmlCommand value) {
+        this.command = value;
+    }
+
+    /**
+     * Gets the value of the event property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlEvent }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public XmlEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Sets the value of the event property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlEvent }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setEvent(XmlEvent value) {
+        this.event = value;
+    }
+
+    /**
+     * Gets the value of the autoUpdatePolicy property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlAutoUpdatePolicy }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public XmlAutoUpdatePolicy getAutoUpdatePolicy() {
+        return autoUpdatePolicy;
+    }
+
+    /**
+     * Sets the value of the autoUpdatePolicy property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlAutoUpdatePolicy }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setAutoUpdatePolicy(XmlAutoUpdatePolicy value) {
+        this.autoUpdatePolicy = value;
+    }
+
+    /**
+     * Gets the value of the configDescription property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlConfigDescription }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public XmlConfigDescription getConfigDescription() {
+        return configDescription;
+    }
+
+    /**
+     * Sets the value of the configDescription property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlConfigDescription }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setConfigDescription(XmlConfigDescription value) {
+        this.configDescription = value;
+    }
+
+    /**
+     * Gets the value of the configDescriptionRef property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link XmlConfigDescriptionRef }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public XmlConfigDescriptionRef getConfigDescriptionRef() {
+        return configDescriptionRef;
+    }
+
+    /**
+     * Sets the value of the configDescriptionRef property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link XmlConfigDescriptionRef }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setConfigDescriptionRef(XmlConfigDescriptionRef value) {
+        this.configDescriptionRef = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setId(String value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the advanced property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public boolean isAdvanced() {
+        if (advanced == null) {
+            return false;
+        } else {
+            return advanced;
+        }
+    }
+
+    /**
+     * Sets the value of the advanced property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setAdvanced(Boolean value) {
+        this.advanced = value;
+    }
+
+    /**
+     * Gets the value of the system property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public boolean isSystem() {
+        if (system == null) {
+            return false;
+        } else {
+            return system;
+        }
+    }
+
+    /**
+     * Sets the value of the system property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setSystem(Boolean value) {
+        this.system = value;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public List<String> getTags() {
+        return tags;
+    }
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+}
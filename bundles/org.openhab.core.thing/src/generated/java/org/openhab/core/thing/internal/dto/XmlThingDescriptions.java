@@ -0,0 +1,124 @@
+
+package org.openhab.core.thing.internal.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for thing-descriptions element declaration.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;element name="thing-descriptions"&gt;
+ *   &lt;complexType&gt;
+ *     &lt;complexContent&gt;
+ *       &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *         &lt;choice maxOccurs="unbounded"&gt;
+ *           &lt;element name="thing-type" type="{https://openhab.org/schemas/thing-description/v1.0.0}thingType"/&gt;
+ *           &lt;element name="bridge-type" type="{https://openhab.org/schemas/thing-description/v1.0.0}bridgeType"/&gt;
+ *           &lt;element name="channel-type" type="{https://openhab.org/schemas/thing-description/v1.0.0}channelType"/&gt;
+ *           &lt;element name="channel-group-type" type="{https://openhab.org/schemas/thing-description/v1.0.0}channelGroupType"/&gt;
+ *         &lt;/choice&gt;
+ *         &lt;attribute name="bindingId" use="required" type="{https://openhab.org/schemas/config-description/v1.0.0}idRestrictionPattern" /&gt;
+ *       &lt;/restriction&gt;
+ *     &lt;/complexContent&gt;
+ *   &lt;/complexType&gt;
+ * &lt;/element&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "thingTypeOrBridgeTypeOrChannelType"
+})
+@XmlRootElement(name = "thing-descriptions")
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+public class XmlThingDescriptions implements Serializable
+{
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    private final static long serialVersionUID = 1L;
+    @XmlElements({
+        @XmlElement(name = "thing-type", type = XmlThingType.class),
+        @XmlElement(name = "bridge-type", type = XmlBridgeType.class),
+        @XmlElement(name = "channel-type", type = XmlChannelType.class),
+        @XmlElement(name = "channel-group-type", type = XmlChannelGroupType.class)
+    })
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected List<Serializable> thingTypeOrBridgeTypeOrChannelType;
+    @XmlAttribute(name = "bindingId", required = true)
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected String bindingId;
+
+    /**
+     * Gets the value of the thingTypeOrBridgeTypeOrChannelType property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the thingTypeOrBridgeTypeOrChannelType property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getThingTypeOrBridgeTypeOrChannelType().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link XmlBridgeType }
+     * {@link XmlChannelGroupType }
+     * {@link XmlChannelType }
+     * {@link XmlThingType }
+     * 
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public List<Serializable> getThingTypeOrBridgeTypeOrChannelType() {
+        if (thingTypeOrBridgeTypeOrChannelType == null) {
+            thingTypeOrBridgeTypeOrChannelType = new ArrayList<Serializable>();
+        }
+        return this.thingTypeOrBridgeTypeOrChannelType;
+    }
+
+    /**
+     * Gets the value of the bindingId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public String getBindingId() {
+        return bindingId;
+    }
+
+    /**
+     * Sets the value of the bindingId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setBindingId(String value) {
+        this.bindingId = value;
+    }
+
+}
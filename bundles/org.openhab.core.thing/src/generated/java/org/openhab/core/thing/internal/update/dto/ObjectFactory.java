@@ -0,0 +1,82 @@
+
+package org.openhab.core.thing.internal.update.dto;
+
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlRegistry;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the org.openhab.core.thing.internal.update.dto package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+public class ObjectFactory {
+
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: org.openhab.core.thing.internal.update.dto
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link XmlUpdateDescriptions }
+     * 
+     */
+    public XmlUpdateDescriptions createXmlUpdateDescriptions() {
+        return new XmlUpdateDescriptions();
+    }
+
+    /**
+     * Create an instance of {@link XmlThingType }
+     * 
+     */
+    public XmlThingType createXmlThingType() {
+        return new XmlThingType();
+    }
+
+    /**
+     * Create an instance of {@link XmlInstructionSet }
+     * 
+     */
+    public XmlInstructionSet createXmlInstructionSet() {
+        return new XmlInstructionSet();
+    }
+
+    /**
+     * Create an instance of {@link XmlAddChannel }
+     * 
+     */
+    public XmlAddChannel createXmlAddChannel() {
+        return new XmlAddChannel();
+    }
+
+    /**
+     * Create an instance of {@link XmlUpdateChannel }
+     * 
+     */
+    public XmlUpdateChannel createXmlUpdateChannel() {
+        return new XmlUpdateChannel();
+    }
+
+    /**
+     * Create an instance of {@link XmlRemoveChannel }
+     * 
+     */
+    public XmlRemoveChannel createXmlRemoveChannel() {
+        return new XmlRemoveChannel();
+    }
+
+}
@@ -0,0 +1,109 @@
+
+package org.openhab.core.thing.internal.update.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for instructionSet complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="instructionSet"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;choice maxOccurs="unbounded"&gt;
+ *         &lt;element name="add-channel" type="{https://openhab.org/schemas/update-description/v1.0.0}addChannel" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="update-channel" type="{https://openhab.org/schemas/update-description/v1.0.0}updateChannel" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="remove-channel" type="{https://openhab.org/schemas/update-description/v1.0.0}removeChannel" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="targetVersion" use="required" type="{http://www.w3.org/2001/XMLSchema}int" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "instructionSet", propOrder = {
+    "instructions"
+})
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+public class XmlInstructionSet implements Serializable
+{
+
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    private final static long serialVersionUID = 1L;
+    @XmlElements({
+        @XmlElement(name = "add-channel", type = XmlAddChannel.class),
+        @XmlElement(name = "update-channel", type = XmlUpdateChannel.class),
+        @XmlElement(name = "remove-channel", type = XmlRemoveChannel.class)
+    })
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected List<Serializable> instructions;
+    @XmlAttribute(name = "targetVersion", required = true)
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    protected int targetVersion;
+
+    /**
+     * Gets the value of the instructions property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the instructions property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getInstructions().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link XmlAddChannel }
+     * {@link XmlRemoveChannel }
+     * {@link XmlUpdateChannel }
+     * 
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public List<Serializable> getInstructions() {
+        if (instructions == null) {
+            instructions = new ArrayList<Serializable>();
+        }
+        return this.instructions;
+    }
+
+    /**
+     * Gets the value of the targetVersion property.
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public int getTargetVersion() {
+        return targetVersion;
+    }
+
+    /**
+     * Sets the value of the targetVersion property.
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v2.3.7", date = "2026-10-19T12:28:02Z")
+    public void setTargetVersion(int value) {
+        this.targetVersion = value;
+    }
+
+}
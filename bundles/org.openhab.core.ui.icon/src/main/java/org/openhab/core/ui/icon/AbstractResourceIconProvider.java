@@ -13,7 +13,12 @@
 package org.openhab.core.ui.icon;
 
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,8 +40,11 @@ import org.slf4j.LoggerFactory;
  * used. If the state is a decimal number between 0 and 100, the implementation will look for a resource with the next
  * smaller state postfix available. Example: For category "Light" and state 84, it will check for the resources
  * light-82.png, light-81.png, light-80.png and return the first one it can find.
+ * Providers that can list their resources (see {@link #getResourceNames(String)}) find this resource in an index of the
+ * numeric states instead.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Andrew Fiddian-Green - Index of the numeric states
  */
 @NonNullByDefault
 public abstract class AbstractResourceIconProvider implements IconProvider {
@@ -45,6 +53,9 @@ public abstract class AbstractResourceIconProvider implements IconProvider {
 
     protected final TranslationProvider i18nProvider;
 
+    // the numeric states with a resource, by icon set and by resource name without state
+    private final Map<String, Map<String, NavigableSet<Integer>>> numberStateIndexes = new ConcurrentHashMap<>();
+
     protected AbstractResourceIconProvider(final TranslationProvider i18nProvider) {
         this.i18nProvider = i18nProvider;
     }
@@ -90,12 +101,10 @@ public abstract class AbstractResourceIconProvider implements IconProvider {
             try {
                 double stateAsDouble = Double.parseDouble(iconState);
                 if (stateAsDouble >= 0 && stateAsDouble <= 100) {
-                    for (int i = (int) stateAsDouble; i >= 0; i--) {
-                        String resourceWithNumberState = category.toLowerCase() + "-" + i + "."
-                                + format.toString().toLowerCase();
-                        if (hasResource(iconSetId, resourceWithNumberState)) {
-                            return getResource(iconSetId, resourceWithNumberState);
-                        }
+                    String resourceWithNumberState = findNumberStateResource(iconSetId, category.toLowerCase(),
+                            format.toString().toLowerCase(), (int) stateAsDouble);
+                    if (resourceWithNumberState != null) {
+                        return getResource(iconSetId, resourceWithNumberState);
                     }
                 }
             } catch (NumberFormatException e) {
@@ -106,6 +115,72 @@ public abstract class AbstractResourceIconProvider implements IconProvider {
         }
     }
 
+    private @Nullable String findNumberStateResource(String iconSetId, String category, String extension, int state) {
+        Map<String, NavigableSet<Integer>> numberStateIndex = numberStateIndexes.computeIfAbsent(iconSetId,
+                this::createNumberStateIndex);
+        if (numberStateIndex == null) {
+            for (int i = state; i >= 0; i--) {
+                String resourceWithNumberState = category + "-" + i + "." + extension;
+                if (hasResource(iconSetId, resourceWithNumberState)) {
+                    return resourceWithNumberState;
+                }
+            }
+            return null;
+        }
+        NavigableSet<Integer> numberStates = numberStateIndex.get(category + "." + extension);
+        Integer numberState = numberStates == null ? null : numberStates.floor(state);
+        return numberState == null ? null : category + "-" + numberState + "." + extension;
+    }
+
+    private @Nullable Map<String, NavigableSet<Integer>> createNumberStateIndex(String iconSetId) {
+        Set<String> resourceNames = getResourceNames(iconSetId);
+        if (resourceNames == null) {
+            return null;
+        }
+        Map<String, NavigableSet<Integer>> numberStateIndex = new HashMap<>();
+        for (String resourceName : resourceNames) {
+            int extensionIndex = resourceName.lastIndexOf('.');
+            int stateIndex = resourceName.lastIndexOf('-', extensionIndex);
+            if (extensionIndex < 0 || stateIndex < 0) {
+                continue;
+            }
+            String state = resourceName.substring(stateIndex + 1, extensionIndex);
+            try {
+                int numberState = Integer.parseInt(state);
+                // only the names which are probed by the resource scanning
+                if (numberState >= 0 && numberState <= 100 && state.equals(Integer.toString(numberState))) {
+                    String resourceWithoutState = resourceName.substring(0, stateIndex)
+                            + resourceName.substring(extensionIndex);
+                    numberStateIndex.computeIfAbsent(resourceWithoutState, k -> new TreeSet<>()).add(numberState);
+                }
+            } catch (NumberFormatException e) {
+                // not a numeric state
+            }
+        }
+        return numberStateIndex;
+    }
+
+    /**
+     * Provides the names of all resources of an icon set, if the resources can be listed.
+     * <p>
+     * The names are used to build an index of the numeric states with a resource, so that the resource for a numeric
+     * state does not need to be searched by checking all smaller states. Providers whose resources can change must call
+     * {@link #resourcesChanged()} when they do.
+     *
+     * @param iconSetId the id of the icon set
+     * @return the names of all resources of the icon set or null, if they cannot be listed
+     */
+    protected @Nullable Set<String> getResourceNames(String iconSetId) {
+        return null;
+    }
+
+    /**
+     * Discards the index of the numeric states, it is rebuilt from {@link #getResourceNames(String)} when needed.
+     */
+    protected void resourcesChanged() {
+        numberStateIndexes.clear();
+    }
+
     /**
      * Provides the priority of this provider. A higher value will give this provider a precedence over others.
      *
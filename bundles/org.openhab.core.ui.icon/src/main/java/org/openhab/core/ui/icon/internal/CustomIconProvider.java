@@ -17,19 +17,25 @@ import java.io.InputStream;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.i18n.TranslationProvider;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.ui.icon.AbstractResourceIconProvider;
 import org.openhab.core.ui.icon.IconProvider;
 import org.openhab.core.ui.icon.IconSet;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
@@ -37,24 +43,61 @@ import org.osgi.service.component.annotations.Reference;
  * folder. If a custom icon is found, it will be used over the standard system icon.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Andrew Fiddian-Green - Index the icon files instead of searching them on every request
  */
 @Component(immediate = true, service = { IconProvider.class })
 @NonNullByDefault
-public class CustomIconProvider extends AbstractResourceIconProvider {
+public class CustomIconProvider extends AbstractResourceIconProvider implements WatchService.BatchWatchEventListener {
+
+    private static final Path ICONS_FOLDER = Path.of("icons");
+
+    private final WatchService watchService;
+    private final Path iconsFolder;
+
+    // the icon files by file name, for each icon set folder
+    private final Map<String, Map<String, Path>> iconFiles = new ConcurrentHashMap<>();
 
     @Activate
-    public CustomIconProvider(final @Reference TranslationProvider i18nProvider) {
+    public CustomIconProvider(final @Reference TranslationProvider i18nProvider,
+            final @Reference(target = WatchService.CONFIG_WATCHER_FILTER) WatchService watchService) {
         super(i18nProvider);
+        this.watchService = watchService;
+        this.iconsFolder = Path.of(OpenHAB.getConfigFolder()).resolve(ICONS_FOLDER).toAbsolutePath().normalize();
+        watchService.registerListener(this, ICONS_FOLDER);
     }
 
-    private @Nullable Path getIconFile(String filename, String iconSetId) {
-        Path folder = Path.of(OpenHAB.getConfigFolder(), "icons", iconSetId);
-        try (Stream<Path> stream = Files.walk(folder, FileVisitOption.FOLLOW_LINKS)) {
-            return stream.filter(file -> !Files.isDirectory(file) && filename.equals(file.getFileName().toString()))
-                    .findAny().orElse(null);
-        } catch (IOException e) {
+    @Deactivate
+    public void deactivate() {
+        watchService.unregisterListener(this);
+    }
+
+    @Override
+    public void processWatchEvents(List<WatchService.WatchEvent> events) {
+        iconFiles.clear();
+        resourcesChanged();
+    }
+
+    private @Nullable Map<String, Path> getIconFiles(String iconSetId) {
+        Path folder = iconsFolder.resolve(iconSetId).normalize();
+        if (!iconsFolder.equals(folder.getParent()) || !Files.isDirectory(folder)) {
+            // only existing icon sets are indexed
             return null;
         }
+        return iconFiles.computeIfAbsent(iconSetId, id -> {
+            Map<String, Path> files = new HashMap<>();
+            try (Stream<Path> stream = Files.walk(folder, FileVisitOption.FOLLOW_LINKS)) {
+                stream.filter(file -> !Files.isDirectory(file))
+                        .forEach(file -> files.putIfAbsent(file.getFileName().toString(), file));
+            } catch (IOException e) {
+                // the icon set has no readable files
+            }
+            return Map.copyOf(files);
+        });
+    }
+
+    private @Nullable Path getIconFile(String filename, String iconSetId) {
+        Map<String, Path> files = getIconFiles(iconSetId);
+        return files == null ? null : files.get(filename);
     }
 
     @Override
@@ -75,6 +118,12 @@ public class CustomIconProvider extends AbstractResourceIconProvider {
         return getIconFile(resourceName, iconSetId) != null;
     }
 
+    @Override
+    protected @Nullable Set<String> getResourceNames(String iconSetId) {
+        Map<String, Path> files = getIconFiles(iconSetId);
+        return files == null ? null : files.keySet();
+    }
+
     @Override
     public Set<IconSet> getIconSets(@Nullable Locale locale) {
         return Set.of();
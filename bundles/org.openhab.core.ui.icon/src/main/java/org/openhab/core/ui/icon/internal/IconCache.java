@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.ui.icon.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.ui.icon.IconProvider;
+import org.openhab.core.ui.icon.IconSet.Format;
+
+/**
+ * The {@link IconCache} keeps the content of recently served icons in memory, so that they do not need to be resolved
+ * and read from their {@link IconProvider} again.
+ * <p>
+ * The cache is bounded by the number of icons and the total size of their content, the least recently used icons are
+ * removed first. Icons expire after a while, so that changed icons of providers serving files are picked up.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+class IconCache {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long expiryMillis;
+
+    private final LinkedHashMap<Key, CachedIcon> icons = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * @param maxEntries the maximum number of cached icons
+     * @param maxBytes the maximum total size of the cached icons
+     * @param expiryMillis the time after which a cached icon is read again from its provider
+     */
+    IconCache(int maxEntries, long maxBytes, long expiryMillis) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.expiryMillis = expiryMillis;
+    }
+
+    public synchronized @Nullable CachedIcon get(Key key) {
+        CachedIcon icon = icons.get(key);
+        if (icon != null && System.currentTimeMillis() - icon.created > expiryMillis) {
+            remove(key);
+            return null;
+        }
+        return icon;
+    }
+
+    public synchronized void put(Key key, CachedIcon icon) {
+        if (icon.size() > maxBytes) {
+            return;
+        }
+        remove(key);
+        icons.put(key, icon);
+        bytes += icon.size();
+
+        Iterator<CachedIcon> iterator = icons.values().iterator();
+        while ((icons.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+            bytes -= iterator.next().size();
+            iterator.remove();
+        }
+    }
+
+    public synchronized void clear() {
+        icons.clear();
+        bytes = 0;
+    }
+
+    private void remove(Key key) {
+        CachedIcon removed = icons.remove(key);
+        if (removed != null) {
+            bytes -= removed.size();
+        }
+    }
+
+    /**
+     * Identifies an icon as requested from a provider.
+     */
+    record Key(IconProvider provider, String category, String iconSetId, @Nullable String state, Format format) {
+    }
+
+    /**
+     * The content of an icon with its entity tag. SVG icons are additionally kept compressed with gzip, as they are
+     * text and are usually requested by clients accepting compressed responses.
+     */
+    static class CachedIcon {
+        private final Format format;
+        private final byte[] content;
+        private final byte @Nullable [] gzippedContent;
+        private final String etag;
+        private final long created = System.currentTimeMillis();
+
+        CachedIcon(Format format, byte[] content) {
+            this.format = format;
+            this.content = content;
+            this.gzippedContent = format == Format.SVG ? gzip(content) : null;
+            this.etag = "\"" + hash(content) + "\"";
+        }
+
+        public Format getFormat() {
+            return format;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        /**
+         * @return the compressed content or null, if compressing does not make the content smaller
+         */
+        public byte @Nullable [] getGzippedContent() {
+            return gzippedContent;
+        }
+
+        /**
+         * @return the entity tag of the uncompressed content, including the quotes
+         */
+        public String getETag() {
+            return etag;
+        }
+
+        /**
+         * @return the entity tag of the compressed content, including the quotes
+         */
+        public String getGzippedETag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        private long size() {
+            byte[] gzippedContent = this.gzippedContent;
+            return content.length + (gzippedContent == null ? 0 : gzippedContent.length);
+        }
+
+        private static byte @Nullable [] gzip(byte[] content) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 2 + 32);
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                gzipOutputStream.write(content);
+            } catch (IOException e) {
+                // not possible when writing to memory
+                return null;
+            }
+            return outputStream.size() < content.length ? outputStream.toByteArray() : null;
+        }
+
+        private static String hash(byte[] content) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+                return HexFormat.of().formatHex(digest, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                // SHA-256 is available on every Java platform
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.io.EofException;
 import org.openhab.core.ui.icon.IconProvider;
 import org.openhab.core.ui.icon.IconSet.Format;
+import org.openhab.core.ui.icon.internal.IconCache.CachedIcon;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
@@ -46,6 +47,7 @@ import org.slf4j.LoggerFactory;
  * Registers a servlet that serves icons through {@link IconProvider}s.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Andrew Fiddian-Green - Cache icons and support entity tags and gzip compression
  */
 @Component(service = Servlet.class)
 @HttpWhiteboardServletAsyncSupported(asyncSupported = true)
@@ -65,9 +67,14 @@ public class IconServlet extends HttpServlet {
     static final String PARAM_ANY_FORMAT = "anyFormat";
     static final String PARAM_STATE = "state";
 
+    static final int CACHE_MAX_ENTRIES = 1000;
+    static final long CACHE_MAX_BYTES = 8 * 1024 * 1024;
+    static final long CACHE_EXPIRY_MILLIS = 60 * 1000;
+
     protected String defaultIconSetId = "classic";
 
     private final List<IconProvider> iconProvider = new ArrayList<>();
+    private final IconCache iconCache = new IconCache(CACHE_MAX_ENTRIES, CACHE_MAX_BYTES, CACHE_EXPIRY_MILLIS);
 
     @Reference(cardinality = ReferenceCardinality.AT_LEAST_ONE, policy = ReferencePolicy.DYNAMIC)
     public void addIconProvider(IconProvider iconProvider) {
@@ -76,6 +83,7 @@ public class IconServlet extends HttpServlet {
 
     public void removeIconProvider(IconProvider iconProvider) {
         this.iconProvider.remove(iconProvider);
+        iconCache.clear();
     }
 
     @Activate
@@ -134,17 +142,21 @@ public class IconServlet extends HttpServlet {
             return;
         }
 
-        try (InputStream is = provider.getIcon(category, iconSetId, state, format)) {
-            if (is == null) {
-                logger.debug("Requested icon category {} provided by no icon provider", category);
-                resp.sendError(404);
-                return;
+        try {
+            IconCache.Key key = new IconCache.Key(provider, category, iconSetId, state, format);
+            CachedIcon icon = iconCache.get(key);
+            if (icon == null) {
+                try (InputStream is = provider.getIcon(category, iconSetId, state, format)) {
+                    if (is == null) {
+                        logger.debug("Requested icon category {} provided by no icon provider", category);
+                        resp.sendError(404);
+                        return;
+                    }
+                    icon = new CachedIcon(format, is.readAllBytes());
+                }
+                iconCache.put(key, icon);
             }
-
-            resp.setContentType(Format.SVG.equals(format) ? "image/svg+xml" : "image/png");
-            resp.setHeader("Cache-Control", "max-age=31536000");
-            is.transferTo(resp.getOutputStream());
-            resp.flushBuffer();
+            sendIcon(req, resp, icon);
         } catch (IOException e) {
             if (resp.isCommitted() && e instanceof EofException) {
                 logger.debug("Client {} disconnected while sending the icon byte stream as response",
@@ -157,6 +169,62 @@ public class IconServlet extends HttpServlet {
         }
     }
 
+    private void sendIcon(HttpServletRequest req, HttpServletResponse resp, CachedIcon icon) throws IOException {
+        byte[] gzippedContent = icon.getGzippedContent();
+        boolean gzip = gzippedContent != null && acceptsGzip(req);
+        String etag = gzip ? icon.getGzippedETag() : icon.getETag();
+
+        resp.setContentType(Format.SVG.equals(icon.getFormat()) ? "image/svg+xml" : "image/png");
+        resp.setHeader("Cache-Control", "max-age=31536000");
+        resp.setHeader("ETag", etag);
+        if (gzippedContent != null) {
+            resp.setHeader("Vary", "Accept-Encoding");
+        }
+        if (matchesETag(req.getHeader("If-None-Match"), icon)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] content = gzip && gzippedContent != null ? gzippedContent : icon.getContent();
+        if (gzip) {
+            resp.setHeader("Content-Encoding", "gzip");
+        }
+        resp.setContentLength(content.length);
+        resp.getOutputStream().write(content);
+        resp.flushBuffer();
+    }
+
+    private boolean acceptsGzip(HttpServletRequest req) {
+        String acceptEncoding = req.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesETag(@Nullable String ifNoneMatch, CachedIcon icon) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            // the compressed and uncompressed content are the same icon
+            if ("*".equals(tag) || tag.equals(icon.getETag()) || tag.equals(icon.getGzippedETag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String substringAfterLast(@Nullable String str, String separator) {
         if (str == null) {
             return "";
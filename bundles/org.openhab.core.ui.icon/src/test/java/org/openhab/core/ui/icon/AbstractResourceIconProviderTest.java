@@ -20,6 +20,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -38,6 +40,7 @@ import org.openhab.core.ui.icon.IconSet.Format;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Wouter Born - Migrate tests from Groovy to Java
+ * @author Andrew Fiddian-Green - Added test for the index of the numeric states
  */
 @ExtendWith(MockitoExtension.class)
 @NonNullByDefault
@@ -142,4 +145,55 @@ public class AbstractResourceIconProviderTest {
             assertThat(new String(is.readAllBytes(), StandardCharsets.UTF_8), is("a-bb-ccc-y z.png"));
         }
     }
+
+    @Test
+    public void testNumberStateIndex() throws IOException {
+        Set<String> resourceNames = Set.of("x.png", "x-0.png", "x-30.png", "x-70.png", "x-030.png", "x-y z.png",
+                "a-bb-ccc-30.png", "x-40.svg");
+        List<String> checkedResources = new ArrayList<>();
+        IconProvider indexedProvider = new AbstractResourceIconProvider(i18nProviderMock) {
+            @Override
+            protected @Nullable InputStream getResource(String iconset, String resourceName) {
+                return resourceNames.contains(resourceName)
+                        ? new ByteArrayInputStream(resourceName.getBytes(StandardCharsets.UTF_8))
+                        : null;
+            }
+
+            @Override
+            protected boolean hasResource(String iconset, String resourceName) {
+                checkedResources.add(resourceName);
+                return resourceNames.contains(resourceName);
+            }
+
+            @Override
+            protected @Nullable Set<String> getResourceNames(String iconSetId) {
+                return resourceNames;
+            }
+
+            @Override
+            public Set<IconSet> getIconSets(@Nullable Locale locale) {
+                return Set.of();
+            }
+
+            @Override
+            public Integer getPriority() {
+                return 0;
+            }
+        };
+
+        for (String state : List.of("0", "29.9", "34 °C", "69", "100")) {
+            try (InputStream is = indexedProvider.getIcon("x", "classic", state, Format.PNG)) {
+                assertNotNull(is);
+                String expected = Double.parseDouble(state.split(" ")[0]) < 30 ? "x-0.png"
+                        : Double.parseDouble(state.split(" ")[0]) < 70 ? "x-30.png" : "x-70.png";
+                assertThat(new String(is.readAllBytes(), StandardCharsets.UTF_8), is(expected));
+            }
+        }
+        try (InputStream is = indexedProvider.getIcon("a-bb-ccc", "classic", "50", Format.PNG)) {
+            assertNotNull(is);
+            assertThat(new String(is.readAllBytes(), StandardCharsets.UTF_8), is("a-bb-ccc-30.png"));
+        }
+        // only the resources with the exact state are checked, the numeric states are looked up in the index
+        assertThat(checkedResources.size(), is(6));
+    }
 }
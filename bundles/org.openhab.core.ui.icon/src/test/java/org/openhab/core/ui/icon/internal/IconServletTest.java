@@ -19,6 +19,7 @@ import static org.openhab.core.ui.icon.internal.IconServlet.*;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.zip.GZIPInputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.ServletOutputStream;
@@ -31,6 +32,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.ui.icon.IconProvider;
@@ -41,6 +43,7 @@ import org.openhab.core.ui.icon.IconSet.Format;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Wouter Born - Migrate tests from Groovy to Java and use Mockito
+ * @author Andrew Fiddian-Green - Added tests for caching, entity tags and gzip compression
  */
 @ExtendWith(MockitoExtension.class)
 @NonNullByDefault
@@ -68,6 +71,10 @@ public class IconServletTest {
             return outputStream.toString();
         }
 
+        public byte[] getBytes() {
+            return outputStream.toByteArray();
+        }
+
         public void reset() {
             outputStream.reset();
         }
@@ -286,4 +293,80 @@ public class IconServletTest {
         verify(provider1Mock, atLeastOnce()).hasIcon("z", "test", Format.PNG);
         verify(provider1Mock, atLeastOnce()).hasIcon("z", "test", Format.SVG);
     }
+
+    @Test
+    public void testIconIsCached() throws ServletException, IOException {
+        when(requestMock.getRequestURI()).thenReturn("/icon/x");
+        when(requestMock.getParameter(PARAM_FORMAT)).thenReturn("png");
+        when(requestMock.getParameter(PARAM_ICONSET)).thenReturn("test");
+        when(requestMock.getParameter(PARAM_STATE)).thenReturn("34");
+
+        when(responseMock.getOutputStream()).thenReturn(responseOutputStream);
+
+        when(provider1Mock.hasIcon("x", "test", Format.PNG)).thenReturn(0);
+        when(provider1Mock.getIcon("x", "test", "34", Format.PNG))
+                .thenReturn(new ByteArrayInputStream("provider 1 icon: x test 34 png".getBytes()));
+
+        servlet.addIconProvider(provider1Mock);
+        servlet.doGet(requestMock, responseMock);
+        responseOutputStream.reset();
+        servlet.doGet(requestMock, responseMock);
+
+        assertEquals("provider 1 icon: x test 34 png", responseOutputStream.getOutput());
+        verify(provider1Mock, times(1)).getIcon("x", "test", "34", Format.PNG);
+        verify(responseMock, never()).sendError(anyInt());
+    }
+
+    @Test
+    public void testNotModified() throws ServletException, IOException {
+        when(requestMock.getRequestURI()).thenReturn("/icon/x");
+        when(requestMock.getParameter(PARAM_FORMAT)).thenReturn("png");
+        when(requestMock.getParameter(PARAM_ICONSET)).thenReturn("test");
+        when(requestMock.getParameter(PARAM_STATE)).thenReturn("34");
+
+        when(responseMock.getOutputStream()).thenReturn(responseOutputStream);
+
+        when(provider1Mock.hasIcon("x", "test", Format.PNG)).thenReturn(0);
+        when(provider1Mock.getIcon("x", "test", "34", Format.PNG))
+                .thenReturn(new ByteArrayInputStream("provider 1 icon: x test 34 png".getBytes()));
+
+        servlet.addIconProvider(provider1Mock);
+        servlet.doGet(requestMock, responseMock);
+
+        ArgumentCaptor<String> etagCaptor = ArgumentCaptor.forClass(String.class);
+        verify(responseMock).setHeader(eq("ETag"), etagCaptor.capture());
+        responseOutputStream.reset();
+
+        when(requestMock.getHeader("If-None-Match")).thenReturn("\"other\", " + etagCaptor.getValue());
+        servlet.doGet(requestMock, responseMock);
+
+        assertEquals("", responseOutputStream.getOutput());
+        verify(responseMock).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(responseMock, never()).sendError(anyInt());
+    }
+
+    @Test
+    public void testGzippedSvg() throws ServletException, IOException {
+        String svg = "<svg>" + "<path d=\"M 0 0 L 10 10\"/>".repeat(20) + "</svg>";
+        when(requestMock.getRequestURI()).thenReturn("/icon/x");
+        when(requestMock.getParameter(PARAM_FORMAT)).thenReturn("svg");
+        when(requestMock.getParameter(PARAM_ICONSET)).thenReturn("test");
+        when(requestMock.getParameter(PARAM_STATE)).thenReturn("34");
+        when(requestMock.getHeader("Accept-Encoding")).thenReturn("deflate, gzip;q=1.0, br");
+        when(requestMock.getHeader("If-None-Match")).thenReturn(null);
+
+        when(responseMock.getOutputStream()).thenReturn(responseOutputStream);
+
+        when(provider1Mock.hasIcon("x", "test", Format.SVG)).thenReturn(0);
+        when(provider1Mock.getIcon("x", "test", "34", Format.SVG)).thenReturn(new ByteArrayInputStream(svg.getBytes()));
+
+        servlet.addIconProvider(provider1Mock);
+        servlet.doGet(requestMock, responseMock);
+
+        verify(responseMock).setHeader("Content-Encoding", "gzip");
+        try (GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(responseOutputStream.getBytes()))) {
+            assertEquals(svg, new String(is.readAllBytes()));
+        }
+        verify(responseMock, never()).sendError(anyInt());
+    }
 }
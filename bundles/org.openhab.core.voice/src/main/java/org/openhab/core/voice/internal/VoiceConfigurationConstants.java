@@ -31,6 +31,8 @@ public final class VoiceConfigurationConstants {
     public static final String CONFIG_DEFAULT_TTS = "defaultTTS";
     public static final String CONFIG_DEFAULT_VOICE = "defaultVoice";
     public static final String CONFIG_PREFIX_DEFAULT_VOICE = "defaultVoice.";
+    public static final String CONFIG_WARM_UP_PHRASES = "warmUpPhrases";
+    public static final String CONFIG_PREFIX_WARM_UP_PHRASES = "warmUpPhrases.";
     public static final String CONFIG_CONVERSATION_HISTORY_LIMIT = "conversationHistoryLimit";
     public static final String CONFIG_IMPLICIT_ITEM_PERMISSION = "implicitItemPermission";
 
@@ -15,7 +15,9 @@ package org.openhab.core.voice.internal;
 import static org.openhab.core.voice.internal.VoiceConfigurationConstants.CONFIGURATION_PID;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -31,6 +33,7 @@ import org.slf4j.LoggerFactory;
  * The {@link VoiceManagerConfiguration} class holds the configuration for the {@link VoiceManagerImpl}.
  *
  * @author Florian Hotze - Initial contribution
+ * @author Andrew Fiddian-Green - Add the phrases to warm up the TTS cache
  */
 @NonNullByDefault
 public class VoiceManagerConfiguration {
@@ -39,6 +42,7 @@ public class VoiceManagerConfiguration {
 
     private ConfigurationDTO configurationDTO = new ConfigurationDTO();
     private final Map<String, String> defaultVoices = new HashMap<>();
+    private final Map<String, List<String>> warmUpPhrases = new HashMap<>();
 
     public VoiceManagerConfiguration(final ConfigDescriptionRegistry configDescriptionRegistry) {
         this.configDescriptionRegistry = configDescriptionRegistry;
@@ -64,15 +68,30 @@ public class VoiceManagerConfiguration {
         configurationDTO = configDTO;
 
         defaultVoices.clear();
+        warmUpPhrases.clear();
         for (Entry<String, Object> entry : config.entrySet()) {
             String key = entry.getKey();
             if (key.startsWith(VoiceConfigurationConstants.CONFIG_PREFIX_DEFAULT_VOICE)) {
                 String tts = key.substring(VoiceConfigurationConstants.CONFIG_PREFIX_DEFAULT_VOICE.length());
                 defaultVoices.put(tts, entry.getValue().toString());
+            } else if (key.equals(VoiceConfigurationConstants.CONFIG_WARM_UP_PHRASES)) {
+                putWarmUpPhrases("", entry.getValue());
+            } else if (key.startsWith(VoiceConfigurationConstants.CONFIG_PREFIX_WARM_UP_PHRASES)) {
+                putWarmUpPhrases(key.substring(VoiceConfigurationConstants.CONFIG_PREFIX_WARM_UP_PHRASES.length()),
+                        entry.getValue());
             }
         }
     }
 
+    private void putWarmUpPhrases(String voiceId, Object value) {
+        Collection<?> values = value instanceof Collection<?> collection ? collection : List.of(value);
+        List<String> phrases = values.stream().map(Object::toString).map(String::trim)
+                .filter(phrase -> !phrase.isEmpty()).toList();
+        if (!phrases.isEmpty()) {
+            warmUpPhrases.put(voiceId, phrases);
+        }
+    }
+
     public String getKeyword() {
         return configurationDTO.keyword;
     }
@@ -113,6 +132,13 @@ public class VoiceManagerConfiguration {
         return Map.copyOf(defaultVoices);
     }
 
+    /**
+     * @return the phrases to synthesize into the TTS cache by the id of their voice, an empty id for the default voice
+     */
+    public Map<String, List<String>> getWarmUpPhrases() {
+        return Map.copyOf(warmUpPhrases);
+    }
+
     // Note: Default values are set here, because due to initialization order and missing listeners support in
     // ConfigDescriptionRegistry, default values aren't applied on initial activation.
     public static class ConfigurationDTO {
@@ -13,6 +13,7 @@
 package org.openhab.core.voice.internal;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -75,6 +76,7 @@ import org.openhab.core.voice.TTSException;
 import org.openhab.core.voice.TTSService;
 import org.openhab.core.voice.Voice;
 import org.openhab.core.voice.VoiceManager;
+import org.openhab.core.voice.internal.cache.CachedTTSService;
 import org.openhab.core.voice.security.ItemPermissionResolver;
 import org.openhab.core.voice.text.HumanLanguageInterpreter;
 import org.openhab.core.voice.text.InterpretationArguments;
@@ -111,6 +113,7 @@ import org.slf4j.LoggerFactory;
  * @author Laurent Garnier - Updated methods startDialog and added method stopDialog
  * @author Miguel Álvarez - Use dialog context
  * @author Miguel Álvarez - Add transcribe method
+ * @author Andrew Fiddian-Green - Warm up the TTS cache with the configured phrases
  */
 @Component(immediate = true, configurationPid = VoiceConfigurationConstants.CONFIGURATION_PID, //
         property = Constants.SERVICE_PID + "=org.openhab.voice")
@@ -146,6 +149,9 @@ public class VoiceManagerImpl implements VoiceManager, ConfigOptionProvider, Dia
     private final Map<String, DialogProcessor> singleDialogProcessors = new ConcurrentHashMap<>();
     private @Nullable DialogContext lastDialogContext;
     private @Nullable ScheduledFuture<?> dialogRegistrationFuture;
+    private @Nullable ScheduledFuture<?> ttsWarmUpFuture;
+    // the voice, format and text of the phrases which have been synthesized into the TTS cache
+    private final Set<String> warmedUpPhrases = ConcurrentHashMap.newKeySet();
 
     @Activate
     public VoiceManagerImpl(final @Reference LocaleProvider localeProvider, final @Reference AudioManager audioManager,
@@ -185,6 +191,11 @@ public class VoiceManagerImpl implements VoiceManager, ConfigOptionProvider, Dia
             dialogRegistrationFuture.cancel(true);
             this.dialogRegistrationFuture = null;
         }
+        ScheduledFuture<?> ttsWarmUpFuture = this.ttsWarmUpFuture;
+        if (ttsWarmUpFuture != null) {
+            ttsWarmUpFuture.cancel(true);
+            this.ttsWarmUpFuture = null;
+        }
     }
 
     @SuppressWarnings("null")
@@ -192,6 +203,8 @@ public class VoiceManagerImpl implements VoiceManager, ConfigOptionProvider, Dia
     protected void modified(Map<String, Object> config) {
         if (config != null) {
             configuration.update(config);
+            warmedUpPhrases.clear();
+            scheduleTTSWarmUp();
         }
     }
 
@@ -829,6 +842,7 @@ public class VoiceManagerImpl implements VoiceManager, ConfigOptionProvider, Dia
     protected void addTTSService(TTSService ttsService) {
         this.ttsServices.put(ttsService.getId(), ttsService);
         scheduleDialogRegistrations();
+        scheduleTTSWarmUp();
     }
 
     protected void removeTTSService(TTSService ttsService) {
@@ -1090,6 +1104,66 @@ public class VoiceManagerImpl implements VoiceManager, ConfigOptionProvider, Dia
                 TimeUnit.SECONDS);
     }
 
+    private void scheduleTTSWarmUp() {
+        ScheduledFuture<?> job = this.ttsWarmUpFuture;
+        if (job != null) {
+            job.cancel(false);
+        }
+        ttsWarmUpFuture = scheduledExecutorService.schedule(this::warmUpTTSCache, 10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Synthesizes the configured phrases into the TTS cache in the background, with the audio format the default sink
+     * would request, so that saying them the first time does not wait for the TTS service.
+     * It's called from {@link #scheduleTTSWarmUp() scheduleTTSWarmUp}, when the configuration or the TTS services
+     * change, and is package-private for the tests.
+     */
+    void warmUpTTSCache() {
+        Map<String, List<String>> warmUpPhrases = configuration.getWarmUpPhrases();
+        if (warmUpPhrases.isEmpty()) {
+            return;
+        }
+        AudioSink sink = audioManager.getSink();
+        if (sink == null) {
+            logger.debug("No audio sink available, the TTS cache is not warmed up");
+            return;
+        }
+        warmUpPhrases.forEach((voiceId, phrases) -> {
+            String selectedVoiceId = voiceId.isEmpty() ? configuration.getDefaultVoice() : voiceId;
+            Voice voice;
+            if (selectedVoiceId == null) {
+                TTSService tts = getTTS();
+                voice = tts == null ? null : getPreferredVoice(tts.getAvailableVoices());
+            } else {
+                voice = getVoice(selectedVoiceId);
+            }
+            TTSService tts = voice == null ? null : getTTS(voice);
+            if (voice == null || !(tts instanceof CachedTTSService)) {
+                logger.debug("No TTS service with a cache found for voice '{}', the phrases are not warmed up",
+                        voiceId);
+                return;
+            }
+            AudioFormat audioFormat = getBestMatch(tts.getSupportedFormats(), sink.getSupportedFormats());
+            if (audioFormat == null) {
+                return;
+            }
+            for (String phrase : phrases) {
+                String key = voice.getUID() + "|" + audioFormat + "|" + phrase;
+                if (!warmedUpPhrases.add(key)) {
+                    continue;
+                }
+                try (AudioStream audioStream = tts.synthesize(phrase, voice, audioFormat)) {
+                    // reading the stream fills the cache
+                    audioStream.transferTo(OutputStream.nullOutputStream());
+                    logger.debug("Warmed up the TTS cache with '{}' for voice '{}'", phrase, voice.getUID());
+                } catch (TTSException | IOException e) {
+                    warmedUpPhrases.remove(key);
+                    logger.debug("Error warming up the TTS cache with '{}': {}", phrase, e.getMessage());
+                }
+            }
+        });
+    }
+
     /**
      * This method tries to start a dialog for each dialog registration.
      * It's only called from {@link #scheduleDialogRegistrations() scheduleDialogRegistrations} in order to
@@ -14,6 +14,7 @@ package org.openhab.core.voice.internal.cache;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -26,6 +27,7 @@ import org.openhab.core.cache.lru.InputStreamCacheWrapper;
  * Implements AudioStream methods, with an inner stream extracted from cache
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Transfer the data directly from the cached file
  */
 @NonNullByDefault
 public class AudioStreamFromCache extends FixedLengthAudioStream {
@@ -50,6 +52,11 @@ public class AudioStreamFromCache extends FixedLengthAudioStream {
         return inputStream.read(b, off, len);
     }
 
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        return inputStream.transferTo(out);
+    }
+
     @Override
     public AudioFormat getFormat() {
         return audioFormat;
@@ -43,6 +43,7 @@ import org.slf4j.LoggerFactory;
  * Size is based on the size on disk (in bytes)
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Optionally serve the cached files from memory
  */
 @Component(configurationPid = VoiceConfigurationConstants.CONFIGURATION_PID)
 @NonNullByDefault
@@ -57,6 +58,7 @@ public class TTSLRUCacheImpl implements TTSCache {
     static final String CONFIG_CACHE_SIZE_TTS = "cacheSizeTTS";
     static final String CONFIG_ENABLE_CACHE_TTS = "enableCacheTTS";
     static final String CONFIG_MAX_TEXTLENGTH_CACHE_TTS = "maxTextLengthCacheTTS";
+    static final String CONFIG_MEMORY_MAPPED_CACHE_TTS = "memoryMappedCacheTTS";
 
     static final String VOICE_TTS_CACHE_PID = "org.openhab.voice.tts";
 
@@ -74,6 +76,10 @@ public class TTSLRUCacheImpl implements TTSCache {
      */
     private long maxTextLengthCacheTTS = DEFAULT_MAX_TEXT_LENGTH_CACHE_TTS;
     protected boolean enableCacheTTS = true;
+    /**
+     * Serve the cached files from memory mappings, which avoids reading them for every playback
+     */
+    private boolean memoryMappedCacheTTS = false;
 
     private StorageService storageService;
 
@@ -98,10 +104,12 @@ public class TTSLRUCacheImpl implements TTSCache {
                 DEFAULT_CACHE_SIZE_TTS) * 1024;
         this.maxTextLengthCacheTTS = ConfigParser.valueAsOrElse(config.get(CONFIG_MAX_TEXTLENGTH_CACHE_TTS),
                 Integer.class, DEFAULT_MAX_TEXT_LENGTH_CACHE_TTS);
+        this.memoryMappedCacheTTS = ConfigParser.valueAsOrElse(config.get(CONFIG_MEMORY_MAPPED_CACHE_TTS),
+                Boolean.class, false);
 
         if (enableCacheTTS) {
             this.lruMediaCache = new LRUMediaCache<>(storageService, cacheSizeTTS, VOICE_TTS_CACHE_PID,
-                    this.getClass().getClassLoader());
+                    this.getClass().getClassLoader(), memoryMappedCacheTTS);
         }
     }
 
@@ -17,6 +17,7 @@ import static org.openhab.core.voice.VoiceManager.VOICE_SOURCE;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -68,6 +69,7 @@ import org.slf4j.LoggerFactory;
  * @author Miguel Álvarez - Reduce collisions on exact match and use item synonyms
  * @author Miguel Álvarez - Reduce collisions using dialog location
  * @author Florian Hotze - Implemented configurable Item access
+ * @author Andrew Fiddian-Green - Inverted token index with incremental updates
  */
 @NonNullByDefault
 public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInterpreter {
@@ -128,8 +130,7 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private final Logger logger = LoggerFactory.getLogger(AbstractRuleBasedInterpreter.class);
 
     private final Map<Locale, List<Rule>> languageRules = new HashMap<>();
-    private final Map<Locale, Set<String>> allItemTokens = new HashMap<>();
-    private final Map<Locale, Map<Item, ItemInterpretationMetadata>> itemTokens = new HashMap<>();
+    private final Map<Locale, ItemTokenIndex> itemTokens = new HashMap<>();
 
     private final ItemRegistry itemRegistry;
     private final EventPublisher eventPublisher;
@@ -139,17 +140,17 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private final RegistryChangeListener<Item> registryChangeListener = new RegistryChangeListener<>() {
         @Override
         public void added(Item element) {
-            invalidate();
+            itemsChanged(List.of(element));
         }
 
         @Override
         public void removed(Item element) {
-            invalidate();
+            itemsChanged(List.of(element));
         }
 
         @Override
         public void updated(Item oldElement, Item element) {
-            invalidate();
+            itemsChanged(List.of(oldElement, element));
         }
     };
     private final RegistryChangeListener<Metadata> metadataChangeListener = new RegistryChangeListener<>() {
@@ -170,8 +171,11 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
 
         private void invalidateIfRelevantMetadata(Metadata metadata) {
             String namespace = metadata.getUID().getNamespace();
-            if (namespace.equals(SYNONYMS_NAMESPACE) || namespace.equals(SEMANTICS_NAMESPACE)) {
-                invalidate();
+            if (namespace.equals(SYNONYMS_NAMESPACE)) {
+                Item item = itemRegistry.get(metadata.getUID().getItemName());
+                itemsChanged(item != null ? List.of(item) : List.of());
+            } else if (namespace.equals(SEMANTICS_NAMESPACE)) {
+                languageRules.clear();
             }
         }
     };
@@ -262,11 +266,54 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     }
 
     private void invalidate() {
-        allItemTokens.clear();
-        itemTokens.clear();
+        synchronized (itemTokens) {
+            itemTokens.clear();
+        }
+        languageRules.clear();
+    }
+
+    /**
+     * Updates the item tokens of the given items and of all their (transitive) members, so that the tokens of all
+     * the other items can be kept.
+     *
+     * @param changedItems the added, removed or updated items
+     */
+    private void itemsChanged(List<Item> changedItems) {
+        synchronized (itemTokens) {
+            if (!itemTokens.isEmpty()) {
+                Set<Item> affectedItems = new HashSet<>();
+                for (Item changedItem : changedItems) {
+                    collectItemAndMembers(changedItem, affectedItems);
+                }
+                for (Entry<Locale, ItemTokenIndex> entry : itemTokens.entrySet()) {
+                    ItemTokenIndex index = entry.getValue();
+                    for (Item affectedItem : affectedItems) {
+                        index.remove(affectedItem);
+                        // the registry holds the current instance, a removed item is not indexed again
+                        Item item = itemRegistry.get(affectedItem.getName());
+                        ItemInterpretationMetadata metadata = item != null ? createItemMetadata(entry.getKey(), item)
+                                : null;
+                        if (item != null && metadata != null) {
+                            index.put(item, metadata);
+                        }
+                    }
+                }
+            }
+        }
         languageRules.clear();
     }
 
+    private static void collectItemAndMembers(Item item, Set<Item> target) {
+        target.add(item);
+        if (item instanceof GroupItem groupItem) {
+            for (Item member : groupItem.getMembers()) {
+                if (!target.contains(member)) {
+                    collectItemAndMembers(member, target);
+                }
+            }
+        }
+    }
+
     /**
      * All the tokens (name parts) of the names of all the items in the {@link ItemRegistry}.
      *
@@ -274,18 +321,9 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
      * @return the identifier tokens
      */
     Set<String> getAllItemTokens(Locale locale) {
-        Set<String> localeTokens = allItemTokens.get(locale);
-        if (localeTokens == null) {
-            allItemTokens.put(locale, localeTokens = new HashSet<>());
-            for (ItemInterpretationMetadata metadata : getItemTokens(locale).values()) {
-                for (List<List<String>> path : metadata.pathToItem) {
-                    for (List<String> tokens : path) {
-                        localeTokens.addAll(tokens);
-                    }
-                }
-            }
+        synchronized (itemTokens) {
+            return new HashSet<>(getItemTokenIndex(locale).itemsByToken.keySet());
         }
-        return localeTokens;
     }
 
     /**
@@ -299,16 +337,38 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
      * @return the list of identifier token sets per item
      */
     Map<Item, ItemInterpretationMetadata> getItemTokens(Locale locale) {
-        Map<Item, ItemInterpretationMetadata> localeTokens = itemTokens.get(locale);
-        if (localeTokens == null) {
-            itemTokens.put(locale, localeTokens = new HashMap<>());
+        synchronized (itemTokens) {
+            return new HashMap<>(getItemTokenIndex(locale).items);
+        }
+    }
+
+    /**
+     * Retrieves the items having all the given tokens in one of their token chains. Only these items can match the
+     * tokens, so the lookup scales with the number of tokens instead of the number of items.
+     *
+     * @param locale The locale that is to be used for preparing the tokens.
+     * @param tokens the lowercase tokens, all items are returned if empty
+     * @return the identifier token sets of the candidate items
+     */
+    private Map<Item, ItemInterpretationMetadata> getCandidateItemTokens(Locale locale, List<String> tokens) {
+        synchronized (itemTokens) {
+            return getItemTokenIndex(locale).getCandidates(tokens);
+        }
+    }
+
+    private ItemTokenIndex getItemTokenIndex(Locale locale) {
+        ItemTokenIndex index = itemTokens.get(locale);
+        if (index == null) {
+            itemTokens.put(locale, index = new ItemTokenIndex());
+            Map<Item, ItemInterpretationMetadata> localeTokens = new HashMap<>();
             for (Item item : itemRegistry.getAll()) {
                 if (item.getGroupNames().isEmpty()) {
                     addItem(locale, localeTokens, new ArrayList<>(), item, new ArrayList<>());
                 }
             }
+            localeTokens.forEach(index::put);
         }
-        return localeTokens;
+        return index;
     }
 
     private String[] getItemSynonyms(Item item) {
@@ -346,6 +406,61 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         }
     }
 
+    /**
+     * Creates the identifier token sets of a single item, by walking up the chains of its parent groups. This gives
+     * the same result as {@link #getItemTokens} walking down from the root items, without tokenizing all items.
+     */
+    private @Nullable ItemInterpretationMetadata createItemMetadata(Locale locale, Item item) {
+        if (!isAccessible(item)) {
+            return null;
+        }
+        ItemInterpretationMetadata metadata = new ItemInterpretationMetadata();
+        for (ItemPath path : getItemPaths(locale, item)) {
+            metadata.pathToItem.add(path.tokens());
+            metadata.locationParentNames.addAll(path.locationParentNames());
+        }
+        // items only reachable through missing groups are not known to the interpreter
+        return metadata.pathToItem.isEmpty() ? null : metadata;
+    }
+
+    /**
+     * Every label and synonym of the item and of its parent groups creates an alternative chain.
+     */
+    private List<ItemPath> getItemPaths(Locale locale, Item item) {
+        List<ItemPath> parentPaths;
+        if (item.getGroupNames().isEmpty()) {
+            parentPaths = List.of(new ItemPath(List.of(), List.of()));
+        } else {
+            parentPaths = new ArrayList<>();
+            for (String groupName : item.getGroupNames()) {
+                if (itemRegistry.get(groupName) instanceof GroupItem groupItem) {
+                    for (ItemPath groupPath : getItemPaths(locale, groupItem)) {
+                        List<String> locationParentNames = groupPath.locationParentNames();
+                        if (groupItem.hasTag(CoreItemFactory.LOCATION)) {
+                            locationParentNames = new ArrayList<>(locationParentNames);
+                            locationParentNames.add(groupItem.getName());
+                        }
+                        parentPaths.add(new ItemPath(groupPath.tokens(), locationParentNames));
+                    }
+                }
+            }
+        }
+        List<List<String>> labelTokens = new ArrayList<>();
+        labelTokens.add(tokenize(locale, item.getLabel()));
+        for (String synonym : getItemSynonyms(item)) {
+            labelTokens.add(tokenize(locale, synonym));
+        }
+        List<ItemPath> paths = new ArrayList<>();
+        for (ItemPath parentPath : parentPaths) {
+            for (List<String> tokens : labelTokens) {
+                List<List<String>> nt = new ArrayList<>(parentPath.tokens());
+                nt.add(tokens);
+                paths.add(new ItemPath(nt, parentPath.locationParentNames()));
+            }
+        }
+        return paths;
+    }
+
     /**
      * Creates an item name placeholder expression. This expression is greedy: Only use it, if there are no other
      * expressions following this one.
@@ -951,7 +1066,10 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         Map<Item, ItemInterpretationMetadata> itemsData = new HashMap<>();
         Map<Item, ItemInterpretationMetadata> exactMatchItemsData = new HashMap<>();
         Map<Item, ItemInterpretationMetadata> exactMatchOnTargetItemsData = new HashMap<>();
-        Map<Item, ItemInterpretationMetadata> map = getItemTokens(language.getLocale());
+        List<String> lowercaseLabelFragments = Arrays.stream(labelFragments)
+                .map(lf -> lf.toLowerCase(language.getLocale())).toList();
+        Map<Item, ItemInterpretationMetadata> map = getCandidateItemTokens(language.getLocale(),
+                lowercaseLabelFragments);
         for (Entry<Item, ItemInterpretationMetadata> entry : map.entrySet()) {
             Item item = entry.getKey();
             ItemInterpretationMetadata interpretationMetadata = entry.getValue();
@@ -963,8 +1081,6 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
                 boolean exactMatch = false;
                 boolean exactMatchOnTarget = false;
                 logger.trace("Checking tokens {} against the item tokens {}", labelFragments, itemLabelFragmentsPath);
-                List<String> lowercaseLabelFragments = Arrays.stream(labelFragments)
-                        .map(lf -> lf.toLowerCase(language.getLocale())).toList();
                 List<String> unmatchedFragments = new ArrayList<>(lowercaseLabelFragments);
                 if (itemLabelFragmentsPath.getLast().equals(lowercaseLabelFragments)) {
                     exactMatch = true;
@@ -1547,6 +1663,72 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
 
         ItemInterpretationMetadata() {
         }
+
+        Set<String> getTokens() {
+            Set<String> tokens = new HashSet<>();
+            for (List<List<String>> path : pathToItem) {
+                for (List<String> pathTokens : path) {
+                    tokens.addAll(pathTokens);
+                }
+            }
+            return tokens;
+        }
+    }
+
+    private record ItemPath(List<List<String>> tokens, List<String> locationParentNames) {
+    }
+
+    /**
+     * The identifier token sets of the items for one locale, together with an inverted index from every token to the
+     * items having it in one of their token chains.
+     */
+    private static class ItemTokenIndex {
+        final Map<Item, ItemInterpretationMetadata> items = new HashMap<>();
+        final Map<String, Set<Item>> itemsByToken = new HashMap<>();
+
+        void put(Item item, ItemInterpretationMetadata metadata) {
+            // items are equal by name, remove an old instance first so that it is replaced everywhere
+            remove(item);
+            items.put(item, metadata);
+            for (String token : metadata.getTokens()) {
+                Objects.requireNonNull(itemsByToken.computeIfAbsent(token, k -> new HashSet<>())).add(item);
+            }
+        }
+
+        void remove(Item item) {
+            ItemInterpretationMetadata metadata = items.remove(item);
+            if (metadata != null) {
+                for (String token : metadata.getTokens()) {
+                    Set<Item> tokenItems = itemsByToken.get(token);
+                    if (tokenItems != null && tokenItems.remove(item) && tokenItems.isEmpty()) {
+                        itemsByToken.remove(token);
+                    }
+                }
+            }
+        }
+
+        Map<Item, ItemInterpretationMetadata> getCandidates(List<String> tokens) {
+            if (tokens.isEmpty()) {
+                return new HashMap<>(items);
+            }
+            List<Set<Item>> tokenItemSets = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Set<Item> tokenItems = itemsByToken.get(token);
+                if (tokenItems == null) {
+                    return Map.of();
+                }
+                tokenItemSets.add(tokenItems);
+            }
+            // start with the rarest token and check the others only for its items
+            tokenItemSets.sort(Comparator.comparingInt(Set::size));
+            Map<Item, ItemInterpretationMetadata> candidates = new HashMap<>();
+            for (Item item : tokenItemSets.getFirst()) {
+                if (tokenItemSets.stream().allMatch(tokenItems -> tokenItems.contains(item))) {
+                    candidates.put(item, Objects.requireNonNull(items.get(item)));
+                }
+            }
+            return candidates;
+        }
     }
 
     protected interface ItemCommandSupplier {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.voice.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.config.core.ConfigDescriptionRegistry;
+
+/**
+ * Tests the parsing of the {@link VoiceManagerConfiguration}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class VoiceManagerConfigurationTest {
+
+    private @Mock @NonNullByDefault({}) ConfigDescriptionRegistry configDescriptionRegistryMock;
+
+    private @NonNullByDefault({}) VoiceManagerConfiguration configuration;
+
+    @BeforeEach
+    public void setUp() {
+        configuration = new VoiceManagerConfiguration(configDescriptionRegistryMock);
+    }
+
+    @Test
+    public void testWarmUpPhrasesOfTheDefaultVoiceAndOfOtherVoices() {
+        configuration.update(Map.of("warmUpPhrases", List.of("Good morning", "Good night"), //
+                "warmUpPhrases.tts:voice", "Welcome home"));
+
+        assertEquals(Map.of("", List.of("Good morning", "Good night"), "tts:voice", List.of("Welcome home")),
+                configuration.getWarmUpPhrases());
+    }
+
+    @Test
+    public void testBlankWarmUpPhrasesAreIgnored() {
+        configuration.update(Map.of("warmUpPhrases", List.of(" Good morning ", " "), //
+                "warmUpPhrases.tts:voice", ""));
+
+        assertEquals(Map.of("", List.of("Good morning")), configuration.getWarmUpPhrases());
+    }
+
+    @Test
+    public void testWarmUpPhrasesAreReplacedOnUpdate() {
+        configuration.update(Map.of("warmUpPhrases.tts:voice", "Welcome home"));
+        configuration.update(Map.of("warmUpPhrases", "Good morning"));
+
+        assertEquals(Map.of("", List.of("Good morning")), configuration.getWarmUpPhrases());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.voice.internal;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioManager;
+import org.openhab.core.audio.AudioSink;
+import org.openhab.core.audio.ByteArrayAudioStream;
+import org.openhab.core.config.core.ConfigDescriptionRegistry;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.i18n.LocaleProvider;
+import org.openhab.core.i18n.TranslationProvider;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.test.storage.VolatileStorageService;
+import org.openhab.core.voice.TTSException;
+import org.openhab.core.voice.TTSService;
+import org.openhab.core.voice.Voice;
+import org.openhab.core.voice.internal.cache.CachedTTSService;
+import org.openhab.core.voice.security.ItemPermissionResolver;
+import org.openhab.core.voice.text.conversation.ConversationManager;
+import org.openhab.core.voice.text.interpreter.llm.LLMToolRegistry;
+
+/**
+ * Tests the warm up of the TTS cache by the {@link VoiceManagerImpl}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class VoiceManagerImplWarmUpTest {
+
+    private static final AudioFormat WAV_16_BIT = new AudioFormat(AudioFormat.CONTAINER_WAVE,
+            AudioFormat.CODEC_PCM_SIGNED, false, 16, 705600, 44100L);
+
+    private @Mock @NonNullByDefault({}) LocaleProvider localeProviderMock;
+    private @Mock @NonNullByDefault({}) AudioManager audioManagerMock;
+    private @Mock @NonNullByDefault({}) AudioSink audioSinkMock;
+    private @Mock @NonNullByDefault({}) EventPublisher eventPublisherMock;
+    private @Mock @NonNullByDefault({}) TranslationProvider i18nProviderMock;
+    private @Mock @NonNullByDefault({}) LLMToolRegistry llmToolRegistryMock;
+    private @Mock @NonNullByDefault({}) ConversationManager conversationManagerMock;
+    private @Mock @NonNullByDefault({}) ConfigDescriptionRegistry configDescriptionRegistryMock;
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
+    private @Mock @NonNullByDefault({}) ItemPermissionResolver itemPermissionResolverMock;
+
+    private @Mock @NonNullByDefault({}) CachedTTSService cachedTTSServiceMock;
+    private @Mock @NonNullByDefault({}) TTSService ttsServiceMock;
+    private @Mock @NonNullByDefault({}) Voice germanVoiceMock;
+    private @Mock @NonNullByDefault({}) Voice englishVoiceMock;
+    private @Mock @NonNullByDefault({}) Voice voiceMock;
+
+    private @NonNullByDefault({}) VoiceManagerImpl voiceManager;
+
+    @BeforeEach
+    public void setUp() throws TTSException {
+        when(localeProviderMock.getLocale()).thenReturn(Locale.GERMANY);
+        when(audioManagerMock.getSink()).thenReturn(audioSinkMock);
+        when(audioSinkMock.getSupportedFormats()).thenReturn(Set.of(AudioFormat.MP3));
+
+        when(germanVoiceMock.getUID()).thenReturn("cached:de");
+        when(germanVoiceMock.getLocale()).thenReturn(Locale.GERMANY);
+        when(englishVoiceMock.getUID()).thenReturn("cached:en");
+        when(englishVoiceMock.getLocale()).thenReturn(Locale.US);
+        when(cachedTTSServiceMock.getId()).thenReturn("cached");
+        when(cachedTTSServiceMock.getAvailableVoices()).thenReturn(Set.of(germanVoiceMock, englishVoiceMock));
+        when(cachedTTSServiceMock.getSupportedFormats()).thenReturn(Set.of(WAV_16_BIT, AudioFormat.MP3));
+        when(cachedTTSServiceMock.synthesize(anyString(), any(), any()))
+                .thenAnswer(invocation -> new ByteArrayAudioStream(new byte[] { 1, 2, 3 }, AudioFormat.MP3));
+
+        when(voiceMock.getUID()).thenReturn("plain:voice");
+        when(voiceMock.getLocale()).thenReturn(Locale.GERMANY);
+        when(ttsServiceMock.getId()).thenReturn("plain");
+        when(ttsServiceMock.getAvailableVoices()).thenReturn(Set.of(voiceMock));
+        when(ttsServiceMock.getSupportedFormats()).thenReturn(Set.of(AudioFormat.MP3));
+
+        voiceManager = new VoiceManagerImpl(localeProviderMock, audioManagerMock, eventPublisherMock, i18nProviderMock,
+                new VolatileStorageService(), llmToolRegistryMock, conversationManagerMock,
+                configDescriptionRegistryMock, itemRegistryMock, itemPermissionResolverMock);
+        voiceManager.addTTSService(cachedTTSServiceMock);
+        voiceManager.addTTSService(ttsServiceMock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        voiceManager.deactivate();
+    }
+
+    @Test
+    public void testPhrasesAreSynthesizedWithTheConfiguredVoicesInTheFormatOfTheSink() throws TTSException {
+        voiceManager.modified(Map.of("defaultVoice", "cached:en", //
+                "warmUpPhrases", List.of("Good morning", "Good night"), //
+                "warmUpPhrases.cached:de", "Guten Morgen"));
+
+        voiceManager.warmUpTTSCache();
+
+        verify(cachedTTSServiceMock).synthesize("Good morning", englishVoiceMock, AudioFormat.MP3);
+        verify(cachedTTSServiceMock).synthesize("Good night", englishVoiceMock, AudioFormat.MP3);
+        verify(cachedTTSServiceMock).synthesize("Guten Morgen", germanVoiceMock, AudioFormat.MP3);
+        verify(cachedTTSServiceMock, times(3)).synthesize(anyString(), any(), any());
+    }
+
+    @Test
+    public void testThePreferredVoiceOfTheDefaultTTSServiceIsUsedWithoutADefaultVoice() throws TTSException {
+        voiceManager.modified(Map.of("defaultTTS", "cached", "warmUpPhrases", "Guten Morgen"));
+
+        voiceManager.warmUpTTSCache();
+
+        verify(cachedTTSServiceMock).synthesize("Guten Morgen", germanVoiceMock, AudioFormat.MP3);
+    }
+
+    @Test
+    public void testPhrasesAreOnlyWarmedUpOnce() throws TTSException {
+        voiceManager.modified(Map.of("warmUpPhrases.cached:de", "Guten Morgen"));
+
+        voiceManager.warmUpTTSCache();
+        voiceManager.warmUpTTSCache();
+        verify(cachedTTSServiceMock, times(1)).synthesize("Guten Morgen", germanVoiceMock, AudioFormat.MP3);
+
+        // a new configuration warms up the phrases again
+        voiceManager.modified(Map.of("warmUpPhrases.cached:de", "Guten Morgen"));
+        voiceManager.warmUpTTSCache();
+        verify(cachedTTSServiceMock, times(2)).synthesize("Guten Morgen", germanVoiceMock, AudioFormat.MP3);
+    }
+
+    @Test
+    public void testPhrasesWhichFailedAreWarmedUpAgain() throws TTSException {
+        when(cachedTTSServiceMock.synthesize(anyString(), any(), any())).thenThrow(new TTSException("failed"));
+        voiceManager.modified(Map.of("warmUpPhrases.cached:de", "Guten Morgen"));
+
+        voiceManager.warmUpTTSCache();
+        voiceManager.warmUpTTSCache();
+
+        verify(cachedTTSServiceMock, times(2)).synthesize("Guten Morgen", germanVoiceMock, AudioFormat.MP3);
+    }
+
+    @Test
+    public void testTTSServicesWithoutACacheAreSkipped() throws TTSException {
+        voiceManager.modified(Map.of("warmUpPhrases.plain:voice", "Good morning"));
+
+        voiceManager.warmUpTTSCache();
+
+        verify(ttsServiceMock, never()).synthesize(anyString(), any(), any());
+        verify(cachedTTSServiceMock, never()).synthesize(anyString(), any(), any());
+    }
+}
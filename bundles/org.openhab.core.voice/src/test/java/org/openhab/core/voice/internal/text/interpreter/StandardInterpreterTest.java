@@ -13,7 +13,9 @@
 package org.openhab.core.voice.internal.text.interpreter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -39,11 +41,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.audio.AudioSink;
 import org.openhab.core.audio.AudioSource;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
@@ -80,6 +84,7 @@ import org.openhab.core.voice.text.conversation.ConversationRole;
  *
  * @author Miguel Álvarez - Initial contribution
  * @author Florian Hotze - Implemented configurable Item access
+ * @author Andrew Fiddian-Green - Incremental updates of the item tokens
  */
 @NonNullByDefault
 @ExtendWith(MockitoExtension.class)
@@ -635,6 +640,63 @@ public class StandardInterpreterTest {
         verify(eventPublisherMock, never()).post(any());
     }
 
+    @Test
+    public void itemChangesAreAppliedWithoutReloadingAllItems() throws InterpretationException {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<RegistryChangeListener<Item>> listenerCaptor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(itemRegistryMock, atLeastOnce()).addRegistryChangeListener(listenerCaptor.capture());
+        RegistryChangeListener<Item> listener = listenerCaptor.getAllValues().getLast();
+
+        var kitchen = new GroupItem("kitchen");
+        kitchen.setLabel("kitchen");
+        var light = new SwitchItem("light");
+        light.setLabel("light");
+        light.addGroupName("kitchen");
+        kitchen.addMember(light);
+        when(itemRegistryMock.getAll()).thenReturn(List.of(kitchen, light));
+        lenient().when(itemRegistryMock.get("kitchen")).thenReturn(kitchen);
+        lenient().when(itemRegistryMock.get("light")).thenReturn(light);
+
+        assertEquals(OK_RESPONSE, standardInterpreter.interpret(Locale.ENGLISH, "turn on kitchen light"));
+        verify(eventPublisherMock, times(1)).post(ItemEventFactory.createCommandEvent("light", OnOffType.ON, any()));
+
+        reset(eventPublisherMock);
+        var fan = new SwitchItem("fan");
+        fan.setLabel("fan");
+        fan.addGroupName("kitchen");
+        kitchen.addMember(fan);
+        lenient().when(itemRegistryMock.get("fan")).thenReturn(fan);
+        // the fan is not part of getAll(), it is only known through the listener
+        listener.added(fan);
+
+        assertEquals(OK_RESPONSE, standardInterpreter.interpret(Locale.ENGLISH, "turn on kitchen fan"));
+        verify(eventPublisherMock, times(1)).post(ItemEventFactory.createCommandEvent("fan", OnOffType.ON, any()));
+
+        reset(eventPublisherMock);
+        // a changed group label changes the tokens of its members
+        var cuisine = new GroupItem("kitchen");
+        cuisine.setLabel("cuisine");
+        cuisine.addMember(light);
+        cuisine.addMember(fan);
+        lenient().when(itemRegistryMock.get("kitchen")).thenReturn(cuisine);
+        listener.updated(kitchen, cuisine);
+
+        InterpretationException exception = assertThrows(InterpretationException.class,
+                () -> standardInterpreter.interpret(Locale.ENGLISH, "turn off kitchen light"));
+        assertEquals(noObjectsMessage(Locale.ENGLISH), exception.getMessage());
+        assertEquals(OK_RESPONSE, standardInterpreter.interpret(Locale.ENGLISH, "turn off cuisine light"));
+        verify(eventPublisherMock, times(1)).post(ItemEventFactory.createCommandEvent("light", OnOffType.OFF, any()));
+
+        cuisine.removeMember(fan);
+        lenient().when(itemRegistryMock.get("fan")).thenReturn(null);
+        listener.removed(fan);
+
+        exception = assertThrows(InterpretationException.class,
+                () -> standardInterpreter.interpret(Locale.ENGLISH, "turn off cuisine fan"));
+        assertEquals(noObjectsMessage(Locale.ENGLISH), exception.getMessage());
+    }
+
     private String noObjectsMessage(Locale locale) {
         return ResourceBundle.getBundle("LanguageSupport", locale).getString("no_objects");
     }
@@ -14,6 +14,9 @@ package org.openhab.core.cache.lru;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,8 +30,10 @@ import org.slf4j.LoggerFactory;
  * ask the cached entry for data, allowing concurrent access to
  * the source even if it is currently actively read from the supplier service.
  * This class implements the two main read methods (byte by byte, and with an array)
+ * and transfers the data from the cached file to a channel without copying it through the heap.
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Read into the buffer of the caller and add the transfer to a channel
  */
 @NonNullByDefault
 public class InputStreamCacheWrapper extends InputStream {
@@ -38,6 +43,7 @@ public class InputStreamCacheWrapper extends InputStream {
     private LRUMediaCacheEntry<?> cacheEntry;
     private int offset = 0;
     private int markedOffset = 0;
+    private final byte[] singleByte = new byte[1];
 
     /***
      * Construct a transparent InputStream wrapper around data from the cache.
@@ -55,12 +61,12 @@ public class InputStreamCacheWrapper extends InputStream {
 
     @Override
     public int read() throws IOException {
-        byte[] bytesRead = cacheEntry.read(offset, 1);
-        if (bytesRead.length == 0) {
+        int byteReadNumber = cacheEntry.read(offset, singleByte, 0, 1);
+        if (byteReadNumber <= 0) {
             return -1;
         } else {
             offset++;
-            return bytesRead[0] & 0xff;
+            return singleByte[0] & 0xff;
         }
     }
 
@@ -75,16 +81,30 @@ public class InputStreamCacheWrapper extends InputStream {
             return 0;
         }
 
-        byte[] bytesRead = cacheEntry.read(offset, len);
-        offset += bytesRead.length;
-        if (bytesRead.length == 0) {
+        int byteReadNumber = cacheEntry.read(offset, b, off, len);
+        if (byteReadNumber <= 0) {
             return -1;
         }
-        int i = 0;
-        for (; i < len && i < bytesRead.length; i++) {
-            b[off + i] = bytesRead[i];
-        }
-        return i;
+        offset += byteReadNumber;
+        return byteReadNumber;
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        return transferTo(Channels.newChannel(out));
+    }
+
+    /**
+     * Transfers the remaining data to the channel, directly from the cached file.
+     *
+     * @param target the channel to transfer the data to
+     * @return the number of bytes transferred
+     * @throws IOException
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        long transferred = cacheEntry.transferTo(offset, target);
+        offset += (int) transferred;
+        return transferred;
     }
 
     @Override
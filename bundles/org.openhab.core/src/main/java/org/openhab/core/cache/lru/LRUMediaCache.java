@@ -48,6 +48,7 @@ import org.slf4j.LoggerFactory;
  * Size is based on the size on disk (in bytes)
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Optionally serve the entries from memory mappings
  */
 @NonNullByDefault
 public class LRUMediaCache<V> {
@@ -78,6 +79,11 @@ public class LRUMediaCache<V> {
 
     protected boolean cacheIsOK = true;
 
+    /**
+     * Serve the completed entries from memory mappings of their files
+     */
+    private final boolean memoryMapped;
+
     /**
      * Constructs a cache system.
      *
@@ -87,6 +93,20 @@ public class LRUMediaCache<V> {
      */
     public LRUMediaCache(@Reference StorageService storageService, long maxCacheSize, String pid,
             @Nullable ClassLoader clazzLoader) {
+        this(storageService, maxCacheSize, pid, clazzLoader, false);
+    }
+
+    /**
+     * Constructs a cache system.
+     *
+     * @param storageService Storage service to store metadata
+     * @param maxCacheSize Limit size, in byte
+     * @param pid A pid identifying the cache on disk
+     * @param memoryMapped true to serve the completed entries from memory mappings of their files
+     */
+    public LRUMediaCache(@Reference StorageService storageService, long maxCacheSize, String pid,
+            @Nullable ClassLoader clazzLoader, boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
         this.storage = storageService.getStorage(pid, clazzLoader);
         this.cachedResults = Collections.synchronizedMap(new LinkedHashMap<>(20, .75f, true));
         this.cacheFolder = Path.of(OpenHAB.getUserDataFolder(), CACHE_FOLDER_NAME, pid);
@@ -206,6 +226,7 @@ public class LRUMediaCache<V> {
 
     protected void put(LRUMediaCacheEntry<V> result) {
         result.setCacheContext(cacheFolder, storage);
+        result.setMemoryMapped(memoryMapped);
         cachedResults.put(result.getKey(), result);
         makeSpace();
     }
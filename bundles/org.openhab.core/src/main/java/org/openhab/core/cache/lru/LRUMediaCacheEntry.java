@@ -16,9 +16,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -34,8 +38,14 @@ import org.slf4j.LoggerFactory;
  * A cached media entry resulting from a call to a supplier or a load from disk
  * This class also adds the capability to serve multiple InputStream concurrently
  * without asking already retrieved data to the wrapped stream.
+ * The data is read directly into the buffers of the clients, or transferred from the file to their channels.
+ * While the file is filled from the wrapped stream, the clients follow the data as it arrives instead of waiting for
+ * complete chunks.
+ * A completed file can optionally be mapped to memory, so that all clients are served from the same pages.
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Read into the buffers of the clients and serve completed files from memory
+ * @author Andrew Fiddian-Green - Let the clients follow the data while the file is filled
  */
 @NonNullByDefault
 public class LRUMediaCacheEntry<V> {
@@ -44,6 +54,7 @@ public class LRUMediaCacheEntry<V> {
 
     /**
      * Arbitrary chunk size. Small is less latency but more small calls and CPU load.
+     * The inner stream is read by chunks of at most this size.
      */
     private static final int CHUNK_SIZE = 10000;
 
@@ -74,6 +85,12 @@ public class LRUMediaCacheEntry<V> {
     private @Nullable FileChannel fileChannel;
     private final Lock fileOperationLock = new ReentrantLock();
 
+    // the buffer for filling the file from the inner stream, guarded by the inner stream
+    private byte @Nullable [] fillBuffer;
+
+    private volatile boolean memoryMapped;
+    private volatile @Nullable MappedByteBuffer mappedBuffer;
+
     /**
      * This constructor is used when the file is fully cached on disk.
      * The file on disk will provide the data, and the storage will
@@ -120,6 +137,15 @@ public class LRUMediaCacheEntry<V> {
         this.currentSize = fileLocal.length();
     }
 
+    /**
+     * Serve the completed file from a memory mapping instead of reading it from the file for every client.
+     *
+     * @param memoryMapped true to map the completed file to memory
+     */
+    protected void setMemoryMapped(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
+
     /**
      * Get total size of the underlying stream.
      * If not already completed, will query the stream inside,
@@ -133,7 +159,7 @@ public class LRUMediaCacheEntry<V> {
         } else {
             // we must force-read all the stream to get the real size
             try {
-                read(0, Integer.MAX_VALUE);
+                fill(getFileChannel(), Long.MAX_VALUE);
             } catch (IOException e) {
                 logger.debug("Cannot read the total size of the cache result. Using 0", e);
             }
@@ -227,6 +253,8 @@ public class LRUMediaCacheEntry<V> {
                             fileChannelLocal.close();
                         } finally {
                             fileChannel = null;
+                            // the mapping is released by the garbage collector
+                            mappedBuffer = null;
                         }
                     }
                 } finally {
@@ -262,13 +290,97 @@ public class LRUMediaCacheEntry<V> {
      * @throws IOException
      */
     protected byte[] read(int start, int sizeToRead) throws IOException {
+        FileChannel fileChannelLocal = getFileChannel();
+        fill(fileChannelLocal, (long) start + 1);
+        byte[] buffer = new byte[(int) Math.min(sizeToRead, Math.max(0, fileChannelLocal.size() - start))];
+        int byteReadNumber = read(start, buffer, 0, buffer.length);
+        return byteReadNumber == buffer.length ? buffer : Arrays.copyOf(buffer, byteReadNumber);
+    }
+
+    /**
+     * Read from the cached file directly into the buffer of the caller. If there is no byte to read in the file, the
+     * supplier will be queried. The bytes already in the file are returned without waiting for more data.
+     *
+     * @param start The offset to read the file from
+     * @param buffer the buffer to fill
+     * @param offset the offset in the buffer
+     * @param length the maximum number of bytes to read
+     * @return the number of bytes read, 0 if the end of the data is reached
+     * @throws IOException
+     */
+    protected int read(int start, byte[] buffer, int offset, int length) throws IOException {
+        FileChannel fileChannelLocal = getFileChannel();
+        fill(fileChannelLocal, (long) start + 1);
+
+        MappedByteBuffer mappedBufferLocal = getMappedBuffer(fileChannelLocal);
+        if (mappedBufferLocal != null) {
+            int byteReadNumber = Math.min(length, Math.max(0, mappedBufferLocal.limit() - start));
+            if (byteReadNumber > 0) {
+                mappedBufferLocal.get(start, buffer, offset, byteReadNumber);
+            }
+            return byteReadNumber;
+        }
+
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, offset, length);
+        int byteReadNumber = 0;
+        while (byteBuffer.hasRemaining()) {
+            int read = fileChannelLocal.read(byteBuffer, (long) start + byteReadNumber);
+            if (read <= 0) {
+                break;
+            }
+            byteReadNumber += read;
+        }
+        logger.trace("Read {} bytes from the filechannel", byteReadNumber);
+        return byteReadNumber;
+    }
+
+    /**
+     * Transfer the cached file from the given offset to the target channel, without copying it through the heap. If
+     * the file is not complete, the supplier will be queried while the data is transferred.
+     *
+     * @param start The offset to transfer the file from
+     * @param target the channel to transfer the data to
+     * @return the number of bytes transferred
+     * @throws IOException
+     */
+    protected long transferTo(int start, WritableByteChannel target) throws IOException {
+        FileChannel fileChannelLocal = getFileChannel();
+        long position = start;
+        while (true) {
+            fill(fileChannelLocal, position + 1);
+            long size = fileChannelLocal.size();
+            if (position >= size) {
+                break;
+            }
+            long transferred = fileChannelLocal.transferTo(position, size - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+        return position - start;
+    }
+
+    private FileChannel getFileChannel() throws IOException {
         FileChannel fileChannelLocal = fileChannel;
         if (fileChannelLocal == null || isFaulty()) {
             throw new IOException("Cannot read cache from null file channel or deleted file.");
         }
+        return fileChannelLocal;
+    }
 
+    /**
+     * Get data from the inner stream until the cached file reaches the given size or the stream is completed.
+     * Only one client at a time reads from the inner stream, each read returns as soon as the stream has data, so that
+     * the other clients waiting for the stream can follow with the data written to the file in the meantime.
+     *
+     * @param fileChannelLocal the channel of the cached file
+     * @param end the size the cached file should have
+     * @throws IOException
+     */
+    private void fill(FileChannel fileChannelLocal, long end) throws IOException {
         // check if we need to get data from the inner stream.
-        if (start + sizeToRead > fileChannelLocal.size() && !completed) {
+        if (end > fileChannelLocal.size() && !completed) {
             logger.trace("Maybe need to get data from inner stream");
             // try to get new bytes from the inner stream
             InputStream streamLocal = inputStream;
@@ -276,16 +388,25 @@ public class LRUMediaCacheEntry<V> {
                 logger.trace("Trying to synchronize for reading inner inputstream");
                 synchronized (streamLocal) {
                     // now that we really have the lock, test again if we really need data from the stream
-                    while (start + sizeToRead > fileChannelLocal.size() && !completed) {
+                    while (end > fileChannelLocal.size() && !completed) {
                         logger.trace("Really need to get data from inner stream");
-                        byte[] readFromSupplierStream = streamLocal.readNBytes(CHUNK_SIZE);
-                        if (readFromSupplierStream.length == 0) { // we read all the stream
+                        byte[] readFromSupplierStream = fillBuffer;
+                        if (readFromSupplierStream == null) {
+                            readFromSupplierStream = new byte[CHUNK_SIZE];
+                            fillBuffer = readFromSupplierStream;
+                        }
+                        int length = streamLocal.read(readFromSupplierStream, 0, CHUNK_SIZE);
+                        if (length <= 0) { // we read all the stream
                             logger.trace("End of the stream reached");
                             completed = true;
+                            fillBuffer = null;
                         } else {
-                            fileChannelLocal.write(ByteBuffer.wrap(readFromSupplierStream), currentSize);
-                            logger.trace("writing {} bytes to {}", readFromSupplierStream.length, key);
-                            currentSize += readFromSupplierStream.length;
+                            ByteBuffer byteBuffer = ByteBuffer.wrap(readFromSupplierStream, 0, length);
+                            while (byteBuffer.hasRemaining()) {
+                                fileChannelLocal.write(byteBuffer, currentSize + byteBuffer.position());
+                            }
+                            logger.trace("writing {} bytes to {}", length, key);
+                            currentSize += length;
                         }
                     }
                 }
@@ -295,18 +416,37 @@ public class LRUMediaCacheEntry<V> {
                         key);
             }
         }
-        // the cache file is now filled, get bytes from it.
-        long maxToRead = Math.min(fileChannelLocal.size(), sizeToRead);
-        ByteBuffer byteBufferFromChannelFile = ByteBuffer.allocate((int) maxToRead);
-        int byteReadNumber = fileChannelLocal.read(byteBufferFromChannelFile, Integer.valueOf(start).longValue());
-        logger.trace("Read {} bytes from the filechannel", byteReadNumber);
-        if (byteReadNumber > 0) {
-            byte[] resultByteArray = new byte[byteReadNumber];
-            byteBufferFromChannelFile.rewind();
-            byteBufferFromChannelFile.get(resultByteArray);
-            return resultByteArray;
-        } else {
-            return new byte[0];
+    }
+
+    /**
+     * Get the memory mapping of the cached file, which is only created when the file is completed, to serve all
+     * clients from the same pages.
+     *
+     * @param fileChannelLocal the channel of the cached file
+     * @return the memory mapping or null if the file is not to be or cannot be mapped
+     */
+    private @Nullable MappedByteBuffer getMappedBuffer(FileChannel fileChannelLocal) {
+        MappedByteBuffer mappedBufferLocal = mappedBuffer;
+        if (mappedBufferLocal != null || !memoryMapped || !completed) {
+            return mappedBufferLocal;
+        }
+        fileOperationLock.lock();
+        try {
+            mappedBufferLocal = mappedBuffer;
+            if (mappedBufferLocal == null && fileChannel == fileChannelLocal) {
+                long size = fileChannelLocal.size();
+                if (size > 0 && size <= Integer.MAX_VALUE) {
+                    mappedBufferLocal = fileChannelLocal.map(MapMode.READ_ONLY, 0, size);
+                    mappedBuffer = mappedBufferLocal;
+                }
+            }
+            return mappedBufferLocal;
+        } catch (IOException e) {
+            logger.debug("Cannot map the cache file {} to memory, reading from the file: {}", key, e.getMessage());
+            memoryMapped = false;
+            return null;
+        } finally {
+            fileOperationLock.unlock();
         }
     }
 
@@ -51,6 +51,7 @@ import org.slf4j.LoggerFactory;
  * Each instance has a reference to the last CompletableFuture and will call handleAsync to add a new task.
  *
  * @author Jörg Sautter - Initial contribution
+ * @author Andrew Fiddian-Green - Support pools running tasks on virtual threads
  */
 @NonNullByDefault
 final class PoolBasedSequentialScheduledExecutorService implements ScheduledExecutorService {
@@ -64,7 +65,12 @@ final class PoolBasedSequentialScheduledExecutorService implements ScheduledExec
         private volatile int minimumPoolSize;
 
         public BasePoolExecutor(String threadPoolName, int corePoolSize, ThreadFactory threadFactory) {
-            super(corePoolSize, threadFactory);
+            this(threadPoolName, corePoolSize, threadFactory, null);
+        }
+
+        public BasePoolExecutor(String threadPoolName, int corePoolSize, ThreadFactory threadFactory,
+                @Nullable Executor taskExecutor) {
+            super(corePoolSize, threadFactory, taskExecutor);
 
             this.threadPoolName = threadPoolName;
             // set to one does ensure at least one thread more than tasks running
@@ -72,6 +78,10 @@ final class PoolBasedSequentialScheduledExecutorService implements ScheduledExec
         }
 
         public synchronized void resizePool(int mandatoryPoolSize) {
+            if (hasTaskExecutor()) {
+                // the tasks are not blocking the threads of the pool, they are only waiting for due tasks
+                return;
+            }
             int corePoolSize = getCorePoolSize();
 
             if (minimumPoolSize > mandatoryPoolSize) {
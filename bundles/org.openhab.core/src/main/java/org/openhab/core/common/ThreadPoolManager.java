@@ -29,6 +29,8 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -56,7 +58,19 @@ import org.slf4j.LoggerFactory;
  * <br/>
  * All threads will time out after {@link #THREAD_TIMEOUT}.
  *
+ * <p>
+ * Instead of a pool size, a pool can be configured to run its tasks on virtual threads, which suits tasks that block
+ * on I/O or wait for other tasks:
+ * <br/>
+ * {@code org.openhab.core.threadpool:<poolName>=virtual}
+ * <br/>
+ * There is no limit on the number of tasks running concurrently then. Scheduled pools keep a single platform thread,
+ * which waits for tasks to become due and hands them over to virtual threads. Sequential executors of such a pool
+ * still execute their tasks one after the other. The configuration is applied when a pool is created, so changing it
+ * for an existing pool requires a restart.
+ *
  * @author Kai Kreuzer - Initial contribution
+ * @author Andrew Fiddian-Green - Virtual thread pools
  */
 @Component(configurationPid = ThreadPoolManager.CONFIGURATION_PID)
 public class ThreadPoolManager {
@@ -74,6 +88,10 @@ public class ThreadPoolManager {
 
     protected static final int DEFAULT_THREAD_POOL_SIZE = 5;
 
+    protected static final String VIRTUAL_THREADS = "virtual";
+    // the platform threads of a virtual thread pool are only waiting for due tasks
+    protected static final int VIRTUAL_THREAD_POOL_SCHEDULER_SIZE = 1;
+
     protected static final long THREAD_TIMEOUT = 65L;
     protected static final long THREAD_MONITOR_SLEEP = 60000;
 
@@ -81,6 +99,8 @@ public class ThreadPoolManager {
 
     private static Map<String, Integer> configs = new ConcurrentHashMap<>();
 
+    private static Set<String> virtualThreadPools = ConcurrentHashMap.newKeySet();
+
     private static final Set<String> OSGI_PROPERTY_NAMES = Set.of(Constants.SERVICE_PID,
             ComponentConstants.COMPONENT_ID, ComponentConstants.COMPONENT_NAME, "osgi.ds.satisfying.condition.target");
 
@@ -97,8 +117,18 @@ public class ThreadPoolManager {
             Object config = entry.getValue();
             if (config == null) {
                 configs.remove(poolName);
+                virtualThreadPools.remove(poolName);
             }
-            if (config instanceof String string) {
+            if (config instanceof String string && VIRTUAL_THREADS.equalsIgnoreCase(string.trim())) {
+                configs.remove(poolName);
+                if (virtualThreadPools.add(poolName) && pools.containsKey(poolName)) {
+                    LOGGER.info("Thread pool '{}' will use virtual threads after a restart", poolName);
+                }
+            } else if (config instanceof String string) {
+                if (virtualThreadPools.contains(poolName) && pools.containsKey(poolName)) {
+                    LOGGER.info("Thread pool '{}' will use platform threads after a restart", poolName);
+                }
+                virtualThreadPools.remove(poolName);
                 try {
                     Integer poolSize = Integer.valueOf(string);
                     configs.put(poolName, poolSize);
@@ -134,15 +164,18 @@ public class ThreadPoolManager {
      */
     public static ScheduledExecutorService getPoolBasedSequentialScheduledExecutorService(String poolName,
             String threadName) {
-        if (configs.getOrDefault(poolName, 0) > 0) {
+        if (configs.getOrDefault(poolName, 0) > 0 || virtualThreadPools.contains(poolName)) {
             ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
-                int cfg = getConfig(name);
+                boolean virtual = virtualThreadPools.contains(name);
+                int cfg = virtual ? VIRTUAL_THREAD_POOL_SCHEDULER_SIZE : getConfig(name);
                 ScheduledThreadPoolExecutor executor = new BasePoolExecutor(name, cfg,
-                        new NamedThreadFactory(name, true, Thread.NORM_PRIORITY));
+                        new NamedThreadFactory(name, true, Thread.NORM_PRIORITY),
+                        virtual ? createVirtualThreadExecutor(name) : null);
                 executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
                 executor.allowCoreThreadTimeOut(true);
                 executor.setRemoveOnCancelPolicy(true);
-                LOGGER.debug("Created scheduled pool based thread pool '{}' of size {}", name, cfg);
+                LOGGER.debug("Created scheduled pool based thread pool '{}' of size {}{}", name, cfg,
+                        virtual ? " running tasks on virtual threads" : "");
                 return executor;
             });
 
@@ -165,13 +198,16 @@ public class ThreadPoolManager {
      */
     public static ScheduledExecutorService getScheduledPool(String poolName) {
         ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
-            int cfg = getConfig(name);
+            boolean virtual = virtualThreadPools.contains(name);
+            int cfg = virtual ? VIRTUAL_THREAD_POOL_SCHEDULER_SIZE : getConfig(name);
             ScheduledThreadPoolExecutor executor = new WrappedScheduledExecutorService(cfg,
-                    new NamedThreadFactory(name, true, Thread.NORM_PRIORITY));
+                    new NamedThreadFactory(name, true, Thread.NORM_PRIORITY),
+                    virtual ? createVirtualThreadExecutor(name) : null);
             executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
             executor.allowCoreThreadTimeOut(true);
             executor.setRemoveOnCancelPolicy(true);
-            LOGGER.debug("Created scheduled thread pool '{}' of size {}", name, cfg);
+            LOGGER.debug("Created scheduled thread pool '{}' of size {}{}", name, cfg,
+                    virtual ? " running tasks on virtual threads" : "");
             return executor;
         });
 
@@ -191,6 +227,13 @@ public class ThreadPoolManager {
      */
     public static ExecutorService getPool(String poolName) {
         ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
+            if (virtualThreadPools.contains(name)) {
+                // a thread pool executor is kept for the metrics, virtual threads are not worth to be kept idle
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, TimeUnit.SECONDS,
+                        new SynchronousQueue<>(), createVirtualThreadFactory(name));
+                LOGGER.debug("Created thread pool '{}' running tasks on virtual threads", name);
+                return executor;
+            }
             int cfg = getConfig(name);
             ThreadPoolExecutor executor = QueueingThreadPoolExecutor.createInstance(name, cfg);
             executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
@@ -212,6 +255,14 @@ public class ThreadPoolManager {
         return (ScheduledThreadPoolExecutor) ret.getDelegate();
     }
 
+    private static ThreadFactory createVirtualThreadFactory(String poolName) {
+        return Thread.ofVirtual().name("OH-" + poolName + "-virtual-", 1).factory();
+    }
+
+    private static ExecutorService createVirtualThreadExecutor(String poolName) {
+        return Executors.newThreadPerTaskExecutor(createVirtualThreadFactory(poolName));
+    }
+
     protected static int getConfig(String poolName) {
         Integer cfg = configs.get(poolName);
         return cfg != null ? cfg : DEFAULT_THREAD_POOL_SIZE;
@@ -19,12 +19,16 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RunnableScheduledFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -38,9 +42,13 @@ import org.slf4j.LoggerFactory;
  * wrapper removes the burden for the user to always catch errors in scheduled runnables for logging, and it also
  * catches unchecked exceptions that can be the cause of very hard to catch bugs because no error is ever shown if the
  * user doesn't catch the error in the runnable itself.
+ * <p>
+ * If a task executor is given, e.g. one running tasks on virtual threads, the due tasks are run in that executor. The
+ * threads of this pool then only wait for tasks to become due, so a few of them suffice even if tasks are blocking.
  *
  * @author Hilbrand Bouwkamp - Initial contribution
  * @author Andrew Fiddian-Green - Added task duration logging
+ * @author Andrew Fiddian-Green - Run due tasks in a separate task executor
  */
 @NonNullByDefault
 public class WrappedScheduledExecutorService extends ScheduledThreadPoolExecutor {
@@ -50,10 +58,29 @@ public class WrappedScheduledExecutorService extends ScheduledThreadPoolExecutor
     private static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(5000);
 
     private final Set<TimedAbstractTask> runningTasks;
+    private final @Nullable Executor taskExecutor;
 
     public WrappedScheduledExecutorService(int corePoolSize, ThreadFactory threadFactory) {
+        this(corePoolSize, threadFactory, null);
+    }
+
+    /**
+     * @param corePoolSize the number of threads waiting for due tasks
+     * @param threadFactory the factory for the threads waiting for due tasks
+     * @param taskExecutor the executor running the due tasks, or null to run them in the threads of this pool
+     */
+    public WrappedScheduledExecutorService(int corePoolSize, ThreadFactory threadFactory,
+            @Nullable Executor taskExecutor) {
         super(corePoolSize, threadFactory);
         runningTasks = ConcurrentHashMap.newKeySet(corePoolSize);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * @return true if the due tasks are run in a separate task executor
+     */
+    public boolean hasTaskExecutor() {
+        return taskExecutor != null;
     }
 
     /**
@@ -131,9 +158,32 @@ public class WrappedScheduledExecutorService extends ScheduledThreadPoolExecutor
         }
     }
 
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(@Nullable Runnable runnable,
+            @Nullable RunnableScheduledFuture<V> task) {
+        return dispatched(Objects.requireNonNull(task));
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(@Nullable Callable<V> callable,
+            @Nullable RunnableScheduledFuture<V> task) {
+        return dispatched(Objects.requireNonNull(task));
+    }
+
+    private <V> RunnableScheduledFuture<V> dispatched(RunnableScheduledFuture<V> task) {
+        Executor taskExecutor = this.taskExecutor;
+        return taskExecutor == null ? task : new DispatchedTask<>(task, taskExecutor);
+    }
+
     @Override
     protected void afterExecute(@Nullable Runnable r, @Nullable Throwable t) {
         super.afterExecute(r, t);
+        if (!(r instanceof DispatchedTask)) {
+            logException(r, t);
+        }
+    }
+
+    private void logException(@Nullable Runnable r, @Nullable Throwable t) {
         Throwable actualThrowable = t;
         if (actualThrowable == null && r instanceof Future<?> f) {
             // The Future is the wrapper task around our scheduled Runnable. This is only "done" if an Exception
@@ -184,6 +234,76 @@ public class WrappedScheduledExecutorService extends ScheduledThreadPoolExecutor
         return super.schedule(c, delay, unit);
     }
 
+    /**
+     * A scheduled task, which is handed over to the task executor when it is due. Periodic tasks are queued again by
+     * the wrapped task after they have run, so they do not overlap as with tasks run in the threads of the pool.
+     */
+    @NonNullByDefault({})
+    private class DispatchedTask<V> implements RunnableScheduledFuture<V> {
+        private final RunnableScheduledFuture<V> task;
+        private final Executor executor;
+
+        private DispatchedTask(RunnableScheduledFuture<V> task, Executor executor) {
+            this.task = task;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            executor.execute(() -> {
+                task.run();
+                logException(task, null);
+            });
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = task.cancel(mayInterruptIfRunning);
+            if (cancelled && getRemoveOnCancelPolicy()) {
+                remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return task.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return task.compareTo(other instanceof DispatchedTask<?> dispatchedTask ? dispatchedTask.task : other);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+    }
+
     /**
      * On close, log all currently running tasks that have not yet finished.
      */
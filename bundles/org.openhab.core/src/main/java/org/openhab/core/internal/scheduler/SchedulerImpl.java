@@ -25,7 +25,6 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -34,6 +33,7 @@ import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.internal.scheduler.TimingWheel.Timeout;
 import org.openhab.core.scheduler.ScheduledCompletableFuture;
 import org.openhab.core.scheduler.Scheduler;
 import org.openhab.core.scheduler.SchedulerRunnable;
@@ -44,10 +44,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Implementation of the {@link Scheduler}.
+ * <p>
+ * The scheduled jobs wait in a {@link TimingWheel}, which only keeps a single wake-up scheduled on the thread pool for
+ * all of them.
  *
  * @author Peter Kriens - Initial contribution
  * @author Simon Kaufmann - ported to CompletableFuture
  * @author Hilbrand Bouwkamp - improved implementation and moved cron and periodic to own implementations.
+ * @author Andrew Fiddian-Green - Schedule jobs in a timing wheel
  */
 @Component(service = SchedulerImpl.class, immediate = true)
 @NonNullByDefault
@@ -59,6 +63,7 @@ public class SchedulerImpl implements Scheduler {
     private final Logger logger = LoggerFactory.getLogger(SchedulerImpl.class);
 
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool(SCHEDULER_THREAD_POOL);
+    private final TimingWheel timingWheel = new TimingWheel(executor);
 
     @Override
     public ScheduledCompletableFuture<Instant> after(Duration duration) {
@@ -75,7 +80,7 @@ public class SchedulerImpl implements Scheduler {
             Callable<T> callable) {
         final long duration = Math.max(100,
                 deferred.getScheduledTime().minus(currentTimeMillis(), ChronoUnit.MILLIS).toInstant().toEpochMilli());
-        final ScheduledFuture<?> future = executor.schedule(() -> {
+        final Timeout timeout = timingWheel.schedule(() -> {
             try {
                 final long timeLeft = deferred.getDelay(TimeUnit.MILLISECONDS);
 
@@ -94,14 +99,14 @@ public class SchedulerImpl implements Scheduler {
                         Objects.requireNonNullElse(deferred.identifier, "<unknown>"), e);
                 deferred.completeExceptionally(e);
             }
-        }, duration, TimeUnit.MILLISECONDS);
+        }, duration);
         if (logger.isTraceEnabled()) {
             logger.trace("Scheduled a task to run in {} seconds.", TimeUnit.MILLISECONDS.toSeconds(duration));
         }
         deferred.exceptionally(e -> {
             logger.trace("Scheduled task stopped with exception ", e);
             if (e instanceof CancellationException) {
-                future.cancel(true);
+                timeout.cancel(true);
             }
             return null;
         });
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.scheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link TimingWheel} is a hierarchical timing wheel with a resolution of one millisecond, which keeps the tasks
+ * waiting for their delay to pass.
+ * <p>
+ * Each level of the wheel has {@link #WHEEL_SIZE} buckets, a bucket of the lowest level spans one millisecond and a
+ * bucket of each higher level spans a whole turn of the level below. Adding or cancelling a task only links or unlinks
+ * it in the bucket of its expiration. Only the buckets themselves are ordered by their expiration, so the wheel needs
+ * a single pending wake-up on the executor for all tasks. When a bucket of a higher level expires, its tasks are
+ * moved to the lower levels, tasks that are due are submitted to the executor together.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+class TimingWheel {
+
+    static final int WHEEL_SIZE = 64;
+
+    private final ScheduledExecutorService executor;
+    private final LongSupplier clock;
+    private final Level wheel;
+    private final PriorityQueue<Bucket> buckets = new PriorityQueue<>(
+            Comparator.comparingLong(bucket -> bucket.expiration));
+
+    private @Nullable ScheduledFuture<?> wakeUp;
+    private long wakeUpTime = Long.MAX_VALUE;
+
+    /**
+     * @param executor the executor for the wake-ups of the wheel and for running the tasks
+     */
+    TimingWheel(ScheduledExecutorService executor) {
+        this(executor, monotonicClock());
+    }
+
+    /**
+     * @param executor the executor for the wake-ups of the wheel and for running the tasks
+     * @param clock the current time in milliseconds, must not decrease and must not be negative
+     */
+    TimingWheel(ScheduledExecutorService executor, LongSupplier clock) {
+        this.executor = executor;
+        this.clock = clock;
+        this.wheel = new Level(1, clock.getAsLong());
+    }
+
+    /**
+     * Schedules a task to be run on the executor after the given delay. The task is run at most one millisecond after
+     * its delay passed, unless the executor is busy.
+     *
+     * @param task the task to run
+     * @param delayMillis the delay in milliseconds
+     * @return the handle to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        final List<Timeout> due;
+        final Timeout timeout;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            due = advance(now);
+            // the clock is truncated to milliseconds, so a tick is added to not run the task before its delay passed
+            timeout = new Timeout(task, delayMillis > 0 ? now + delayMillis + 1 : now);
+            if (!wheel.add(timeout)) {
+                due.add(timeout);
+            }
+            scheduleWakeUp(now);
+        }
+        due.forEach(Timeout::dispatch);
+        return timeout;
+    }
+
+    /**
+     * @return the number of tasks waiting in the wheel
+     */
+    synchronized int size() {
+        int size = 0;
+        for (Bucket bucket : buckets) {
+            size += bucket.size;
+        }
+        return size;
+    }
+
+    /**
+     * Submits the tasks which are due to the executor and schedules the next wake-up.
+     */
+    void wakeUp() {
+        final List<Timeout> due;
+        synchronized (this) {
+            wakeUp = null;
+            wakeUpTime = Long.MAX_VALUE;
+            long now = clock.getAsLong();
+            due = advance(now);
+            scheduleWakeUp(now);
+        }
+        due.forEach(Timeout::dispatch);
+    }
+
+    /**
+     * Flushes the expired buckets, which moves their tasks to a lower level of the wheel or returns them when they are
+     * due. The time of the wheel is only advanced after all expired buckets have been flushed, so that a bucket is not
+     * reused while it is waiting to be flushed.
+     */
+    private List<Timeout> advance(long now) {
+        List<Timeout> due = new ArrayList<>();
+        Bucket bucket;
+        while ((bucket = buckets.peek()) != null && bucket.expiration <= now) {
+            buckets.poll();
+            wheel.advanceClock(bucket.expiration);
+            bucket.flush(timeout -> {
+                if (!wheel.add(timeout)) {
+                    due.add(timeout);
+                }
+            });
+        }
+        wheel.advanceClock(now);
+        return due;
+    }
+
+    private void scheduleWakeUp(long now) {
+        Bucket next = buckets.peek();
+        if (next == null || next.expiration >= wakeUpTime) {
+            return;
+        }
+        ScheduledFuture<?> wakeUp = this.wakeUp;
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUpTime = next.expiration;
+        this.wakeUp = executor.schedule(this::wakeUp, next.expiration - now, TimeUnit.MILLISECONDS);
+    }
+
+    private static LongSupplier monotonicClock() {
+        long start = System.nanoTime();
+        return () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /**
+     * A level of the wheel, the next higher level is created when it is needed.
+     */
+    private class Level {
+        private final long tick;
+        private final long interval;
+        private final Bucket[] slots = new Bucket[WHEEL_SIZE];
+        private long currentTime;
+        private @Nullable Level overflow;
+
+        private Level(long tick, long startTime) {
+            this.tick = tick;
+            this.interval = tick * WHEEL_SIZE;
+            this.currentTime = startTime - (startTime % tick);
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                slots[i] = new Bucket();
+            }
+        }
+
+        /**
+         * @return false if the timeout is due and has not been added
+         */
+        private boolean add(Timeout timeout) {
+            long expiration = timeout.expiration;
+            if (expiration < currentTime + tick) {
+                return false;
+            } else if (expiration < currentTime + interval) {
+                long virtualId = expiration / tick;
+                Bucket bucket = slots[(int) (virtualId % WHEEL_SIZE)];
+                bucket.add(timeout);
+                if (bucket.setExpiration(virtualId * tick)) {
+                    buckets.add(bucket);
+                }
+                return true;
+            } else {
+                Level overflow = this.overflow;
+                if (overflow == null) {
+                    overflow = new Level(interval, currentTime);
+                    this.overflow = overflow;
+                }
+                return overflow.add(timeout);
+            }
+        }
+
+        private void advanceClock(long time) {
+            if (time >= currentTime + tick) {
+                currentTime = time - (time % tick);
+                Level overflow = this.overflow;
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * The tasks expiring within the span of a bucket, kept in a doubly linked list.
+     */
+    private class Bucket {
+        private final Timeout head = new Timeout(() -> {
+        }, -1);
+        private long expiration = -1;
+        private int size;
+
+        private Bucket() {
+            head.next = head;
+            head.previous = head;
+        }
+
+        /**
+         * @return true if the expiration has changed, i.e. the bucket has to be queued
+         */
+        private boolean setExpiration(long expiration) {
+            if (this.expiration == expiration) {
+                return false;
+            }
+            this.expiration = expiration;
+            return true;
+        }
+
+        private void add(Timeout timeout) {
+            Timeout tail = head.previous;
+            timeout.next = head;
+            timeout.previous = tail;
+            tail.next = timeout;
+            head.previous = timeout;
+            timeout.bucket = this;
+            size++;
+        }
+
+        private void remove(Timeout timeout) {
+            timeout.previous.next = timeout.next;
+            timeout.next.previous = timeout.previous;
+            timeout.next = timeout;
+            timeout.previous = timeout;
+            timeout.bucket = null;
+            size--;
+        }
+
+        private void flush(Consumer<Timeout> consumer) {
+            Timeout timeout = head.next;
+            while (timeout != head) {
+                Timeout next = timeout.next;
+                remove(timeout);
+                consumer.accept(timeout);
+                timeout = next;
+            }
+            expiration = -1;
+        }
+    }
+
+    /**
+     * A task waiting in the wheel, which can be cancelled.
+     */
+    class Timeout {
+        private final Runnable task;
+        private final long expiration;
+
+        // guarded by the wheel
+        private Timeout next = this;
+        private Timeout previous = this;
+        private @Nullable Bucket bucket;
+
+        // guarded by the timeout
+        private boolean cancelled;
+        private @Nullable Future<?> future;
+
+        private Timeout(Runnable task, long expiration) {
+            this.task = task;
+            this.expiration = expiration;
+        }
+
+        /**
+         * Cancels the task, if it has already been submitted to the executor, the submitted task is cancelled.
+         *
+         * @param mayInterruptIfRunning true if the thread running the task should be interrupted
+         * @return false if the task could not be cancelled, typically because it has already completed
+         */
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            synchronized (TimingWheel.this) {
+                Bucket bucket = this.bucket;
+                if (bucket != null) {
+                    bucket.remove(this);
+                }
+            }
+            Future<?> future;
+            synchronized (this) {
+                if (cancelled) {
+                    return false;
+                }
+                cancelled = true;
+                future = this.future;
+            }
+            return future == null || future.cancel(mayInterruptIfRunning);
+        }
+
+        private void dispatch() {
+            synchronized (this) {
+                if (!cancelled) {
+                    future = executor.submit(task);
+                }
+            }
+        }
+    }
+}
@@ -16,12 +16,17 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -55,12 +60,15 @@ import io.methvin.watcher.hashing.FileHash;
  * The {@link WatchServiceImpl} is the implementation of the {@link WatchService}
  *
  * @author Jan N. Klug - Initial contribution
+ * @author Andrew Fiddian-Green - Deliver the changes of a quiet period as one batch
  */
 @NonNullByDefault
 @Component(immediate = true, service = WatchService.class, configurationPid = WatchService.SERVICE_PID, configurationPolicy = ConfigurationPolicy.REQUIRE)
 public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
 
     public static final int PROCESSING_TIME = 1000;
+    // changes are delivered at the latest after this time, even if the files keep changing
+    public static final int MAX_PROCESSING_DELAY = 10 * PROCESSING_TIME;
 
     public @interface WatchServiceConfiguration {
         String name() default "";
@@ -83,8 +91,13 @@ public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
     private @Nullable DirectoryWatcher dirWatcher;
     private @Nullable ServiceRegistration<WatchService> reg;
 
-    private final Map<Path, ScheduledFuture<?>> scheduledEvents = new HashMap<>();
-    private final Map<Path, List<DirectoryChangeEvent>> scheduledEventKinds = new ConcurrentHashMap<>();
+    // the changes of each path until no change happened for the processing time
+    private final Map<Path, PendingChanges> pendingChanges = new HashMap<>();
+    // the events of the batch listeners until none of their paths has pending changes anymore
+    private final Map<BatchWatchEventListener, PendingBatch> pendingBatches = new LinkedHashMap<>();
+    // the notifications are delivered one after the other, in the order the changes were processed
+    private final Queue<Runnable> notifications = new ArrayDeque<>();
+    private boolean notifying;
 
     @Activate
     public WatchServiceImpl(WatchServiceConfiguration config, BundleContext bundleContext) throws IOException {
@@ -224,24 +237,62 @@ public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
 
         Path path = directoryChangeEvent.path();
 
-        synchronized (scheduledEvents) {
-            ScheduledFuture<?> future = scheduledEvents.remove(path);
-            if (future != null && !future.isDone()) {
-                future.cancel(true);
+        synchronized (pendingChanges) {
+            long now = System.nanoTime();
+            PendingChanges changes = pendingChanges.computeIfAbsent(path, k -> new PendingChanges(now));
+            ScheduledFuture<?> future = changes.future;
+            if (future != null) {
+                // if the processing already started, it takes this change too
+                future.cancel(false);
             }
-            future = scheduler.schedule(() -> notifyListeners(path), PROCESSING_TIME, TimeUnit.MILLISECONDS);
-            scheduledEventKinds.computeIfAbsent(path, k -> new CopyOnWriteArrayList<>()).add(directoryChangeEvent);
-            scheduledEvents.put(path, future);
+            changes.events.add(directoryChangeEvent);
+            long remaining = MAX_PROCESSING_DELAY - TimeUnit.NANOSECONDS.toMillis(now - changes.firstEventNanos);
+            long delay = Math.max(0, Math.min(PROCESSING_TIME, remaining));
+            changes.future = scheduler.schedule(() -> processChanges(path, changes), delay, TimeUnit.MILLISECONDS);
         }
     }
 
-    private void notifyListeners(Path path) {
-        List<DirectoryChangeEvent> events = scheduledEventKinds.remove(path);
-        if (events == null || events.isEmpty()) {
-            logger.debug("Tried to notify listeners of change events for '{}', but the event list is empty.", path);
-            return;
+    private void processChanges(Path path, PendingChanges changes) {
+        synchronized (pendingChanges) {
+            if (!pendingChanges.remove(path, changes)) {
+                // already processed by an earlier run
+                return;
+            }
+            Kind kind = getKind(path, changes.events);
+            if (kind != null) {
+                WatchEvent event = new WatchEvent(kind, path);
+                logger.trace("Notifying listeners of '{}' event for '{}'.", kind, path);
+                for (Listener l : getListeners(path)) {
+                    if (l.watchEventListener instanceof BatchWatchEventListener batchListener) {
+                        pendingBatches.computeIfAbsent(batchListener, k -> new PendingBatch(System.nanoTime()))
+                                .add(event);
+                    } else {
+                        notifications.add(() -> notifyListener(l, event));
+                    }
+                }
+            }
+
+            // a batch is complete when no other change of the listener is pending
+            Iterator<Map.Entry<BatchWatchEventListener, PendingBatch>> it = pendingBatches.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<BatchWatchEventListener, PendingBatch> entry = it.next();
+                BatchWatchEventListener batchListener = entry.getKey();
+                PendingBatch batch = entry.getValue();
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batch.firstEventNanos);
+                if (elapsed >= MAX_PROCESSING_DELAY || pendingChanges.keySet().stream()
+                        .noneMatch(pendingPath -> isListenerOf(pendingPath, batchListener))) {
+                    it.remove();
+                    if (!batch.events.isEmpty()) {
+                        List<WatchEvent> events = List.copyOf(batch.events.values());
+                        notifications.add(() -> notifyBatchListener(batchListener, events));
+                    }
+                }
+            }
         }
+        deliverNotifications();
+    }
 
+    private @Nullable Kind getKind(Path path, List<DirectoryChangeEvent> events) {
         DirectoryChangeEvent firstElement = events.getFirst();
         DirectoryChangeEvent lastElement = events.getLast();
 
@@ -249,34 +300,79 @@ public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
         if (lastElement.eventType() == DirectoryChangeEvent.EventType.DELETE) {
             if (firstElement.eventType() == DirectoryChangeEvent.EventType.CREATE) {
                 logger.debug("Discarding events for '{}' because file was immediately deleted after creation", path);
-                return;
+                return null;
             }
             hashCache.remove(lastElement.path());
-            doNotify(path, Kind.DELETE);
+            return Kind.DELETE;
         } else if (firstElement.eventType() == DirectoryChangeEvent.EventType.CREATE) {
             if (lastElement.hash() == null) {
                 logger.warn("Detected invalid event (hash must not be null for CREATE/MODIFY): {}", lastElement);
-                return;
+                return null;
             }
             hashCache.put(lastElement.path(), lastElement.hash());
-            doNotify(path, Kind.CREATE);
+            return Kind.CREATE;
         } else {
             if (lastElement.hash() == null) {
                 logger.warn("Detected invalid event (hash must not be null for CREATE/MODIFY): {}", lastElement);
-                return;
+                return null;
             }
             FileHash oldHash = hashCache.put(lastElement.path(), lastElement.hash());
-            if (!Objects.equals(oldHash, lastElement.hash())) {
-                // only notify if hashes are different, otherwise the file content did not chnge
-                doNotify(path, Kind.MODIFY);
+            // only notify if hashes are different, otherwise the file content did not chnge
+            return Objects.equals(oldHash, lastElement.hash()) ? null : Kind.MODIFY;
+        }
+    }
+
+    private List<Listener> getListeners(Path path) {
+        List<Listener> listeners = new ArrayList<>();
+        subDirPathListeners.stream().filter(isChildOf(path)).forEach(listeners::add);
+        dirPathListeners.stream().filter(isDirectChildOf(path)).forEach(listeners::add);
+        return listeners;
+    }
+
+    private boolean isListenerOf(Path path, WatchEventListener watchEventListener) {
+        return getListeners(path).stream().anyMatch(Listener.isListener(watchEventListener));
+    }
+
+    /**
+     * Delivers the queued notifications, unless another thread is already delivering them. This makes sure that the
+     * listeners are never notified concurrently and get the changes in the order they were processed.
+     */
+    private void deliverNotifications() {
+        synchronized (pendingChanges) {
+            if (notifying) {
+                return;
+            }
+            notifying = true;
+        }
+        while (true) {
+            Runnable notification;
+            synchronized (pendingChanges) {
+                notification = notifications.poll();
+                if (notification == null) {
+                    notifying = false;
+                    return;
+                }
             }
+            notification.run();
         }
     }
 
-    private void doNotify(Path path, Kind kind) {
-        logger.trace("Notifying listeners of '{}' event for '{}'.", kind, path);
-        subDirPathListeners.stream().filter(isChildOf(path)).forEach(l -> l.notify(path, kind));
-        dirPathListeners.stream().filter(isDirectChildOf(path)).forEach(l -> l.notify(path, kind));
+    private void notifyListener(Listener l, WatchEvent event) {
+        try {
+            l.notify(event.fullPath(), event.kind());
+        } catch (RuntimeException e) {
+            logger.warn("Listener '{}' failed to process '{}' event for '{}': {}", l.watchEventListener, event.kind(),
+                    event.fullPath(), e.getMessage(), e);
+        }
+    }
+
+    private void notifyBatchListener(BatchWatchEventListener listener, List<WatchEvent> events) {
+        logger.trace("Notifying listener '{}' of {} events.", listener, events.size());
+        try {
+            listener.processWatchEvents(events);
+        } catch (RuntimeException e) {
+            logger.warn("Listener '{}' failed to process watch events: {}", listener, e.getMessage(), e);
+        }
     }
 
     public static Predicate<Listener> isChildOf(Path path) {
@@ -287,6 +383,42 @@ public class WatchServiceImpl implements WatchService, DirectoryChangeListener {
         return l -> path.startsWith(l.rootPath) && l.rootPath.relativize(path).getNameCount() == 1;
     }
 
+    private static class PendingChanges {
+        private final List<DirectoryChangeEvent> events = new ArrayList<>();
+        private final long firstEventNanos;
+        private @Nullable ScheduledFuture<?> future;
+
+        private PendingChanges(long firstEventNanos) {
+            this.firstEventNanos = firstEventNanos;
+        }
+    }
+
+    private static class PendingBatch {
+        // each path is contained once, in the order the changes were processed
+        private final Map<Path, WatchEvent> events = new LinkedHashMap<>();
+        private final long firstEventNanos;
+
+        private PendingBatch(long firstEventNanos) {
+            this.firstEventNanos = firstEventNanos;
+        }
+
+        private void add(WatchEvent event) {
+            WatchEvent previous = events.get(event.fullPath());
+            if (previous == null) {
+                events.put(event.fullPath(), event);
+            } else if (previous.kind() == Kind.CREATE) {
+                // a file which has been created and deleted again is not reported at all
+                if (event.kind() == Kind.DELETE) {
+                    events.remove(event.fullPath());
+                }
+            } else if (previous.kind() == Kind.DELETE && event.kind() == Kind.CREATE) {
+                events.put(event.fullPath(), new WatchEvent(Kind.MODIFY, event.fullPath()));
+            } else {
+                events.put(event.fullPath(), event);
+            }
+        }
+    }
+
     private record Listener(Path rootPath, WatchEventListener watchEventListener) {
 
         void notify(Path fullPath, Kind kind) {
@@ -18,10 +18,12 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.IntPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -34,11 +36,17 @@ import org.eclipse.jdt.annotation.Nullable;
  * This class creates a {@link java.time.temporal.TemporalAdjuster} that takes a temporal and adjust it to the next
  * deadline based on a
  * cron specification.
+ * <p>
+ * The cron expression is compiled into a bit mask of the allowed values per field. The day of month and the day of
+ * week are combined into a single mask of the matching days of a month, which is computed once per month. When a field
+ * does not match, the temporal jumps directly to the next allowed value of that field, instead of stepping one unit
+ * at a time.
  *
  * @See http://www.cronmaker.com/
  * @See http://www.quartz-scheduler.org/documentation/quartz-2.3.0/tutorials/tutorial-lesson-06.html
  * @author Peter Kriens - Initial contribution
  * @author Hilbrand Bouwkamp - code cleanup
+ * @author Andrew Fiddian-Green - Compile the fields into bit masks
  */
 @NonNullByDefault
 public class CronAdjuster implements SchedulerTemporalAdjuster {
@@ -52,14 +60,33 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
     public static final String REBOOT = "@reboot";
 
     /**
-     * A function interface that we use to check a Temporal to see if it matches a part of the specification. These
-     * checkers are combined in and and or expressions.
+     * A function interface that we use to check a day of a month to see if it matches the day of month or day of week
+     * part of the specification. These checkers are combined in and and or expressions.
      */
     @FunctionalInterface
-    interface Checker {
-        boolean matches(Temporal t);
+    interface DayChecker {
+        boolean matches(int dayOfMonth, int dayOfWeek, int lengthOfMonth);
     }
 
+    /**
+     * A function interface for a field of the specification. It returns null if the temporal matches the field,
+     * otherwise the next temporal that could match the field, with all lower fields set to their minimum value.
+     */
+    @FunctionalInterface
+    interface Field {
+        @Nullable
+        Temporal adjust(Temporal temporal);
+    }
+
+    /**
+     * The matching days of a month, the cache key is the year and month.
+     */
+    private record DayMask(int yearMonth, long mask) {
+    }
+
+    private static final int MAX_YEAR = 2200;
+    private static final long ALL = -1L;
+
     private static final Pattern WEEKDAY_PATTERN = Pattern
             .compile("(?<day>\\d+|MON|TUE|WED|THU|FRI|SAT|SUN)(#(?<nr>\\d+)|(?<l>L))?", Pattern.CASE_INSENSITIVE);
     private static final String[] MONTHS2 = { "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT",
@@ -71,7 +98,15 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
             .mapToObj(i -> Map.entry(WEEK_DAYS_STRINGS[i], i + 1))
             .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
 
-    private final List<Field> fields = new ArrayList<>(7);
+    private final List<Field> fields = new ArrayList<>(6);
+    private @Nullable BitSet years;
+    private long months = ALL;
+    private @Nullable DayChecker daysOfMonth;
+    private @Nullable DayChecker daysOfWeek;
+    private long hours = ALL;
+    private long minutes = ALL;
+    private long seconds = ALL;
+    private volatile @Nullable DayMask dayMask;
     private final Map<String, String> environmentMap;
     private final boolean reboot;
 
@@ -97,7 +132,6 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
                     String.format("Invalid cron expression, too %s fields. 6 or 7 (with year) expected but was: '%s'",
                             (parts.length < 6 ? "little" : "many"), cronExpression));
         }
-        // Parse parts and add to the fields list. The order added should be maintained!
         if (parts.length > 6) {
             parseAndAdd(cronExpression, parts[6], ChronoField.YEAR);
         }
@@ -108,6 +142,26 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
         parseAndAdd(cronExpression, parts[1], ChronoField.MINUTE_OF_HOUR);
         parseAndAdd(cronExpression, parts[0], ChronoField.SECOND_OF_MINUTE);
 
+        // The order of the fields should be maintained, from the highest to the lowest unit!
+        if (years != null) {
+            fields.add(this::adjustYear);
+        }
+        if (months != ALL) {
+            fields.add(this::adjustMonth);
+        }
+        if (daysOfMonth != null || daysOfWeek != null) {
+            fields.add(this::adjustDay);
+        }
+        if (hours != ALL) {
+            fields.add(this::adjustHour);
+        }
+        if (minutes != ALL) {
+            fields.add(this::adjustMinute);
+        }
+        if (seconds != ALL) {
+            fields.add(this::adjustSecond);
+        }
+
         try {
             // Test the cron expression in action to make sure it won't cause too many restarts
             adjustInto(java.time.ZonedDateTime.now());
@@ -222,7 +276,7 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
     /**
      * A cron part consists of a number of sub expressions separated by a comma.
      * The sub expressions are parsed and combined. If this is a pattern that sets the time
-     * a new {@link Field} object is created and added to the fields list.
+     * the allowed values of the chronoField are compiled.
      *
      * @param cronExpression The cronExpresion itself
      * @param part the part to be parsed
@@ -236,60 +290,104 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
             return; // No field needed all values accepted
         }
 
-        final List<Checker> checkers = new ArrayList<>();
         // Parse each sub expression
         final String[] split = part.split(",");
+        if (chronoField == ChronoField.DAY_OF_WEEK || chronoField == ChronoField.DAY_OF_MONTH) {
+            final List<DayChecker> checkers = new ArrayList<>();
+            for (final String sub : split) {
+                checkers.add(parseDaySub(cronExpression, chronoField, sub, names));
+            }
+            if (chronoField == ChronoField.DAY_OF_WEEK) {
+                daysOfWeek = or(checkers);
+            } else {
+                daysOfMonth = or(checkers);
+            }
+            return;
+        }
+
+        final List<IntPredicate> checkers = new ArrayList<>();
         for (final String sub : split) {
             checkers.add(parseSub(cronExpression, chronoField, sub, names));
         }
-
-        // If this is the year check, we create a conjunction with a check for the maximum year
-        if (chronoField == ChronoField.YEAR) {
-            checkers.add(CronAdjuster::checkMaxYear);
+        final IntPredicate checker = checkers.stream().reduce(IntPredicate::or).orElseThrow();
+
+        switch (chronoField) {
+            case YEAR:
+                // years from the maximum year on always match, so that we do not go ballistic with the year
+                final BitSet years = new BitSet(MAX_YEAR);
+                for (int year = 0; year < MAX_YEAR; year++) {
+                    years.set(year, checker.test(year));
+                }
+                this.years = years;
+                break;
+            case MONTH_OF_YEAR:
+                months = mask(checker, chronoField);
+                break;
+            case HOUR_OF_DAY:
+                hours = mask(checker, chronoField);
+                break;
+            case MINUTE_OF_HOUR:
+                minutes = mask(checker, chronoField);
+                break;
+            case SECOND_OF_MINUTE:
+                seconds = mask(checker, chronoField);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid field type " + chronoField);
         }
-        fields.add(new Field(chronoField, or(checkers)));
     }
 
     /*
-     * Parse a sub expression.
+     * Parse a day of week or day of month sub expression.
      */
-    private Checker parseSub(final String cronExpression, final ChronoField chronoField, final String sub,
+    private DayChecker parseDaySub(final String cronExpression, final ChronoField chronoField, final String sub,
             final Map<String, Integer> names) {
-        // Max and min for the current type
-        final int min = (int) chronoField.range().getMinimum();
-        final int max = (int) chronoField.range().getMaximum();
-
         if (chronoField == ChronoField.DAY_OF_WEEK) {
             if ("L".equals(sub)) {
-                return parseSub(cronExpression, chronoField, "SUN", names);
+                return parseDaySub(cronExpression, chronoField, "SUN", names);
             } else {
                 final Matcher m = WEEKDAY_PATTERN.matcher(sub);
                 if (m.matches()) {
                     final int day = parseDayOfWeek(cronExpression, m.group("day"), names);
-                    final Checker c = temporal -> temporal.get(ChronoField.DAY_OF_WEEK) == day;
 
                     if (m.group("nr") != null) {
                         final int n = parseInt(cronExpression, chronoField, m.group("nr"));
-                        return and(c, temporal -> isNthWeekDayInMonth(temporal, n));
+                        return (dayOfMonth, dayOfWeek, lengthOfMonth) -> dayOfWeek == day
+                                && isNthWeekDayInMonth(dayOfMonth, n);
                     } else if (m.group("l") != null) {
-                        return and(c, CronAdjuster::isLastOfThisWeekDayInMonth);
+                        return (dayOfMonth, dayOfWeek, lengthOfMonth) -> dayOfWeek == day
+                                && isLastOfThisWeekDayInMonth(dayOfMonth, lengthOfMonth);
                     } else {
-                        return c;
+                        return (dayOfMonth, dayOfWeek, lengthOfMonth) -> dayOfWeek == day;
                     }
                 }
                 // No matches fall through to parse as a normal expression
+                final IntPredicate checker = parseSub(cronExpression, chronoField, sub, names);
+                return (dayOfMonth, dayOfWeek, lengthOfMonth) -> checker.test(dayOfWeek);
             }
-        } else if (chronoField == ChronoField.DAY_OF_MONTH) {
+        } else {
             if ("L".equals(sub)) {
-                return CronAdjuster::isLastDayInMonth;
+                return (dayOfMonth, dayOfWeek, lengthOfMonth) -> dayOfMonth == lengthOfMonth;
             } else if ("LW".equals(sub) || "WL".equals(sub)) {
                 return CronAdjuster::isLastWorkingDayInMonth;
             } else if (sub.endsWith("W")) {
                 final int n = parseInt(cronExpression, chronoField, sub.substring(0, sub.length() - 1));
-                return temporal -> isNearestWorkDay(temporal, n);
+                return (dayOfMonth, dayOfWeek, lengthOfMonth) -> isNearestWorkDay(dayOfMonth, dayOfWeek, n);
             }
-            // fall through, it is a normal expression
+            // it is a normal expression
+            final IntPredicate checker = parseSub(cronExpression, chronoField, sub, names);
+            return (dayOfMonth, dayOfWeek, lengthOfMonth) -> checker.test(dayOfMonth);
         }
+    }
+
+    /*
+     * Parse a range or step sub expression.
+     */
+    private IntPredicate parseSub(final String cronExpression, final ChronoField chronoField, final String sub,
+            final Map<String, Integer> names) {
+        // Max and min for the current type
+        final int min = (int) chronoField.range().getMinimum();
+        final int max = (int) chronoField.range().getMaximum();
 
         // Parse range and step expressions
         final String[] increments = sub.split("/");
@@ -302,79 +400,64 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
                 range[1] = max;
             }
             if (range[0] > range[1]) {
-                return temporal -> {
-                    final int n = temporal.get(chronoField);
-                    return (n >= range[0] || n <= range[1]) && ((n - range[0]) % increment) == 0;
-                };
+                return n -> (n >= range[0] || n <= range[1]) && ((n - range[0]) % increment) == 0;
             } else {
-                return temporal -> {
-                    final int n = temporal.get(chronoField);
-                    return n >= range[0] && n <= range[1] && ((n - range[0]) % increment) == 0;
-                };
+                return n -> n >= range[0] && n <= range[1] && ((n - range[0]) % increment) == 0;
             }
         }
 
         // simple range/value check
         if (range[0] > range[1]) {
-            return temporal -> {
-                final int n = temporal.get(chronoField);
-
-                return n >= range[0] || n <= range[1];
-            };
+            return n -> n >= range[0] || n <= range[1];
         } else {
-            return temporal -> {
-                final int n = temporal.get(chronoField);
+            return n -> n >= range[0] && n <= range[1];
+        }
+    }
 
-                return n >= range[0] && n <= range[1];
-            };
+    /**
+     * @return a bit mask with a bit set for each value of the chronoField matching the checker
+     */
+    private static long mask(final IntPredicate checker, final ChronoField chronoField) {
+        long mask = 0;
+        for (int n = (int) chronoField.range().getMinimum(); n <= chronoField.range().getMaximum(); n++) {
+            if (checker.test(n)) {
+                mask |= 1L << n;
+            }
         }
+        return mask;
     }
 
     /**
      * This is the # syntax. We must check that the given weekday is the nth one
      * in the current month. So we take the day of the month and divide it by 7.
      *
-     * @param temporal temporal to check
+     * @param day day of month to check
      * @param nDayInMonth the nth day in the current month to check
-     * @return true if temporal matches nth day in month
+     * @return true if day matches nth day in month
      */
-    private static boolean isNthWeekDayInMonth(final Temporal temporal, final int nDayInMonth) {
-        final int day = temporal.get(ChronoField.DAY_OF_MONTH);
+    private static boolean isNthWeekDayInMonth(final int day, final int nDayInMonth) {
         final int occurrences = 1 + (day - 1) / 7;
 
         return nDayInMonth == occurrences;
     }
 
     /**
-     * @param temporal temporal to check
-     * @return true if temporal is the last week day in this month. I.e. the last Saturday
+     * @param day day of month to check
+     * @param max length of the month
+     * @return true if day is the last week day in this month. I.e. the last Saturday
      */
-    private static boolean isLastOfThisWeekDayInMonth(final Temporal temporal) {
-        final int day = temporal.get(ChronoField.DAY_OF_MONTH);
-        final int max = (int) ChronoField.DAY_OF_MONTH.rangeRefinedBy(temporal).getMaximum();
-
+    private static boolean isLastOfThisWeekDayInMonth(final int day, final int max) {
         return day + 7 > max;
     }
 
     /**
-     * @param temporal temporal to check
-     * @return true if temporal is the last day in the month
-     */
-    private static boolean isLastDayInMonth(final Temporal temporal) {
-        final int day = temporal.get(ChronoField.DAY_OF_MONTH);
-        final int max = (int) ChronoField.DAY_OF_MONTH.rangeRefinedBy(temporal).getMaximum();
-
-        return day == max;
-    }
-
-    /**
-     * @param temporal temporal to check
-     * @return true if temporal is the last working day in the month
+     * @param day day of month to check
+     * @param dayOfWeek day of week of the day
+     * @param max length of the month
+     * @return true if day is the last working day in the month
      */
-    private static boolean isLastWorkingDayInMonth(final Temporal temporal) {
-        final int day = temporal.get(ChronoField.DAY_OF_MONTH);
-        final DayOfWeek type = DayOfWeek.of(temporal.get(ChronoField.DAY_OF_WEEK));
-        final int max = (int) ChronoField.DAY_OF_MONTH.rangeRefinedBy(temporal).getMaximum();
+    private static boolean isLastWorkingDayInMonth(final int day, final int dayOfWeek, final int max) {
+        final DayOfWeek type = DayOfWeek.of(dayOfWeek);
 
         switch (type) {
             case MONDAY:
@@ -396,12 +479,12 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
     /**
      * Check for the nearest working day. E.g. 15W is the nearest working day around the 15th.
      *
-     * @param temporal temporal to check
-     * @return true if temporal is nearest to working day
+     * @param day day of month to check
+     * @param dayOfWeek day of week of the day
+     * @return true if day is nearest to working day
      */
-    static boolean isNearestWorkDay(final Temporal temporal, final int target) {
-        final int day = temporal.get(ChronoField.DAY_OF_MONTH);
-        final DayOfWeek type = DayOfWeek.of(temporal.get(ChronoField.DAY_OF_WEEK));
+    static boolean isNearestWorkDay(final int day, final int dayOfWeek, final int target) {
+        final DayOfWeek type = DayOfWeek.of(dayOfWeek);
 
         switch (type) {
             case MONDAY:
@@ -429,7 +512,7 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
      * A check that we do not go ballistic with the year
      */
     private static boolean checkMaxYear(final Temporal temporal) {
-        return temporal.get(ChronoField.YEAR) >= 2200;
+        return temporal.get(ChronoField.YEAR) >= MAX_YEAR;
     }
 
     private int[] parseRange(final String cronExpression, final ChronoField chronoField, final String range,
@@ -519,9 +602,9 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
         Temporal ret = temporal.plus(1, ChronoUnit.SECONDS);
 
         // We loop through the fields until they all match. If
-        // one of them does not match, its type is incremented
-        // and all lower fields are reset to their minimum. And
-        // we start over with this new time.
+        // one of them does not match, it is moved to its next
+        // allowed value and all lower fields are reset to their
+        // minimum. And we start over with this new time.
 
         int index = 0;
         int restarts = 0;
@@ -530,7 +613,7 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
         while (index < length) {
             final Field field = fields.get(index);
 
-            final Temporal out = field.isOk(ret);
+            final Temporal out = field.adjust(ret);
 
             if (out == null) {
                 index++;
@@ -547,66 +630,121 @@ public class CronAdjuster implements SchedulerTemporalAdjuster {
         return ret;
     }
 
-    /**
-     * Helper to create an or expression Checkers of a list of checkers.
-     */
-    private Checker or(final List<Checker> checkers) {
-        return checkers.size() > 1 //
-                ? temporal -> checkers.stream().anyMatch(c -> c.matches(temporal))
-                : checkers.getFirst();
+    private @Nullable Temporal adjustYear(final Temporal temporal) {
+        final int year = temporal.get(ChronoField.YEAR);
+        if (year >= MAX_YEAR) {
+            return null;
+        }
+        final BitSet years = this.years;
+        final int next = years == null ? year : years.nextSetBit(Math.max(year, 0));
+        if (next == year) {
+            return null;
+        }
+        return startOfDay(temporal.with(ChronoField.DAY_OF_MONTH, 1).with(ChronoField.MONTH_OF_YEAR, 1)
+                .with(ChronoField.YEAR, next < 0 ? MAX_YEAR : next));
     }
 
-    /**
-     * Helper to create an and expression of 2 checkers.
-     */
-    private Checker and(final Checker a, final Checker b) {
-        return temporal -> a.matches(temporal) && b.matches(temporal);
+    private @Nullable Temporal adjustMonth(final Temporal temporal) {
+        final int month = temporal.get(ChronoField.MONTH_OF_YEAR);
+        final int next = next(months, month);
+        if (next == month) {
+            return null;
+        }
+        final Temporal firstDay = temporal.with(ChronoField.DAY_OF_MONTH, 1);
+        return startOfDay(next < 0 ? firstDay.with(ChronoField.MONTH_OF_YEAR, 1).plus(1, ChronoUnit.YEARS)
+                : firstDay.with(ChronoField.MONTH_OF_YEAR, next));
     }
 
-    /**
-     * Maintains the type and the combined checker. It can verify if a specific part of the temporal is ok, and if not,
-     * it will reset it to the next higher temporal with the lower fields set to their minimum value.
-     */
-    private static class Field {
-        final ChronoField type;
-        final Checker checker;
+    private @Nullable Temporal adjustDay(final Temporal temporal) {
+        final int day = temporal.get(ChronoField.DAY_OF_MONTH);
+        final int next = next(getDayMask(temporal), day);
+        if (next == day) {
+            return null;
+        }
+        return startOfDay(next < 0 ? temporal.with(ChronoField.DAY_OF_MONTH, 1).plus(1, ChronoUnit.MONTHS)
+                : temporal.with(ChronoField.DAY_OF_MONTH, next));
+    }
+
+    private @Nullable Temporal adjustHour(final Temporal temporal) {
+        final int hour = temporal.get(ChronoField.HOUR_OF_DAY);
+        final int next = next(hours, hour);
+        if (next == hour) {
+            return null;
+        }
+        return next < 0 ? startOfDay(temporal.plus(1, ChronoUnit.DAYS))
+                : temporal.with(ChronoField.HOUR_OF_DAY, next).with(ChronoField.MINUTE_OF_HOUR, 0)
+                        .with(ChronoField.SECOND_OF_MINUTE, 0);
+    }
 
-        public Field(final ChronoField type, final Checker checker) {
-            this.type = type;
-            this.checker = checker;
+    private @Nullable Temporal adjustMinute(final Temporal temporal) {
+        final int minute = temporal.get(ChronoField.MINUTE_OF_HOUR);
+        final int next = next(minutes, minute);
+        if (next == minute) {
+            return null;
         }
+        // minutes and seconds are added, so that transitions of the time zone offset are handled like a clock does
+        return temporal.plus((next < 0 ? 60 : next) - minute, ChronoUnit.MINUTES).with(ChronoField.SECOND_OF_MINUTE,
+                0);
+    }
 
-        @Nullable
-        Temporal isOk(final Temporal t) {
-            if (checker.matches(t)) {
-                return null;
-            }
+    private @Nullable Temporal adjustSecond(final Temporal temporal) {
+        final int second = temporal.get(ChronoField.SECOND_OF_MINUTE);
+        final int next = next(seconds, second);
+        if (next == second) {
+            return null;
+        }
+        return temporal.plus((next < 0 ? 60 : next) - second, ChronoUnit.SECONDS);
+    }
 
-            Temporal out = t.plus(1, type.getBaseUnit());
-
-            // Fall-through switch case. for example if type is year all cases below must also be handled.
-            switch (type) {
-                case YEAR:
-                    out = out.with(ChronoField.MONTH_OF_YEAR, 1);
-                case MONTH_OF_YEAR:
-                    out = out.with(ChronoField.DAY_OF_MONTH, 1);
-                case DAY_OF_WEEK:
-                case DAY_OF_MONTH:
-                    out = out.with(ChronoField.HOUR_OF_DAY, 0);
-                case HOUR_OF_DAY:
-                    out = out.with(ChronoField.MINUTE_OF_HOUR, 0);
-                case MINUTE_OF_HOUR:
-                    out = out.with(ChronoField.SECOND_OF_MINUTE, 0);
-                case SECOND_OF_MINUTE:
-                    return out;
-                default:
-                    throw new IllegalArgumentException("Invalid field type " + type);
-            }
+    /**
+     * @return the bit mask of the days of the month of the temporal matching the day of month and day of week
+     */
+    private long getDayMask(final Temporal temporal) {
+        final int yearMonth = temporal.get(ChronoField.YEAR) * 12 + temporal.get(ChronoField.MONTH_OF_YEAR);
+        final DayMask dayMask = this.dayMask;
+        if (dayMask != null && dayMask.yearMonth() == yearMonth) {
+            return dayMask.mask();
         }
 
-        @Override
-        public String toString() {
-            return "Field [type=" + type + "]";
+        final int day = temporal.get(ChronoField.DAY_OF_MONTH);
+        final int lengthOfMonth = (int) ChronoField.DAY_OF_MONTH.rangeRefinedBy(temporal).getMaximum();
+        // day of week of the day before the first of the month, from 0 for Sunday to 6 for Saturday
+        final int dayOfWeekOffset = Math.floorMod(temporal.get(ChronoField.DAY_OF_WEEK) - day, 7);
+        final DayChecker daysOfMonth = this.daysOfMonth;
+        final DayChecker daysOfWeek = this.daysOfWeek;
+
+        long mask = 0;
+        for (int dayOfMonth = 1; dayOfMonth <= lengthOfMonth; dayOfMonth++) {
+            final int dayOfWeek = (dayOfWeekOffset + dayOfMonth - 1) % 7 + 1;
+            if ((daysOfMonth == null || daysOfMonth.matches(dayOfMonth, dayOfWeek, lengthOfMonth))
+                    && (daysOfWeek == null || daysOfWeek.matches(dayOfMonth, dayOfWeek, lengthOfMonth))) {
+                mask |= 1L << dayOfMonth;
+            }
         }
+        this.dayMask = new DayMask(yearMonth, mask);
+        return mask;
+    }
+
+    /**
+     * @return the lowest value of the mask that is greater than or equal to the value, or -1 if there is none
+     */
+    private static int next(final long mask, final int value) {
+        final long remaining = mask & (ALL << value);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static Temporal startOfDay(final Temporal temporal) {
+        return temporal.with(ChronoField.HOUR_OF_DAY, 0).with(ChronoField.MINUTE_OF_HOUR, 0)
+                .with(ChronoField.SECOND_OF_MINUTE, 0);
+    }
+
+    /**
+     * Helper to create an or expression DayCheckers of a list of checkers.
+     */
+    private DayChecker or(final List<DayChecker> checkers) {
+        return checkers.size() > 1 //
+                ? (dayOfMonth, dayOfWeek, lengthOfMonth) -> checkers.stream()
+                        .anyMatch(c -> c.matches(dayOfMonth, dayOfWeek, lengthOfMonth))
+                : checkers.getFirst();
     }
 }
@@ -27,6 +27,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  * {@link WatchService#CONFIG_WATCHER_FILTER}.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author Andrew Fiddian-Green - Added {@link BatchWatchEventListener}
  */
 @NonNullByDefault
 public interface WatchService {
@@ -124,6 +125,39 @@ public interface WatchService {
         void processWatchEvent(Kind kind, Path fullPath);
     }
 
+    /**
+     * A {@link WatchEventListener} that is notified about all changes of a quiet period at once.
+     * <p>
+     * The watch service collects the changes until none of the paths of the listener changed for a while (or a
+     * maximum delay has passed) and then delivers them in a single call. Each path is contained at most once in a
+     * batch, with the coalesced {@link Kind} of all its changes. Batches are delivered one after the other, never
+     * concurrently. Listeners can use this to process many changed files (e.g. after a {@code git pull}) together
+     * instead of one after the other.
+     */
+    @FunctionalInterface
+    interface BatchWatchEventListener extends WatchEventListener {
+        /**
+         * Notify Listener about the watch events of a quiet period
+         *
+         * @param events the events, in the order the changes of the paths were completed
+         */
+        void processWatchEvents(List<WatchEvent> events);
+
+        @Override
+        default void processWatchEvent(Kind kind, Path fullPath) {
+            processWatchEvents(List.of(new WatchEvent(kind, fullPath)));
+        }
+    }
+
+    /**
+     * A change of a file
+     *
+     * @param kind the {@link Kind} of this event
+     * @param fullPath the absolute path of the file associated with this event
+     */
+    record WatchEvent(Kind kind, Path fullPath) {
+    }
+
     enum Kind {
         CREATE,
         MODIFY,
@@ -13,10 +13,13 @@
 package org.openhab.core.cache.lru;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
  * Test the wrapper stream in the cache system
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Read into the buffer of the caller
  */
 @ExtendWith(MockitoExtension.class)
 @NonNullByDefault
@@ -37,10 +41,15 @@ public class InputStreamCacheWrapperTest {
 
     @Test
     public void cacheWrapperStreamReadTest() throws IOException {
-        when(cacheEntry.read(0, 1)).thenReturn(new byte[] { 1 });
-        when(cacheEntry.read(1, 1)).thenReturn(new byte[] { 2 });
-        when(cacheEntry.read(2, 1)).thenReturn(new byte[] { 3 });
-        when(cacheEntry.read(3, 1)).thenReturn(new byte[0]);
+        when(cacheEntry.read(anyInt(), any(byte[].class), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int start = invocation.getArgument(0);
+            byte[] buffer = invocation.getArgument(1);
+            if (start >= 3) {
+                return 0;
+            }
+            buffer[invocation.<Integer> getArgument(2)] = (byte) (start + 1);
+            return 1;
+        });
 
         try (InputStreamCacheWrapper audioStreamCacheWrapper = new InputStreamCacheWrapper(cacheEntry)) {
             assertEquals(1, audioStreamCacheWrapper.read());
@@ -49,20 +58,45 @@ public class InputStreamCacheWrapperTest {
             assertEquals(-1, audioStreamCacheWrapper.read());
         }
 
-        verify(cacheEntry, times(4)).read(anyInt(), anyInt());
+        verify(cacheEntry, times(4)).read(anyInt(), any(byte[].class), eq(0), eq(1));
         verify(cacheEntry).closeStreamClient();
         verifyNoMoreInteractions(cacheEntry);
     }
 
     @Test
     public void cacheWrapperStreamReadBunchTest() throws IOException {
-        when(cacheEntry.read(anyInt(), anyInt())).thenReturn(new byte[] { 1 }, new byte[] { 2, 3 }, new byte[0]);
+        byte[][] chunks = { { 1 }, { 2, 3 }, {} };
+        int[] call = { 0 };
+        when(cacheEntry.read(anyInt(), any(byte[].class), anyInt(), anyInt())).thenAnswer(invocation -> {
+            byte[] chunk = chunks[call[0]++];
+            System.arraycopy(chunk, 0, invocation.getArgument(1), invocation.getArgument(2), chunk.length);
+            return chunk.length;
+        });
 
         try (InputStreamCacheWrapper audioStreamCacheWrapper = new InputStreamCacheWrapper(cacheEntry)) {
             assertArrayEquals(new byte[] { 1, 2, 3 }, audioStreamCacheWrapper.readAllBytes());
         }
-        verify(cacheEntry, times(3)).read(anyInt(), anyInt());
+        verify(cacheEntry, times(3)).read(anyInt(), any(byte[].class), anyInt(), anyInt());
         verify(cacheEntry).closeStreamClient();
         verifyNoMoreInteractions(cacheEntry);
     }
+
+    @Test
+    public void cacheWrapperStreamTransferToTest() throws IOException {
+        when(cacheEntry.read(anyInt(), any(byte[].class), anyInt(), anyInt())).thenAnswer(invocation -> {
+            invocation.<byte[]> getArgument(1)[invocation.<Integer> getArgument(2)] = 1;
+            return 1;
+        });
+        when(cacheEntry.transferTo(eq(1), any(WritableByteChannel.class))).thenAnswer(invocation -> {
+            return (long) invocation.<WritableByteChannel> getArgument(1).write(ByteBuffer.wrap(new byte[] { 2, 3 }));
+        });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStreamCacheWrapper audioStreamCacheWrapper = new InputStreamCacheWrapper(cacheEntry)) {
+            assertEquals(1, audioStreamCacheWrapper.read());
+            assertEquals(2, audioStreamCacheWrapper.transferTo(out));
+        }
+        assertArrayEquals(new byte[] { 2, 3 }, out.toByteArray());
+        verify(cacheEntry).transferTo(eq(1), any(WritableByteChannel.class));
+    }
 }
@@ -16,12 +16,17 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.mutable.Mutable;
@@ -30,6 +35,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
@@ -42,6 +48,7 @@ import org.openhab.core.storage.StorageService;
  * Test the cache system
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Test the memory mapping, the transfer to a channel and the streaming fill
  */
 @ExtendWith(MockitoExtension.class)
 @NonNullByDefault
@@ -74,7 +81,12 @@ public class LRUMediaCacheEntryTest {
     }
 
     private LRUMediaCache<MetadataSample> createCache(long size) throws IOException {
-        return new LRUMediaCache<>(storageService, size, "lrucachetest.pid", this.getClass().getClassLoader());
+        return createCache(size, false);
+    }
+
+    private LRUMediaCache<MetadataSample> createCache(long size, boolean memoryMapped) throws IOException {
+        return new LRUMediaCache<>(storageService, size, "lrucachetest.pid", this.getClass().getClassLoader(),
+                memoryMapped);
     }
 
     public static class FakeStream extends InputStream {
@@ -268,6 +280,73 @@ public class LRUMediaCacheEntryTest {
         assertEquals(10 * 10240, totalSize);
     }
 
+    @Test
+    public void memoryMappedReadAfterCompletionTest() throws IOException {
+        LRUMediaCache<MetadataSample> lruMediaCache = createCache(1000000, true);
+
+        byte[] randomData = getRandomData(3 * 10240);
+        FakeStream fakeStream = new FakeStream(randomData);
+        when(supplier.get()).thenReturn(new LRUMediaCacheEntry<>("key1", fakeStream, new MetadataSample("meta1", 42)));
+
+        LRUMediaCacheEntry<MetadataSample> lruMediaCacheEntry = lruMediaCache.get("key1", supplier);
+        try (InputStream firstStream = lruMediaCacheEntry.getInputStream();
+                InputStream secondStream = lruMediaCacheEntry.getInputStream()) {
+            // the first stream completes the file, the second stream is served from the memory mapping
+            assertArrayEquals(randomData, firstStream.readAllBytes());
+            byte[] head = secondStream.readNBytes(100);
+            assertArrayEquals(Arrays.copyOf(randomData, 100), head);
+            assertArrayEquals(Arrays.copyOfRange(randomData, 100, randomData.length), secondStream.readAllBytes());
+            assertEquals(-1, secondStream.read());
+        }
+    }
+
+    @Test
+    public void transferToWhileFillingTest() throws IOException {
+        LRUMediaCache<MetadataSample> lruMediaCache = createCache(1000000);
+
+        byte[] randomData = getRandomData(5 * 10240 + 7);
+        FakeStream fakeStream = new FakeStream(randomData);
+        when(supplier.get()).thenReturn(new LRUMediaCacheEntry<>("key1", fakeStream, new MetadataSample("meta1", 42)));
+
+        LRUMediaCacheEntry<MetadataSample> lruMediaCacheEntry = lruMediaCache.get("key1", supplier);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream stream = lruMediaCacheEntry.getInputStream()) {
+            out.write(stream.readNBytes(10));
+            assertEquals(randomData.length - 10, stream.transferTo(out));
+            assertEquals(-1, stream.read());
+        }
+        assertArrayEquals(randomData, out.toByteArray());
+        assertTrue(fakeStream.isClosed());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void concurrentStreamsFollowTheFillingStreamTest() throws IOException {
+        LRUMediaCache<MetadataSample> lruMediaCache = createCache(1000000);
+
+        // the synthesized data arrives in parts, the source is not completed while the streams read
+        PipedOutputStream source = new PipedOutputStream();
+        PipedInputStream sourceStream = new PipedInputStream(source, 1000);
+        when(supplier.get())
+                .thenReturn(new LRUMediaCacheEntry<>("key1", sourceStream, new MetadataSample("meta1", 42)));
+
+        LRUMediaCacheEntry<MetadataSample> lruMediaCacheEntry = lruMediaCache.get("key1", supplier);
+        try (InputStream firstStream = lruMediaCacheEntry.getInputStream();
+                InputStream secondStream = lruMediaCacheEntry.getInputStream()) {
+            source.write(new byte[] { 1, 2, 3 });
+            byte[] buffer = new byte[100];
+            assertEquals(3, firstStream.read(buffer));
+            assertEquals(3, secondStream.read(buffer));
+            assertArrayEquals(new byte[] { 1, 2, 3 }, Arrays.copyOf(buffer, 3));
+
+            source.write(new byte[] { 4, 5 });
+            source.close();
+            assertArrayEquals(new byte[] { 4, 5 }, secondStream.readAllBytes());
+            assertArrayEquals(new byte[] { 4, 5 }, firstStream.readAllBytes());
+        }
+        assertEquals(5, lruMediaCacheEntry.getTotalSize());
+    }
+
     private static class MetadataSample {
         protected String meta1;
         protected int meta2;
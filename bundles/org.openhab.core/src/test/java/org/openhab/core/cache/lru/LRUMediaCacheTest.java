@@ -13,7 +13,7 @@
 package org.openhab.core.cache.lru;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.File;
@@ -43,6 +43,7 @@ import org.openhab.core.storage.StorageService;
  * Test the cache system
  *
  * @author Gwendal Roulleau - Initial contribution
+ * @author Andrew Fiddian-Green - Read the inner stream by partial chunks
  */
 @ExtendWith(MockitoExtension.class)
 @NonNullByDefault
@@ -219,7 +220,7 @@ public class LRUMediaCacheTest {
 
         when(supplier.get()).thenReturn(new LRUMediaCacheEntry<>("key", inputStreamMock, metadata));
         // In this test the stream will return two bytes of data, then an empty stream so signal its end :
-        when(inputStreamMock.readNBytes(any(Integer.class))).thenReturn(new byte[2], new byte[0]);
+        when(inputStreamMock.read(any(byte[].class), anyInt(), anyInt())).thenReturn(2, -1);
 
         LRUMediaCache<MetadataSample> lruCache = createCache(1000);
 
@@ -239,7 +240,7 @@ public class LRUMediaCacheTest {
         // only once :
         verify(supplier, times(1)).get();
         // this is called twice because the second call respond with zero and signal the end of stream
-        verify(inputStreamMock, times(2)).readNBytes(any(Integer.class));
+        verify(inputStreamMock, times(2)).read(any(byte[].class), anyInt(), anyInt());
     }
 
     /**
@@ -388,8 +389,7 @@ public class LRUMediaCacheTest {
         when(supplier.get()).thenAnswer(invocation -> new LRUMediaCacheEntry<>("key", inputStreamMock, metadata));
         // In this test the stream will return two bytes of data, then an empty stream so signal its end.
         // it will be called twice, so return it twice
-        when(inputStreamMock.readNBytes(any(Integer.class))).thenReturn(new byte[2], new byte[0], new byte[2],
-                new byte[0]);
+        when(inputStreamMock.read(any(byte[].class), anyInt(), anyInt())).thenReturn(2, -1, 2, -1);
 
         LRUMediaCache<MetadataSample> lruCache = createCache(1000);
 
@@ -435,7 +435,7 @@ public class LRUMediaCacheTest {
 
         // the service and the underlying stream were called twice because of a missing file:
         verify(supplier, times(2)).get();
-        verify(inputStreamMock, times(4)).readNBytes(any(Integer.class));
+        verify(inputStreamMock, times(4)).read(any(byte[].class), anyInt(), anyInt());
     }
 
     private static class MetadataSample {
@@ -16,6 +16,9 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
@@ -24,9 +27,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.AfterAll;
@@ -38,10 +43,13 @@ import org.junit.jupiter.api.Test;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Simon Kaufmann - migrated from Groovy to Java
+ * @author Andrew Fiddian-Green - Virtual thread pools
  */
 @NonNullByDefault
 public class ThreadPoolManagerTest {
 
+    private static final int BLOCKING_TASKS = 50;
+
     @BeforeAll
     public static void enableSequentialScheduledExecutorService() {
         ThreadPoolManager manager = new ThreadPoolManager();
@@ -273,6 +281,120 @@ public class ThreadPoolManagerTest {
         assertEquals(3, result.getMaximumPoolSize());
     }
 
+    @Test
+    public void testVirtualThreadPoolRunsBlockingTasksConcurrently() throws InterruptedException {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("virtual1", "virtual"));
+        ExecutorService pool = ThreadPoolManager.getPool("virtual1");
+
+        // every task waits for all others, so all of them have to run at the same time
+        CountDownLatch started = new CountDownLatch(BLOCKING_TASKS);
+        CountDownLatch done = new CountDownLatch(BLOCKING_TASKS);
+        for (int i = 0; i < BLOCKING_TASKS; i++) {
+            pool.execute(() -> blockUntilAllStarted(started, done));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testVirtualScheduledThreadPoolRunsBlockingTasksConcurrently() throws InterruptedException {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("virtual2", "virtual"));
+        ScheduledExecutorService pool = ThreadPoolManager.getScheduledPool("virtual2");
+        assertEquals(ThreadPoolManager.VIRTUAL_THREAD_POOL_SCHEDULER_SIZE,
+                ThreadPoolManager.getScheduledPoolUnwrapped("virtual2").getCorePoolSize());
+
+        CountDownLatch started = new CountDownLatch(BLOCKING_TASKS);
+        CountDownLatch done = new CountDownLatch(BLOCKING_TASKS);
+        for (int i = 0; i < BLOCKING_TASKS; i++) {
+            pool.schedule(() -> blockUntilAllStarted(started, done), 10, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testVirtualScheduledThreadPoolDoesNotOverlapPeriodicTask() throws InterruptedException {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("virtual3", "virtual"));
+        ScheduledExecutorService pool = ThreadPoolManager.getScheduledPool("virtual3");
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        CountDownLatch executions = new CountDownLatch(5);
+        ScheduledFuture<?> future = pool.scheduleAtFixedRate(() -> {
+            if (running.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            executions.countDown();
+        }, 0, 5, TimeUnit.MILLISECONDS);
+
+        try {
+            assertTrue(executions.await(5, TimeUnit.SECONDS));
+            assertFalse(overlapped.get());
+        } finally {
+            future.cancel(false);
+        }
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testVirtualThreadPoolKeepsSequentialExecutorsSequential() throws InterruptedException {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("virtual4", "virtual"));
+
+        // many sequential executors block at the same time, which requires more than a few threads
+        CountDownLatch started = new CountDownLatch(BLOCKING_TASKS);
+        CountDownLatch done = new CountDownLatch(BLOCKING_TASKS);
+        CountDownLatch finished = new CountDownLatch(BLOCKING_TASKS);
+        List<List<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < BLOCKING_TASKS; i++) {
+            ScheduledExecutorService service = ThreadPoolManager
+                    .getPoolBasedSequentialScheduledExecutorService("virtual4", "rule-" + i);
+            List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+            results.add(result);
+            service.submit(() -> blockUntilAllStarted(started, done));
+            for (int j = 0; j < 10; j++) {
+                int value = j;
+                service.execute(() -> result.add(value));
+            }
+            service.execute(finished::countDown);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        for (List<Integer> result : results) {
+            assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), result);
+        }
+    }
+
+    @Test
+    public void testReconfiguringVirtualThreadPool() {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("virtual5", "virtual"));
+        tpm.modified(Map.of("virtual5", "3"));
+
+        assertEquals(3, ThreadPoolManager.getPoolUnwrapped("virtual5").getMaximumPoolSize());
+    }
+
+    private static void blockUntilAllStarted(CountDownLatch started, CountDownLatch done) {
+        started.countDown();
+        try {
+            if (started.await(5, TimeUnit.SECONDS)) {
+                done.countDown();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Test
     public void testGetPoolShutdown() throws InterruptedException {
         checkThreadPoolWorks("Test");
@@ -14,15 +14,19 @@ package org.openhab.core.internal.scheduler;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.Temporal;
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -34,6 +38,7 @@ import org.openhab.core.scheduler.CronAdjuster;
  * @author Peter Kriens - Initial contribution
  * @author Simon Kaufmann - adapted to Java 8
  * @author Hilbrand Bouwkamp - refactored to run as parameterized unit test and added missing cases to complete coverage
+ * @author Andrew Fiddian-Green - Cross-check with the stepping implementation
  */
 @NonNullByDefault
 public class CronAdjusterTest {
@@ -182,6 +187,9 @@ public class CronAdjusterTest {
                 { "2300-01-01T00:00:00", "0 0 0 1 1 *",
                         new String[] { "2301-01-01T00:00", "2302-01-01T00:00", "2303-01-01T00:00" }, },
 
+                // Leap days on a Monday, too sparse to be found by stepping through the fields
+                { JAN_1ST_2000, "0 0 12 29 2 MON", new String[] { "2016-02-29T12:00", "2044-02-29T12:00" }, },
+
                 { "2019-10-10T00:00:00", "0 0 0 1 1 * 2020-2022", new String[] { "2020-01-01T00:00", "2021-01-01T00:00",
                         "2022-01-01T00:00", "2200-01-01T00:00" }, } });
     }
@@ -205,4 +213,92 @@ public class CronAdjusterTest {
     public void testInvalidCronExpression(String cron) {
         assertThrows(IllegalArgumentException.class, () -> new CronAdjuster(cron));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0 0 12 29 2 ?", "0 0 0 LW 2 ?", "0 0 0 ? 2 6L 2020-2100",
+            "0 0 3 ? * 1#5", "0 0 12 31 * ?" })
+    @Timeout(value = 2, unit = TimeUnit.SECONDS)
+    public void testSparseCronExpression(String cron) {
+        final CronAdjuster cronAdjuster = new CronAdjuster(cron);
+        final SteppingCronAdjuster steppingCronAdjuster = new SteppingCronAdjuster(cron);
+        Temporal ldt = LocalDateTime.parse(JAN_1ST_2000);
+
+        for (int i = 0; i < 10; i++) {
+            final Temporal expected = ldt.with(steppingCronAdjuster);
+            ldt = ldt.with(cronAdjuster);
+            assertEquals(expected, ldt, "Unexpected next time for expression: " + cron);
+        }
+    }
+
+    @Test
+    public void testRandomCronExpressionsAgainstSteppingCronAdjuster() {
+        final Random random = new Random(4711);
+        final List<ZoneId> zones = List.of(ZoneId.of("UTC"), ZoneId.of("Europe/Berlin"),
+                ZoneId.of("America/New_York"), ZoneId.of("Australia/Lord_Howe"));
+
+        for (int i = 0; i < 2000; i++) {
+            final String cron = String.join(" ", randomValues(random, 0, 59), randomValues(random, 0, 59),
+                    randomValues(random, 0, 23), randomDayOfMonth(random), randomValues(random, 1, 12),
+                    randomDayOfWeek(random));
+
+            final SteppingCronAdjuster steppingCronAdjuster;
+            try {
+                steppingCronAdjuster = new SteppingCronAdjuster(cron);
+            } catch (IllegalArgumentException e) {
+                // expressions too sparse for the stepping implementation are not compared
+                continue;
+            }
+            final CronAdjuster cronAdjuster = new CronAdjuster(cron);
+
+            final ZoneId zone = zones.get(random.nextInt(zones.size()));
+            Temporal temporal = LocalDateTime.of(2000 + random.nextInt(40), 1 + random.nextInt(12),
+                    1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60)).atZone(zone);
+            for (int j = 0; j < 5; j++) {
+                final Temporal expected;
+                try {
+                    expected = temporal.with(steppingCronAdjuster);
+                } catch (DateTimeException e) {
+                    break;
+                }
+                final Temporal actual = temporal.with(cronAdjuster);
+                assertEquals(expected, actual, "Unexpected next time for expression '" + cron + "' after " + temporal);
+                temporal = actual;
+            }
+        }
+    }
+
+    private static String randomValues(Random random, int min, int max) {
+        final int from = min + random.nextInt(max - min + 1);
+        final int to = min + random.nextInt(max - min + 1);
+        return switch (random.nextInt(6)) {
+            case 0 -> "*";
+            case 1 -> String.valueOf(from);
+            case 2 -> from + "-" + to;
+            case 3 -> from + "/" + (1 + random.nextInt(max - min + 1));
+            case 4 -> from + "-" + to + "/" + (1 + random.nextInt(5));
+            default -> from + "," + to;
+        };
+    }
+
+    private static String randomDayOfMonth(Random random) {
+        return switch (random.nextInt(8)) {
+            case 0 -> "?";
+            case 1 -> "L";
+            case 2 -> "LW";
+            case 3 -> (1 + random.nextInt(31)) + "W";
+            case 4 -> "L," + (1 + random.nextInt(31));
+            default -> randomValues(random, 1, 31);
+        };
+    }
+
+    private static String randomDayOfWeek(Random random) {
+        final int day = 1 + random.nextInt(7);
+        return switch (random.nextInt(7)) {
+            case 0, 1, 2 -> "?";
+            case 3 -> day + "L";
+            case 4 -> day + "#" + (1 + random.nextInt(5));
+            case 5 -> "MON-FRI," + day;
+            default -> randomValues(random, 1, 7);
+        };
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Tests {@link TimingWheel}.
+ *
+ * @author Andrew Fiddian-Green - Initial contribution
+ */
+@NonNullByDefault
+public class TimingWheelTest {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong clock = new AtomicLong(1000);
+    private final TimingWheel timingWheel = new TimingWheel(executor, clock::get);
+    private final List<Long> fired = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    public void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTasksFireAtTheirExpirationOnAllLevels() throws InterruptedException, ExecutionException {
+        // the delays cover the first four levels of the wheel and their boundaries
+        long[] delays = { 1, 63, 64, 65, 4095, 4096, 5000, 262_143, 262_144, 300_000, 20_000_000 };
+        for (long delay : delays) {
+            timingWheel.schedule(() -> fired.add(delay), delay);
+        }
+        assertEquals(delays.length, timingWheel.size());
+
+        // the clock is truncated to milliseconds, so tasks fire one millisecond after their delay
+        for (long delay : delays) {
+            advanceTo(1000 + delay);
+            assertFalse(fired.contains(delay), "Task with delay " + delay + " fired too early");
+            advanceTo(1000 + delay + 1);
+            assertTrue(fired.contains(delay), "Task with delay " + delay + " did not fire");
+        }
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    public void testTasksFireWhenTheyExpire() throws InterruptedException, ExecutionException {
+        Random random = new Random(42);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long delay = 1 + random.nextInt(1_000_000);
+            long expiration = clock.get() + delay + 1;
+            expected.add(expiration);
+            timingWheel.schedule(() -> fired.add(expiration), delay);
+            if (i % 100 == 0) {
+                // tasks are added while the wheel is turning
+                advanceTo(clock.get() + random.nextInt(1000));
+            }
+        }
+
+        for (long time = clock.get(); time <= 1_100_000; time += random.nextInt(5000)) {
+            long now = time;
+            advanceTo(now);
+            assertTrue(fired.stream().allMatch(expiration -> expiration <= now));
+            assertEquals(expected.stream().filter(expiration -> expiration <= now).count(), fired.size());
+        }
+        advanceTo(1_100_000);
+
+        Collections.sort(expected);
+        assertEquals(expected, fired.stream().sorted().toList());
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException, ExecutionException {
+        TimingWheel.Timeout cancelled = timingWheel.schedule(() -> fired.add(1L), 100);
+        TimingWheel.Timeout completed = timingWheel.schedule(() -> fired.add(2L), 50);
+        TimingWheel.Timeout overflow = timingWheel.schedule(() -> fired.add(3L), 100_000);
+
+        assertTrue(cancelled.cancel(false));
+        assertFalse(cancelled.cancel(false));
+        assertTrue(overflow.cancel(false));
+        assertEquals(1, timingWheel.size());
+
+        advanceTo(200_000);
+
+        assertEquals(List.of(2L), fired);
+        assertFalse(completed.cancel(false));
+    }
+
+    @Test
+    public void testDueTasksFireImmediately() throws InterruptedException, ExecutionException {
+        timingWheel.schedule(() -> fired.add(0L), 0);
+        timingWheel.schedule(() -> fired.add(-1L), -1);
+        flushExecutor();
+
+        assertEquals(List.of(0L, -1L), fired);
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void testWakeUpWithSystemClock() throws InterruptedException {
+        TimingWheel timingWheel = new TimingWheel(executor);
+        CountDownLatch latch = new CountDownLatch(1000);
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            long start = System.nanoTime();
+            long delay = random.nextInt(300);
+            timingWheel.schedule(() -> {
+                // tasks must not run before their delay passed
+                if (System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(delay)) {
+                    latch.countDown();
+                }
+            }, delay);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    private void advanceTo(long time) throws InterruptedException, ExecutionException {
+        clock.set(time);
+        timingWheel.wakeUp();
+        flushExecutor();
+    }
+
+    private void flushExecutor() throws InterruptedException, ExecutionException {
+        // the executor has a single thread, so all tasks submitted before have completed
+        executor.submit(() -> {
+        }).get();
+    }
+}
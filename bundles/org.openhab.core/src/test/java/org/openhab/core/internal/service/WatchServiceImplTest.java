@@ -36,12 +36,14 @@ import org.mockito.quality.Strictness;
 import org.openhab.core.JavaTest;
 import org.openhab.core.service.WatchService;
 import org.openhab.core.service.WatchService.Kind;
+import org.openhab.core.service.WatchService.WatchEvent;
 import org.osgi.framework.BundleContext;
 
 /**
  * The {@link WatchServiceImplTest} is a
  *
  * @author Jan N. Klug - Initial contribution
+ * @author Andrew Fiddian-Green - Added tests for batch listeners
  */
 @NonNullByDefault
 @ExtendWith(MockitoExtension.class)
@@ -219,6 +221,52 @@ public class WatchServiceImplTest extends JavaTest {
         assertEvent(testFile2, Kind.DELETE);
     }
 
+    @Test
+    public void testBatchListener() throws IOException, InterruptedException {
+        Files.createDirectories(rootPath.resolve(SUB_DIR_PATH_NAME));
+        Files.createDirectories(rootPath.resolve(SUB_DIR2_PATH_NAME));
+        TestBatchWatchEventListener batchListener = new TestBatchWatchEventListener();
+        watchService.registerListener(batchListener, List.of(Path.of(SUB_DIR_PATH_NAME), Path.of(SUB_DIR2_PATH_NAME)),
+                true);
+
+        Path testFile = rootPath.resolve(SUB_DIR_PATH_NAME).resolve(TEST_FILE_NAME);
+        Path testFile2 = rootPath.resolve(SUB_DIR2_PATH_NAME).resolve(TEST_FILE_NAME);
+        Files.writeString(testFile, "initial content", StandardCharsets.UTF_8);
+        Files.writeString(testFile2, "initial content", StandardCharsets.UTF_8);
+        Files.writeString(testFile, "modified content", StandardCharsets.UTF_8);
+
+        waitForAssert(() -> assertThat(batchListener.batches, not(empty())));
+        Thread.sleep(500);
+
+        // all changes are delivered at once, with one coalesced event per path
+        assertThat(batchListener.batches, hasSize(1));
+        assertThat(batchListener.batches.getFirst(), containsInAnyOrder(new WatchEvent(Kind.CREATE, testFile),
+                new WatchEvent(Kind.CREATE, testFile2)));
+    }
+
+    @Test
+    public void testBatchListenerIsNotDelayedByChangesOfOtherPaths() throws IOException, InterruptedException {
+        Files.createDirectories(rootPath.resolve(SUB_DIR_PATH_NAME));
+        Files.createDirectories(rootPath.resolve(SUB_DIR2_PATH_NAME));
+        TestBatchWatchEventListener batchListener = new TestBatchWatchEventListener();
+        watchService.registerListener(batchListener, Path.of(SUB_DIR_PATH_NAME), true);
+
+        Path testFile = rootPath.resolve(SUB_DIR_PATH_NAME).resolve(TEST_FILE_NAME);
+        Path otherFile = rootPath.resolve(SUB_DIR2_PATH_NAME).resolve(TEST_FILE_NAME);
+        Files.writeString(testFile, "initial content", StandardCharsets.UTF_8);
+
+        // keep changing a file the listener is not interested in for less than the maximum processing delay
+        long end = System.currentTimeMillis() + WatchServiceImpl.MAX_PROCESSING_DELAY / 2;
+        int i = 0;
+        while (batchListener.batches.isEmpty() && System.currentTimeMillis() < end) {
+            Files.writeString(otherFile, "content " + i++, StandardCharsets.UTF_8);
+            Thread.sleep(200);
+        }
+
+        assertThat(batchListener.batches, hasSize(1));
+        assertThat(batchListener.batches.getFirst(), contains(new WatchEvent(Kind.CREATE, testFile)));
+    }
+
     private void assertNoEvent() throws InterruptedException {
         Thread.sleep(5000);
 
@@ -243,6 +291,15 @@ public class WatchServiceImplTest extends JavaTest {
         }
     }
 
+    private static class TestBatchWatchEventListener implements WatchService.BatchWatchEventListener {
+        List<List<WatchEvent>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void processWatchEvents(List<WatchEvent> events) {
+            batches.add(events);
+        }
+    }
+
     record Event(Path fullPath, Kind kind) {
     }
 }
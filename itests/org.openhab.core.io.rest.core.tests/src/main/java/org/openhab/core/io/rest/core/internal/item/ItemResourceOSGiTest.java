@@ -140,7 +140,7 @@ public class ItemResourceOSGiTest extends JavaOSGiTest {
     public void shouldReturnUnicodeItem() throws IOException, TransformationException {
         item4.setLabel(ITEM_LABEL4);
 
-        Response response = itemResource.getItemByName(uriInfoMock, httpHeadersMock, null, null, true, false,
+        Response response = itemResource.getItemByName(uriInfoMock, httpHeadersMock, request, null, null, true, false,
                 ITEM_NAME4);
         assertThat(readItemLabelsFromResponse(response), hasItems(ITEM_LABEL4));
     }